@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
+
+import org.eclipse.jdt.launching.JavaRuntime;
+
+/**
+ * A Java project in the workspace that contains a generated corpus.
+ */
+public final class BenchmarkProject {
+
+	private final IJavaProject fProject;
+
+	private final ICompilationUnit[] fUnits;
+
+	private BenchmarkProject(IJavaProject project, ICompilationUnit[] units) {
+		fProject= project;
+		fUnits= units;
+	}
+
+	/**
+	 * Creates a Java project with the default JRE and the sources of the given corpus, and waits
+	 * until the project is indexed. An existing project with the same name is replaced.
+	 *
+	 * @param name the project name
+	 * @param corpus the corpus
+	 * @return the project
+	 * @throws CoreException if the project cannot be created
+	 */
+	public static BenchmarkProject create(String name, CorpusGenerator corpus) throws CoreException {
+		IWorkspace workspace= ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription workspaceDescription= workspace.getDescription();
+		workspaceDescription.setAutoBuilding(false);
+		workspace.setDescription(workspaceDescription);
+
+		ICompilationUnit[] units= new ICompilationUnit[corpus.getUnitCount()];
+		IJavaProject[] result= new IJavaProject[1];
+		IWorkspaceRunnable runnable= monitor -> {
+			IProject project= workspace.getRoot().getProject(name);
+			if (project.exists()) {
+				project.delete(true, true, monitor);
+			}
+			project.create(monitor);
+			project.open(monitor);
+			IProjectDescription description= project.getDescription();
+			description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+			project.setDescription(description, monitor);
+
+			IFolder src= project.getFolder("src"); //$NON-NLS-1$
+			src.create(true, true, monitor);
+			IFolder bin= project.getFolder("bin"); //$NON-NLS-1$
+			bin.create(true, true, monitor);
+
+			IJavaProject javaProject= JavaCore.create(project);
+			Map<String, String> options= javaProject.getOptions(false);
+			JavaCore.setComplianceOptions(JavaCore.VERSION_17, options);
+			javaProject.setOptions(options);
+			javaProject.setRawClasspath(new IClasspathEntry[] { JavaCore.newSourceEntry(src.getFullPath()), JavaRuntime.getDefaultJREContainerEntry() },
+					bin.getFullPath(), monitor);
+
+			IPackageFragmentRoot root= javaProject.getPackageFragmentRoot(src);
+			Map<String, IPackageFragment> packages= new HashMap<>();
+			for (int i= 0; i < units.length; i++) {
+				String packageName= corpus.getPackageName(i);
+				IPackageFragment fragment= packages.get(packageName);
+				if (fragment == null) {
+					fragment= root.createPackageFragment(packageName, true, monitor);
+					packages.put(packageName, fragment);
+				}
+				units[i]= fragment.createCompilationUnit(corpus.getTypeName(i) + ".java", corpus.getSource(i), true, monitor); //$NON-NLS-1$
+			}
+			result[0]= javaProject;
+		};
+		workspace.run(runnable, new NullProgressMonitor());
+		waitForIndexer();
+		return new BenchmarkProject(result[0], units);
+	}
+
+	private static void waitForIndexer() throws CoreException {
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, "XXXXXXXXX".toCharArray(), //$NON-NLS-1$
+				SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE, IJavaSearchConstants.CLASS, SearchEngine.createWorkspaceScope(),
+				new TypeNameRequestor() {
+					// nothing to collect
+				}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+	}
+
+	public IJavaProject getJavaProject() {
+		return fProject;
+	}
+
+	public ICompilationUnit[] getCompilationUnits() {
+		return fUnits;
+	}
+
+	/**
+	 * Parses all compilation units of the project with bindings in one batch.
+	 *
+	 * @param compilerOptions additional compiler options, for example the options required by a
+	 *            clean up to report problems, or <code>null</code>
+	 * @return the ASTs in the order of {@link #getCompilationUnits()}
+	 */
+	public CompilationUnit[] parse(Map<String, String> compilerOptions) {
+		Map<String, String> options= fProject.getOptions(true);
+		if (compilerOptions != null) {
+			options.putAll(compilerOptions);
+		}
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setProject(fProject);
+		parser.setCompilerOptions(options);
+		parser.setResolveBindings(true);
+		parser.setBindingsRecovery(true);
+
+		Map<ICompilationUnit, Integer> indices= new HashMap<>();
+		for (int i= 0; i < fUnits.length; i++) {
+			indices.put(fUnits[i], Integer.valueOf(i));
+		}
+		CompilationUnit[] asts= new CompilationUnit[fUnits.length];
+		parser.createASTs(fUnits, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				asts[indices.get(source).intValue()]= ast;
+			}
+		}, null);
+		return asts;
+	}
+
+	/**
+	 * Deletes the project.
+	 *
+	 * @throws CoreException if the project cannot be deleted
+	 */
+	public void delete() throws CoreException {
+		fProject.getProject().delete(IResource.ALWAYS_DELETE_PROJECT_CONTENT | IResource.FORCE, null);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this bundle inside the running OSGi framework.
+ * <p>
+ * The benchmarks need the workspace and the Java model, so they are not forked but run in the test
+ * VM. Each benchmark reports the average time and, through the GC profiler, the allocated bytes
+ * per operation (<code>gc.alloc.rate.norm</code>). The runs are configured with system
+ * properties:
+ * </p>
+ * <ul>
+ * <li><code>jdt.benchmark.include</code>: regular expression of the benchmarks to run</li>
+ * <li><code>jdt.benchmark.unitCount</code>: comma separated corpus sizes in compilation units</li>
+ * <li><code>jdt.benchmark.cleanUp</code>: comma separated ids of the clean ups to measure, see
+ * {@link CleanUpBenchmark#cleanUp}</li>
+ * <li><code>jdt.benchmark.warmupIterations</code>, <code>jdt.benchmark.measurementIterations</code>:
+ * the number of iterations</li>
+ * <li><code>jdt.benchmark.result</code>: the file the results are written to as JSON</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+	@Test
+	public void runBenchmarks() throws Exception {
+		ChainedOptionsBuilder options= new OptionsBuilder()
+				.include(System.getProperty("jdt.benchmark.include", ".*Benchmark.*")) //$NON-NLS-1$ //$NON-NLS-2$
+				.forks(0)
+				.warmupIterations(Integer.getInteger("jdt.benchmark.warmupIterations", 3).intValue()) //$NON-NLS-1$
+				.measurementIterations(Integer.getInteger("jdt.benchmark.measurementIterations", 5).intValue()) //$NON-NLS-1$
+				.mode(Mode.AverageTime)
+				.timeUnit(TimeUnit.MICROSECONDS)
+				.addProfiler(GCProfiler.class)
+				.shouldFailOnError(true);
+
+		String[] unitCounts= getValues("jdt.benchmark.unitCount"); //$NON-NLS-1$
+		if (unitCounts != null) {
+			options.param("unitCount", unitCounts); //$NON-NLS-1$
+		}
+		String[] cleanUps= getValues("jdt.benchmark.cleanUp"); //$NON-NLS-1$
+		if (cleanUps != null) {
+			options.param("cleanUp", cleanUps); //$NON-NLS-1$
+		}
+		String result= System.getProperty("jdt.benchmark.result"); //$NON-NLS-1$
+		if (result != null && !result.isEmpty()) {
+			options.result(result).resultFormat(ResultFormatType.JSON);
+		}
+
+		// JMH loads the benchmark list and the generated classes through the context class loader
+		Thread thread= Thread.currentThread();
+		ClassLoader contextClassLoader= thread.getContextClassLoader();
+		thread.setContextClassLoader(BenchmarkRunner.class.getClassLoader());
+		try {
+			Collection<RunResult> results= new Runner(options.build()).run();
+			assertFalse("No benchmark matched", results.isEmpty()); //$NON-NLS-1$
+		} finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	private static String[] getValues(String property) {
+		String value= System.getProperty(property);
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		return value.split("\\s*,\\s*"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CleanUpContextCore;
+import org.eclipse.jdt.core.manipulation.CleanUpOptionsCore;
+import org.eclipse.jdt.core.manipulation.ICleanUpFixCore;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.ICleanUpCore;
+
+import org.eclipse.jdt.internal.ui.fix.LambdaExpressionsCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.PatternMatchingForInstanceofCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.PrimitiveComparisonCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.StringBufferToStringBuilderCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.SwitchCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.UnusedCodeCleanUpCore;
+import org.eclipse.jdt.internal.ui.fix.VarCleanUpCore;
+
+/**
+ * Measures the fix cores of single clean ups on a generated corpus. One operation creates the fix
+ * and the change for one compilation unit, the ASTs are created once per trial.
+ */
+@State(Scope.Benchmark)
+public class CleanUpBenchmark {
+
+	@Param({ "var", "lambda", "stringBuilder", "instanceof", "primitiveComparison", "switch", "unusedCode" })
+	public String cleanUp;
+
+	@Param({ "100" })
+	public int unitCount;
+
+	@Param({ "5" })
+	public int methodsPerUnit;
+
+	private BenchmarkProject fProject;
+
+	private ICleanUpCore fCleanUp;
+
+	private ICompilationUnit[] fUnits;
+
+	private CompilationUnit[] fASTs;
+
+	private int fNext;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fCleanUp= createCleanUp(cleanUp);
+		fProject= BenchmarkProject.create("CleanUpBenchmark", new CorpusGenerator(42, unitCount, methodsPerUnit, true)); //$NON-NLS-1$
+		fUnits= fProject.getCompilationUnits();
+		fASTs= fProject.parse(fCleanUp.getRequirementsCore().getCompilerOptions());
+		fNext= 0;
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		fASTs= null;
+		fProject.delete();
+	}
+
+	@Benchmark
+	public Object createFix() throws CoreException {
+		int index= fNext;
+		fNext= (index + 1) % fUnits.length;
+		ICleanUpFixCore fix= fCleanUp.createFixCore(new CleanUpContextCore(fUnits[index], fASTs[index]));
+		return fix != null ? fix.createChange(null) : null;
+	}
+
+	/**
+	 * Creates a clean up with the options that enable it.
+	 *
+	 * @param id the id of the clean up, one of the values of {@link #cleanUp}
+	 * @return the clean up
+	 */
+	static ICleanUpCore createCleanUp(String id) {
+		Map<String, String> options= new HashMap<>();
+		switch (id) {
+			case "var": //$NON-NLS-1$
+				options.put(CleanUpConstants.USE_VAR, CleanUpOptionsCore.TRUE);
+				return new VarCleanUpCore(options);
+			case "lambda": //$NON-NLS-1$
+				options.put(CleanUpConstants.CONVERT_FUNCTIONAL_INTERFACES, CleanUpOptionsCore.TRUE);
+				options.put(CleanUpConstants.USE_LAMBDA, CleanUpOptionsCore.TRUE);
+				return new LambdaExpressionsCleanUpCore(options);
+			case "stringBuilder": //$NON-NLS-1$
+				options.put(CleanUpConstants.STRINGBUFFER_TO_STRINGBUILDER, CleanUpOptionsCore.TRUE);
+				return new StringBufferToStringBuilderCleanUpCore(options);
+			case "instanceof": //$NON-NLS-1$
+				options.put(CleanUpConstants.USE_PATTERN_MATCHING_FOR_INSTANCEOF, CleanUpOptionsCore.TRUE);
+				return new PatternMatchingForInstanceofCleanUpCore(options);
+			case "primitiveComparison": //$NON-NLS-1$
+				options.put(CleanUpConstants.PRIMITIVE_COMPARISON, CleanUpOptionsCore.TRUE);
+				return new PrimitiveComparisonCleanUpCore(options);
+			case "switch": //$NON-NLS-1$
+				options.put(CleanUpConstants.USE_SWITCH, CleanUpOptionsCore.TRUE);
+				return new SwitchCleanUpCore(options);
+			case "unusedCode": //$NON-NLS-1$
+				options.put(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_MEMBERS, CleanUpOptionsCore.TRUE);
+				options.put(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_FELDS, CleanUpOptionsCore.TRUE);
+				options.put(CleanUpConstants.REMOVE_UNUSED_CODE_PRIVATE_METHODS, CleanUpOptionsCore.TRUE);
+				options.put(CleanUpConstants.REMOVE_UNUSED_CODE_LOCAL_VARIABLES, CleanUpOptionsCore.TRUE);
+				options.put(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS, CleanUpOptionsCore.TRUE);
+				return new UnusedCodeCleanUpCore(options);
+			default:
+				throw new IllegalArgumentException("Unknown clean up: " + id); //$NON-NLS-1$
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates the sources of a synthetic corpus of compilation units.
+ * <p>
+ * Every compilation unit contains code that is changed by the benchmarked clean ups: explicit
+ * local variable types, <code>StringBuffer</code> locals, casts after <code>instanceof</code>,
+ * anonymous classes of functional interfaces, <code>if</code> chains on a constant, boxed
+ * comparisons and unused private members. The units reference types of other packages of the
+ * corpus and of the JRE. Unless the corpus is generated with complete imports, some of these
+ * imports are missing, so that organize imports has to search types. <code>java.util.HashSet</code>
+ * is imported but never used.
+ * </p>
+ * <p>
+ * The corpus is deterministic for a given seed and size.
+ * </p>
+ */
+public final class CorpusGenerator {
+
+	/**
+	 * Number of compilation units per package
+	 */
+	private static final int UNITS_PER_PACKAGE= 20;
+
+	private static final String[] JRE_TYPES= { "java.util.List", "java.util.ArrayList", "java.util.Map", "java.util.HashMap", "java.util.Set", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"java.util.HashSet", "java.util.Comparator", "java.util.function.Function", "java.io.File", "java.util.concurrent.Callable" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	private final long fSeed;
+
+	private final int fUnitCount;
+
+	private final int fMethodsPerUnit;
+
+	private final boolean fCompleteImports;
+
+	/**
+	 * Creates a generator.
+	 *
+	 * @param seed the seed of the random choices
+	 * @param unitCount the number of compilation units
+	 * @param methodsPerUnit the number of generated method groups per compilation unit
+	 * @param completeImports <code>true</code> to generate compilation units without compile
+	 *            errors, <code>false</code> to leave out some of the required imports
+	 */
+	public CorpusGenerator(long seed, int unitCount, int methodsPerUnit, boolean completeImports) {
+		fSeed= seed;
+		fUnitCount= unitCount;
+		fMethodsPerUnit= methodsPerUnit;
+		fCompleteImports= completeImports;
+	}
+
+	public int getUnitCount() {
+		return fUnitCount;
+	}
+
+	/**
+	 * Returns the name of the package of a compilation unit.
+	 *
+	 * @param unit the index of the compilation unit
+	 * @return the package name
+	 */
+	public String getPackageName(int unit) {
+		return "corpus.p" + unit / UNITS_PER_PACKAGE; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the name of the primary type of a compilation unit.
+	 *
+	 * @param unit the index of the compilation unit
+	 * @return the simple type name
+	 */
+	public String getTypeName(int unit) {
+		return "Unit" + unit; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the source of a compilation unit.
+	 *
+	 * @param unit the index of the compilation unit
+	 * @return the source
+	 */
+	public String getSource(int unit) {
+		Random random= new Random(fSeed * 31 + unit);
+		String packageName= getPackageName(unit);
+		String typeName= getTypeName(unit);
+		int other= random.nextInt(fUnitCount);
+		boolean otherImported= !getPackageName(other).equals(packageName) && (fCompleteImports || random.nextBoolean());
+
+		StringBuilder buf= new StringBuilder();
+		buf.append("package ").append(packageName).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i= 0; i < JRE_TYPES.length; i++) {
+			if (fCompleteImports || random.nextInt(3) != 0) {
+				buf.append("import ").append(JRE_TYPES[i]).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		if (otherImported) {
+			buf.append("import ").append(getPackageName(other)).append('.').append(getTypeName(other)).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		buf.append('\n');
+
+		buf.append("public class ").append(typeName).append(" {\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\tprivate final List<String> names= new ArrayList<>();\n"); //$NON-NLS-1$
+		buf.append("\tprivate final Map<String, Integer> counts= new HashMap<>();\n"); //$NON-NLS-1$
+		buf.append("\tprivate int unusedField").append(random.nextInt(100)).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		// a type of the corpus, which needs an import if it is in another package
+		buf.append("\tpublic ").append(getTypeName(other)).append(" other;\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		for (int m= 0; m < fMethodsPerUnit; m++) {
+			appendMethods(buf, m, random);
+		}
+		buf.append("}\n"); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	private static void appendMethods(StringBuilder buf, int m, Random random) {
+		int constant= random.nextInt(1000);
+
+		// explicit local types, StringBuffer locals, unused local variable
+		buf.append("\tpublic String join").append(m).append("(List<String> values) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tStringBuffer buffer= new StringBuffer();\n"); //$NON-NLS-1$
+		buf.append("\t\tArrayList<String> copy= new ArrayList<String>(values);\n"); //$NON-NLS-1$
+		buf.append("\t\tint unused= ").append(constant).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tfor (String value : copy) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\tbuffer.append(value).append(',');\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\tnames.addAll(copy);\n"); //$NON-NLS-1$
+		buf.append("\t\treturn buffer.toString();\n"); //$NON-NLS-1$
+		buf.append("\t}\n\n"); //$NON-NLS-1$
+
+		// cast after instanceof, boxed comparison
+		buf.append("\tpublic int compare").append(m).append("(Object o, Integer limit) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tif (o instanceof String) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\tString s= (String) o;\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn Integer.valueOf(s.length()).compareTo(limit);\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\tif (o instanceof Set) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\tSet<?> set= (Set<?>) o;\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn set.size();\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\treturn Integer.valueOf(").append(constant).append(").compareTo(limit);\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t}\n\n"); //$NON-NLS-1$
+
+		// anonymous classes of functional interfaces
+		buf.append("\tpublic Comparator<String> comparator").append(m).append("() {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tFunction<String, Integer> length= new Function<String, Integer>() {\n"); //$NON-NLS-1$
+		buf.append("\t\t\t@Override\n"); //$NON-NLS-1$
+		buf.append("\t\t\tpublic Integer apply(String s) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\t\treturn counts.getOrDefault(s, Integer.valueOf(s.length()));\n"); //$NON-NLS-1$
+		buf.append("\t\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\t};\n"); //$NON-NLS-1$
+		buf.append("\t\treturn new Comparator<String>() {\n"); //$NON-NLS-1$
+		buf.append("\t\t\t@Override\n"); //$NON-NLS-1$
+		buf.append("\t\t\tpublic int compare(String a, String b) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\t\treturn length.apply(a).compareTo(length.apply(b));\n"); //$NON-NLS-1$
+		buf.append("\t\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\t};\n"); //$NON-NLS-1$
+		buf.append("\t}\n\n"); //$NON-NLS-1$
+
+		// if chain on a constant
+		buf.append("\tpublic String kind").append(m).append("(int kind) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\tif (kind == 0) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn \"zero\";\n"); //$NON-NLS-1$
+		buf.append("\t\t} else if (kind == 1 || kind == 2) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn \"small\";\n"); //$NON-NLS-1$
+		buf.append("\t\t} else if (kind == ").append(constant + 3).append(") {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\t\treturn \"constant\";\n"); //$NON-NLS-1$
+		buf.append("\t\t} else {\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn new File(\"other\").getName();\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t}\n\n"); //$NON-NLS-1$
+
+		// unused private member
+		buf.append("\tprivate Callable<String> unused").append(m).append("() {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t\treturn () -> String.valueOf(").append(constant).append(");\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\t}\n\n"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+import org.eclipse.jdt.internal.core.manipulation.util.Strings;
+
+/**
+ * Measures the labels of the types, fields and methods of a generated corpus, as they are shown in
+ * viewers. One operation creates the label of one element:
+ * <ul>
+ * <li><code>composeStringBuffer</code> composes the label into a new {@link StringBuffer}, as labels
+ * were created before they were cached</li>
+ * <li><code>composeStringBuilder</code> composes the label into the reused {@link StringBuilder} of
+ * the thread</li>
+ * <li><code>cachedLabel</code> returns the label from the label cache, as it happens when a viewer
+ * is refreshed</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class JavaElementLabelBenchmark {
+
+	/**
+	 * The flags of an outline.
+	 */
+	private static final long OUTLINE_FLAGS= JavaElementLabelsCore.ALL_DEFAULT | JavaElementLabelsCore.M_APP_RETURNTYPE | JavaElementLabelsCore.F_APP_TYPE_SIGNATURE;
+
+	/**
+	 * The flags of a search result or call hierarchy viewer.
+	 */
+	private static final long QUALIFIED_FLAGS= OUTLINE_FLAGS | JavaElementLabelsCore.ALL_POST_QUALIFIED;
+
+	@Param({ "100" })
+	public int unitCount;
+
+	@Param({ "5" })
+	public int methodsPerUnit;
+
+	@Param({ "outline", "qualified" })
+	public String viewer;
+
+	private BenchmarkProject fProject;
+
+	private IJavaElement[] fElements;
+
+	private long fFlags;
+
+	private int fNext;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fProject= BenchmarkProject.create("JavaElementLabelBenchmark", new CorpusGenerator(42, unitCount, methodsPerUnit, false)); //$NON-NLS-1$
+		List<IJavaElement> elements= new ArrayList<>();
+		for (ICompilationUnit unit : fProject.getCompilationUnits()) {
+			for (IType type : unit.getAllTypes()) {
+				elements.add(type);
+				for (IJavaElement child : type.getChildren()) {
+					elements.add(child);
+				}
+			}
+		}
+		fElements= elements.toArray(new IJavaElement[elements.size()]);
+		fFlags= "qualified".equals(viewer) ? QUALIFIED_FLAGS : OUTLINE_FLAGS; //$NON-NLS-1$
+		fNext= 0;
+		// fill the label cache
+		for (IJavaElement element : fElements) {
+			JavaElementLabelsCore.getElementLabel(element, fFlags);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		fProject.delete();
+	}
+
+	@Benchmark
+	public String composeStringBuffer() {
+		StringBuffer buffer= new StringBuffer();
+		new JavaElementLabelComposerCore(buffer).appendElementLabel(nextElement(), fFlags);
+		return Strings.markJavaElementLabelLTR(buffer.toString());
+	}
+
+	@Benchmark
+	public String composeStringBuilder() {
+		StringBuilder builder= JavaElementLabelComposerCore.acquireLabelBuilder();
+		new JavaElementLabelComposerCore(builder).appendElementLabel(nextElement(), fFlags);
+		String label= Strings.markJavaElementLabelLTR(builder.toString());
+		JavaElementLabelComposerCore.releaseLabelBuilder(builder);
+		return label;
+	}
+
+	@Benchmark
+	public String cachedLabel() {
+		return JavaElementLabelsCore.getElementLabel(nextElement(), fFlags);
+	}
+
+	private IJavaElement nextElement() {
+		int index= fNext;
+		fNext= (index + 1) % fElements.length;
+		return fElements[index];
+	}
+}
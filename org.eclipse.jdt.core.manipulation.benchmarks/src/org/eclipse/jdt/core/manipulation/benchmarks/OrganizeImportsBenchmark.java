@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+/**
+ * Measures {@link OrganizeImportsOperation} on a generated corpus. One operation computes the
+ * import edit of one compilation unit, the edit is not applied.
+ */
+@State(Scope.Benchmark)
+public class OrganizeImportsBenchmark {
+
+	/**
+	 * Chooses the first candidate of every ambiguous type reference.
+	 */
+	private static final IChooseImportQuery FIRST_CHOICE= (openChoices, ranges) -> {
+		TypeNameMatch[] result= new TypeNameMatch[openChoices.length];
+		for (int i= 0; i < openChoices.length; i++) {
+			result[i]= openChoices[i][0];
+		}
+		return result;
+	};
+
+	@Param({ "100" })
+	public int unitCount;
+
+	@Param({ "5" })
+	public int methodsPerUnit;
+
+	private BenchmarkProject fProject;
+
+	private ICompilationUnit[] fUnits;
+
+	private CompilationUnit[] fASTs;
+
+	private int fNext;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fProject= BenchmarkProject.create("OrganizeImportsBenchmark", new CorpusGenerator(42, unitCount, methodsPerUnit, false)); //$NON-NLS-1$
+		fUnits= fProject.getCompilationUnits();
+		fASTs= fProject.parse(null);
+		fNext= 0;
+	}
+
+	@TearDown
+	public void tearDown() throws CoreException {
+		fASTs= null;
+		fProject.delete();
+	}
+
+	@Benchmark
+	public Object organizeImports() throws CoreException {
+		int index= fNext;
+		fNext= (index + 1) % fUnits.length;
+		OrganizeImportsOperation operation= new OrganizeImportsOperation(fUnits[index], fASTs[index], true, false, true, FIRST_CHOICE);
+		return operation.createTextEdit(null);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.core.manipulation.SharedASTCache;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
@@ -63,6 +64,7 @@ public final class CoreASTProvider {
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
 	private volatile Runnable fFinishReconciling;
+	private final SharedASTCache fRecentASTs= new SharedASTCache(SharedASTCache.DEFAULT_CAPACITY);
 
 	/**
 	 * Wait flag class.
@@ -107,7 +109,9 @@ public final class CoreASTProvider {
 	 * Wait flag indicating that a client requesting an AST
 	 * only wants the already available shared AST.
 	 * <p>
-	 * No AST will be created by the AST provider.
+	 * No AST will be created by the AST provider. Besides the AST of the
+	 * active editor, a still valid AST of a recently used Java element
+	 * can be returned.
 	 * </p>
 	 */
 	public static final WAIT_FLAG WAIT_NO= new WAIT_FLAG("don't wait"); //$NON-NLS-1$
@@ -142,6 +146,17 @@ public final class CoreASTProvider {
 
 					return fAST;
 				}
+				if (!isReconciling(input)) {
+					CompilationUnit recent= fRecentASTs.get(input);
+					if (recent != null) {
+						if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+							System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "reusing recent AST:" + toString(recent) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+						fRecentASTs.remove(input);
+						fAST= recent;
+						return fAST;
+					}
+				}
 				if (waitFlag == CoreASTProvider.WAIT_NO) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning null (WAIT_NO) for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -149,6 +164,14 @@ public final class CoreASTProvider {
 					return null;
 
 				}
+			} else {
+				CompilationUnit recent= fRecentASTs.get(input);
+				if (recent != null) {
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning recent AST:" + toString(recent) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+					return recent;
+				}
 			}
 		}
 
@@ -212,6 +235,8 @@ public final class CoreASTProvider {
 					return fAST;
 				} else
 					reconciled(ast, input, null);
+			} else {
+				fRecentASTs.put(ast);
 			}
 		}
 		return ast;
@@ -255,6 +280,7 @@ public final class CoreASTProvider {
 			fIsReconciling= true;
 			this.fFinishReconciling = finishReconciling;
 		}
+		fRecentASTs.remove(javaElement);
 		cache(null, javaElement);
 	}
 
@@ -357,26 +383,38 @@ public final class CoreASTProvider {
 	 * @param ast the ast
 	 * @param javaElement the java element
 	 */
-	public synchronized void cache(CompilationUnit ast, ITypeRoot javaElement) {
-
-		if (fActiveJavaElement != null && !fActiveJavaElement.equals(javaElement)) {
-			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && javaElement != null) // don't report call from disposeAST()
-				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "don't cache AST for inactive: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
-			return;
-		}
+	public void cache(CompilationUnit ast, ITypeRoot javaElement) {
+		CompilationUnit previousAST= null;
+		synchronized (this) {
+			if (fActiveJavaElement != null && !fActiveJavaElement.equals(javaElement)) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && javaElement != null) // don't report call from disposeAST()
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "don't cache AST for inactive: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
+				return;
+			}
 
-		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
-			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		if (fAST != null)
-			disposeAST();
+			if (fAST != null) {
+				ITypeRoot previous= fAST.getTypeRoot();
+				if (previous != null && !previous.equals(javaElement) && !isReconciling(previous)) {
+					// the active element changed, keep the AST of the previous one for later reuse
+					previousAST= fAST;
+				}
+				disposeAST();
+			}
 
-		fAST= ast;
+			fAST= ast;
 
-		// Signal AST change
-		synchronized (fWaitLock) {
-			fWaitLock.notifyAll();
+			// Signal AST change
+			synchronized (fWaitLock) {
+				fWaitLock.notifyAll();
+			}
 		}
+
+		// adding the AST opens the buffer of its element, do not hold the monitor while doing so
+		if (previousAST != null)
+			fRecentASTs.put(previousAST);
 	}
 
 	/**
@@ -414,6 +452,28 @@ public final class CoreASTProvider {
 		cache(null, null);
 	}
 
+	/**
+	 * Disposes the ASTs kept for recently used Java elements. The AST of the
+	 * active Java element is not affected.
+	 *
+	 * @since 1.20
+	 */
+	public void disposeRecentASTs() {
+		fRecentASTs.clear();
+	}
+
+	/**
+	 * Sets the maximal number of ASTs of recently used, non-active Java elements that are kept
+	 * for reuse. The ASTs are softly referenced and are also evicted if the available heap is
+	 * low.
+	 *
+	 * @param size the number of ASTs to keep, <code>0</code> to disable reuse
+	 * @since 1.20
+	 */
+	public void setRecentASTCacheSize(int size) {
+		fRecentASTs.setCapacity(size);
+	}
+
 	/**
 	 * Returns a string for the given Java element used for debugging.
 	 *
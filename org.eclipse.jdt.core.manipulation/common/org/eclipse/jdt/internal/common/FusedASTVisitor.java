@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.util.List;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * Runs several LambdaASTVisitors in one traversal of the AST.
+ * <p>
+ * Each node is dispatched to the visitors that are interested in it. If the predicate of a visitor
+ * returns false for a node, that visitor does not get any callbacks for the children of the node,
+ * but still gets the end visit of the node, like in a traversal of its own. The traversal only
+ * skips the children of a node if no visitor is interested in them.
+ * </p>
+ *
+ * @see HelperVisitor#buildAll(ASTNode, HelperVisitor...)
+ */
+class FusedASTVisitor extends ASTVisitor {
+
+	private final LambdaASTVisitor<?, ?, ?>[] visitors;
+
+	/**
+	 * The node for which the predicate of a visitor returned false, or null if the visitor is
+	 * interested in the current node
+	 */
+	private final ASTNode[] prunedAt;
+
+	private int prunedCount;
+
+	/**
+	 * @param visitors - LambdaASTVisitors to dispatch to
+	 */
+	FusedASTVisitor(List<LambdaASTVisitor<?, ?, ?>> visitors) {
+		super(true);
+		this.visitors= visitors.toArray(new LambdaASTVisitor<?, ?, ?>[visitors.size()]);
+		this.prunedAt= new ASTNode[this.visitors.length];
+	}
+
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		VisitorEnum kind= VisitorEnum.fromNode(node);
+		for (int i= 0; i < visitors.length; i++) {
+			if (prunedAt[i] == null && !visitors[i].visitNode(kind, node)) {
+				prunedAt[i]= node;
+				prunedCount++;
+			}
+		}
+		return prunedCount < visitors.length;
+	}
+
+	@Override
+	public void postVisit(ASTNode node) {
+		VisitorEnum kind= VisitorEnum.fromNode(node);
+		for (int i= 0; i < visitors.length; i++) {
+			ASTNode pruned= prunedAt[i];
+			if (pruned == null) {
+				visitors[i].endVisitNode(kind, node);
+			} else if (pruned == node) {
+				visitors[i].endVisitNode(kind, node);
+				prunedAt[i]= null;
+				prunedCount--;
+			}
+		}
+	}
+}
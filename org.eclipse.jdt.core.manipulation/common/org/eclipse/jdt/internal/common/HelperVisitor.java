@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -44,7 +45,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	/**
 	 * This map contains one VisitorSupplier per kind if supplied Each BiPredicate is called with
 	 * two parameters 1) ASTNode 2) your data object Call is processed when build(ASTNode) is
-	 * called.
+	 * called. The map is an EnumMap, so the lookup for each visited node is an array access.
 	 */
 	Map<VisitorEnum, BiPredicate<? extends ASTNode, E>> predicatemap;
 
@@ -99,10 +100,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
-		this.predicatedata= new HashMap<>();
-		this.consumerdata= new HashMap<>();
+		this.predicatemap= new EnumMap<>(VisitorEnum.class);
+		this.consumermap= new EnumMap<>(VisitorEnum.class);
+		this.predicatedata= new EnumMap<>(VisitorEnum.class);
+		this.consumerdata= new EnumMap<>(VisitorEnum.class);
 
 		this.dataholder= dataholder;
 		dataholder.setHelperVisitor(this);
@@ -130,6 +131,29 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 		return this;
 	}
 
+	/**
+	 * Visits the node once for all given visitors instead of once per visitor. Each visitor gets
+	 * the same callbacks as with {@link #build(ASTNode)}, including the pruning of subtrees when
+	 * its predicate returns false, but the callbacks of the visitors are interleaved per node. The
+	 * visitors must therefore not depend on the results of each other.
+	 *
+	 * @param node - ASTNode
+	 * @param visitors - HelperVisitors to run in one traversal
+	 */
+	public static void buildAll(ASTNode node, HelperVisitor<?, ?, ?>... visitors) {
+		List<LambdaASTVisitor<?, ?, ?>> lambdaVisitors= new ArrayList<>(visitors.length);
+		for (HelperVisitor<?, ?, ?> visitor : visitors) {
+			lambdaVisitors.add(visitor.createLambdaVisitor());
+		}
+		node.accept(new FusedASTVisitor(lambdaVisitors));
+	}
+
+	private LambdaASTVisitor<E, V, T> createLambdaVisitor() {
+		LambdaASTVisitor<E, V, T> lambdaVisitor= new LambdaASTVisitor<>(this, true);
+		astvisitor= lambdaVisitor;
+		return lambdaVisitor;
+	}
+
 	/**
 	 * Add BiPredicate for visitor kind
 	 *
@@ -3357,6 +3381,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param cu
@@ -3366,10 +3391,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ASTNode, ReferenceHolder<V, T>> bs, BiConsumer<ASTNode, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ASTNode, E> bs, BiConsumer<ASTNode, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V,T>, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		myset.forEach(ve -> {
 			hv.add(ve, bs, bc);
 		});
@@ -3378,6 +3403,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param cu
@@ -3386,10 +3412,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ASTNode, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ASTNode, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		myset.forEach(ve -> {
 			hv.add(ve, bs);
 		});
@@ -3398,6 +3424,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param cu
@@ -3406,10 +3433,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ASTNode, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVisitor(ASTNode cu, EnumSet<VisitorEnum> myset, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ASTNode, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		myset.forEach(ve -> {
 			hv.addEnd(ve, bc);
 		});
@@ -3418,6 +3445,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3425,16 +3453,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnnotationTypeDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnnotationTypeDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3442,16 +3471,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnnotationTypeMemberDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnnotationTypeMemberDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3459,16 +3489,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnonymousClassDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnonymousClassDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3476,16 +3507,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callArrayAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayAccess, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayAccess, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3493,16 +3525,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callArrayCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayCreation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayCreation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3510,16 +3543,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callArrayInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayInitializer, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayInitializer, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3527,16 +3561,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callArrayTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3544,16 +3579,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callAssertStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AssertStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssertStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AssertStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3561,16 +3597,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callAssignmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Assignment, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssignmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Assignment, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3578,16 +3615,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Block, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Block, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3595,16 +3633,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callBlockCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BlockComment, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BlockComment, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3612,16 +3651,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callBooleanLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BooleanLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBooleanLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BooleanLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3629,16 +3669,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callBreakStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BreakStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBreakStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BreakStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3646,16 +3687,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callCastExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CastExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCastExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CastExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3663,16 +3705,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callCatchClauseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CatchClause, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCatchClauseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CatchClause, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3680,16 +3723,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callCharacterLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CharacterLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCharacterLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CharacterLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3697,16 +3741,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callClassInstanceCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ClassInstanceCreation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callClassInstanceCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ClassInstanceCreation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3714,16 +3759,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callCompilationUnitVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CompilationUnit, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCompilationUnitVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CompilationUnit, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3731,16 +3777,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callConditionalExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ConditionalExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConditionalExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ConditionalExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3748,16 +3795,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ConstructorInvocation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ConstructorInvocation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3765,16 +3813,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callContinueStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ContinueStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callContinueStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ContinueStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3782,16 +3831,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callCreationReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CreationReference, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCreationReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CreationReference, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3799,16 +3849,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callDimensionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Dimension, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDimensionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Dimension, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3816,16 +3867,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callDoStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<DoStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDoStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<DoStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3833,16 +3885,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callEmptyStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EmptyStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEmptyStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EmptyStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3850,16 +3903,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callEnhancedForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnhancedForStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnhancedForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnhancedForStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3867,16 +3921,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callEnumConstantDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnumConstantDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumConstantDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnumConstantDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3884,16 +3939,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callEnumDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnumDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnumDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3901,16 +3957,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callExportsDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExportsDirective, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExportsDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExportsDirective, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3918,16 +3975,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callExpressionMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExpressionMethodReference, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExpressionMethodReference, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3935,16 +3993,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callExpressionStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExpressionStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExpressionStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3952,16 +4011,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<FieldAccess, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<FieldAccess, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3969,16 +4029,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callFieldDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<FieldDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<FieldDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -3986,16 +4047,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ForStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ForStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4003,16 +4065,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callIfStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<IfStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIfStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<IfStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4020,16 +4083,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callImportDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ImportDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callImportDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ImportDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4037,16 +4101,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callInfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<InfixExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<InfixExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4054,16 +4119,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Initializer, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Initializer, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4071,16 +4137,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<InstanceofExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<InstanceofExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4088,16 +4155,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callIntersectionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<IntersectionType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIntersectionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<IntersectionType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4105,16 +4173,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callJavadocVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Javadoc, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callJavadocVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Javadoc, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4122,16 +4191,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callLabeledStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LabeledStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLabeledStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LabeledStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4139,16 +4209,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callLambdaExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LambdaExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLambdaExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LambdaExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4156,16 +4227,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callLineCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LineComment, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLineCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LineComment, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4173,16 +4245,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMarkerAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MarkerAnnotation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMarkerAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MarkerAnnotation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4190,16 +4263,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMemberRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MemberRef, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MemberRef, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4207,16 +4281,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMemberValuePairVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MemberValuePair, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberValuePairVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MemberValuePair, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4224,16 +4299,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMethodRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodRef, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodRef, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4241,16 +4317,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMethodRefParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodRefParameter, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodRefParameter, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4258,16 +4335,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMethodDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4275,16 +4353,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodInvocation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodInvocation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param methodname
@@ -4293,16 +4372,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callMethodInvocationVisitor(String methodname, ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodInvocation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodInvocationVisitor(String methodname, ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodInvocation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(methodname, bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4310,16 +4390,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Modifier, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Modifier, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4327,16 +4408,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callModuleDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ModuleDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ModuleDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4344,16 +4426,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callModuleModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ModuleModifier, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ModuleModifier, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4361,16 +4444,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callNameQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NameQualifiedType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNameQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NameQualifiedType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4378,16 +4462,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callNormalAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NormalAnnotation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNormalAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NormalAnnotation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4395,16 +4480,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callNullLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NullLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNullLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NullLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4412,16 +4498,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callNumberLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NumberLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNumberLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NumberLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4429,16 +4516,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callOpensDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<OpensDirective, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callOpensDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<OpensDirective, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4446,16 +4534,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callPackageDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PackageDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPackageDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PackageDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4463,16 +4552,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callParameterizedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ParameterizedType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParameterizedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ParameterizedType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4480,16 +4570,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callParenthesizedExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ParenthesizedExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParenthesizedExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ParenthesizedExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4497,16 +4588,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PatternInstanceofExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PatternInstanceofExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4514,16 +4606,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callPostfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PostfixExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPostfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PostfixExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4531,16 +4624,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callPrefixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PrefixExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrefixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PrefixExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4548,16 +4642,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callProvidesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ProvidesDirective, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callProvidesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ProvidesDirective, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4565,16 +4660,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callPrimitiveTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PrimitiveType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrimitiveTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PrimitiveType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4582,16 +4678,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callQualifiedNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<QualifiedName, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<QualifiedName, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4599,10 +4696,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<QualifiedType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<QualifiedType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bs);
 		hv.build(node);
 	}
@@ -4611,6 +4708,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4619,16 +4717,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
 
-	public static <V, T> void callRequiresDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<RequiresDirective, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRequiresDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<RequiresDirective, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4636,16 +4735,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callRecordDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<RecordDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRecordDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<RecordDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4653,16 +4753,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callReturnStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ReturnStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callReturnStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ReturnStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4670,16 +4771,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSimpleNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SimpleName, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SimpleName, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4687,16 +4789,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSimpleTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SimpleType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SimpleType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4704,16 +4807,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSingleMemberAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SingleMemberAnnotation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleMemberAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SingleMemberAnnotation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4721,16 +4825,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSingleVariableDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SingleVariableDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleVariableDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SingleVariableDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4738,16 +4843,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callStringLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<StringLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callStringLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<StringLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4755,16 +4861,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSuperConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperConstructorInvocation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperConstructorInvocation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4772,16 +4879,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSuperFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperFieldAccess, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperFieldAccess, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4789,16 +4897,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSuperMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperMethodInvocation, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperMethodInvocation, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4806,16 +4915,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSuperMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperMethodReference, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperMethodReference, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4823,16 +4933,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSwitchCaseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchCase, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchCaseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchCase, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4840,16 +4951,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSwitchExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4857,16 +4969,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSwitchStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4874,16 +4987,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callSynchronizedStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SynchronizedStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSynchronizedStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SynchronizedStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4891,16 +5005,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTagElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TagElement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTagElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TagElement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4908,16 +5023,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTextBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TextBlock, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TextBlock, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4925,16 +5041,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTextElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TextElement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TextElement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4942,16 +5059,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callThisExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ThisExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThisExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ThisExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4959,16 +5077,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callThrowStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ThrowStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThrowStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ThrowStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4976,16 +5095,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTryStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TryStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTryStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TryStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -4993,16 +5113,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeDeclaration, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeDeclaration, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5010,16 +5131,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTypeDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeDeclarationStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeDeclarationStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5027,16 +5149,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTypeLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeLiteral, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeLiteral, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5044,16 +5167,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTypeMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeMethodReference, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeMethodReference, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5061,16 +5185,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callTypeParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeParameter, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeParameter, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5078,16 +5203,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callUnionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<UnionType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUnionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<UnionType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5095,16 +5221,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callUsesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<UsesDirective, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUsesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<UsesDirective, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5112,16 +5239,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationExpression, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationExpression, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5129,16 +5257,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param class1
@@ -5147,16 +5276,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5164,16 +5294,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationFragment, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationFragment, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5181,16 +5312,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callWhileStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<WhileStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWhileStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<WhileStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5198,16 +5330,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callWildcardTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<WildcardType, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWildcardTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<WildcardType, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5215,16 +5348,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 */
-	public static <V, T> void callYieldStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<YieldStatement, ReferenceHolder<V, T>> bs) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callYieldStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<YieldStatement, E> bs) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bs);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5232,16 +5366,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<AnnotationTypeDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<AnnotationTypeDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5249,16 +5384,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<AnnotationTypeMemberDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<AnnotationTypeMemberDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5266,16 +5402,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<AnonymousClassDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<AnonymousClassDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5283,16 +5420,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callArrayAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ArrayAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ArrayAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5300,16 +5438,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callArrayCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ArrayCreation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ArrayCreation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5317,16 +5456,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callArrayInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ArrayInitializer, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ArrayInitializer, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5334,16 +5474,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callArrayTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ArrayType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ArrayType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5351,16 +5492,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callAssertStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<AssertStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssertStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<AssertStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5368,16 +5510,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callAssignmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Assignment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssignmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Assignment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5385,16 +5528,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Block, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Block, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5402,16 +5546,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callBlockCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<BlockComment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<BlockComment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5419,16 +5564,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callBooleanLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<BooleanLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBooleanLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<BooleanLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5436,16 +5582,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callBreakStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<BreakStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBreakStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<BreakStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5453,16 +5600,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callCastExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<CastExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCastExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<CastExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5470,16 +5618,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callCatchClauseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<CatchClause, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCatchClauseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<CatchClause, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5487,16 +5636,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callCharacterLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<CharacterLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCharacterLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<CharacterLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5504,16 +5654,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callClassInstanceCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ClassInstanceCreation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callClassInstanceCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ClassInstanceCreation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5521,16 +5672,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callCompilationUnitVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<CompilationUnit, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCompilationUnitVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<CompilationUnit, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5538,16 +5690,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callConditionalExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ConditionalExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConditionalExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ConditionalExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5555,16 +5708,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ConstructorInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ConstructorInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5572,16 +5726,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callContinueStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ContinueStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callContinueStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ContinueStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5589,16 +5744,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callCreationReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<CreationReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCreationReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<CreationReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5606,16 +5762,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callDimensionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Dimension, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDimensionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Dimension, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5623,16 +5780,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callDoStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<DoStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDoStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<DoStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5640,16 +5798,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callEmptyStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<EmptyStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEmptyStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<EmptyStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5657,16 +5816,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callEnhancedForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<EnhancedForStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnhancedForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<EnhancedForStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5674,16 +5834,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callEnumConstantDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<EnumConstantDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumConstantDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<EnumConstantDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5691,16 +5852,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callEnumDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<EnumDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<EnumDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5708,16 +5870,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callExportsDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ExportsDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExportsDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ExportsDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5725,16 +5888,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callExpressionMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ExpressionMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ExpressionMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5742,16 +5906,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callExpressionStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ExpressionStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ExpressionStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5759,16 +5924,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<FieldAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<FieldAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5776,16 +5942,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callFieldDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<FieldDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<FieldDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5793,16 +5960,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ForStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ForStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5810,16 +5978,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callIfStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<IfStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIfStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<IfStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5827,16 +5996,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callImportDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ImportDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callImportDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ImportDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5844,16 +6014,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callInfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<InfixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<InfixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5861,16 +6032,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Initializer, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Initializer, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5878,16 +6050,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<InstanceofExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<InstanceofExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5895,16 +6068,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callIntersectionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<IntersectionType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIntersectionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<IntersectionType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5912,16 +6086,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callJavadocVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Javadoc, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callJavadocVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Javadoc, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5929,16 +6104,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callLabeledStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<LabeledStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLabeledStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<LabeledStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5946,16 +6122,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callLambdaExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<LambdaExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLambdaExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<LambdaExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5963,16 +6140,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callLineCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<LineComment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLineCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<LineComment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5980,16 +6158,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMarkerAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MarkerAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMarkerAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MarkerAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -5997,16 +6176,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMemberRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MemberRef, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MemberRef, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6014,16 +6194,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMemberValuePairVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MemberValuePair, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberValuePairVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MemberValuePair, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6031,16 +6212,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMethodRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MethodRef, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MethodRef, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6048,16 +6230,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMethodRefParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MethodRefParameter, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MethodRefParameter, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6065,16 +6248,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMethodDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MethodDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MethodDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6082,16 +6266,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<MethodInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<MethodInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6099,16 +6284,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<Modifier, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<Modifier, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6116,16 +6302,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callModuleDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ModuleDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ModuleDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6133,16 +6320,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callModuleModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ModuleModifier, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ModuleModifier, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6150,16 +6338,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callNameQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<NameQualifiedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNameQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<NameQualifiedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6167,16 +6356,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callNormalAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<NormalAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNormalAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<NormalAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6184,16 +6374,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callNullLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<NullLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNullLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<NullLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6201,16 +6392,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callNumberLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<NumberLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNumberLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<NumberLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6218,16 +6410,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callOpensDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<OpensDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callOpensDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<OpensDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6235,16 +6428,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callPackageDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<PackageDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPackageDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<PackageDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6252,16 +6446,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callParameterizedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ParameterizedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParameterizedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ParameterizedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6269,16 +6464,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callParenthesizedExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ParenthesizedExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParenthesizedExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ParenthesizedExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6286,16 +6482,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<PatternInstanceofExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<PatternInstanceofExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6303,16 +6500,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callPostfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<PostfixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPostfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<PostfixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6320,16 +6518,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callPrefixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<PrefixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrefixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<PrefixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6337,16 +6536,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callProvidesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ProvidesDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callProvidesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ProvidesDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6354,16 +6554,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callPrimitiveTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<PrimitiveType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrimitiveTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<PrimitiveType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6371,16 +6572,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callQualifiedNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<QualifiedName, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<QualifiedName, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6388,10 +6590,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<QualifiedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<QualifiedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bc);
 		hv.build(node);
 	}
@@ -6400,6 +6602,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6408,16 +6611,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 
-	public static <V, T> void callRequiresDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<RequiresDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRequiresDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<RequiresDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6425,16 +6629,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callRecordDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<RecordDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRecordDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<RecordDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6442,16 +6647,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callReturnStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ReturnStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callReturnStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ReturnStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6459,16 +6665,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSimpleNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SimpleName, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SimpleName, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6476,16 +6683,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSimpleTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SimpleType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SimpleType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6493,16 +6701,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSingleMemberAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SingleMemberAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleMemberAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SingleMemberAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6510,16 +6719,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSingleVariableDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SingleVariableDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleVariableDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SingleVariableDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6527,16 +6737,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callStringLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<StringLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callStringLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<StringLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6544,16 +6755,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSuperConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SuperConstructorInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SuperConstructorInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6561,16 +6773,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSuperFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SuperFieldAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SuperFieldAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6578,16 +6791,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSuperMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SuperMethodInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SuperMethodInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6595,16 +6809,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSuperMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SuperMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SuperMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6612,16 +6827,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchCaseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SwitchCase, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchCaseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SwitchCase, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6629,16 +6845,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SwitchExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SwitchExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6646,16 +6863,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SwitchStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SwitchStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6663,16 +6881,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callSynchronizedStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<SynchronizedStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSynchronizedStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<SynchronizedStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6680,16 +6899,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTagElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TagElement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTagElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TagElement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6697,16 +6917,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTextBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TextBlock, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TextBlock, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6714,16 +6935,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTextElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TextElement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TextElement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6731,16 +6953,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callThisExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ThisExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThisExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ThisExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6748,16 +6971,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callThrowStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<ThrowStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThrowStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<ThrowStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6765,16 +6989,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTryStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TryStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTryStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TryStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6782,16 +7007,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TypeDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TypeDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6799,16 +7025,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTypeDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TypeDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TypeDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6816,16 +7043,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTypeLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TypeLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TypeLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6833,16 +7061,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTypeMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TypeMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TypeMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6850,16 +7079,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callTypeParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<TypeParameter, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<TypeParameter, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6867,16 +7097,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callUnionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<UnionType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUnionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<UnionType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6884,16 +7115,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callUsesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<UsesDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUsesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<UsesDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6901,16 +7133,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<VariableDeclarationExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<VariableDeclarationExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6918,16 +7151,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<VariableDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<VariableDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param class1
@@ -6936,16 +7170,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<VariableDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<VariableDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6953,16 +7188,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<VariableDeclarationFragment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<VariableDeclarationFragment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6970,16 +7206,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callWhileStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<WhileStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWhileStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<WhileStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -6987,16 +7224,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callWildcardTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<WildcardType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWildcardTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<WildcardType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7004,16 +7242,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param nodesprocessed - set of nodes processed
 	 * @param bc
 	 */
-	public static <V, T> void callYieldStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiConsumer<YieldStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callYieldStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiConsumer<YieldStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7022,17 +7261,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnnotationTypeDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<AnnotationTypeDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnnotationTypeDeclaration, E> bs,
+			BiConsumer<AnnotationTypeDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7041,17 +7281,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnnotationTypeMemberDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<AnnotationTypeMemberDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnnotationTypeMemberDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnnotationTypeMemberDeclaration, E> bs,
+			BiConsumer<AnnotationTypeMemberDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnnotationTypeMemberDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7060,17 +7301,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AnonymousClassDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<AnonymousClassDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAnonymousClassDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AnonymousClassDeclaration, E> bs,
+			BiConsumer<AnonymousClassDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAnonymousClassDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7079,16 +7321,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callArrayAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayAccess, ReferenceHolder<V, T>> bs, BiConsumer<ArrayAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayAccess, E> bs, BiConsumer<ArrayAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayAccess(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7097,16 +7340,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callArrayCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayCreation, ReferenceHolder<V, T>> bs, BiConsumer<ArrayCreation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayCreation, E> bs, BiConsumer<ArrayCreation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayCreation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7115,17 +7359,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callArrayInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayInitializer, ReferenceHolder<V, T>> bs,
-			BiConsumer<ArrayInitializer, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayInitializer, E> bs,
+			BiConsumer<ArrayInitializer, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayInitializer(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7134,16 +7379,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callArrayTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ArrayType, ReferenceHolder<V, T>> bs, BiConsumer<ArrayType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callArrayTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ArrayType, E> bs, BiConsumer<ArrayType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addArrayType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7152,17 +7398,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callAssertStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<AssertStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<AssertStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssertStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<AssertStatement, E> bs,
+			BiConsumer<AssertStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssertStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7171,16 +7418,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callAssignmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Assignment, ReferenceHolder<V, T>> bs, BiConsumer<Assignment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callAssignmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Assignment, E> bs, BiConsumer<Assignment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addAssignment(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7189,16 +7437,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Block, ReferenceHolder<V, T>> bs, BiConsumer<Block, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Block, E> bs, BiConsumer<Block, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlock(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7207,16 +7456,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callBlockCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BlockComment, ReferenceHolder<V, T>> bs, BiConsumer<BlockComment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBlockCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BlockComment, E> bs, BiConsumer<BlockComment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBlockComment(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7225,17 +7475,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callBooleanLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BooleanLiteral, ReferenceHolder<V, T>> bs,
-			BiConsumer<BooleanLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBooleanLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BooleanLiteral, E> bs,
+			BiConsumer<BooleanLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBooleanLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7244,17 +7495,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callBreakStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<BreakStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<BreakStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callBreakStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<BreakStatement, E> bs,
+			BiConsumer<BreakStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addBreakStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7263,17 +7515,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callCastExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CastExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<CastExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCastExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CastExpression, E> bs,
+			BiConsumer<CastExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCastExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7282,16 +7535,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callCatchClauseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CatchClause, ReferenceHolder<V, T>> bs, BiConsumer<CatchClause, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCatchClauseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CatchClause, E> bs, BiConsumer<CatchClause, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCatchClause(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7300,17 +7554,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callCharacterLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CharacterLiteral, ReferenceHolder<V, T>> bs,
-			BiConsumer<CharacterLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCharacterLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CharacterLiteral, E> bs,
+			BiConsumer<CharacterLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCharacterLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7319,17 +7574,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callClassInstanceCreationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ClassInstanceCreation, ReferenceHolder<V, T>> bs,
-			BiConsumer<ClassInstanceCreation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callClassInstanceCreationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ClassInstanceCreation, E> bs,
+			BiConsumer<ClassInstanceCreation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addClassInstanceCreation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7338,17 +7594,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callCompilationUnitVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CompilationUnit, ReferenceHolder<V, T>> bs,
-			BiConsumer<CompilationUnit, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCompilationUnitVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CompilationUnit, E> bs,
+			BiConsumer<CompilationUnit, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCompilationUnit(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7357,17 +7614,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callConditionalExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ConditionalExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<ConditionalExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConditionalExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ConditionalExpression, E> bs,
+			BiConsumer<ConditionalExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConditionalExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7376,17 +7634,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ConstructorInvocation, ReferenceHolder<V, T>> bs,
-			BiConsumer<ConstructorInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ConstructorInvocation, E> bs,
+			BiConsumer<ConstructorInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addConstructorInvocation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7395,17 +7654,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callContinueStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ContinueStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<ContinueStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callContinueStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ContinueStatement, E> bs,
+			BiConsumer<ContinueStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addContinueStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7414,17 +7674,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callCreationReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<CreationReference, ReferenceHolder<V, T>> bs,
-			BiConsumer<CreationReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callCreationReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<CreationReference, E> bs,
+			BiConsumer<CreationReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addCreationReference(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7433,16 +7694,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callDimensionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Dimension, ReferenceHolder<V, T>> bs, BiConsumer<Dimension, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDimensionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Dimension, E> bs, BiConsumer<Dimension, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDimension(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7451,16 +7713,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callDoStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<DoStatement, ReferenceHolder<V, T>> bs, BiConsumer<DoStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callDoStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<DoStatement, E> bs, BiConsumer<DoStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addDoStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7469,17 +7732,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callEmptyStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EmptyStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<EmptyStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEmptyStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EmptyStatement, E> bs,
+			BiConsumer<EmptyStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEmptyStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7488,17 +7752,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callEnhancedForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnhancedForStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<EnhancedForStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnhancedForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnhancedForStatement, E> bs,
+			BiConsumer<EnhancedForStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnhancedForStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7507,17 +7772,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callEnumConstantDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnumConstantDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<EnumConstantDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumConstantDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnumConstantDeclaration, E> bs,
+			BiConsumer<EnumConstantDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumConstantDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7526,17 +7792,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callEnumDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<EnumDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<EnumDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callEnumDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<EnumDeclaration, E> bs,
+			BiConsumer<EnumDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addEnumDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7545,17 +7812,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callExportsDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExportsDirective, ReferenceHolder<V, T>> bs,
-			BiConsumer<ExportsDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExportsDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExportsDirective, E> bs,
+			BiConsumer<ExportsDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExportsDirective(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7564,17 +7832,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callExpressionMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExpressionMethodReference, ReferenceHolder<V, T>> bs,
-			BiConsumer<ExpressionMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExpressionMethodReference, E> bs,
+			BiConsumer<ExpressionMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionMethodReference(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7583,17 +7852,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callExpressionStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ExpressionStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<ExpressionStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callExpressionStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ExpressionStatement, E> bs,
+			BiConsumer<ExpressionStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addExpressionStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7602,16 +7872,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<FieldAccess, ReferenceHolder<V, T>> bs, BiConsumer<FieldAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<FieldAccess, E> bs, BiConsumer<FieldAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldAccess(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7620,17 +7891,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callFieldDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<FieldDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<FieldDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callFieldDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<FieldDeclaration, E> bs,
+			BiConsumer<FieldDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addFieldDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7639,16 +7911,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callForStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ForStatement, ReferenceHolder<V, T>> bs, BiConsumer<ForStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callForStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ForStatement, E> bs, BiConsumer<ForStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addForStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7657,16 +7930,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callIfStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<IfStatement, ReferenceHolder<V, T>> bs, BiConsumer<IfStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIfStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<IfStatement, E> bs, BiConsumer<IfStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIfStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7675,17 +7949,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callImportDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ImportDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<ImportDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callImportDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ImportDeclaration, E> bs,
+			BiConsumer<ImportDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addImportDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7694,17 +7969,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callInfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<InfixExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<InfixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<InfixExpression, E> bs,
+			BiConsumer<InfixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInfixExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7713,16 +7989,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callInitializerVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Initializer, ReferenceHolder<V, T>> bs, BiConsumer<Initializer, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInitializerVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Initializer, E> bs, BiConsumer<Initializer, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInitializer(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7731,17 +8008,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<InstanceofExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<InstanceofExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<InstanceofExpression, E> bs,
+			BiConsumer<InstanceofExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addInstanceofExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7750,17 +8028,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callIntersectionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<IntersectionType, ReferenceHolder<V, T>> bs,
-			BiConsumer<IntersectionType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callIntersectionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<IntersectionType, E> bs,
+			BiConsumer<IntersectionType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addIntersectionType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7769,16 +8048,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callJavadocVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Javadoc, ReferenceHolder<V, T>> bs, BiConsumer<Javadoc, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callJavadocVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Javadoc, E> bs, BiConsumer<Javadoc, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addJavadoc(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7787,17 +8067,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callLabeledStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LabeledStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<LabeledStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLabeledStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LabeledStatement, E> bs,
+			BiConsumer<LabeledStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLabeledStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7806,17 +8087,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callLambdaExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LambdaExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<LambdaExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLambdaExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LambdaExpression, E> bs,
+			BiConsumer<LambdaExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLambdaExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7825,16 +8107,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callLineCommentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<LineComment, ReferenceHolder<V, T>> bs, BiConsumer<LineComment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callLineCommentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<LineComment, E> bs, BiConsumer<LineComment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addLineComment(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7843,17 +8126,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMarkerAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MarkerAnnotation, ReferenceHolder<V, T>> bs,
-			BiConsumer<MarkerAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMarkerAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MarkerAnnotation, E> bs,
+			BiConsumer<MarkerAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMarkerAnnotation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7862,16 +8146,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMemberRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MemberRef, ReferenceHolder<V, T>> bs, BiConsumer<MemberRef, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MemberRef, E> bs, BiConsumer<MemberRef, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberRef(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7880,17 +8165,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMemberValuePairVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MemberValuePair, ReferenceHolder<V, T>> bs,
-			BiConsumer<MemberValuePair, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMemberValuePairVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MemberValuePair, E> bs,
+			BiConsumer<MemberValuePair, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMemberValuePair(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7899,16 +8185,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMethodRefVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodRef, ReferenceHolder<V, T>> bs, BiConsumer<MethodRef, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodRef, E> bs, BiConsumer<MethodRef, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRef(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7917,17 +8204,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMethodRefParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodRefParameter, ReferenceHolder<V, T>> bs,
-			BiConsumer<MethodRefParameter, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodRefParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodRefParameter, E> bs,
+			BiConsumer<MethodRefParameter, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodRefParameter(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7936,17 +8224,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMethodDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<MethodDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodDeclaration, E> bs,
+			BiConsumer<MethodDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7955,17 +8244,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<MethodInvocation, ReferenceHolder<V, T>> bs,
-			BiConsumer<MethodInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<MethodInvocation, E> bs,
+			BiConsumer<MethodInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addMethodInvocation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7974,16 +8264,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<Modifier, ReferenceHolder<V, T>> bs, BiConsumer<Modifier, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<Modifier, E> bs, BiConsumer<Modifier, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModifier(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -7992,17 +8283,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callModuleDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ModuleDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<ModuleDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ModuleDeclaration, E> bs,
+			BiConsumer<ModuleDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8011,17 +8303,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callModuleModifierVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ModuleModifier, ReferenceHolder<V, T>> bs,
-			BiConsumer<ModuleModifier, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callModuleModifierVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ModuleModifier, E> bs,
+			BiConsumer<ModuleModifier, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addModuleModifier(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8030,17 +8323,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callNameQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NameQualifiedType, ReferenceHolder<V, T>> bs,
-			BiConsumer<NameQualifiedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNameQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NameQualifiedType, E> bs,
+			BiConsumer<NameQualifiedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNameQualifiedType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8049,17 +8343,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callNormalAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NormalAnnotation, ReferenceHolder<V, T>> bs,
-			BiConsumer<NormalAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNormalAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NormalAnnotation, E> bs,
+			BiConsumer<NormalAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNormalAnnotation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8068,16 +8363,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callNullLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NullLiteral, ReferenceHolder<V, T>> bs, BiConsumer<NullLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNullLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NullLiteral, E> bs, BiConsumer<NullLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNullLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8086,16 +8382,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callNumberLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<NumberLiteral, ReferenceHolder<V, T>> bs, BiConsumer<NumberLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callNumberLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<NumberLiteral, E> bs, BiConsumer<NumberLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addNumberLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8104,17 +8401,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callOpensDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<OpensDirective, ReferenceHolder<V, T>> bs,
-			BiConsumer<OpensDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callOpensDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<OpensDirective, E> bs,
+			BiConsumer<OpensDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addOpensDirective(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8123,17 +8421,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callPackageDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PackageDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<PackageDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPackageDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PackageDeclaration, E> bs,
+			BiConsumer<PackageDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPackageDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8142,17 +8441,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callParameterizedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ParameterizedType, ReferenceHolder<V, T>> bs,
-			BiConsumer<ParameterizedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParameterizedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ParameterizedType, E> bs,
+			BiConsumer<ParameterizedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParameterizedType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8161,17 +8461,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callParenthesizedExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ParenthesizedExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<ParenthesizedExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callParenthesizedExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ParenthesizedExpression, E> bs,
+			BiConsumer<ParenthesizedExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addParenthesizedExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8180,17 +8481,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PatternInstanceofExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<PatternInstanceofExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPatternInstanceofExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PatternInstanceofExpression, E> bs,
+			BiConsumer<PatternInstanceofExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPatternInstanceofExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8199,17 +8501,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callPostfixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PostfixExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<PostfixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPostfixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PostfixExpression, E> bs,
+			BiConsumer<PostfixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPostfixExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8218,17 +8521,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callPrefixExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PrefixExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<PrefixExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrefixExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PrefixExpression, E> bs,
+			BiConsumer<PrefixExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrefixExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8237,17 +8541,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callProvidesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ProvidesDirective, ReferenceHolder<V, T>> bs,
-			BiConsumer<ProvidesDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callProvidesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ProvidesDirective, E> bs,
+			BiConsumer<ProvidesDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addProvidesDirective(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8256,16 +8561,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callPrimitiveTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<PrimitiveType, ReferenceHolder<V, T>> bs, BiConsumer<PrimitiveType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callPrimitiveTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<PrimitiveType, E> bs, BiConsumer<PrimitiveType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addPrimitiveType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8274,16 +8580,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callQualifiedNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<QualifiedName, ReferenceHolder<V, T>> bs, BiConsumer<QualifiedName, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<QualifiedName, E> bs, BiConsumer<QualifiedName, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedName(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8292,10 +8599,10 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callQualifiedTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<QualifiedType, ReferenceHolder<V, T>> bs, BiConsumer<QualifiedType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callQualifiedTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<QualifiedType, E> bs, BiConsumer<QualifiedType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addQualifiedType(bs, bc);
 		hv.build(node);
 	}
@@ -8304,6 +8611,7 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8313,17 +8621,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bc
 	 */
 
-	public static <V, T> void callRequiresDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<RequiresDirective, ReferenceHolder<V, T>> bs,
-			BiConsumer<RequiresDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRequiresDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<RequiresDirective, E> bs,
+			BiConsumer<RequiresDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRequiresDirective(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8332,17 +8641,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callRecordDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<RecordDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<RecordDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callRecordDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<RecordDeclaration, E> bs,
+			BiConsumer<RecordDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addRecordDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8351,17 +8661,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callReturnStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ReturnStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<ReturnStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callReturnStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ReturnStatement, E> bs,
+			BiConsumer<ReturnStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addReturnStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8370,16 +8681,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSimpleNameVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SimpleName, ReferenceHolder<V, T>> bs, BiConsumer<SimpleName, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleNameVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SimpleName, E> bs, BiConsumer<SimpleName, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleName(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8388,16 +8700,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSimpleTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SimpleType, ReferenceHolder<V, T>> bs, BiConsumer<SimpleType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSimpleTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SimpleType, E> bs, BiConsumer<SimpleType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSimpleType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8406,17 +8719,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSingleMemberAnnotationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SingleMemberAnnotation, ReferenceHolder<V, T>> bs,
-			BiConsumer<SingleMemberAnnotation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleMemberAnnotationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SingleMemberAnnotation, E> bs,
+			BiConsumer<SingleMemberAnnotation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleMemberAnnotation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8425,17 +8739,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSingleVariableDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SingleVariableDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<SingleVariableDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSingleVariableDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SingleVariableDeclaration, E> bs,
+			BiConsumer<SingleVariableDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSingleVariableDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8444,16 +8759,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callStringLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<StringLiteral, ReferenceHolder<V, T>> bs, BiConsumer<StringLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callStringLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<StringLiteral, E> bs, BiConsumer<StringLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addStringLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8462,17 +8778,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSuperConstructorInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperConstructorInvocation, ReferenceHolder<V, T>> bs,
-			BiConsumer<SuperConstructorInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperConstructorInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperConstructorInvocation, E> bs,
+			BiConsumer<SuperConstructorInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperConstructorInvocation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8481,17 +8798,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSuperFieldAccessVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperFieldAccess, ReferenceHolder<V, T>> bs,
-			BiConsumer<SuperFieldAccess, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperFieldAccessVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperFieldAccess, E> bs,
+			BiConsumer<SuperFieldAccess, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperFieldAccess(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8500,17 +8818,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSuperMethodInvocationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperMethodInvocation, ReferenceHolder<V, T>> bs,
-			BiConsumer<SuperMethodInvocation, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodInvocationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperMethodInvocation, E> bs,
+			BiConsumer<SuperMethodInvocation, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodInvocation(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8519,17 +8838,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSuperMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SuperMethodReference, ReferenceHolder<V, T>> bs,
-			BiConsumer<SuperMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSuperMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SuperMethodReference, E> bs,
+			BiConsumer<SuperMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSuperMethodReference(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8538,16 +8858,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchCaseVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchCase, ReferenceHolder<V, T>> bs, BiConsumer<SwitchCase, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchCaseVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchCase, E> bs, BiConsumer<SwitchCase, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchCase(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8556,17 +8877,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<SwitchExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchExpression, E> bs,
+			BiConsumer<SwitchExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8575,17 +8897,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSwitchStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SwitchStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<SwitchStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSwitchStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SwitchStatement, E> bs,
+			BiConsumer<SwitchStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSwitchStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8594,17 +8917,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callSynchronizedStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<SynchronizedStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<SynchronizedStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callSynchronizedStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<SynchronizedStatement, E> bs,
+			BiConsumer<SynchronizedStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addSynchronizedStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8613,16 +8937,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTagElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TagElement, ReferenceHolder<V, T>> bs, BiConsumer<TagElement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTagElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TagElement, E> bs, BiConsumer<TagElement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTagElement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8631,16 +8956,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTextBlockVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TextBlock, ReferenceHolder<V, T>> bs, BiConsumer<TextBlock, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextBlockVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TextBlock, E> bs, BiConsumer<TextBlock, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextBlock(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8649,16 +8975,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTextElementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TextElement, ReferenceHolder<V, T>> bs, BiConsumer<TextElement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTextElementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TextElement, E> bs, BiConsumer<TextElement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTextElement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8667,17 +8994,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callThisExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ThisExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<ThisExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThisExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ThisExpression, E> bs,
+			BiConsumer<ThisExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThisExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8686,17 +9014,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callThrowStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<ThrowStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<ThrowStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callThrowStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<ThrowStatement, E> bs,
+			BiConsumer<ThrowStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addThrowStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8705,16 +9034,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTryStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TryStatement, ReferenceHolder<V, T>> bs, BiConsumer<TryStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTryStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TryStatement, E> bs, BiConsumer<TryStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTryStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8723,17 +9053,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTypeDeclarationVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeDeclaration, ReferenceHolder<V, T>> bs,
-			BiConsumer<TypeDeclaration, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeDeclaration, E> bs,
+			BiConsumer<TypeDeclaration, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclaration(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8742,17 +9073,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTypeDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeDeclarationStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<TypeDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeDeclarationStatement, E> bs,
+			BiConsumer<TypeDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeDeclarationStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8761,16 +9093,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTypeLiteralVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeLiteral, ReferenceHolder<V, T>> bs, BiConsumer<TypeLiteral, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeLiteralVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeLiteral, E> bs, BiConsumer<TypeLiteral, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeLiteral(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8779,17 +9112,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTypeMethodReferenceVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeMethodReference, ReferenceHolder<V, T>> bs,
-			BiConsumer<TypeMethodReference, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeMethodReferenceVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeMethodReference, E> bs,
+			BiConsumer<TypeMethodReference, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeMethodReference(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8798,16 +9132,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callTypeParameterVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<TypeParameter, ReferenceHolder<V, T>> bs, BiConsumer<TypeParameter, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callTypeParameterVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<TypeParameter, E> bs, BiConsumer<TypeParameter, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addTypeParameter(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8816,16 +9151,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callUnionTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<UnionType, ReferenceHolder<V, T>> bs, BiConsumer<UnionType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUnionTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<UnionType, E> bs, BiConsumer<UnionType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUnionType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8834,16 +9170,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callUsesDirectiveVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<UsesDirective, ReferenceHolder<V, T>> bs, BiConsumer<UsesDirective, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callUsesDirectiveVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<UsesDirective, E> bs, BiConsumer<UsesDirective, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addUsesDirective(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8852,17 +9189,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationExpression, ReferenceHolder<V, T>> bs,
-			BiConsumer<VariableDeclarationExpression, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationExpressionVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationExpression, E> bs,
+			BiConsumer<VariableDeclarationExpression, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationExpression(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8871,17 +9209,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<VariableDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationStatement, E> bs,
+			BiConsumer<VariableDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param class1
@@ -8891,17 +9230,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<VariableDeclarationStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationStatementVisitor(Class<?> class1, ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationStatement, E> bs,
+			BiConsumer<VariableDeclarationStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationStatement(class1, bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8910,17 +9250,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<VariableDeclarationFragment, ReferenceHolder<V, T>> bs,
-			BiConsumer<VariableDeclarationFragment, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callVariableDeclarationFragmentVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<VariableDeclarationFragment, E> bs,
+			BiConsumer<VariableDeclarationFragment, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addVariableDeclarationFragment(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8929,17 +9270,18 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callWhileStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<WhileStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<WhileStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWhileStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<WhileStatement, E> bs,
+			BiConsumer<WhileStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWhileStatement(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8948,16 +9290,17 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callWildcardTypeVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<WildcardType, ReferenceHolder<V, T>> bs, BiConsumer<WildcardType, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callWildcardTypeVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<WildcardType, E> bs, BiConsumer<WildcardType, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addWildcardType(bs, bc);
 		hv.build(node);
 	}
 
 	/**
 	 *
+	 * @param <E>
 	 * @param <V>
 	 * @param <T>
 	 * @param node
@@ -8966,11 +9309,11 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param bs - BiPredicate that can be assigned a lambda expression
 	 * @param bc
 	 */
-	public static <V, T> void callYieldStatementVisitor(ASTNode node, ReferenceHolder<V, T> dataholder, Set<ASTNode> nodesprocessed,
-			BiPredicate<YieldStatement, ReferenceHolder<V, T>> bs,
-			BiConsumer<YieldStatement, ReferenceHolder<V, T>> bc) {
+	public static <E extends HelperVisitorProvider<V, T, E>, V, T> void callYieldStatementVisitor(ASTNode node, E dataholder, Set<ASTNode> nodesprocessed,
+			BiPredicate<YieldStatement, E> bs,
+			BiConsumer<YieldStatement, E> bc) {
 
-		HelperVisitor<ReferenceHolder<V, T>,V,T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
+		HelperVisitor<E, V, T> hv= new HelperVisitor<>(nodesprocessed, dataholder);
 		hv.addYieldStatement(bs, bc);
 		hv.build(node);
 	}
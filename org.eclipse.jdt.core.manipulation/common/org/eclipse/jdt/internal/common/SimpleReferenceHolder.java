@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import java.util.HashMap;
+
+/**
+ * Data holder for visits that run in a single thread. In contrast to {@link ReferenceHolder} it
+ * is derived from HashMap, so it avoids the overhead of a concurrent map and allows null keys and
+ * values. It must not be shared between threads.
+ *
+ * @param <V> - type of key in HelperVisitor map
+ * @param <T> - type of value in HelpVisitor map
+ */
+public class SimpleReferenceHolder<V, T> extends HashMap<V, T> implements HelperVisitorProvider<V, T, SimpleReferenceHolder<V, T>> {
+
+	private static final long serialVersionUID= 1L;
+
+	transient HelperVisitor<SimpleReferenceHolder<V, T>, V, T> hv;
+
+	@Override
+	public HelperVisitor<SimpleReferenceHolder<V, T>, V, T> getHelperVisitor() {
+		return hv;
+	}
+
+	@Override
+	public void setHelperVisitor(HelperVisitor<SimpleReferenceHolder<V, T>, V, T> hv) {
+		this.hv= hv;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
-import java.util.Arrays;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -570,8 +566,21 @@ public enum VisitorEnum {
 		return Stream.of(VisitorEnum.values());
 	}
 
-	static final Map<Integer, VisitorEnum> values= Arrays.stream(VisitorEnum.values())
-			.collect(Collectors.toMap(VisitorEnum::getValue, Function.identity()));
+	/**
+	 * VisitorEnum per node type, indexed by node type
+	 */
+	private static final VisitorEnum[] byNodetype;
+
+	static {
+		int max= 0;
+		for (VisitorEnum ve : values()) {
+			max= Math.max(max, ve.nodetype);
+		}
+		byNodetype= new VisitorEnum[max + 1];
+		for (VisitorEnum ve : values()) {
+			byNodetype[ve.nodetype]= ve;
+		}
+	}
 
 	/**
 	 *
@@ -579,7 +588,7 @@ public enum VisitorEnum {
 	 * @return - corresponding VistorEnum
 	 */
 	public static VisitorEnum fromNodetype(final int nodetype) {
-		return values.get(nodetype);
+		return nodetype >= 0 && nodetype < byNodetype.length ? byNodetype[nodetype] : null;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.jdt.internal.core.manipulation;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -28,6 +30,7 @@ import org.eclipse.jface.text.templates.TemplateBuffer;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateException;
 import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -36,6 +39,14 @@ import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
 public class CodeTemplateContext extends TemplateContext {
 
+	private static final int MAX_TRANSLATED_PATTERNS= 100;
+
+	/**
+	 * The translated template patterns by line delimiter and pattern. The cached buffers are never
+	 * resolved, {@link #evaluate(Template)} resolves a copy.
+	 */
+	private static final Map<String, TemplateBuffer> fgTranslatedPatterns= new ConcurrentHashMap<>();
+
 	private String fLineDelimiter;
 	private IJavaProject fProject;
 
@@ -74,14 +85,35 @@ public class CodeTemplateContext extends TemplateContext {
 		if (!canEvaluate(template))
 			return null;
 
-		String pattern= changeLineDelimiter(template.getPattern(), fLineDelimiter);
-
-		TemplateTranslator translator= new TemplateTranslator();
-		TemplateBuffer buffer= translator.translate(pattern);
+		TemplateBuffer buffer= copy(getTranslatedPattern(template.getPattern(), fLineDelimiter));
 		getContextType().resolve(buffer, this);
 		return buffer;
 	}
 
+	private static TemplateBuffer getTranslatedPattern(String pattern, String lineDelimiter) throws TemplateException {
+		String key= lineDelimiter + '\0' + pattern;
+		TemplateBuffer buffer= fgTranslatedPatterns.get(key);
+		if (buffer == null) {
+			TemplateTranslator translator= new TemplateTranslator();
+			buffer= translator.translate(changeLineDelimiter(pattern, lineDelimiter));
+			if (fgTranslatedPatterns.size() >= MAX_TRANSLATED_PATTERNS) {
+				fgTranslatedPatterns.clear();
+			}
+			fgTranslatedPatterns.put(key, buffer);
+		}
+		return buffer;
+	}
+
+	private static TemplateBuffer copy(TemplateBuffer buffer) {
+		TemplateVariable[] variables= buffer.getVariables();
+		TemplateVariable[] copies= new TemplateVariable[variables.length];
+		for (int i= 0; i < variables.length; i++) {
+			TemplateVariable variable= variables[i];
+			copies[i]= new TemplateVariable(variable.getVariableType(), variable.getName(), variable.getValues().clone(), variable.getOffsets().clone());
+		}
+		return new TemplateBuffer(buffer.getString(), copies);
+	}
+
 	private static String changeLineDelimiter(String code, String lineDelim) {
 		try {
 			ILineTracker tracker= new DefaultLineTracker();
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * A bounded cache of Java element labels, keyed by the element handle and the rendering flags.
+ * <p>
+ * The label of an element below a compilation unit or class file only depends on the contents of
+ * that compilation unit or class file, so its labels are removed when a Java element delta changes
+ * it. Deltas that change elements above the compilation unit level, for example a changed
+ * classpath, clear all labels. Labels with {@link JavaElementLabelsCore#USE_RESOLVED} are not
+ * cached. Labels that depend on preferences must be cleared by the owner of the preferences with
+ * {@link #clearAll()}.
+ * </p>
+ * <p>
+ * A label must only be added with the generation from before it has been computed, see
+ * {@link #getGeneration()}, so that a label that raced with a change is not cached. This class is
+ * thread safe.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class JavaElementLabelCache {
+
+	private static final boolean ENABLED= Boolean.parseBoolean(System.getProperty("jdt.ui.elementLabelCache", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final List<JavaElementLabelCache> fgCaches= new CopyOnWriteArrayList<>();
+
+	private static IElementChangedListener fgListener;
+
+	private static final class Key {
+
+		final IJavaElement fElement;
+
+		final long fFlags;
+
+		Key(IJavaElement element, long flags) {
+			fElement= element;
+			fFlags= flags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fElement.equals(other.fElement);
+		}
+
+		@Override
+		public int hashCode() {
+			return fElement.hashCode() * 31 + Long.hashCode(fFlags);
+		}
+	}
+
+	private static final class Entry {
+
+		final String fLabel;
+
+		/**
+		 * The primary compilation unit or the class file that contains the element, or
+		 * <code>null</code> if the element is above the compilation unit level.
+		 */
+		final IJavaElement fOpenable;
+
+		Entry(String label, IJavaElement openable) {
+			fLabel= label;
+			fOpenable= openable;
+		}
+	}
+
+	private final LinkedHashMap<Key, Entry> fLabels;
+
+	private int fGeneration;
+
+	/**
+	 * Creates a new cache that keeps the given number of most recently used labels.
+	 *
+	 * @param maxEntries the maximal number of labels
+	 */
+	public JavaElementLabelCache(int maxEntries) {
+		fLabels= new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+		fgCaches.add(this);
+	}
+
+	/**
+	 * Returns the generation of the cache, it changes whenever labels are removed. Pass the
+	 * generation from before a label has been computed to {@link #put(IJavaElement, long, String, int)}.
+	 *
+	 * @return the generation of the cache
+	 */
+	public synchronized int getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the cached label of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @return the label, or <code>null</code> if the label is not cached
+	 */
+	public synchronized String get(IJavaElement element, long flags) {
+		if (!isCacheable(flags))
+			return null;
+		Entry entry= fLabels.get(new Key(element, flags));
+		return entry != null ? entry.fLabel : null;
+	}
+
+	/**
+	 * Caches the label of the given element, unless labels have been removed since the given
+	 * generation.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label the label
+	 * @param generation the generation from before the label has been computed
+	 */
+	public void put(IJavaElement element, long flags, String label, int generation) {
+		if (!isCacheable(flags))
+			return;
+		IJavaElement openable= getOpenable(element);
+		synchronized (JavaElementLabelCache.class) {
+			if (fgListener == null) {
+				fgListener= JavaElementLabelCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+		}
+		synchronized (this) {
+			if (fGeneration == generation) {
+				fLabels.put(new Key(element, flags), new Entry(label, openable));
+			}
+		}
+	}
+
+	/**
+	 * Removes all labels of this cache.
+	 */
+	public synchronized void clear() {
+		fGeneration++;
+		fLabels.clear();
+	}
+
+	private synchronized void remove(Set<IJavaElement> openables) {
+		fGeneration++;
+		for (Iterator<Entry> iter= fLabels.values().iterator(); iter.hasNext();) {
+			IJavaElement openable= iter.next().fOpenable;
+			if (openable != null && openables.contains(openable)) {
+				iter.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes the labels of all caches, for example because a preference that affects labels has
+	 * changed.
+	 */
+	public static void clearAll() {
+		for (JavaElementLabelCache cache : fgCaches) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Clears all caches and stops listening to Java element changes.
+	 */
+	public static void disposeAll() {
+		synchronized (JavaElementLabelCache.class) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+		}
+		clearAll();
+	}
+
+	/**
+	 * Tells whether labels with the given flags can be cached. A resolved element is equal to the
+	 * element it has been resolved from, so labels that show the resolved types are not cached.
+	 *
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if the labels can be cached
+	 */
+	private static boolean isCacheable(long flags) {
+		return ENABLED && (flags & JavaElementLabelsCore.USE_RESOLVED) == 0;
+	}
+
+	private static IJavaElement getOpenable(IJavaElement element) {
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (cu != null)
+			return cu.getPrimary();
+		return element.getAncestor(IJavaElement.CLASS_FILE);
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> openables= new HashSet<>();
+		if (collectChangedOpenables(event.getDelta(), openables)) {
+			clearAll();
+		} else if (!openables.isEmpty()) {
+			for (JavaElementLabelCache cache : fgCaches) {
+				cache.remove(openables);
+			}
+		}
+	}
+
+	/**
+	 * Collects the compilation units and class files whose labels are changed by the given delta.
+	 *
+	 * @param delta the delta
+	 * @param openables receives the primary compilation units and the class files
+	 * @return <code>true</code> if the delta changes an element above the compilation unit level
+	 */
+	private static boolean collectChangedOpenables(IJavaElementDelta delta, Set<IJavaElement> openables) {
+		IJavaElement element= delta.getElement();
+		int type= element.getElementType();
+		if (type == IJavaElement.COMPILATION_UNIT || type == IJavaElement.CLASS_FILE) {
+			// an AST that has been reconciled without changes does not change the labels
+			if (delta.getKind() != IJavaElementDelta.CHANGED || delta.getFlags() != IJavaElementDelta.F_AST_AFFECTED || delta.getAffectedChildren().length != 0) {
+				openables.add(getOpenable(element));
+			}
+			return false;
+		}
+		if (type > IJavaElement.COMPILATION_UNIT) {
+			openables.add(getOpenable(element));
+			return false;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		// non-Java resources do not change the labels
+		if ((delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (collectChangedOpenables(child, openables))
+				return true;
+		}
+		return false;
+	}
+}
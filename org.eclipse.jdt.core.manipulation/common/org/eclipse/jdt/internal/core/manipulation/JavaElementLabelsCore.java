@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -382,6 +382,11 @@ public final class JavaElementLabelsCore {
 	 */
 	public final static String DEFAULT_PACKAGE= JavaElementLabelsMessages.JavaElementLabels_default_package;
 
+	/**
+	 * The labels returned by {@link #getElementLabel(IJavaElement, long)}.
+	 */
+	private static final JavaElementLabelCache fgLabelCache= new JavaElementLabelCache(2000);
+
 	private JavaElementLabelsCore() {
 	}
 
@@ -416,9 +421,16 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		int generation= fgLabelCache.getGeneration();
+		String label= fgLabelCache.get(element, flags);
+		if (label == null) {
+			StringBuilder result= JavaElementLabelComposerCore.acquireLabelBuilder();
+			new JavaElementLabelComposerCore(result).appendElementLabel(element, flags);
+			label= org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+			JavaElementLabelComposerCore.releaseLabelBuilder(result);
+			fgLabelCache.put(element, flags, label, generation);
+		}
+		return label;
 	}
 
 	/**
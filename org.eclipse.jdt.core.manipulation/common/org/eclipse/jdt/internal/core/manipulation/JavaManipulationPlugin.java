@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,10 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerCache;
+
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
+import org.eclipse.jdt.internal.ui.text.ChainSearchCache;
 
 /**
  * The main plug-in class to be used in the workbench.
@@ -48,6 +51,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_TYPE_HIERARCHY_CACHE;
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -67,6 +72,9 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		ChainSearchCache.disposeAll();
+		CallerCache.disposeAll();
+		JavaElementLabelCache.disposeAll();
 		super.stop(context);
 		fgDefault= null;
 	}
@@ -131,5 +139,6 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_TYPE_HIERARCHY_CACHE= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeHierarchyCache", false); //$NON-NLS-1$
 	}
 }
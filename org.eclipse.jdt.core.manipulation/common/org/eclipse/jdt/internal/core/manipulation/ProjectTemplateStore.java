@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,8 +92,20 @@ public final class ProjectTemplateStore {
 		}
 	}
 
+	/**
+	 * Returns the preference value that holds the project specific code templates of the given
+	 * project.
+	 *
+	 * @param project the project
+	 * @return the serialized project specific templates, or <code>null</code> if none are stored
+	 * @since 1.20
+	 */
+	public static String getProjectSpecificTemplates(IProject project) {
+		return new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+	}
+
 	public static boolean hasProjectSpecificTempates(IProject project) {
-		String pref= new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+		String pref= getProjectSpecificTemplates(project);
 		if (pref != null && pref.trim().length() > 0) {
 			Reader input= new StringReader(pref);
 			TemplateReaderWriter reader= new TemplateReaderWriter();
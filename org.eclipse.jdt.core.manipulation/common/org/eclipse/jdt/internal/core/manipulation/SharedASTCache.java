@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+
+/**
+ * A bounded cache of recently used shared ASTs, used by {@link CoreASTProvider} to keep the ASTs
+ * of Java elements that are not the active one.
+ * <p>
+ * Entries are keyed by type root and are only returned while the buffer they were created from is
+ * unchanged and the modification stamp of the underlying resource is the same as when the AST was
+ * added. The least recently used entry is evicted when the capacity is exceeded, and the ASTs are
+ * only softly referenced so that they can be reclaimed under memory pressure. When the available
+ * heap is low, the cache is trimmed to a single entry.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class SharedASTCache {
+
+	/**
+	 * Default number of cached ASTs, can be changed with the <code>jdt.sharedASTCacheSize</code>
+	 * system property.
+	 */
+	public static final int DEFAULT_CAPACITY= Integer.getInteger("jdt.sharedASTCacheSize", 5).intValue(); //$NON-NLS-1$
+
+	/**
+	 * Percentage of the maximal heap that must still be available to cache more than one AST.
+	 */
+	private static final int MIN_FREE_HEAP_PERCENTAGE= 10;
+
+	private final class Entry implements IBufferChangedListener {
+
+		private final ITypeRoot fTypeRoot;
+		private final SoftReference<CompilationUnit> fAST;
+		private final IBuffer fBuffer;
+		private final long fStamp;
+
+		public Entry(ITypeRoot typeRoot, CompilationUnit ast, IBuffer buffer, long stamp) {
+			fTypeRoot= typeRoot;
+			fAST= new SoftReference<>(ast);
+			fBuffer= buffer;
+			fStamp= stamp;
+		}
+
+		public CompilationUnit getAST() {
+			if (fBuffer.isClosed() || fStamp != getModificationStamp(fTypeRoot))
+				return null;
+			return fAST.get();
+		}
+
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			remove(fTypeRoot, this);
+		}
+	}
+
+	private final LinkedHashMap<ITypeRoot, Entry> fEntries;
+	private int fCapacity;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param capacity the maximal number of ASTs to keep, <code>0</code> to disable the cache
+	 */
+	public SharedASTCache(int capacity) {
+		fEntries= new LinkedHashMap<>(16, 0.75f, true);
+		fCapacity= Math.max(0, capacity);
+	}
+
+	/**
+	 * Sets the maximal number of ASTs to keep. Evicts the least recently used entries if the cache
+	 * contains more entries.
+	 *
+	 * @param capacity the maximal number of ASTs to keep, <code>0</code> to disable the cache
+	 */
+	public void setCapacity(int capacity) {
+		List<Entry> evicted;
+		synchronized (this) {
+			fCapacity= Math.max(0, capacity);
+			evicted= trim(fCapacity);
+		}
+		unregister(evicted);
+	}
+
+	/**
+	 * Adds the given AST to the cache. The AST is associated with its type root, any other AST for
+	 * the same type root is replaced.
+	 * <p>
+	 * The buffer of the type root is read, so this method should not be called while holding a
+	 * lock that is also taken when a buffer is opened, like the monitor of the AST provider.
+	 * </p>
+	 *
+	 * @param ast the AST to cache, can be <code>null</code>
+	 */
+	public void put(CompilationUnit ast) {
+		if (ast == null || fCapacity == 0)
+			return;
+
+		ITypeRoot typeRoot= ast.getTypeRoot();
+		if (typeRoot == null)
+			return;
+
+		IBuffer buffer;
+		try {
+			if (!typeRoot.isOpen())
+				return;
+			buffer= typeRoot.getBuffer();
+		} catch (JavaModelException e) {
+			return;
+		}
+		if (buffer == null || buffer.isClosed())
+			return;
+
+		Entry entry= new Entry(typeRoot, ast, buffer, getModificationStamp(typeRoot));
+		buffer.addBufferChangedListener(entry);
+
+		List<Entry> evicted;
+		synchronized (this) {
+			Entry old= fEntries.put(typeRoot, entry);
+			evicted= trim(isHeapLow() ? 1 : fCapacity);
+			if (old != null)
+				evicted.add(old);
+		}
+		unregister(evicted);
+
+		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+			System.out.println(CoreASTProvider.getThreadName() + " - " + CoreASTProvider.DEBUG_PREFIX + "keeping recent AST for: " + typeRoot.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Returns the cached AST for the given type root if it is still valid.
+	 *
+	 * @param typeRoot the type root
+	 * @return the cached AST or <code>null</code> if there is no valid AST
+	 */
+	public CompilationUnit get(ITypeRoot typeRoot) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(typeRoot);
+		}
+		if (entry == null)
+			return null;
+
+		CompilationUnit ast= entry.getAST();
+		if (ast == null)
+			remove(typeRoot, entry);
+		return ast;
+	}
+
+	/**
+	 * Removes the AST of the given type root from the cache.
+	 *
+	 * @param typeRoot the type root
+	 */
+	public void remove(ITypeRoot typeRoot) {
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.remove(typeRoot);
+		}
+		if (entry != null)
+			entry.fBuffer.removeBufferChangedListener(entry);
+	}
+
+	/**
+	 * Removes all ASTs from the cache.
+	 */
+	public void clear() {
+		List<Entry> evicted;
+		synchronized (this) {
+			evicted= new ArrayList<>(fEntries.values());
+			fEntries.clear();
+		}
+		unregister(evicted);
+	}
+
+	/**
+	 * @return the number of cached ASTs, including ones that might no longer be valid
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	private void remove(ITypeRoot typeRoot, Entry entry) {
+		synchronized (this) {
+			if (fEntries.get(typeRoot) != entry)
+				return;
+			fEntries.remove(typeRoot);
+		}
+		entry.fBuffer.removeBufferChangedListener(entry);
+	}
+
+	private List<Entry> trim(int capacity) {
+		List<Entry> evicted= new ArrayList<>();
+		Iterator<Entry> iterator= fEntries.values().iterator();
+		while (fEntries.size() > capacity && iterator.hasNext()) {
+			Entry entry= iterator.next();
+			evicted.add(entry);
+			iterator.remove();
+		}
+		return evicted;
+	}
+
+	private static void unregister(List<Entry> entries) {
+		for (Entry entry : entries) {
+			entry.fBuffer.removeBufferChangedListener(entry);
+		}
+	}
+
+	private static boolean isHeapLow() {
+		Runtime runtime= Runtime.getRuntime();
+		long free= runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+		return free * 100 < runtime.maxMemory() * MIN_FREE_HEAP_PERCENTAGE;
+	}
+
+	private static long getModificationStamp(ITypeRoot typeRoot) {
+		IResource resource= typeRoot.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+}
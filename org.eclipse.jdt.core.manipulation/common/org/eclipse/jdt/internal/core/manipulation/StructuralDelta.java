@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * The structural changes reported by a Java element delta, for caches of results that depend on
+ * the declarations of types and members but not on the contents of method bodies.
+ * <p>
+ * A project is reported as having a classpath change if its classpath, one of its package fragment
+ * roots, a package fragment or a class file has been added, removed or changed. A project is
+ * reported as having a structure change if a compilation unit has been added or removed, or if a
+ * declaration in a compilation unit has changed. Changes inside method and initializer bodies,
+ * of field initializers and of non-Java resources are ignored.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class StructuralDelta {
+
+	private final Set<IJavaProject> fClasspathChanged= new LinkedHashSet<>();
+
+	private final Set<IJavaProject> fStructureChanged= new LinkedHashSet<>();
+
+	private final List<IJavaElementDelta> fChangedUnits= new ArrayList<>();
+
+	private StructuralDelta() {
+	}
+
+	/**
+	 * Collects the structural changes of the given delta.
+	 *
+	 * @param delta the delta of a {@link org.eclipse.jdt.core.ElementChangedEvent#POST_CHANGE} or
+	 *            {@link org.eclipse.jdt.core.ElementChangedEvent#POST_RECONCILE} event
+	 * @return the structural changes
+	 */
+	public static StructuralDelta collect(IJavaElementDelta delta) {
+		StructuralDelta result= new StructuralDelta();
+		result.collectChanges(delta);
+		return result;
+	}
+
+	/**
+	 * @return <code>true</code> if the delta does not contain any structural change
+	 */
+	public boolean isEmpty() {
+		return fClasspathChanged.isEmpty() && fStructureChanged.isEmpty();
+	}
+
+	/**
+	 * @return the projects whose classpath, package fragment roots, packages or class files have
+	 *         changed
+	 */
+	public Set<IJavaProject> getClasspathChangedProjects() {
+		return fClasspathChanged;
+	}
+
+	/**
+	 * @return the projects in which declarations in compilation units have changed
+	 */
+	public Set<IJavaProject> getStructureChangedProjects() {
+		return fStructureChanged;
+	}
+
+	/**
+	 * @return the names of all projects with a classpath or a structure change
+	 */
+	public Set<String> getChangedProjectNames() {
+		Set<String> names= getNames(fClasspathChanged);
+		names.addAll(getNames(fStructureChanged));
+		return names;
+	}
+
+	/**
+	 * Returns the qualified names of the types declared in the compilation units with a structure
+	 * change. The names of the primary types are also returned for removed compilation units.
+	 *
+	 * @return the qualified type names, using '.' to separate member types
+	 */
+	public Set<String> getChangedTypeNames() {
+		Set<String> result= new HashSet<>();
+		for (IJavaElementDelta delta : fChangedUnits) {
+			collectTypeNames(delta, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Tells whether the given project requires one of the given projects.
+	 *
+	 * @param project the project
+	 * @param projectNames the names of the projects
+	 * @return <code>true</code> if the project requires one of the projects, or if its required
+	 *         projects cannot be determined
+	 */
+	public static boolean requiresAny(IJavaProject project, Set<String> projectNames) {
+		if (projectNames.isEmpty())
+			return false;
+		try {
+			for (String required : project.getRequiredProjectNames()) {
+				if (projectNames.contains(required))
+					return true;
+			}
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * @param projects the projects
+	 * @return the names of the projects
+	 */
+	public static Set<String> getNames(Collection<IJavaProject> projects) {
+		Set<String> names= new HashSet<>();
+		for (IJavaProject project : projects) {
+			names.add(project.getElementName());
+		}
+		return names;
+	}
+
+	private void collectChanges(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// non-Java resources do not change the structure
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+					fClasspathChanged.add(element.getJavaProject());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (isStructuralChange(delta)) {
+					fStructureChanged.add(element.getJavaProject());
+					fChangedUnits.add(delta);
+				}
+				return;
+			case IJavaElement.CLASS_FILE:
+				fClasspathChanged.add(element.getJavaProject());
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child);
+		}
+	}
+
+	/**
+	 * Tells whether the delta of a compilation unit or of a member changes a declaration. Only
+	 * changes inside method and initializer bodies and of field initializers are considered
+	 * irrelevant.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if the delta changes a declaration
+	 */
+	public static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		int flags= delta.getFlags();
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.METHOD:
+			case IJavaElement.INITIALIZER:
+			case IJavaElement.FIELD:
+				return (flags & ~IJavaElementDelta.F_CONTENT) != 0;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+					return true; // no details available
+				flags&= ~(IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED | IJavaElementDelta.F_AST_AFFECTED
+						| IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_PRIMARY_WORKING_COPY);
+				break;
+			case IJavaElement.TYPE:
+			case IJavaElement.IMPORT_CONTAINER:
+				break;
+			default:
+				return true;
+		}
+		if ((flags & ~IJavaElementDelta.F_CHILDREN) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child))
+				return true;
+		}
+		return false;
+	}
+
+	private static void collectTypeNames(IJavaElementDelta delta, Set<String> result) {
+		IJavaElement element= delta.getElement();
+		if (element instanceof IType) {
+			result.add(((IType) element).getFullyQualifiedName('.'));
+		} else if (element instanceof ICompilationUnit) {
+			ICompilationUnit unit= (ICompilationUnit) element;
+			String name= unit.getElementName();
+			int dot= name.lastIndexOf('.');
+			String packageName= unit.getParent().getElementName();
+			String primaryType= dot > 0 ? name.substring(0, dot) : name;
+			result.add(packageName.isEmpty() ? primaryType : packageName + '.' + primaryType);
+			if (unit.exists()) {
+				try {
+					for (IType type : unit.getAllTypes()) {
+						result.add(type.getFullyQualifiedName('.'));
+					}
+				} catch (JavaModelException e) {
+					// use the names from the delta
+				}
+			}
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectTypeNames(child, result);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,8 +26,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -135,6 +137,26 @@ public class StubUtility {
 		VALID_TYPE_BODY_TEMPLATES.add(CodeTemplateContextType.RECORDBODY_ID);
 	}
 
+	/**
+	 * A loaded template store of a project with project specific code templates, together with the
+	 * preference value it has been loaded from.
+	 */
+	private static final class CachedProjectTemplateStore {
+		final String fPreference;
+		final ProjectTemplateStore fStore;
+
+		CachedProjectTemplateStore(String preference, ProjectTemplateStore store) {
+			fPreference= preference;
+			fStore= store;
+		}
+	}
+
+	/**
+	 * The template stores of the projects with project specific code templates. A store is loaded
+	 * again as soon as the preference holding the templates of its project has changed.
+	 */
+	private static final Map<IProject, CachedProjectTemplateStore> fgProjectTemplateStores= new ConcurrentHashMap<>();
+
 	//COPIED from org.eclipse.jdt.ui.PreferenceConstants
 	public static final String CODEGEN_KEYWORD_THIS= "org.eclipse.jdt.ui.keywordthis"; //$NON-NLS-1$
 	public static final String CODEGEN_IS_FOR_GETTERS= "org.eclipse.jdt.ui.gettersetter.use.is"; //$NON-NLS-1$
@@ -1639,13 +1661,25 @@ public class StubUtility {
 	public static Template getCodeTemplate(String id, IJavaProject project) {
 		if (project == null)
 			return JavaManipulation.getCodeTemplateStore().findTemplateById(id);
-		ProjectTemplateStore projectStore= new ProjectTemplateStore(project.getProject());
-		try {
-			projectStore.load();
-		} catch (IOException e) {
-			JavaManipulationPlugin.log(e);
+		IProject resource= project.getProject();
+		String preference= ProjectTemplateStore.getProjectSpecificTemplates(resource);
+		if (preference == null || preference.trim().isEmpty()) {
+			// no project specific templates, the project store would only delegate to the instance store
+			fgProjectTemplateStores.remove(resource);
+			return JavaManipulation.getCodeTemplateStore().findTemplateById(id);
+		}
+		CachedProjectTemplateStore cached= fgProjectTemplateStores.get(resource);
+		if (cached == null || !preference.equals(cached.fPreference)) {
+			ProjectTemplateStore projectStore= new ProjectTemplateStore(resource);
+			try {
+				projectStore.load();
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+			}
+			cached= new CachedProjectTemplateStore(preference, projectStore);
+			fgProjectTemplateStores.put(resource, cached);
 		}
-		return projectStore.findTemplateById(id);
+		return cached.fStore.findTemplateById(id);
 	}
 
 
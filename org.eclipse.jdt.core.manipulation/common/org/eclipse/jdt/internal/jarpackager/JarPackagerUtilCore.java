@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
@@ -47,6 +51,12 @@ import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 
 public class JarPackagerUtilCore {
 
+	/**
+	 * The modification time of entries that have no time of their own, like directories and the
+	 * manifest. It is a local time, so that the archive does not depend on the time zone.
+	 */
+	private static final LocalDateTime FIXED_ENTRY_TIME= LocalDateTime.of(1980, 2, 1, 0, 0);
+
 	private JarPackagerUtilCore() {
 
 	}
@@ -103,18 +113,18 @@ public class JarPackagerUtilCore {
 	public static void writeArchive(ZipFile zipFile, boolean areDirectoryEntriesIncluded,
 			boolean isCompressed, JarOutputStream jarOutputStream,
 			Set<String> directories, MultiStatus status, IProgressMonitor progressMonitor) {
-		Enumeration<? extends ZipEntry> jarEntriesEnum= zipFile.entries();
+		// write the entries sorted by name, independent of the order in the library
+		List<? extends ZipEntry> jarEntries= Collections.list(zipFile.entries());
+		jarEntries.sort(Comparator.comparing(ZipEntry::getName));
 		File zipFile1= new File(zipFile.getName());
 		try {
-			String zipFileCanonical= zipFile1.getCanonicalPath();
+			java.nio.file.Path zipFileCanonical= Paths.get(zipFile1.getCanonicalPath());
 
-			while (jarEntriesEnum.hasMoreElements()) {
-				ZipEntry zipEntry= jarEntriesEnum.nextElement();
+			for (ZipEntry zipEntry : jarEntries) {
 				if (!zipEntry.isDirectory()) {
 					String entryName= zipEntry.getName();
-					File zipEntryFile= new File(zipFile1, entryName);
-					String zipEntryCanonical= zipEntryFile.getCanonicalPath();
-					if (zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
+					// reject entries that leave the archive, without accessing the file system for every entry
+					if (isInside(zipFileCanonical, entryName)) {
 						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
 					} else {
 						addWarning("Invalid path" + entryName, null, status); //$NON-NLS-1$
@@ -131,6 +141,15 @@ public class JarPackagerUtilCore {
 		}
 	}
 
+	private static boolean isInside(java.nio.file.Path root, String entryName) {
+		try {
+			java.nio.file.Path entryPath= root.resolve(entryName).normalize();
+			return entryPath.startsWith(root) && !entryPath.equals(root);
+		} catch (InvalidPathException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Write the entry to the destinationPath of the given JarOutputStream. Extracted from
 	 * org.eclipse.jdt.internal.ui.jarpackagerfat.UnpackFatJarBuilder
@@ -172,6 +191,12 @@ public class JarPackagerUtilCore {
 	/**
 	 * Write the entry to the destinationPath of the given JarOutputStream. Extracted from
 	 * org.eclipse.jdt.internal.ui.jarpackagerfat.JarWriter4
+	 * <p>
+	 * Entries that are stored uncompressed in the source archive are copied without compressing
+	 * them, since their content is usually compressed already. The entry keeps the modification
+	 * time from the source archive and the directory entries get a fixed time, so that exporting
+	 * the same libraries again produces the same entries.
+	 * </p>
 	 *
 	 * @param zipEntry the jar entry to write
 	 * @param zipFile the zipFile to extract
@@ -192,9 +217,29 @@ public class JarPackagerUtilCore {
 		if (areDirectoryEntriesIncluded) {
 			addDirectories(path, jarOutputStream, directories);
 		}
-		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		JarEntry newEntry= createEntry(zipEntry, path, isCompressed);
 
-		if (isCompressed) {
+		// Set modification time
+		setTime(newEntry, zipEntry);
+
+		addEntry(newEntry, zipFile.getInputStream(zipEntry), jarOutputStream);
+	}
+
+	/**
+	 * Creates the entry for copying the given entry of another archive. The new entry is stored
+	 * uncompressed if the archive is not compressed or if the given entry is stored uncompressed.
+	 *
+	 * @param zipEntry the entry of the source archive
+	 * @param path the destinationPath in the jar file
+	 * @param isCompressed the jar is compressed
+	 * @return the new entry, without modification time
+	 *
+	 * @since 1.20
+	 */
+	public static JarEntry createEntry(ZipEntry zipEntry, String path, boolean isCompressed) {
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		boolean isStored= zipEntry.getMethod() == ZipEntry.STORED && zipEntry.getSize() != -1 && zipEntry.getCrc() != -1;
+		if (isCompressed && !isStored) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
 		} else {
@@ -202,13 +247,36 @@ public class JarPackagerUtilCore {
 			newEntry.setSize(zipEntry.getSize());
 			newEntry.setCrc(zipEntry.getCrc());
 		}
+		return newEntry;
+	}
 
-		long lastModified= System.currentTimeMillis();
-
-		// Set modification time
-		newEntry.setTime(lastModified);
+	/**
+	 * Sets the modification time of the given source entry to the entry. If the source entry has
+	 * no modification time, the fixed time of {@link #setFixedTime(ZipEntry)} is used.
+	 *
+	 * @param entry the entry to update
+	 * @param source the entry of the source archive
+	 *
+	 * @since 1.20
+	 */
+	public static void setTime(ZipEntry entry, ZipEntry source) {
+		if (source.getTime() != -1) {
+			entry.setTimeLocal(source.getTimeLocal());
+		} else {
+			setFixedTime(entry);
+		}
+	}
 
-		addEntry(newEntry, zipFile.getInputStream(zipEntry), jarOutputStream);
+	/**
+	 * Sets a fixed modification time to an entry which has no time of its own, like a directory
+	 * entry or the manifest. Exporting the same content twice then produces the same archive.
+	 *
+	 * @param entry the entry to update
+	 *
+	 * @since 1.20
+	 */
+	public static void setFixedTime(ZipEntry entry) {
+		entry.setTimeLocal(FIXED_ENTRY_TIME);
 	}
 
 	/**
@@ -236,7 +304,7 @@ public class JarPackagerUtilCore {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(System.currentTimeMillis());
+			setFixedTime(newEntry);
 			entryDirectories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,32 +11,85 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
 public class ChainFinder {
 
+	/**
+	 * An immutable chain of elements that shares its prefix with the chain it was created from,
+	 * so that extending a chain does not need to copy it.
+	 */
+	private static final class ChainPath {
+
+		private final ChainElement last;
+
+		private final ChainPath prefix;
+
+		private final int size;
+
+		ChainPath(final ChainElement last, final ChainPath prefix) {
+			this.last= last;
+			this.prefix= prefix;
+			this.size= prefix == null ? 1 : prefix.size + 1;
+		}
+
+		ChainElement getLast() {
+			return last;
+		}
+
+		int size() {
+			return size;
+		}
+
+		boolean contains(final ChainElement element) {
+			for (ChainPath path= this; path != null; path= path.prefix) {
+				if (path.last.equals(element)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		ChainPath append(final ChainElement element) {
+			return new ChainPath(element, this);
+		}
+
+		List<ChainElement> toList() {
+			final ChainElement[] elements= new ChainElement[size];
+			int i= size;
+			for (ChainPath path= this; path != null; path= path.prefix) {
+				elements[--i]= path.last;
+			}
+			return new ArrayList<>(Arrays.asList(elements));
+		}
+	}
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
-
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
-
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
+	private final List<Chain> chains= new CopyOnWriteArrayList<>();
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final ChainSearchCache cache;
 
 	private volatile boolean isCanceled;
 
@@ -45,38 +98,81 @@ public class ChainFinder {
 		this.expectedTypes= expectedTypes;
 		this.excludedTypes= excludedTypes;
 		this.receiverType= receiverType;
+		this.cache= ChainSearchCache.forProject(receiverType != null ? receiverType.getJavaProject() : null);
 	}
 
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
 		for (final ChainType expected : expectedTypes) {
 			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
-				ChainType expectedType= expected;
-				int expectedDimension= 0;
-				if (expectedType.getDimension() > 0) {
-					expectedDimension= expectedType.getDimension();
-				}
-				searchChainsForExpectedType(expectedType, expectedDimension, entrypoints, maxChains, minDepth,
+				searchChainsForExpectedType(expected, getExpectedDimension(expected), entrypoints, maxChains, minDepth,
 						maxDepth);
 			}
 		}
 	}
 
+	/**
+	 * Searches the chains for all expected types concurrently on the given executor and waits for
+	 * the search to finish. The search is canceled if it does not finish within the given timeout,
+	 * the chains found so far are still available through {@link #getChains()}.
+	 *
+	 * @param entrypoints the elements to start the chains with
+	 * @param maxChains the maximal number of chains to find
+	 * @param minDepth the minimal length of a chain
+	 * @param maxDepth the maximal length of a chain
+	 * @param executor the executor to search on, the calling thread only waits for the search
+	 * @param timeout the maximal time to wait
+	 * @param unit the unit of <code>timeout</code>
+	 * @return <code>true</code> if the search completed, <code>false</code> if it has been
+	 *         canceled because of the timeout, an interrupt or an error
+	 */
+	public boolean startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
+			final int maxDepth, final ExecutorService executor, final long timeout, final TimeUnit unit) {
+		final long deadline= System.nanoTime() + unit.toNanos(timeout);
+		final List<Future<?>> futures= new ArrayList<>(expectedTypes.size());
+		for (final ChainType expected : expectedTypes) {
+			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
+				futures.add(executor.submit(() -> searchChainsForExpectedType(expected, getExpectedDimension(expected),
+						entrypoints, maxChains, minDepth, maxDepth)));
+			}
+		}
+		try {
+			for (final Future<?> future : futures) {
+				future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+			return true;
+		} catch (TimeoutException e) {
+			// return the chains found so far
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			JavaManipulationPlugin.log(e.getCause());
+		}
+		cancel();
+		for (final Future<?> future : futures) {
+			future.cancel(false);
+		}
+		return false;
+	}
+
+	private static int getExpectedDimension(final ChainType expectedType) {
+		return Math.max(0, expectedType.getDimension());
+	}
+
 	public void cancel() {
 		isCanceled= true;
 	}
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		final ArrayDeque<ChainPath> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
+			final ChainPath chain= incompleteChains.poll();
 			final ChainElement edge= chain.getLast();
 			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
 				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
+					if (!addChain(new Chain(chain.toList(), expectedDimensions), maxChains)) {
 						break;
 					}
 				}
@@ -88,6 +184,23 @@ public class ChainFinder {
 		}
 	}
 
+	/**
+	 * Adds the chain unless the maximal number of chains has already been found.
+	 *
+	 * @param chain the chain to add
+	 * @param maxChains the maximal number of chains
+	 * @return <code>true</code> if more chains can be added
+	 */
+	private boolean addChain(final Chain chain, final int maxChains) {
+		synchronized (chains) {
+			if (chains.size() >= maxChains) {
+				return false;
+			}
+			chains.add(chain);
+			return chains.size() < maxChains;
+		}
+	}
+
 	/**
 	 * Returns the potentially incomplete list of call chains that could be found before a time out
 	 * happened. The contents of this list are mutable and may change as the search makes progress.
@@ -98,12 +211,10 @@ public class ChainFinder {
 		return chains;
 	}
 
-	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= new LinkedList<>();
+	private static ArrayDeque<ChainPath> prepareQueue(final List<ChainElement> entrypoints) {
+		final ArrayDeque<ChainPath> incompleteChains= new ArrayDeque<>();
 		for (final ChainElement entrypoint : entrypoints) {
-			final LinkedList<ChainElement> chain= new LinkedList<>();
-			chain.add(entrypoint);
-			incompleteChains.add(chain);
+			incompleteChains.add(new ChainPath(entrypoint, null));
 		}
 		return incompleteChains;
 	}
@@ -134,60 +245,40 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
-		}
-		return isAssignable;
+		final String key= edge.getElement().getHandleIdentifier() + '|' + expectedType.toString() + '|' + expectedDimension;
+		return cache.isAssignable(key, k -> Boolean.valueOf(ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension))).booleanValue();
 	}
 
-	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
+	private void searchDeeper(final ChainPath chain, final ArrayDeque<ChainPath> incompleteChains,
+			final ChainType currentlyVisitedType) {
 		boolean staticOnly= false;
 		if (chain.getLast().getElementType() == ElementType.TYPE) {
 			staticOnly= true;
 		}
 
 		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
+			if (ChainFinder.isFromExcludedType(excludedTypes, element)) {
+				continue;
+			}
 			final ChainElement newEdge= createEdge(element);
 			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+				incompleteChains.add(chain.append(newEdge));
 			}
 		}
 	}
 
-	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
-		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
+	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, final boolean staticOnly) {
+		final String receiverKey= receiverType != null ? receiverType.getHandleIdentifier() : ""; //$NON-NLS-1$
+		final String key= chainElementType.toString() + '|' + staticOnly + '|' + receiverKey;
+		return cache.getFieldsAndMethods(key, k -> {
+			final Collection<IJavaElement> candidates= staticOnly
 					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
 					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
-					cached.add(e);
-				}
-			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
-		}
-		return cached;
+			return Collections.unmodifiableList(new ArrayList<>(candidates));
+		});
 	}
 
 	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
-		}
-		return cached;
-	}
-
-	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
-			final ChainElement newEdge) {
-		@SuppressWarnings("unchecked")
-		final LinkedList<ChainElement> chainCopy= (LinkedList<ChainElement>) chain.clone();
-		chainCopy.add(newEdge);
-		return chainCopy;
+		return cache.getEdge(member, m -> new ChainElement(m, false));
 	}
 }
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.core.manipulation.StructuralDelta;
+
+/**
+ * Caches the members, edges and assignability results computed by the {@link ChainFinder} of one
+ * Java project, so that they can be reused by subsequent chain completions.
+ * <p>
+ * The caches of a project are discarded when a Java element delta reports a structural change in
+ * the project or in a project it depends on, see {@link StructuralDelta}. Changes to the contents
+ * of method bodies do not invalidate the caches.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ChainSearchCache {
+
+	/**
+	 * Maximal number of entries per cache, a cache is cleared if it grows larger.
+	 */
+	private static final int MAX_ENTRIES= 20000;
+
+	private static final Map<IJavaProject, ChainSearchCache> fgCaches= new ConcurrentHashMap<>();
+
+	private static IElementChangedListener fgListener;
+
+	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
+
+	private final Map<IJavaElement, ChainElement> edgeCache= new ConcurrentHashMap<>();
+
+	private final Map<String, Boolean> assignableCache= new ConcurrentHashMap<>();
+
+	private ChainSearchCache() {
+	}
+
+	/**
+	 * Returns the shared cache for the given project.
+	 *
+	 * @param project the project, or <code>null</code>
+	 * @return the cache of the project, or a new cache that is not shared if <code>project</code>
+	 *         is <code>null</code>
+	 */
+	public static ChainSearchCache forProject(IJavaProject project) {
+		if (project == null) {
+			return new ChainSearchCache();
+		}
+		synchronized (fgCaches) {
+			if (fgListener == null) {
+				fgListener= ChainSearchCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+		}
+		return fgCaches.computeIfAbsent(project, p -> new ChainSearchCache());
+	}
+
+	/**
+	 * Discards the caches of all projects and stops listening to Java element changes.
+	 */
+	public static void disposeAll() {
+		synchronized (fgCaches) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+			fgCaches.clear();
+		}
+	}
+
+	public List<IJavaElement> getFieldsAndMethods(String key, Function<String, List<IJavaElement>> computation) {
+		return computeIfAbsent(fieldsAndMethodsCache, key, computation);
+	}
+
+	public ChainElement getEdge(IJavaElement member, Function<IJavaElement, ChainElement> computation) {
+		return computeIfAbsent(edgeCache, member, computation);
+	}
+
+	public Boolean isAssignable(String key, Function<String, Boolean> computation) {
+		return computeIfAbsent(assignableCache, key, computation);
+	}
+
+	private static <K, V> V computeIfAbsent(Map<K, V> cache, K key, Function<K, V> computation) {
+		V value= cache.get(key);
+		if (value == null) {
+			// compute outside of the map, the computation can be slow and can recursively use the cache
+			value= computation.apply(key);
+			if (cache.size() >= MAX_ENTRIES) {
+				cache.clear();
+			}
+			V existing= cache.putIfAbsent(key, value);
+			if (existing != null) {
+				value= existing;
+			}
+		}
+		return value;
+	}
+
+	private void clear() {
+		fieldsAndMethodsCache.clear();
+		edgeCache.clear();
+		assignableCache.clear();
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		if (fgCaches.isEmpty()) {
+			return;
+		}
+		StructuralDelta delta= StructuralDelta.collect(event.getDelta());
+		if (delta.isEmpty()) {
+			return;
+		}
+		Set<String> changedNames= delta.getChangedProjectNames();
+		for (Map.Entry<IJavaProject, ChainSearchCache> entry : fgCaches.entrySet()) {
+			IJavaProject project= entry.getKey();
+			if (!project.exists() || changedNames.contains(project.getElementName()) || StructuralDelta.requiresAny(project, changedNames)) {
+				fgCaches.remove(project);
+				entry.getValue().clear();
+			}
+		}
+	}
+}
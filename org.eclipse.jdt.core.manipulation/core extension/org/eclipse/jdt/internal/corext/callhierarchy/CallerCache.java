@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+/**
+ * Caches the callers found by {@link CallerMethodWrapper} across call hierarchy trees, so that
+ * refreshing a view or opening the hierarchy of a member again does not search again.
+ * <p>
+ * The callers of a member depend on the contents of all compilation units in the search scope, so
+ * the cache is cleared by any Java element delta that changes a Java element. The cache is also
+ * cleared when the search scope or the filters of the call hierarchy change.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class CallerCache {
+
+	private static final boolean ENABLED= Boolean.parseBoolean(System.getProperty("jdt.ui.callHierarchy.cache", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Maximal number of cached members, the cache is cleared if it grows larger.
+	 */
+	private static final int MAX_ENTRIES= 5000;
+
+	/**
+	 * Maps the handle identifier of a member and the search mode to the callers of the member.
+	 */
+	private static final Map<String, Map<String, MethodCall>> fgCallers= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever the cache is cleared, results of searches that started before are not
+	 * cached.
+	 */
+	private static final AtomicInteger fgGeneration= new AtomicInteger();
+
+	private static IElementChangedListener fgListener;
+
+	private static IJavaSearchScope fgScope;
+
+	private static String fgSettings;
+
+	private CallerCache() {
+	}
+
+	/**
+	 * Returns the generation of the cache. Pass the generation from before a search to
+	 * {@link #put(IMember, int, Map, int)}.
+	 *
+	 * @return the generation of the cache
+	 */
+	static int getGeneration() {
+		return fgGeneration.get();
+	}
+
+	/**
+	 * Returns the cached callers of the given member.
+	 *
+	 * @param member the member
+	 * @param limitTo the search mode
+	 * @return a copy of the map from handle identifier to {@link MethodCall}, or <code>null</code>
+	 *         if the callers are not cached
+	 */
+	static Map<String, MethodCall> get(IMember member, int limitTo) {
+		if (!ENABLED || !validate())
+			return null;
+		Map<String, MethodCall> callers= fgCallers.get(getKey(member, limitTo));
+		return callers != null ? new HashMap<>(callers) : null;
+	}
+
+	/**
+	 * Caches the callers of the given member, unless the cache has been cleared since the given
+	 * generation.
+	 *
+	 * @param member the member
+	 * @param limitTo the search mode
+	 * @param callers the map from handle identifier to {@link MethodCall}
+	 * @param generation the generation from before the search
+	 */
+	static void put(IMember member, int limitTo, Map<String, MethodCall> callers, int generation) {
+		if (!ENABLED)
+			return;
+		synchronized (fgCallers) {
+			if (fgListener == null) {
+				fgListener= CallerCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+			if (!validate() || fgGeneration.get() != generation)
+				return;
+			if (fgCallers.size() >= MAX_ENTRIES) {
+				clear();
+				return;
+			}
+			fgCallers.put(getKey(member, limitTo), new HashMap<>(callers));
+		}
+	}
+
+	/**
+	 * Removes the callers of the given member in all search modes.
+	 *
+	 * @param member the member
+	 */
+	static void remove(IMember member) {
+		String prefix= member.getHandleIdentifier() + '|';
+		fgCallers.keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	/**
+	 * Clears the cache and stops listening to Java element changes.
+	 */
+	public static void disposeAll() {
+		synchronized (fgCallers) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+			clear();
+		}
+	}
+
+	private static void clear() {
+		fgGeneration.incrementAndGet();
+		fgCallers.clear();
+	}
+
+	/**
+	 * Clears the cache if the search scope or the filters have changed since the callers were
+	 * cached.
+	 *
+	 * @return <code>false</code> if the cache has been cleared
+	 */
+	private static boolean validate() {
+		CallHierarchyCore core= CallHierarchyCore.getDefault();
+		IJavaSearchScope scope= core.getSearchScope();
+		String settings= core.isFilterEnabled() + core.getFilters() + '|' + core.isFilterTestCode();
+		synchronized (fgCallers) {
+			if (scope == fgScope && settings.equals(fgSettings))
+				return true;
+			clear();
+			fgScope= scope;
+			fgSettings= settings;
+			return false;
+		}
+	}
+
+	private static String getKey(IMember member, int limitTo) {
+		return member.getHandleIdentifier() + '|' + limitTo;
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		if (!fgCallers.isEmpty() && isContentChange(event.getDelta())) {
+			clear();
+		}
+	}
+
+	/**
+	 * Tells whether the delta changes any Java element. Opening and closing working copies does not
+	 * change the callers.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if the delta contains a change
+	 */
+	private static boolean isContentChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		int flags= delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_AST_AFFECTED);
+		if (flags != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isContentChange(child))
+				return true;
+		}
+		return false;
+	}
+}
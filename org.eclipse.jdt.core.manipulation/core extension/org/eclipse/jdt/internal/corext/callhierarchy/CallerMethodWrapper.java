@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -98,6 +100,19 @@ public class CallerMethodWrapper extends MethodWrapper {
 	 */
 	@Override
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
+		return findChildren(progressMonitor, null);
+	}
+
+	/**
+	 * Finds the callers, reports the callers of each compilation unit as soon as it has been
+	 * searched. The callers are cached across trees in the {@link CallerCache}.
+	 *
+	 * @param progressMonitor the progress monitor
+	 * @param callsCollector receives the callers in batches, or <code>null</code>
+	 * @return the result of the search for children
+	 */
+	@Override
+	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor, Consumer<Collection<MethodCall>> callsCollector) {
 		try {
 
 			SubMonitor monitor = SubMonitor.convert(progressMonitor,"" , 95); //$NON-NLS-1$
@@ -123,6 +138,8 @@ public class CallerMethodWrapper extends MethodWrapper {
 						int start= nameRange != null ? nameRange.getOffset() : -1;
 						int len= nameRange != null ? nameRange.getLength() : 0;
 						resultCollector.addMember(type, parentMember, start, start + len);
+						if (callsCollector != null)
+							callsCollector.accept(resultCollector.getCallers().values());
 						return resultCollector.getCallers();
 					}
 				} else if (type.getParent() instanceof IMethod) {
@@ -137,24 +154,36 @@ public class CallerMethodWrapper extends MethodWrapper {
 							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 				}
 			}
+			int limitTo= IJavaSearchConstants.REFERENCES;
+			if (member.getElementType() == IJavaElement.FIELD)
+				limitTo= getFieldSearchMode();
 			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
 				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 			}
 			if (pattern == null) { // e.g. for initializers
 				return new HashMap<>(0);
 			}
 
-			SearchEngine searchEngine= new SearchEngine();
-			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
 			IJavaSearchScope defaultSearchScope= getSearchScope();
+			boolean isCacheable= defaultSearchScope == CallHierarchyCore.getDefault().getSearchScope();
+			Map<String, MethodCall> cachedCallers= isCacheable ? CallerCache.get(member, limitTo) : null;
+			if (cachedCallers != null) {
+				if (callsCollector != null)
+					callsCollector.accept(cachedCallers.values());
+				return cachedCallers;
+			}
+			int generation= CallerCache.getGeneration();
+
+			SearchEngine searchEngine= new SearchEngine();
+			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor(callsCollector);
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
 			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
 					monitor);
-			return searchRequestor.getCallers();
+			Map<String, MethodCall> callers= searchRequestor.getCallers();
+			if (isCacheable)
+				CallerCache.put(member, limitTo, callers, generation);
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +191,12 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CallerCache.remove(getMember());
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (!JdtFlags.isPrivate(member) || isRecordComponent(member))
 			return defaultSearchScope;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IResource;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
@@ -25,8 +31,21 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
     private CallSearchResultCollector fSearchResults;
     private boolean fRequireExactMatch = true;
 
+    private final Consumer<Collection<MethodCall>> fCallsCollector;
+    private final List<MethodCall> fPendingCalls= new ArrayList<>();
+    private IResource fCurrentResource;
+
     MethodReferencesSearchRequestor() {
+        this(null);
+    }
+
+    /**
+     * @param callsCollector receives the callers of each document when all matches of the
+     *            document have been reported, or <code>null</code>
+     */
+    MethodReferencesSearchRequestor(Consumer<Collection<MethodCall>> callsCollector) {
         fSearchResults = new CallSearchResultCollector();
+        fCallsCollector= callsCollector;
     }
 
     public Map<String, MethodCall> getCallers() {
@@ -50,9 +69,38 @@ class MethodReferencesSearchRequestor extends SearchRequestor {
                 case IJavaElement.TYPE:
                 case IJavaElement.FIELD:
                 case IJavaElement.INITIALIZER:
+                    if (fCallsCollector == null) {
+                        fSearchResults.addMember(member, member, match.getOffset(), match.getOffset()+match.getLength());
+                        break;
+                    }
+                    // the matches of a document are reported together, the callers of the previous document are complete
+                    if (fCurrentResource != null && !fCurrentResource.equals(match.getResource())) {
+                        flush();
+                    }
+                    fCurrentResource= match.getResource();
+                    String key= member.getHandleIdentifier();
+                    boolean isNew= !fSearchResults.getCallers().containsKey(key);
                     fSearchResults.addMember(member, member, match.getOffset(), match.getOffset()+match.getLength());
+                    MethodCall methodCall= fSearchResults.getCallers().get(key);
+                    if (isNew && methodCall != null) {
+                        fPendingCalls.add(methodCall);
+                    }
                     break;
             }
         }
     }
+
+    @Override
+    public void endReporting() {
+        if (fCallsCollector != null) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (!fPendingCalls.isEmpty()) {
+            fCallsCollector.accept(new ArrayList<>(fPendingCalls));
+            fPendingCalls.clear();
+        }
+    }
 }
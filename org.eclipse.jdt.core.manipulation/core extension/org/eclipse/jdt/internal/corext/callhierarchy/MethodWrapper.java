@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,7 +54,8 @@ public abstract class MethodWrapper extends PlatformObject {
     /*
      * A cache of previously found methods. This cache should be searched
      * before adding a "new" method object reference to the list of elements.
-     * This way previously found methods won't be searched again.
+     * This way previously found methods won't be searched again. The children of
+     * different wrappers of one tree can be searched concurrently.
      */
     private Map<String, Map<String, MethodCall>> fMethodCache;
     private final MethodCall fMethodCall;
@@ -67,7 +71,7 @@ public abstract class MethodWrapper extends PlatformObject {
         Assert.isNotNull(methodCall);
 
         if (parent == null) {
-            setMethodCache(new HashMap<String, Map<String, MethodCall>>());
+            setMethodCache(new ConcurrentHashMap<String, Map<String, MethodCall>>());
             fLevel = 1;
         } else {
             setMethodCache(parent.getMethodCache());
@@ -84,15 +88,37 @@ public abstract class MethodWrapper extends PlatformObject {
 	}
 
     public MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
+        return getCalls(progressMonitor, null);
+    }
+
+	/**
+	 * Returns the calls of this method like {@link #getCalls(IProgressMonitor)}, and reports them
+	 * to the given collector as soon as they are found. The collector is called from the thread
+	 * that calls this method, possibly several times.
+	 *
+	 * @param progressMonitor the progress monitor
+	 * @param callsCollector receives the calls in batches, or <code>null</code>
+	 * @return all calls
+	 * @since 1.20
+	 */
+    public MethodWrapper[] getCalls(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> callsCollector) {
+        boolean reported= false;
         if (fElements == null) {
-            doFindChildren(progressMonitor);
+            reported= doFindChildren(progressMonitor, callsCollector);
         }
 
-        MethodWrapper[] result = new MethodWrapper[fElements.size()];
+        MethodWrapper[] result = createMethodWrappers(fElements.values());
+        if (callsCollector != null && !reported) {
+            callsCollector.accept(result);
+        }
+        return result;
+    }
+
+    private MethodWrapper[] createMethodWrappers(Collection<MethodCall> methodCalls) {
+        MethodWrapper[] result = new MethodWrapper[methodCalls.size()];
         int i = 0;
 
-        for (String string : fElements.keySet()) {
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
+        for (MethodCall methodCall : methodCalls) {
             result[i++] = createMethodWrapper(methodCall);
         }
 
@@ -180,12 +206,20 @@ public abstract class MethodWrapper extends PlatformObject {
 	 */
     protected abstract MethodWrapper createMethodWrapper(MethodCall methodCall);
 
-    private void doFindChildren(IProgressMonitor progressMonitor) {
+    /**
+     * Finds the children of this method wrapper.
+     *
+     * @param progressMonitor the progress monitor
+     * @param callsCollector receives the children as they are found, or <code>null</code>
+     * @return <code>true</code> if the children have been reported to the collector
+     */
+    private boolean doFindChildren(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> callsCollector) {
         Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
 
         if (existingResults != null && !existingResults.isEmpty()) {
             fElements = new HashMap<>();
             fElements.putAll(existingResults);
+            return false;
         } else {
             initCalls();
 
@@ -194,7 +228,8 @@ public abstract class MethodWrapper extends PlatformObject {
             }
 
             try {
-                performSearch(progressMonitor);
+                performSearch(progressMonitor, callsCollector);
+                return callsCollector != null;
             } catch (OperationCanceledException e){
             	fElements= null;
             	throw e;
@@ -243,6 +278,22 @@ public abstract class MethodWrapper extends PlatformObject {
      */
     protected abstract Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor);
 
+    /**
+     * Finds the children of the current IMember like {@link #findChildren(IProgressMonitor)},
+     * and reports them to the given collector as soon as they are complete. Subclasses that can
+     * find the children incrementally should override this method.
+     *
+     * @param progressMonitor a progress monitor
+     * @param callsCollector receives the children in batches
+     * @return a map from handle identifier ({@link String}) to {@link MethodCall}
+     * @since 1.20
+     */
+    protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor, Consumer<Collection<MethodCall>> callsCollector) {
+        Map<String, MethodCall> children= findChildren(progressMonitor);
+        callsCollector.accept(children.values());
+        return children;
+    }
+
     private Map<String, Map<String, MethodCall>> getMethodCache() {
         return fMethodCache;
     }
@@ -262,8 +313,16 @@ public abstract class MethodWrapper extends PlatformObject {
         return getMethodCache().get(methodCall.getKey());
     }
 
-    private void performSearch(IProgressMonitor progressMonitor) {
-        fElements = findChildren(progressMonitor);
+    private void performSearch(IProgressMonitor progressMonitor, Consumer<MethodWrapper[]> callsCollector) {
+        if (callsCollector == null) {
+            fElements = findChildren(progressMonitor);
+        } else {
+            fElements = findChildren(progressMonitor, calls -> {
+                if (!calls.isEmpty()) {
+                    callsCollector.accept(createMethodWrappers(calls));
+                }
+            });
+        }
 
         for (String string : fElements.keySet()) {
             checkCanceled(progressMonitor);
@@ -278,7 +337,7 @@ public abstract class MethodWrapper extends PlatformObject {
     }
 
     private void initCacheForMethod() {
-        Map<String, MethodCall> cachedCalls = new HashMap<>();
+        Map<String, MethodCall> cachedCalls = new ConcurrentHashMap<>();
         getMethodCache().put(this.getMethodCall().getKey(), cachedCalls);
     }
 
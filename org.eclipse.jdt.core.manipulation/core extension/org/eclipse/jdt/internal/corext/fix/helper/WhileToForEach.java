@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,7 +55,7 @@ import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 
 import org.eclipse.jdt.internal.common.HelperVisitor;
-import org.eclipse.jdt.internal.common.ReferenceHolder;
+import org.eclipse.jdt.internal.common.SimpleReferenceHolder;
 import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.AbortSearchException;
@@ -79,7 +79,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 	@Override
 	public void find(UseIteratorToForLoopFixCore fixcore, CompilationUnit compilationUnit,
 			Set<CompilationUnitRewriteOperation> operations, Set<ASTNode> nodesprocessed, boolean createForOnlyIfVarUsed) {
-		ReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new ReferenceHolder<>();
+		SimpleReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new SimpleReferenceHolder<>();
 		Map<ASTNode, WhileLoopToChangeHit> operationsMap= new LinkedHashMap<>();
 		WhileLoopToChangeHit invalidHit= new WhileLoopToChangeHit(true);
 		HelperVisitor.callVariableDeclarationStatementVisitor(Iterator.class, compilationUnit, dataholder, nodesprocessed, (init_iterator, holder_a) -> {
@@ -90,7 +90,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 				HelperVisitor.callWhileStatementVisitor(init_iterator.getParent(), dataholder, nodesprocessed, (whilestatement, holder) -> {
 					String name= computeNextVarname(whilestatement);
 					if (computeVarName.get(0).equals(name) && iteratorCall.getStartPosition() < whilestatement.getStartPosition()) {
-						final HelperVisitor<ReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> helperVisitor= holder.getHelperVisitor();
+						final HelperVisitor<SimpleReferenceHolder<ASTNode, WhileLoopToChangeHit>, ASTNode, WhileLoopToChangeHit> helperVisitor= holder.getHelperVisitor();
 						if (helperVisitor.nodesprocessed.size() > 0) {
 							boolean invalidated= false;
 							for (ASTNode astNode : helperVisitor.nodesprocessed) {
@@ -211,7 +211,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 		if (!hasStatements) {
 			return false;
 		}
-		ReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new ReferenceHolder<>();
+		SimpleReferenceHolder<ASTNode, WhileLoopToChangeHit> dataholder= new SimpleReferenceHolder<>();
 		Set<ASTNode> nodesprocessed= new HashSet<>();
 		VariableDeclarationFragment iterDeclFragment= (VariableDeclarationFragment) hit.iteratorDeclaration.fragments().get(0);
 		IVariableBinding iterBinding= iterDeclFragment.resolveBinding();
@@ -314,7 +314,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 			return null;
 		}
 		ASTNode parent= node_a.getParent();
-		ReferenceHolder<ASTNode, Object> dataholder= new ReferenceHolder<>();
+		SimpleReferenceHolder<ASTNode, Object> dataholder= new SimpleReferenceHolder<>();
 		if (exp != null && exp instanceof MethodInvocation) {
 			dataholder.put(node_a, exp);
 		}
@@ -364,7 +364,7 @@ public class WhileToForEach extends AbstractTool<WhileLoopToChangeHit> {
 				return null;
 			}
 			ASTNode parent= node_a.getParent();
-			ReferenceHolder<ASTNode, Object> dataholder= new ReferenceHolder<>();
+			SimpleReferenceHolder<ASTNode, Object> dataholder= new SimpleReferenceHolder<>();
 			Set<ASTNode> nodesprocessed= new HashSet<>();
 			final Object Invalid= new Object();
 			try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -412,12 +412,34 @@ public class RenameAnalyzeUtil {
 		return analyzeLocalRenames(analyzePackages, cuChange, oldCUNode, true, recovery);
 	}
 
+	/**
+	 * Like {@link #analyzeLocalRenames(LocalAnalyzePackage[], TextChange, CompilationUnit, boolean)},
+	 * but analyzes the given preview content of the change. The change must keep its preview edits.
+	 * Since the content is not computed here, this method only parses and reads the change, and can
+	 * be called on a worker thread for each compilation unit.
+	 *
+	 * @param analyzePackages the LocalAnalyzePackages containing the information about the local renames
+	 * @param cuChange the TextChange containing all local variable changes to be applied.
+	 * @param newCuSource the preview content of <code>cuChange</code>
+	 * @param oldCUNode the fully (incl. bindings) resolved AST node of the original compilation unit
+	 * @param recovery whether statements and bindings recovery should be performed when parsing the changed CU
+	 * @return a RefactoringStatus containing errors if compile errors or wrongly renamed nodes are found
+	 * @since 1.20
+	 */
+	public static RefactoringStatus analyzeLocalRenames(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, String newCuSource, CompilationUnit oldCUNode, boolean recovery) {
+		return analyzeLocalRenames(analyzePackages, cuChange, newCuSource, oldCUNode, false, recovery);
+	}
+
 	private static RefactoringStatus analyzeLocalRenames(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, CompilationUnit oldCUNode, boolean isCompactConstructor, boolean recovery) throws CoreException {
+		String newCuSource= cuChange.getPreviewContent(new NullProgressMonitor());
+		return analyzeLocalRenames(analyzePackages, cuChange, newCuSource, oldCUNode, isCompactConstructor, recovery);
+	}
+
+	private static RefactoringStatus analyzeLocalRenames(LocalAnalyzePackage[] analyzePackages, TextChange cuChange, String newCuSource, CompilationUnit oldCUNode, boolean isCompactConstructor, boolean recovery) {
 
 		RefactoringStatus result= new RefactoringStatus();
 		ICompilationUnit compilationUnit= (ICompilationUnit) oldCUNode.getJavaElement();
 
-		String newCuSource= cuChange.getPreviewContent(new NullProgressMonitor());
 		CompilationUnit newCUNode= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(newCuSource, compilationUnit, true, recovery, null);
 
 		result.merge(analyzeCompileErrors(newCuSource, newCUNode, oldCUNode));
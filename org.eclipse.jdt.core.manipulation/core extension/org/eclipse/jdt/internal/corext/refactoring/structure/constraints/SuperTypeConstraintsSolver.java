@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,9 @@
 package org.eclipse.jdt.internal.corext.refactoring.structure.constraints;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
@@ -28,6 +26,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.CastVariable2;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariableWorkList;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraint2;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraintVariable;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeSet;
@@ -51,7 +50,7 @@ public class SuperTypeConstraintsSolver {
 	protected Map<ICompilationUnit, Collection<CastVariable2>> fObsoleteCasts= null;
 
 	/** The list of constraint variables to be processed */
-	protected LinkedList<ConstraintVariable2> fProcessable= null;
+	protected ConstraintVariableWorkList fProcessable= null;
 
 	/** The type occurrences (element type: <code>&lt;ICompilationUnit, Collection&lt;ITypeConstraintVariable&gt;</code>) */
 	protected Map<ICompilationUnit, Collection<ITypeConstraintVariable>> fTypeOccurrences= null;
@@ -247,17 +246,28 @@ public class SuperTypeConstraintsSolver {
 				final ITypeSet newEstimate= leftEstimate.restrictedTo(constraint.getRight().getTypeEstimate());
 				if (leftEstimate != newEstimate) {
 					set.setTypeEstimate(newEstimate);
-					fProcessable.addAll(Arrays.asList(set.getContributingVariables()));
+					fProcessable.addAll(set.getContributingVariables());
 				}
 			}
 		}
 	}
 
+	/**
+	 * Returns the work-list of the last call to {@link #solveConstraints()}, which counts the
+	 * processed constraint variables and the duplicate additions it has skipped.
+	 *
+	 * @return the work-list, or <code>null</code> if the constraints have not been solved
+	 * @since 1.20
+	 */
+	public final ConstraintVariableWorkList getWorkList() {
+		return fProcessable;
+	}
+
 	/**
 	 * Solves the constraints of the associated model.
 	 */
 	public final void solveConstraints() {
-		fProcessable= new LinkedList<>();
+		fProcessable= new ConstraintVariableWorkList();
 		final Collection<ConstraintVariable2> variables= fModel.getConstraintVariables();
 		final Collection<ITypeConstraint2> constraints= fModel.getTypeConstraints();
 		final int level= fModel.getCompliance();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,7 @@ public abstract class TType {
 	private String fBindingKey;
 	private int fModifiers;
 	private int fFlags;
+	private final int fId;
 
 	/**
 	 * Creates a new type with the given environment as an owner.
@@ -83,6 +84,7 @@ public abstract class TType {
 	 */
 	protected TType(TypeEnvironment environment) {
 		fEnvironment= environment;
+		fId= environment.nextTypeId();
 	}
 
 	/**
@@ -142,6 +144,18 @@ public abstract class TType {
 		return fEnvironment;
 	}
 
+	/**
+	 * Returns the id of this type. The ids of the types of an environment are
+	 * distinct and dense, starting at 0, so they can be used as bit indexes.
+	 *
+	 * @return the type's id in its environment
+	 * @see TypeEnvironment#getTypeCount()
+	 * @since 1.20
+	 */
+	public final int getTypeId() {
+		return fId;
+	}
+
 	/**
 	 * Returns the key of the binding from which this type
 	 * got constructed.
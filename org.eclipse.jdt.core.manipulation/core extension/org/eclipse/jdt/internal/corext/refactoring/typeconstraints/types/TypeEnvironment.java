@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,29 +70,34 @@ public class TypeEnvironment {
 		}
 	}
 
+	/**
+	 * Number of types created by this environment.
+	 */
+	private int fTypeCount;
+
 	/** Type code for the primitive type "int". */
-	public final PrimitiveType INT= new PrimitiveType(this, PrimitiveType.INT, BindingKey.createTypeBindingKey("int")); //$NON-NLS-1$
+	public final PrimitiveType INT;
 	/** Type code for the primitive type "char". */
-	public final PrimitiveType CHAR = new PrimitiveType(this, PrimitiveType.CHAR, BindingKey.createTypeBindingKey("char")); //$NON-NLS-1$
+	public final PrimitiveType CHAR;
 	/** Type code for the primitive type "boolean". */
-	public final PrimitiveType BOOLEAN = new PrimitiveType(this, PrimitiveType.BOOLEAN, BindingKey.createTypeBindingKey("boolean")); //$NON-NLS-1$
+	public final PrimitiveType BOOLEAN;
 	/** Type code for the primitive type "short". */
-	public final PrimitiveType SHORT = new PrimitiveType(this, PrimitiveType.SHORT, BindingKey.createTypeBindingKey("short")); //$NON-NLS-1$
+	public final PrimitiveType SHORT;
 	/** Type code for the primitive type "long". */
-	public final PrimitiveType LONG = new PrimitiveType(this, PrimitiveType.LONG, BindingKey.createTypeBindingKey("long")); //$NON-NLS-1$
+	public final PrimitiveType LONG;
 	/** Type code for the primitive type "float". */
-	public final PrimitiveType FLOAT = new PrimitiveType(this, PrimitiveType.FLOAT, BindingKey.createTypeBindingKey("float")); //$NON-NLS-1$
+	public final PrimitiveType FLOAT;
 	/** Type code for the primitive type "double". */
-	public final PrimitiveType DOUBLE = new PrimitiveType(this, PrimitiveType.DOUBLE, BindingKey.createTypeBindingKey("double")); //$NON-NLS-1$
+	public final PrimitiveType DOUBLE;
 	/** Type code for the primitive type "byte". */
-	public final PrimitiveType BYTE = new PrimitiveType(this, PrimitiveType.BYTE, BindingKey.createTypeBindingKey("byte")); //$NON-NLS-1$
+	public final PrimitiveType BYTE;
 
 	/** Type code for the primitive type "null". */
-	public final NullType NULL= new NullType(this);
+	public final NullType NULL;
 
-	public final VoidType VOID= new VoidType(this);
+	public final VoidType VOID;
 
-	final PrimitiveType[] PRIMITIVE_TYPES= {INT, CHAR, BOOLEAN, SHORT, LONG, FLOAT, DOUBLE, BYTE};
+	final PrimitiveType[] PRIMITIVE_TYPES;
 
 	private static final String[] BOXED_PRIMITIVE_NAMES= new String[] {
 		"java.lang.Integer",  //$NON-NLS-1$
@@ -176,12 +181,47 @@ public class TypeEnvironment {
 	}
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
+		// the primitive, null and void types get the first type ids
+		fTypeCount= 0;
+		INT= new PrimitiveType(this, PrimitiveType.INT, BindingKey.createTypeBindingKey("int")); //$NON-NLS-1$
+		CHAR= new PrimitiveType(this, PrimitiveType.CHAR, BindingKey.createTypeBindingKey("char")); //$NON-NLS-1$
+		BOOLEAN= new PrimitiveType(this, PrimitiveType.BOOLEAN, BindingKey.createTypeBindingKey("boolean")); //$NON-NLS-1$
+		SHORT= new PrimitiveType(this, PrimitiveType.SHORT, BindingKey.createTypeBindingKey("short")); //$NON-NLS-1$
+		LONG= new PrimitiveType(this, PrimitiveType.LONG, BindingKey.createTypeBindingKey("long")); //$NON-NLS-1$
+		FLOAT= new PrimitiveType(this, PrimitiveType.FLOAT, BindingKey.createTypeBindingKey("float")); //$NON-NLS-1$
+		DOUBLE= new PrimitiveType(this, PrimitiveType.DOUBLE, BindingKey.createTypeBindingKey("double")); //$NON-NLS-1$
+		BYTE= new PrimitiveType(this, PrimitiveType.BYTE, BindingKey.createTypeBindingKey("byte")); //$NON-NLS-1$
+		NULL= new NullType(this);
+		VOID= new VoidType(this);
+		PRIMITIVE_TYPES= new PrimitiveType[] {INT, CHAR, BOOLEAN, SHORT, LONG, FLOAT, DOUBLE, BYTE};
+
 		if (rememberSubtypes) {
 			fSubTypes= new HashMap<>();
 		}
 		fRemoveCapures= removeCapures;
 	}
 
+	/**
+	 * Returns the id for a new type of this environment.
+	 *
+	 * @return the next type id
+	 */
+	int nextTypeId() {
+		return fTypeCount++;
+	}
+
+	/**
+	 * Returns the number of types created by this environment. The ids of all
+	 * types of this environment are smaller than this number.
+	 *
+	 * @return the number of types
+	 * @see TType#getTypeId()
+	 * @since 1.20
+	 */
+	public int getTypeCount() {
+		return fTypeCount;
+	}
+
 	Map<TypeTuple, Boolean> getSubTypeCache() {
 		return fSubTypeCache;
 	}
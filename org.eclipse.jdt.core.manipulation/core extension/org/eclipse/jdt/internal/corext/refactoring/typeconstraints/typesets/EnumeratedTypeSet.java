@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.NoSuchElementException;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -26,6 +26,11 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 /**
  * A type-safe wrapper for {@code Set<TType>} that also adds {@code TType}-specific
  * functionality, e.g. subTypes() and superTypes().
+ * <p>
+ * The members are kept in a {@link TypeBitSet} indexed by {@link TType#getTypeId()}, so all members
+ * must belong to the type environment of the {@link TypeSetEnvironment}. The insertion order of
+ * the members is kept separately, since it determines the iteration order.
+ * </p>
  */
 public class EnumeratedTypeSet extends TypeSet {
 	static private int sCount= 0;
@@ -39,9 +44,20 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	/**
-	 * Set containing the TTypes in this EnumeratedTypeSet.
+	 * Set containing the ids of the TTypes in this EnumeratedTypeSet.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	private TypeBitSet fMembers= new TypeBitSet();
+
+	/**
+	 * The TTypes in this EnumeratedTypeSet in insertion order. May also contain types that have
+	 * been removed by {@link #remove(TType)}, these are skipped when iterating.
+	 */
+	private ArrayList<TType> fOrder= new ArrayList<>();
+
+	/**
+	 * Number of removed types in {@link #fOrder}.
+	 */
+	private int fRemovedCount= 0;
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -53,7 +69,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		while (types.hasNext()) {
-			fMembers.add(types.next());
+			addMember(types.next());
 		}
 		sCount++;
 	}
@@ -77,7 +93,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		Assert.isNotNull(t);
-		fMembers.add(t);
+		addMember(t);
 		sCount++;
 	}
 
@@ -99,16 +115,16 @@ public class EnumeratedTypeSet extends TypeSet {
 		} else if (o instanceof SingletonTypeSet) {
 			SingletonTypeSet other= (SingletonTypeSet) o;
 
-			return (fMembers.size() == 1) && fMembers.contains(other.anyMember());
+			return (fMembers.cardinality() == 1) && contains(other.anyMember());
 		} else if (o instanceof TypeSet) {
 			TypeSet other= (TypeSet) o;
 
 			for(Iterator<TType> otherIter= other.iterator(); otherIter.hasNext(); ) {
-				if (!fMembers.contains(otherIter.next()))
+				if (!contains(otherIter.next()))
 					return false;
 			}
-			for (TType tType : fMembers) {
-				if (!other.contains(tType))
+			for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+				if (!other.contains(iter.next()))
 					return false;
 			}
 			return true;
@@ -118,7 +134,11 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public int hashCode() {
-		return 37 + fMembers.hashCode();
+		int hashCode= 0;
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			hashCode+= iter.next().hashCode();
+		}
+		return 37 + hashCode;
 	}
 
 	/**
@@ -152,8 +172,10 @@ public class EnumeratedTypeSet extends TypeSet {
 			// More than an optimization: the universe never contains array types, so
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
-			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			fMembers= new TypeBitSet();
+			fOrder= new ArrayList<>();
+			fRemovedCount= 0;
+			addAll(ets2);
 		} else
 			retainAll(s2);
 	}
@@ -167,7 +189,7 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (isUniverse())
 			return makeClone(); // subtypes(universe) = universe
 
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return getTypeSetEnvironment().getUniverseTypeSet();
 
 		return getTypeSetEnvironment().createSubTypesSet(this);
@@ -200,20 +222,19 @@ public class EnumeratedTypeSet extends TypeSet {
 	public TypeSet makeClone() {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
-		result.fMembers.addAll(fMembers);
+		result.copyMembers(this);
 		result.initComplete();
 		return result;
 	}
 
 	public int size() {
-		return fMembers.size();
+		return fMembers.cardinality();
 	}
 
 	public void clear() {
-		if (isUniverse())
-			fMembers= new LinkedHashSet<>();
-		else
-			fMembers.clear();
+		fMembers.clear();
+		fOrder.clear();
+		fRemovedCount= 0;
 	}
 
 	@Override
@@ -222,42 +243,82 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	public TType[] toArray() {
-		return fMembers.toArray(new TType[fMembers.size()]);
+		TType[] result= new TType[size()];
+		int i= 0;
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			result[i++]= iter.next();
+		}
+		return result;
 	}
 
 	public boolean add(TType t) {
 		// Doesn't make sense to do here what other methods do (copy-and-modify)
 		Assert.isTrue(!isUniverse(), "Someone's trying to expand the universe!"); //$NON-NLS-1$
-		return fMembers.add(t);
+		return addMember(t);
 	}
 
 	@Override
 	public boolean contains(TType t) {
 		if (isUniverse())
 			return true;
-		return fMembers.contains(t);
+		return t != null && fMembers.contains(t.getTypeId());
 	}
 
 	public boolean remove(TType t) {
-		if (isUniverse())
-			fMembers= cloneSet(fMembers);
-		return fMembers.remove(t);
+		if (!fMembers.remove(t.getTypeId()))
+			return false;
+		fRemovedCount++;
+		return true;
 	}
 
-	private Set<TType> cloneSet(Set<TType> members) {
-		return new LinkedHashSet<>(members);
+	public boolean addAll(TypeSet s) {
+		EnumeratedTypeSet ets= s.enumerate();
+		if (fMembers.isEmpty() && fRemovedCount == 0) {
+			copyMembers(ets);
+			return !ets.isEmpty();
+		}
+		if (fMembers.containsAll(ets.fMembers))
+			return false;
+		if (fRemovedCount > 0)
+			compact();
+		for (Iterator<TType> iter= ets.iterator(); iter.hasNext(); ) {
+			TType t= iter.next();
+			if (!fMembers.contains(t.getTypeId()))
+				fOrder.add(t);
+		}
+		fMembers.addAll(ets.fMembers);
+		return true;
 	}
 
-	public boolean addAll(TypeSet s) {
-		if (s instanceof EnumeratedTypeSet) {
-			EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
+	private boolean addMember(TType t) {
+		int id= t.getTypeId();
+		if (fMembers.contains(id))
+			return false;
+		// drop the entry of a removed type before it is added again
+		if (fRemovedCount > 0)
+			compact();
+		fMembers.add(id);
+		fOrder.add(t);
+		return true;
+	}
 
-			return fMembers.addAll(ets.fMembers);
-		} else {
-			EnumeratedTypeSet ets= s.enumerate();
+	private void copyMembers(EnumeratedTypeSet s) {
+		fMembers= new TypeBitSet(s.fMembers);
+		fOrder= new ArrayList<>(s.fOrder);
+		fRemovedCount= s.fRemovedCount;
+	}
 
-			return fMembers.addAll(ets.fMembers);
+	/**
+	 * Removes the types from {@link #fOrder} that are no longer members.
+	 */
+	private void compact() {
+		int size= 0;
+		for (TType t : fOrder) {
+			if (fMembers.contains(t.getTypeId()))
+				fOrder.set(size++, t);
 		}
+		fOrder.subList(size, fOrder.size()).clear();
+		fRemovedCount= 0;
 	}
 
 	@Override
@@ -282,9 +343,10 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	public boolean removeAll(EnumeratedTypeSet s) {
-		if (isUniverse())
-			fMembers= cloneSet(fMembers);
-		return fMembers.removeAll(s.fMembers);
+		if (!fMembers.removeAll(s.fMembers))
+			return false;
+		compact();
+		return true;
 	}
 
 	public boolean retainAll(TypeSet s) {
@@ -293,43 +355,47 @@ public class EnumeratedTypeSet extends TypeSet {
 		EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
 
 		if (isUniverse()) {
-			fMembers= cloneSet(ets.fMembers);
+			copyMembers(ets);
 			return true;
-		} else
-			return fMembers.retainAll(ets.fMembers);
+		} else if (!fMembers.retainAll(ets.fMembers)) {
+			return false;
+		}
+		compact();
+		return true;
 	}
 
 	@Override
 	public boolean isSingleton() {
-		return fMembers.size() == 1;
+		return fMembers.cardinality() == 1;
 	}
 
 	@Override
 	public TType anyMember() {
-		return fMembers.iterator().next();
+		return iterator().next();
 	}
 
 	@Override
 	public TypeSet upperBound() {
-		if (fMembers.size() == 1)
-			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
-		if (fMembers.contains(getJavaLangObject()))
+		if (fMembers.cardinality() == 1)
+			return new SingletonTypeSet(anyMember(), getTypeSetEnvironment());
+		if (contains(getJavaLangObject()))
 			return new SingletonTypeSet(getJavaLangObject(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper supertype in fMembers
-		result.fMembers.addAll(fMembers);
-		for (TType t : fMembers) {
+		result.copyMembers(this);
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			TType t= iter.next();
 			if (t.isArrayType()) {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> subIter=TTypes.getAllSubTypesIterator(at.getElementType()); subIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
+					result.remove(TTypes.createArrayType(subIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -339,19 +405,20 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public TypeSet lowerBound() {
-		if (fMembers.size() == 1)
-			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
+		if (fMembers.cardinality() == 1)
+			return new SingletonTypeSet(anyMember(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper subtype in fMembers
-		result.fMembers.addAll(fMembers);
+		result.copyMembers(this);
 
-		for (TType t : fMembers) {
+		for (Iterator<TType> iter= iterator(); iter.hasNext(); ) {
+			TType t= iter.next();
 			// java.lang.Object is only in the lower bound if fMembers consists
 			// of only java.lang.Object, but that case is handled above.
 			if (t.equals(getJavaLangObject())) {
-				result.fMembers.remove(t);
+				result.remove(t);
 				continue;
 			}
 
@@ -359,11 +426,11 @@ public class EnumeratedTypeSet extends TypeSet {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> superIter=TTypes.getAllSuperTypesIterator(at.getElementType()); superIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(superIter.next(), numDims));
+					result.remove(TTypes.createArrayType(superIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -375,31 +442,60 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public boolean hasUniqueLowerBound() {
-		return fMembers.size() == 1;
+		return fMembers.cardinality() == 1;
 	}
 
 	@Override
 	public boolean hasUniqueUpperBound() {
-		return fMembers.size() == 1;
+		return fMembers.cardinality() == 1;
 	}
 
 	@Override
 	public TType uniqueLowerBound() {
-		if (fMembers.size() == 1)
-			return fMembers.iterator().next();
+		if (fMembers.cardinality() == 1)
+			return anyMember();
 		return null;
 	}
 
 	@Override
 	public TType uniqueUpperBound() {
-		if (fMembers.size() == 1)
-			return fMembers.iterator().next();
+		if (fMembers.cardinality() == 1)
+			return anyMember();
 		return null;
 	}
 
 	@Override
 	public Iterator<TType> iterator() {
-		return fMembers.iterator();
+		return new Iterator<>() {
+			private int fIndex= 0;
+			private TType fLast= null;
+
+			@Override
+			public boolean hasNext() {
+				while (fIndex < fOrder.size()) {
+					if (fMembers.contains(fOrder.get(fIndex).getTypeId()))
+						return true;
+					fIndex++;
+				}
+				return false;
+			}
+
+			@Override
+			public TType next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				fLast= fOrder.get(fIndex++);
+				return fLast;
+			}
+
+			@Override
+			public void remove() {
+				if (fLast == null)
+					throw new IllegalStateException();
+				EnumeratedTypeSet.this.remove(fLast);
+				fLast= null;
+			}
+		};
 	}
 
 	/**
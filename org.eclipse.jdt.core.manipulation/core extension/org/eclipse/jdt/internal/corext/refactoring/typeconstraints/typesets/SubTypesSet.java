@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -261,7 +261,7 @@ public class SubTypesSet extends TypeSet {
 						fEnumCache.add(TTypes.createArrayType(elemSubIter.next(), numDims));
 				} else {
 					for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(ub); iterator.hasNext();) {
-						fEnumCache.fMembers.add(iterator.next());
+						fEnumCache.add(iterator.next());
 					}
 				}
 				fEnumCache.add(ub);
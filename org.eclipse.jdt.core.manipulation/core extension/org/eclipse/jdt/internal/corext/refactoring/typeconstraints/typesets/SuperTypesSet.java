@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -254,7 +254,7 @@ public class SuperTypesSet extends TypeSet {
 					anyLBIsIntfOrArray= true;
 				} else {
 					for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(lb); iterator.hasNext(); )
-					fEnumCache.fMembers.add(iterator.next());
+					fEnumCache.add(iterator.next());
 				}
 				fEnumCache.add(lb);
 			}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
+
+import java.util.Arrays;
+
+/**
+ * A sparse set of type ids, see {@link org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType#getTypeId()}.
+ * <p>
+ * The ids are stored in 64 bit words, but only the words that contain at least one id are kept,
+ * together with their indexes in ascending order. Small sets of types with large ids therefore
+ * stay small, and the set operations combine whole words instead of single ids.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class TypeBitSet {
+
+	private static final int[] EMPTY_INDEXES= new int[0];
+	private static final long[] EMPTY_WORDS= new long[0];
+
+	/**
+	 * The indexes of the non-empty words, in ascending order.
+	 */
+	private int[] fIndexes;
+
+	/**
+	 * The non-empty words, <code>fWords[i]</code> holds the ids from <code>fIndexes[i] * 64</code>.
+	 */
+	private long[] fWords;
+
+	/**
+	 * Number of used entries in {@link #fIndexes} and {@link #fWords}.
+	 */
+	private int fLength;
+
+	/**
+	 * Number of ids in this set.
+	 */
+	private int fCardinality;
+
+	public TypeBitSet() {
+		fIndexes= EMPTY_INDEXES;
+		fWords= EMPTY_WORDS;
+	}
+
+	public TypeBitSet(TypeBitSet other) {
+		fIndexes= Arrays.copyOf(other.fIndexes, other.fLength);
+		fWords= Arrays.copyOf(other.fWords, other.fLength);
+		fLength= other.fLength;
+		fCardinality= other.fCardinality;
+	}
+
+	public int cardinality() {
+		return fCardinality;
+	}
+
+	public boolean isEmpty() {
+		return fCardinality == 0;
+	}
+
+	public boolean contains(int id) {
+		int position= Arrays.binarySearch(fIndexes, 0, fLength, id >>> 6);
+		return position >= 0 && (fWords[position] & (1L << id)) != 0;
+	}
+
+	public boolean add(int id) {
+		int index= id >>> 6;
+		int position= Arrays.binarySearch(fIndexes, 0, fLength, index);
+		if (position < 0) {
+			position= -position - 1;
+			insertWord(position, index);
+		}
+		long word= fWords[position];
+		long newWord= word | (1L << id);
+		if (word == newWord)
+			return false;
+		fWords[position]= newWord;
+		fCardinality++;
+		return true;
+	}
+
+	public boolean remove(int id) {
+		int position= Arrays.binarySearch(fIndexes, 0, fLength, id >>> 6);
+		if (position < 0)
+			return false;
+		long word= fWords[position];
+		long newWord= word & ~(1L << id);
+		if (word == newWord)
+			return false;
+		fCardinality--;
+		if (newWord == 0) {
+			removeWord(position);
+		} else {
+			fWords[position]= newWord;
+		}
+		return true;
+	}
+
+	public void clear() {
+		fIndexes= EMPTY_INDEXES;
+		fWords= EMPTY_WORDS;
+		fLength= 0;
+		fCardinality= 0;
+	}
+
+	public boolean containsAll(TypeBitSet other) {
+		if (other.fCardinality > fCardinality)
+			return false;
+		int i= 0;
+		for (int j= 0; j < other.fLength; j++) {
+			int index= other.fIndexes[j];
+			while (i < fLength && fIndexes[i] < index)
+				i++;
+			if (i == fLength || fIndexes[i] != index || (other.fWords[j] & ~fWords[i]) != 0)
+				return false;
+		}
+		return true;
+	}
+
+	public boolean addAll(TypeBitSet other) {
+		if (other.fLength == 0)
+			return false;
+		int[] indexes= new int[fLength + other.fLength];
+		long[] words= new long[indexes.length];
+		int length= 0;
+		int i= 0;
+		int j= 0;
+		while (i < fLength || j < other.fLength) {
+			if (j == other.fLength || (i < fLength && fIndexes[i] < other.fIndexes[j])) {
+				indexes[length]= fIndexes[i];
+				words[length++]= fWords[i++];
+			} else if (i == fLength || other.fIndexes[j] < fIndexes[i]) {
+				indexes[length]= other.fIndexes[j];
+				words[length++]= other.fWords[j++];
+			} else {
+				indexes[length]= fIndexes[i];
+				words[length++]= fWords[i++] | other.fWords[j++];
+			}
+		}
+		return replace(indexes, words, length);
+	}
+
+	public boolean retainAll(TypeBitSet other) {
+		int length= 0;
+		int j= 0;
+		for (int i= 0; i < fLength; i++) {
+			int index= fIndexes[i];
+			while (j < other.fLength && other.fIndexes[j] < index)
+				j++;
+			if (j < other.fLength && other.fIndexes[j] == index) {
+				long word= fWords[i] & other.fWords[j];
+				if (word != 0) {
+					fIndexes[length]= index;
+					fWords[length++]= word;
+				}
+			}
+		}
+		return update(length);
+	}
+
+	public boolean removeAll(TypeBitSet other) {
+		int length= 0;
+		int j= 0;
+		for (int i= 0; i < fLength; i++) {
+			int index= fIndexes[i];
+			long word= fWords[i];
+			while (j < other.fLength && other.fIndexes[j] < index)
+				j++;
+			if (j < other.fLength && other.fIndexes[j] == index)
+				word&= ~other.fWords[j];
+			if (word != 0) {
+				fIndexes[length]= index;
+				fWords[length++]= word;
+			}
+		}
+		return update(length);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof TypeBitSet))
+			return false;
+		TypeBitSet other= (TypeBitSet) obj;
+		if (fCardinality != other.fCardinality || fLength != other.fLength)
+			return false;
+		for (int i= 0; i < fLength; i++) {
+			if (fIndexes[i] != other.fIndexes[i] || fWords[i] != other.fWords[i])
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		long hash= 1234;
+		for (int i= 0; i < fLength; i++) {
+			hash^= fWords[i] * (fIndexes[i] + 1);
+		}
+		return (int) ((hash >> 32) ^ hash);
+	}
+
+	private void insertWord(int position, int index) {
+		if (fLength == fIndexes.length) {
+			int capacity= Math.max(4, fLength + (fLength >> 1));
+			fIndexes= Arrays.copyOf(fIndexes, capacity);
+			fWords= Arrays.copyOf(fWords, capacity);
+		}
+		System.arraycopy(fIndexes, position, fIndexes, position + 1, fLength - position);
+		System.arraycopy(fWords, position, fWords, position + 1, fLength - position);
+		fIndexes[position]= index;
+		fWords[position]= 0;
+		fLength++;
+	}
+
+	private void removeWord(int position) {
+		fLength--;
+		System.arraycopy(fIndexes, position + 1, fIndexes, position, fLength - position);
+		System.arraycopy(fWords, position + 1, fWords, position, fLength - position);
+	}
+
+	private boolean replace(int[] indexes, long[] words, int length) {
+		fIndexes= indexes;
+		fWords= words;
+		return update(length);
+	}
+
+	/**
+	 * Sets the number of used words and recomputes the cardinality.
+	 *
+	 * @param length the number of used words
+	 * @return <code>true</code> iff the cardinality has changed
+	 */
+	private boolean update(int length) {
+		fLength= length;
+		int cardinality= 0;
+		for (int i= 0; i < length; i++) {
+			cardinality+= Long.bitCount(fWords[i]);
+		}
+		boolean changed= cardinality != fCardinality;
+		fCardinality= cardinality;
+		return changed;
+	}
+}
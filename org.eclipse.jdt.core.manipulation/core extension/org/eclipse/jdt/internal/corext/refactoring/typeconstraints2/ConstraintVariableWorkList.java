@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints2;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The work-list of a type constraint solver, holding the constraint variables whose type estimate
+ * has changed and whose constraints remain to be (re-)processed.
+ * <p>
+ * A variable is queued at most once: adding a variable that is already queued has no effect, since
+ * processing it once reads its latest estimate. The work-list counts the variables that were
+ * added, skipped as duplicates and processed, so that the effort of a solver can be reported.
+ * </p>
+ *
+ * @since 1.20
+ */
+public final class ConstraintVariableWorkList {
+
+	private final ArrayDeque<ConstraintVariable2> fQueue= new ArrayDeque<>();
+
+	private final Set<ConstraintVariable2> fQueued= Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private int fAddedCount= 0;
+
+	private int fDuplicateCount= 0;
+
+	private int fProcessedCount= 0;
+
+	private int fMaxSize= 0;
+
+	/**
+	 * Adds the given variable, unless it is already queued.
+	 *
+	 * @param variable the variable to add
+	 * @return <code>true</code> iff the variable has been added
+	 */
+	public boolean add(ConstraintVariable2 variable) {
+		if (!fQueued.add(variable)) {
+			fDuplicateCount++;
+			return false;
+		}
+		fQueue.addLast(variable);
+		fAddedCount++;
+		fMaxSize= Math.max(fMaxSize, fQueue.size());
+		return true;
+	}
+
+	/**
+	 * Adds the given variables that are not yet queued.
+	 *
+	 * @param variables the variables to add
+	 */
+	public void addAll(ConstraintVariable2[] variables) {
+		for (ConstraintVariable2 variable : variables) {
+			add(variable);
+		}
+	}
+
+	/**
+	 * Adds the given variables that are not yet queued.
+	 *
+	 * @param variables the variables to add
+	 */
+	public void addAll(Collection<? extends ConstraintVariable2> variables) {
+		for (ConstraintVariable2 variable : variables) {
+			add(variable);
+		}
+	}
+
+	/**
+	 * Removes the variable that has been queued first.
+	 *
+	 * @return the removed variable
+	 * @throws java.util.NoSuchElementException if the work-list is empty
+	 */
+	public ConstraintVariable2 removeFirst() {
+		ConstraintVariable2 variable= fQueue.removeFirst();
+		fQueued.remove(variable);
+		fProcessedCount++;
+		return variable;
+	}
+
+	public boolean isEmpty() {
+		return fQueue.isEmpty();
+	}
+
+	public int size() {
+		return fQueue.size();
+	}
+
+	/**
+	 * Returns the number of variables that have been removed for processing.
+	 *
+	 * @return the number of processed variables
+	 */
+	public int getProcessedCount() {
+		return fProcessedCount;
+	}
+
+	/**
+	 * Returns the number of variables that have been added.
+	 *
+	 * @return the number of added variables
+	 */
+	public int getAddedCount() {
+		return fAddedCount;
+	}
+
+	/**
+	 * Returns the number of additions that have been skipped because the variable was
+	 * already queued. Without deduplication, each of them would have been processed again.
+	 *
+	 * @return the number of skipped additions
+	 */
+	public int getDuplicateCount() {
+		return fDuplicateCount;
+	}
+
+	/**
+	 * Returns the largest number of variables that have been queued at the same time.
+	 *
+	 * @return the maximal size of the work-list
+	 */
+	public int getMaxSize() {
+		return fMaxSize;
+	}
+
+	@Override
+	public String toString() {
+		return "processed: " + fProcessedCount + ", duplicates skipped: " + fDuplicateCount + ", max size: " + fMaxSize; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -24,19 +27,44 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * Every type contained in a cached hierarchy is indexed, so that lookups do not need to scan the
+ * cached hierarchies and do not block each other. A type that is contained in several hierarchies,
+ * like a common super type, is indexed for all of them.
+ * </p>
+ * <p>
+ * The capacity of the cache is the total number of types in all cached hierarchies (their weight),
+ * as this is what the memory of a hierarchy grows with. As many small hierarchies stay below any
+ * sensible weight, the number of hierarchies is bounded as well. The least recently used
+ * hierarchies are evicted when either bound is exceeded. The bounds can be set with the
+ * <code>jdt.superTypeHierarchyCacheCapacity</code> and
+ * <code>jdt.superTypeHierarchyCacheMaxHierarchies</code> system properties or with
+ * {@link #setCapacity(int)} and {@link #setMaxHierarchies(int)}. Hierarchies are removed as soon
+ * as they report a change.
+ * </p>
+ * <p>
+ * Hit, miss and eviction counts can be queried and are traced if the
+ * <code>org.eclipse.jdt.core.manipulation/debug/TypeHierarchyCache</code> debug option is set.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private volatile ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private final ConcurrentHashMap<IType, MethodOverrideTester> fMethodOverrideTesters;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fTypes= hierarchy.getAllTypes();
+			fMethodOverrideTesters= new ConcurrentHashMap<>();
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,36 +78,76 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
+		public int getWeight() {
+			return Math.max(1, fTypes.length);
+		}
+
+		/**
+		 * @param type a type contained in this hierarchy
+		 * @return the method override tester for the type, or <code>null</code> if this entry has
+		 *         been disposed
+		 */
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			if (hierarchy == null)
+				return null;
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, hierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= fgAccessCounter.incrementAndGet();
 		}
 
 		public long getLastAccess() {
 			return fLastAccess;
 		}
 
+		public boolean isDisposed() {
+			return fTypeHierarchy == null;
+		}
+
 		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			if (hierarchy != null) {
+				hierarchy.removeTypeHierarchyChangedListener(this);
 				fTypeHierarchy= null;
 			}
+			fMethodOverrideTesters.clear();
 		}
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			return "Super hierarchy of: " + (hierarchy != null ? hierarchy.getType().getElementName() : "<disposed>"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	private static final int DEFAULT_CAPACITY= Integer.getInteger("jdt.superTypeHierarchyCacheCapacity", 2000).intValue(); //$NON-NLS-1$
+	private static final int DEFAULT_MAX_HIERARCHIES= Integer.getInteger("jdt.superTypeHierarchyCacheMaxHierarchies", 50).intValue(); //$NON-NLS-1$
+
+	private static final String DEBUG_PREFIX= "SuperTypeHierarchyCache > "; //$NON-NLS-1$
+
+	/** all cached hierarchies, the value is the hierarchy's entry itself */
+	private static final ConcurrentHashMap<HierarchyCacheEntry, HierarchyCacheEntry> fgHierarchyCache= new ConcurrentHashMap<>();
+	/** maps each type contained in a cached hierarchy to the entries of all hierarchies that contain it */
+	private static final ConcurrentHashMap<IType, Set<HierarchyCacheEntry>> fgTypeIndex= new ConcurrentHashMap<>();
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	/** lock for structural changes, lookups don't need it */
+	private static final Object fgLock= new Object();
+	private static final AtomicLong fgAccessCounter= new AtomicLong();
+	private static int fgCapacity= DEFAULT_CAPACITY;
+	private static int fgMaxHierarchies= DEFAULT_MAX_HIERARCHIES;
+	private static int fgWeight= 0;
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgCacheEvictions= new LongAdder();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,34 +165,19 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
+		HierarchyCacheEntry entry= findEntryInCache(type);
+		if (entry == null) {
+			ITypeHierarchy hierarchy= getTypeHierarchy(type);
+			entry= findEntryInCache(type);
+			if (entry == null) // evicted or changed concurrently
+				return new MethodOverrideTester(type, hierarchy);
 		}
+		MethodOverrideTester test= entry.getMethodOverrideTester(type);
+		if (test == null)
+			return new MethodOverrideTester(type, getTypeHierarchy(type));
 		return test;
 	}
 
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
-	}
-
 	/**
 	 * Returns a super type hierarchy that contains the given type.
 	 * The returned hierarchy may actually be based on a subtype of the
@@ -138,44 +191,66 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
+		HierarchyCacheEntry entry= findEntryInCache(type);
+		ITypeHierarchy hierarchy= entry != null ? entry.getTypeHierarchy() : null;
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.increment();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
 			addTypeHierarchyToCache(hierarchy);
+			if (JavaManipulationPlugin.DEBUG_TYPE_HIERARCHY_CACHE)
+				System.out.println(DEBUG_PREFIX + "miss: " + type.getFullyQualifiedName() + " - " + getStatistics()); //$NON-NLS-1$ //$NON-NLS-2$
 		} else {
-			fgCacheHits++;
+			fgCacheHits.increment();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		synchronized (fgLock) {
+			// remove hierarchies that are no longer valid or whose focus type is also in the new hierarchy
+			List<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>();
+			for (HierarchyCacheEntry entry : fgHierarchyCache.keySet()) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (curr == null || !curr.exists() || hierarchy.contains(curr.getType())) {
+					obsoleteHierarchies.add(entry);
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+			}
+			for (HierarchyCacheEntry obsoleteHierarchy : obsoleteHierarchies) {
+				removeHierarchyEntryFromCache(obsoleteHierarchy);
+			}
+
+			fgHierarchyCache.put(newEntry, newEntry);
+			fgWeight+= newEntry.getWeight();
+			for (IType type : newEntry.getTypes()) {
+				fgTypeIndex.computeIfAbsent(type, t -> ConcurrentHashMap.newKeySet()).add(newEntry);
+			}
+
+			evictLeastRecentlyUsed(newEntry);
+		}
+	}
+
+	/**
+	 * Evicts the least recently accessed hierarchies until the cache is within its bounds. Must be
+	 * called while holding <code>fgLock</code>.
+	 *
+	 * @param keep the entry that is never evicted, or <code>null</code>
+	 */
+	private static void evictLeastRecentlyUsed(HierarchyCacheEntry keep) {
+		// a single hierarchy is always kept, even if it is larger than the capacity
+		while ((fgWeight > fgCapacity || fgHierarchyCache.size() > fgMaxHierarchies) && fgHierarchyCache.size() > 1) {
+			HierarchyCacheEntry oldest= null;
+			for (HierarchyCacheEntry entry : fgHierarchyCache.keySet()) {
+				if (entry != keep && (oldest == null || entry.getLastAccess() < oldest.getLastAccess())) {
+					oldest= entry;
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
+			if (oldest == null)
+				break;
+			removeHierarchyEntryFromCache(oldest);
+			fgCacheEvictions.increment();
+			if (JavaManipulationPlugin.DEBUG_TYPE_HIERARCHY_CACHE)
+				System.out.println(DEBUG_PREFIX + "evicted: " + oldest); //$NON-NLS-1$
 		}
 	}
 
@@ -186,43 +261,130 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
-	}
-
-
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+		return findEntryInCache(type) != null;
+	}
+
+
+	private static HierarchyCacheEntry findEntryInCache(IType type) {
+		Set<HierarchyCacheEntry> entries= fgTypeIndex.get(type);
+		if (entries == null)
+			return null;
+
+		// prefer the most recently used of the hierarchies that contain the type
+		HierarchyCacheEntry result= null;
+		List<HierarchyCacheEntry> obsoleteEntries= null;
+		for (HierarchyCacheEntry entry : entries) {
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy == null || !hierarchy.exists()) {
+				if (obsoleteEntries == null)
+					obsoleteEntries= new ArrayList<>();
+				obsoleteEntries.add(entry);
+			} else if (result == null || entry.getLastAccess() > result.getLastAccess()) {
+				result= entry;
 			}
 		}
-		return null;
+		if (obsoleteEntries != null) {
+			for (HierarchyCacheEntry entry : obsoleteEntries) {
+				removeHierarchyEntryFromCache(entry);
+			}
+		}
+		if (result != null)
+			result.markAsAccessed();
+		return result;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+		synchronized (fgLock) {
+			if (fgHierarchyCache.remove(entry) != null) {
+				fgWeight-= entry.getWeight();
+				for (IType type : entry.getTypes()) {
+					fgTypeIndex.computeIfPresent(type, (t, entries) -> {
+						entries.remove(entry);
+						return entries.isEmpty() ? null : entries;
+					});
+				}
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
+	/**
+	 * Sets the capacity of the cache, that is the maximal total number of types in all cached
+	 * hierarchies. A single hierarchy is always cached, even if it is larger.
+	 *
+	 * @param capacity the new capacity
+	 */
+	public static void setCapacity(int capacity) {
+		synchronized (fgLock) {
+			fgCapacity= Math.max(0, capacity);
+			evictLeastRecentlyUsed(null);
+		}
+	}
+
+	/**
+	 * Sets the maximal number of cached hierarchies, regardless of their weight. A single hierarchy
+	 * is always cached.
+	 *
+	 * @param maxHierarchies the new maximal number of hierarchies
+	 */
+	public static void setMaxHierarchies(int maxHierarchies) {
+		synchronized (fgLock) {
+			fgMaxHierarchies= Math.max(1, maxHierarchies);
+			evictLeastRecentlyUsed(null);
+		}
+	}
+
+	/**
+	 * Removes all hierarchies from the cache.
+	 */
+	public static void clear() {
+		synchronized (fgLock) {
+			for (HierarchyCacheEntry entry : new ArrayList<>(fgHierarchyCache.keySet())) {
+				removeHierarchyEntryFromCache(entry);
+			}
+		}
+	}
+
+	/**
+	 * @return the maximal total number of types in all cached hierarchies
+	 */
+	public static int getCapacity() {
+		synchronized (fgLock) {
+			return fgCapacity;
+		}
+	}
+
+	/**
+	 * @return the maximal number of cached hierarchies
+	 */
+	public static int getMaxHierarchies() {
+		synchronized (fgLock) {
+			return fgMaxHierarchies;
+		}
+	}
+
+	/**
+	 * @return the total number of types in all cached hierarchies
+	 */
+	public static int getWeight() {
+		synchronized (fgLock) {
+			return fgWeight;
+		}
+	}
+
+	/**
+	 * @return the number of cached hierarchies
+	 */
+	public static int getSize() {
+		return fgHierarchyCache.size();
+	}
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.intValue();
 	}
 
 	/**
@@ -230,7 +392,38 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.intValue();
+	}
+
+	/**
+	 * Gets the number of hierarchies that were removed to stay within the capacity.
+	 * @return Returns a int
+	 */
+	public static int getCacheEvictions() {
+		return fgCacheEvictions.intValue();
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counts.
+	 */
+	public static void resetStatistics() {
+		fgCacheHits.reset();
+		fgCacheMisses.reset();
+		fgCacheEvictions.reset();
+	}
+
+	/**
+	 * @return a description of the cache statistics, used for tracing
+	 */
+	public static String getStatistics() {
+		long hits= fgCacheHits.sum();
+		long misses= fgCacheMisses.sum();
+		long total= hits + misses;
+		return "hits: " + hits + ", misses: " + misses //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", hit rate: " + (total == 0 ? 0 : hits * 100 / total) + "%" //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", evictions: " + fgCacheEvictions.sum() //$NON-NLS-1$
+				+ ", hierarchies: " + getSize() + "/" + getMaxHierarchies() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", weight: " + getWeight() + "/" + getCapacity(); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction.proposals;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import org.eclipse.jdt.ui.text.java.correction.ASTRewriteCorrectionProposalCore;
+
+/**
+ * A proposal that creates its rewrite when the proposal is previewed or applied, not when the
+ * proposals are collected. The factory must only use AST nodes that the proposal computation has
+ * already looked at, as the rewrite is created later.
+ */
+public class DeferredASTRewriteCorrectionProposalCore extends ASTRewriteCorrectionProposalCore {
+
+	/**
+	 * Creates the rewrite of a {@link DeferredASTRewriteCorrectionProposalCore}.
+	 */
+	@FunctionalInterface
+	public interface IRewriteFactory {
+		/**
+		 * Creates the rewrite.
+		 *
+		 * @return the rewrite
+		 * @throws CoreException if the rewrite could not be created
+		 */
+		ASTRewrite create() throws CoreException;
+	}
+
+	private final IRewriteFactory fFactory;
+
+	public DeferredASTRewriteCorrectionProposalCore(String name, ICompilationUnit cu, int relevance, IRewriteFactory factory) {
+		super(name, cu, null, relevance);
+		fFactory= factory;
+	}
+
+	@Override
+	protected ASTRewrite getRewrite() throws CoreException {
+		return fFactory.create();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -23,6 +24,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -142,6 +151,32 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private static final GroupCategorySet CATEGORY_FIELD_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.field", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_fields, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_fields_description)); //$NON-NLS-1$
 	private static final GroupCategorySet CATEGORY_LOCAL_RENAME= new GroupCategorySet(new GroupCategory("org.eclipse.jdt.internal.corext.refactoring.rename.renameType.local", RefactoringCoreMessages.RenameTypeProcessor_changeCategory_local_variables, RefactoringCoreMessages.RenameTypeProcessor_changeCategory_local_variables_description)); //$NON-NLS-1$
 
+	private static final boolean PARALLEL_ANALYSIS= Boolean.parseBoolean(System.getProperty("jdt.ui.renameType.parallelAnalysis", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final AtomicInteger THREAD_COUNT= new AtomicInteger();
+
+	private static final int ANALYSIS_THREADS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	/**
+	 * Maximal number of pending shadowing analyses. Each of them holds the old and the new AST of a
+	 * compilation unit.
+	 */
+	private static final int MAX_PENDING_ANALYSES= 2 * ANALYSIS_THREADS;
+
+	/**
+	 * Pool for the shadowing analyses of renamed local variables, see {@link LocalRenameAnalyzer}.
+	 */
+	private static final ThreadPoolExecutor ANALYSIS_POOL;
+	static {
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(ANALYSIS_THREADS, ANALYSIS_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "Java Rename Type Analyzer-" + THREAD_COUNT.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		ANALYSIS_POOL= pool;
+	}
+
 	private IType fType;
 	private SearchResultGroup[] fReferences;
 	private TextChangeManager fChangeManager;
@@ -186,6 +221,80 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 	}
 
+	/**
+	 * Runs the shadowing analyses of the compilation units with renamed local variables on
+	 * {@link RenameTypeProcessor#ANALYSIS_POOL}, while the processors for the next compilation
+	 * units are created. At most {@link RenameTypeProcessor#MAX_PENDING_ANALYSES} analyses are
+	 * pending, so the number of ASTs alive at the same time stays bounded. The results are merged
+	 * in the order in which the analyses have been submitted. When the checks stop early, the
+	 * analyses that have not started yet are canceled.
+	 */
+	private static final class LocalRenameAnalyzer {
+
+		private final ArrayDeque<Future<RefactoringStatus>> fPending= new ArrayDeque<>();
+
+		private final RefactoringStatus fStatus;
+
+		public LocalRenameAnalyzer(RefactoringStatus status) {
+			fStatus= status;
+		}
+
+		public void submit(Callable<RefactoringStatus> analysis) throws CoreException {
+			if (!PARALLEL_ANALYSIS) {
+				FutureTask<RefactoringStatus> task= new FutureTask<>(analysis);
+				task.run();
+				fPending.add(task);
+			} else {
+				while (fPending.size() >= MAX_PENDING_ANALYSES) {
+					mergeFirst();
+				}
+				fPending.add(ANALYSIS_POOL.submit(analysis));
+			}
+			while (!fPending.isEmpty() && fPending.getFirst().isDone()) {
+				mergeFirst();
+			}
+		}
+
+		public void join() throws CoreException {
+			while (!fPending.isEmpty()) {
+				mergeFirst();
+			}
+		}
+
+		private void mergeFirst() throws CoreException {
+			Future<RefactoringStatus> future= fPending.removeFirst();
+			try {
+				fStatus.merge(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException)
+					throw (CoreException) cause;
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				if (cause instanceof Error)
+					throw (Error) cause;
+				throw new IllegalStateException(cause);
+			}
+		}
+
+		/**
+		 * Cancels the pending analyses and drops their results. Analyses that are already running
+		 * are not interrupted, since an interrupt can close the files read by the Java model.
+		 */
+		public void cancel() {
+			if (fPending.isEmpty())
+				return;
+			for (Future<RefactoringStatus> future : fPending) {
+				future.cancel(false);
+			}
+			fPending.clear();
+			ANALYSIS_POOL.purge();
+		}
+	}
+
 	private static class NoOverrideProgressMonitor extends SubProgressMonitor {
 		public NoOverrideProgressMonitor(IProgressMonitor monitor, int ticks) {
 			super(monitor, ticks, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
@@ -1300,133 +1409,140 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		progressMonitor.beginTask("", max * 3); //$NON-NLS-1$
 		progressMonitor.setTaskName(RefactoringCoreMessages.RenameTypeProcessor_checking_similarly_named_declarations_refactoring_conditions);
 
-		for (Entry<IJavaElement, String> entry : fPreloadedElementToName.entrySet()) {
-
-			IJavaElement element= entry.getKey();
-			current++;
-			progressMonitor.worked(3);
-
-			// not selected? -> skip
-			if (! (fPreloadedElementToSelection.get(element)).booleanValue())
-				continue;
+		final LocalRenameAnalyzer analyzer= new LocalRenameAnalyzer(status);
+		try {
+			for (Entry<IJavaElement, String> entry : fPreloadedElementToName.entrySet()) {
 
-			// already registered? (may happen with overridden methods) -> skip
-			if (fFinalSimilarElementToName.containsKey(element))
-				continue;
+				IJavaElement element= entry.getKey();
+				current++;
+				progressMonitor.worked(3);
 
-			// CompilationUnit changed? (note: fPreloadedElementToName is sorted by CompilationUnit)
-			ICompilationUnit newCU= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+				// not selected? -> skip
+				if (! (fPreloadedElementToSelection.get(element)).booleanValue())
+					continue;
 
-			if (!newCU.equals(currentCU)) {
+				// already registered? (may happen with overridden methods) -> skip
+				if (fFinalSimilarElementToName.containsKey(element))
+					continue;
 
-				checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors);
+				// CompilationUnit changed? (note: fPreloadedElementToName is sorted by CompilationUnit)
+				ICompilationUnit newCU= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
 
-				if (status.hasFatalError())
-					return status;
+				if (!newCU.equals(currentCU)) {
 
-				// reset values
-				currentResolvedCU= null;
-				currentCU= newCU;
-				processors.clear();
-			}
+					checkCUCompleteConditions(analyzer, currentResolvedCU, currentCU, processors);
 
-			final String newName= entry.getValue();
-			RefactoringProcessor processor= null;
+					if (status.hasFatalError())
+						return status;
 
-			if (element instanceof ILocalVariable) {
-				final ILocalVariable currentLocal= (ILocalVariable) element;
+					// reset values
+					currentResolvedCU= null;
+					currentCU= newCU;
+					processors.clear();
+				}
 
-				if (currentResolvedCU == null)
-					currentResolvedCU= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(currentCU, true);
+				final String newName= entry.getValue();
+				RefactoringProcessor processor= null;
 
-				processor= createLocalRenameProcessor(currentLocal, newName, currentResolvedCU);
+				if (element instanceof ILocalVariable) {
+					final ILocalVariable currentLocal= (ILocalVariable) element;
 
-				// don't check for conflicting rename => is done by #checkCUCompleteConditions().
+					if (currentResolvedCU == null)
+						currentResolvedCU= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(currentCU, true);
 
-				if (status.hasFatalError())
-					return status;
-				fFinalSimilarElementToName.put(currentLocal, newName);
-			}
-			if (element instanceof IField) {
-				final IField currentField= (IField) element;
-				processor= createFieldRenameProcessor(currentField, newName);
+					processor= createLocalRenameProcessor(currentLocal, newName, currentResolvedCU);
 
-				status.merge(checkForConflictingRename(currentField, newName));
-				if (status.hasFatalError())
-					return status;
-				fFinalSimilarElementToName.put(currentField, newName);
-			}
-			if (element instanceof IMethod) {
-				IMethod currentMethod= (IMethod) element;
-				if (MethodChecks.isVirtual(currentMethod)) {
-
-					final IType declaringType= currentMethod.getDeclaringType();
-					ITypeHierarchy hierarchy= null;
-					if (!declaringType.isInterface())
-						hierarchy= declaringType.newTypeHierarchy(new NullProgressMonitor());
-
-					final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, new NullProgressMonitor());
-					if (topmost != null)
-						currentMethod= topmost;
-					if (handledTopLevelMethods.contains(currentMethod))
-						continue;
-					handledTopLevelMethods.add(currentMethod);
-					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null);
+					// don't check for conflicting rename => is done by #checkCUCompleteConditions().
 
-					if (checkForWarnings(warnings, newName, ripples))
-						continue;
+					if (status.hasFatalError())
+						return status;
+					fFinalSimilarElementToName.put(currentLocal, newName);
+				}
+				if (element instanceof IField) {
+					final IField currentField= (IField) element;
+					processor= createFieldRenameProcessor(currentField, newName);
 
-					status.merge(checkForConflictingRename(ripples, newName));
+					status.merge(checkForConflictingRename(currentField, newName));
 					if (status.hasFatalError())
 						return status;
+					fFinalSimilarElementToName.put(currentField, newName);
+				}
+				if (element instanceof IMethod) {
+					IMethod currentMethod= (IMethod) element;
+					if (MethodChecks.isVirtual(currentMethod)) {
+
+						final IType declaringType= currentMethod.getDeclaringType();
+						ITypeHierarchy hierarchy= null;
+						if (!declaringType.isInterface())
+							hierarchy= declaringType.newTypeHierarchy(new NullProgressMonitor());
+
+						final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, new NullProgressMonitor());
+						if (topmost != null)
+							currentMethod= topmost;
+						if (handledTopLevelMethods.contains(currentMethod))
+							continue;
+						handledTopLevelMethods.add(currentMethod);
+						final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null);
 
-					processor= createVirtualMethodRenameProcessor(currentMethod, newName, ripples, hierarchy);
-					fFinalSimilarElementToName.put(currentMethod, newName);
-					for (IMethod ripple : ripples) {
-						fFinalSimilarElementToName.put(ripple, newName);
-					}
-				} else {
+						if (checkForWarnings(warnings, newName, ripples))
+							continue;
 
-					status.merge(checkForConflictingRename(new IMethod[] { currentMethod }, newName));
-					if (status.hasFatalError())
-						break;
+						status.merge(checkForConflictingRename(ripples, newName));
+						if (status.hasFatalError())
+							return status;
+
+						processor= createVirtualMethodRenameProcessor(currentMethod, newName, ripples, hierarchy);
+						fFinalSimilarElementToName.put(currentMethod, newName);
+						for (IMethod ripple : ripples) {
+							fFinalSimilarElementToName.put(ripple, newName);
+						}
+					} else {
 
-					fFinalSimilarElementToName.put(currentMethod, newName);
+						status.merge(checkForConflictingRename(new IMethod[] { currentMethod }, newName));
+						if (status.hasFatalError())
+							break;
 
-					processor= createNonVirtualMethodRenameProcessor(currentMethod, newName);
+						fFinalSimilarElementToName.put(currentMethod, newName);
+
+						processor= createNonVirtualMethodRenameProcessor(currentMethod, newName);
+					}
 				}
-			}
 
-			progressMonitor.subTask(Messages.format(RefactoringCoreMessages.RenameTypeProcessor_progress_current_total, new Object[] { String.valueOf(current), String.valueOf(max)}));
+				progressMonitor.subTask(Messages.format(RefactoringCoreMessages.RenameTypeProcessor_progress_current_total, new Object[] { String.valueOf(current), String.valueOf(max)}));
 
-			status.merge(processor.checkInitialConditions(new NoOverrideProgressMonitor(progressMonitor, 1)));
+				status.merge(processor.checkInitialConditions(new NoOverrideProgressMonitor(progressMonitor, 1)));
 
-			if (status.hasFatalError())
-				return status;
+				if (status.hasFatalError())
+					return status;
 
-			status.merge(processor.checkFinalConditions(new NoOverrideProgressMonitor(progressMonitor, 1), context));
+				status.merge(processor.checkFinalConditions(new NoOverrideProgressMonitor(progressMonitor, 1), context));
+
+				if (status.hasFatalError())
+					return status;
 
-			if (status.hasFatalError())
-				return status;
+				processors.add(processor);
 
-			processors.add(processor);
+				progressMonitor.worked(1);
 
-			progressMonitor.worked(1);
+				if (progressMonitor.isCanceled())
+					throw new OperationCanceledException();
+			}
 
-			if (progressMonitor.isCanceled())
-				throw new OperationCanceledException();
+			// check last CU
+			checkCUCompleteConditions(analyzer, currentResolvedCU, currentCU, processors);
+			analyzer.join();
+		} finally {
+			// stopped early because of a fatal error, or canceled
+			analyzer.cancel();
 		}
 
-		// check last CU
-		checkCUCompleteConditions(status, currentResolvedCU, currentCU, processors);
-
 		status.merge(addWarnings(warnings));
 
 		progressMonitor.done();
 		return status;
 	}
 
-	private void checkCUCompleteConditions(final RefactoringStatus status, CompilationUnit currentResolvedCU, ICompilationUnit currentCU, List<RefactoringProcessor> processors) throws CoreException {
+	private void checkCUCompleteConditions(LocalRenameAnalyzer analyzer, CompilationUnit currentResolvedCU, ICompilationUnit currentCU, List<RefactoringProcessor> processors) throws CoreException {
 
 		// check local variable conditions
 		List<RefactoringProcessor> locals= getProcessorsOfType(processors, RenameLocalVariableProcessor.class);
@@ -1445,7 +1561,8 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 				}
 				current++;
 			}
-			status.merge(RenameAnalyzeUtil.analyzeLocalRenames(analyzePackages, textChange, currentResolvedCU, false));
+			String newCuSource= textChange.getPreviewContent(new NullProgressMonitor());
+			analyzer.submit(() -> RenameAnalyzeUtil.analyzeLocalRenames(analyzePackages, textChange, newCuSource, currentResolvedCU, false));
 		}
 
 		/*
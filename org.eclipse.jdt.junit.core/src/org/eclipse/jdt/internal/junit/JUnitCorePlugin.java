@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.internal.junit.launcher.TestDiscoveryCache;
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
 
 /**
@@ -144,6 +145,7 @@ public class JUnitCorePlugin extends Plugin {
 		try {
 			InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).flush();
 			fJUnitModel.stop();
+			TestDiscoveryCache.getInstance().dispose();
 		} finally {
 			super.stop(context);
 		}
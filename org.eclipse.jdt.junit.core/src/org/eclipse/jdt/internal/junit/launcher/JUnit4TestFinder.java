@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,20 @@ public class JUnit4TestFinder implements ITestFinder {
 			throw new IllegalArgumentException();
 		}
 
+		TestDiscoveryCache cache= TestDiscoveryCache.getInstance();
+		Set<IType> cachedTests= cache.getTests(TestKindRegistry.JUNIT4_TEST_KIND_ID, element);
+		if (cachedTests != null) {
+			result.addAll(cachedTests);
+			return;
+		}
+
+		Set<IType> tests= new HashSet<>();
+		findTests(element, tests, pm);
+		cache.setTests(TestKindRegistry.JUNIT4_TEST_KIND_ID, element, tests);
+		result.addAll(tests);
+	}
+
+	private void findTests(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (element instanceof IType) {
 			if (internalIsTest((IType) element, pm)) {
 				result.add((IType) element);
@@ -141,20 +155,10 @@ public class JUnit4TestFinder implements ITestFinder {
 					nonAnonymousClasses.add(t);
 				}
 			}
-			IType[] filteredClasses= nonAnonymousClasses.toArray(new IType[0]);
-
-			// search for all types with references to RunWith and Test and all subclasses
-			HashSet<IType> candidates= new HashSet<>(filteredClasses.length);
-			SearchRequestor requestor= new AnnotationSearchRequestor(hierarchy, candidates);
-
-			IJavaSearchScope scope= SearchEngine.createJavaSearchScope(filteredClasses, IJavaSearchScope.SOURCES);
-			int matchRule= SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
-			SearchPattern runWithPattern= SearchPattern.createPattern(Annotation.RUN_WITH.getName(), IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, matchRule);
-			SearchPattern testPattern= SearchPattern.createPattern(Annotation.TEST.getName(), IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, matchRule);
 
-			SearchPattern annotationsPattern= SearchPattern.createOrPattern(runWithPattern, testPattern);
-			SearchParticipant[] searchParticipants= new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() };
-			new SearchEngine().search(annotationsPattern, searchParticipants, scope, requestor, new SubProgressMonitor(pm, 2));
+			// search for all types with references to RunWith and Test and all subclasses, the
+			// classes are searched in batches of packages in parallel
+			HashSet<IType> candidates= new HashSet<>(TestDiscoveryExecutor.classify(nonAnonymousClasses, (batch, monitor) -> searchAnnotations(batch, hierarchy, monitor), new SubProgressMonitor(pm, 2)));
 
 			// find all classes in the region
 			for (IType curr : candidates) {
@@ -176,6 +180,31 @@ public class JUnit4TestFinder implements ITestFinder {
 		}
 	}
 
+	/**
+	 * Returns the types among the given types that reference RunWith or Test, together with their
+	 * subclasses.
+	 *
+	 * @param types the types to search
+	 * @param hierarchy the hierarchy that contains the types
+	 * @param monitor the progress monitor
+	 * @return the types that reference the annotations and their subclasses
+	 * @throws CoreException if the search fails
+	 */
+	private static List<IType> searchAnnotations(List<IType> types, ITypeHierarchy hierarchy, IProgressMonitor monitor) throws CoreException {
+		HashSet<IType> candidates= new HashSet<>(types.size());
+		SearchRequestor requestor= new AnnotationSearchRequestor(hierarchy, candidates);
+
+		IJavaSearchScope scope= SearchEngine.createJavaSearchScope(types.toArray(new IType[types.size()]), IJavaSearchScope.SOURCES);
+		int matchRule= SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+		SearchPattern runWithPattern= SearchPattern.createPattern(Annotation.RUN_WITH.getName(), IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, matchRule);
+		SearchPattern testPattern= SearchPattern.createPattern(Annotation.TEST.getName(), IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, matchRule);
+
+		SearchPattern annotationsPattern= SearchPattern.createOrPattern(runWithPattern, testPattern);
+		SearchParticipant[] searchParticipants= new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() };
+		new SearchEngine().search(annotationsPattern, searchParticipants, scope, requestor, monitor);
+		return new ArrayList<>(candidates);
+	}
+
 	private static class AnnotationSearchRequestor extends SearchRequestor {
 
 		private final Collection<IType> fResult;
@@ -214,9 +243,13 @@ public class JUnit4TestFinder implements ITestFinder {
 	}
 
 	private boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
+		Boolean cached= TestDiscoveryCache.getInstance().isTest(TestKindRegistry.JUNIT4_TEST_KIND_ID, type);
+		if (cached != null) {
+			return cached.booleanValue();
+		}
 		if (CoreTestSearchEngine.isAccessibleClass(type)) {
 			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
-				return true;
+				return setTest(type, true, null);
 			}
 			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
 			/* TODO: When bug 156352 is fixed:
@@ -234,9 +267,9 @@ public class JUnit4TestFinder implements ITestFinder {
 				IBinding[] bindings= parser.createBindings(new IJavaElement[] { type }, monitor);
 				if (bindings.length == 1 && bindings[0] instanceof ITypeBinding) {
 					ITypeBinding binding= (ITypeBinding) bindings[0];
-					return isTest(binding);
+					return setTest(type, isTest(binding), binding);
 				}
-				return false;
+				return setTest(type, false, null);
 			} else {
 				parser.setSource(type.getClassFile());
 			}
@@ -247,12 +280,19 @@ public class JUnit4TestFinder implements ITestFinder {
 			if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
 				ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
 				if (binding != null) {
-					return isTest(binding);
+					return setTest(type, isTest(binding), binding);
 				}
 			}
 		}
-		return false;
+		return setTest(type, false, null);
+
+	}
 
+	private static boolean setTest(IType type, boolean isTest, ITypeBinding binding) {
+		Set<String> dependencies= new HashSet<>();
+		TestDiscoveryCache.collectDependencies(binding, dependencies);
+		TestDiscoveryCache.getInstance().setTest(TestKindRegistry.JUNIT4_TEST_KIND_ID, type, isTest, dependencies);
+		return isTest;
 	}
 
     private static boolean isAvailable(ISourceRange range) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.launcher;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
@@ -30,6 +37,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.IAnnotationBinding;
@@ -202,6 +210,20 @@ public class JUnit5TestFinder implements ITestFinder {
 			throw new IllegalArgumentException();
 		}
 
+		TestDiscoveryCache cache= TestDiscoveryCache.getInstance();
+		Set<IType> cachedTests= cache.getTests(TestKindRegistry.JUNIT5_TEST_KIND_ID, element);
+		if (cachedTests != null) {
+			result.addAll(cachedTests);
+			return;
+		}
+
+		Set<IType> tests= new HashSet<>();
+		findTests(element, tests, pm);
+		cache.setTests(TestKindRegistry.JUNIT5_TEST_KIND_ID, element, tests);
+		result.addAll(tests);
+	}
+
+	private void findTests(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		if (element instanceof IType) {
 			IType type= (IType) element;
 			if (internalIsTest(type, pm)) {
@@ -217,11 +239,15 @@ public class JUnit5TestFinder implements ITestFinder {
 		IType[] allClasses= hierarchy.getAllClasses();
 
 		// search for all types with references to RunWith and Test and all subclasses
+		List<IType> candidates= new ArrayList<>();
 		for (IType type : allClasses) {
-			if (region.contains(type) && internalIsTest(type, pm)) {
-				addTypeAndSubtypes(type, result, hierarchy);
+			if (region.contains(type)) {
+				candidates.add(type);
 			}
 		}
+		for (IType type : TestDiscoveryExecutor.classify(candidates, this::classifyBatch, subMonitor.split(2))) {
+			addTypeAndSubtypes(type, result, hierarchy);
+		}
 
 		// add all classes implementing JUnit 3.8's Test interface in the region
 		IType testInterface= element.getJavaProject().findType(JUnitCorePlugin.TEST_INTERFACE_NAME);
@@ -233,6 +259,60 @@ public class JUnit5TestFinder implements ITestFinder {
 		CoreTestSearchEngine.findSuiteMethods(element, result, subMonitor.split(1));
 	}
 
+	/**
+	 * Returns the tests among the given types. Types that have not been classified before are
+	 * checked with the Java model first, the remaining types are classified from the ASTs of their
+	 * compilation units, which are parsed together without method bodies.
+	 *
+	 * @param types the types
+	 * @param monitor the monitor, only used for cancellation
+	 * @return the tests
+	 * @throws JavaModelException if a type cannot be accessed
+	 */
+	private List<IType> classifyBatch(List<IType> types, IProgressMonitor monitor) throws JavaModelException {
+		TestDiscoveryCache cache= TestDiscoveryCache.getInstance();
+		List<IType> tests= new ArrayList<>();
+		Map<IJavaProject, Map<ICompilationUnit, List<IType>>> typesByUnit= new LinkedHashMap<>();
+		for (IType type : types) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			Boolean cached= cache.isTest(TestKindRegistry.JUNIT5_TEST_KIND_ID, type);
+			ICompilationUnit unit= type.getCompilationUnit();
+			if (cached != null) {
+				if (cached.booleanValue()) {
+					tests.add(type);
+				}
+			} else if (unit == null || !CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)
+					|| CoreTestSearchEngine.hasSuiteMethod(type)) {
+				if (internalIsTest(type, monitor)) {
+					tests.add(type);
+				}
+			} else {
+				typesByUnit.computeIfAbsent(type.getJavaProject(), p -> new LinkedHashMap<>()).computeIfAbsent(unit, u -> new ArrayList<>()).add(type);
+			}
+		}
+
+		for (Map.Entry<IJavaProject, Map<ICompilationUnit, List<IType>>> entry : typesByUnit.entrySet()) {
+			Map<ICompilationUnit, List<IType>> projectTypes= entry.getValue();
+			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+			parser.setProject(entry.getKey());
+			parser.setResolveBindings(true);
+			parser.setIgnoreMethodBodies(true);
+			parser.createASTs(projectTypes.keySet().toArray(new ICompilationUnit[projectTypes.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					for (IType type : projectTypes.get(source)) {
+						if (setTest(type, ast)) {
+							tests.add(type);
+						}
+					}
+				}
+			}, monitor);
+		}
+		return tests;
+	}
+
 	private void addTypeAndSubtypes(IType type, Set<IType> result, ITypeHierarchy hierarchy) {
 		if (result.add(type)) {
 			IType[] subclasses= hierarchy.getSubclasses(type);
@@ -248,9 +328,13 @@ public class JUnit5TestFinder implements ITestFinder {
 	}
 
 	private boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
+		Boolean cached= TestDiscoveryCache.getInstance().isTest(TestKindRegistry.JUNIT5_TEST_KIND_ID, type);
+		if (cached != null) {
+			return cached.booleanValue();
+		}
 		if (CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)) {
 			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
-				return true;
+				return setTest(type, true, null);
 			}
 			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
 			if (type.getCompilationUnit() != null) {
@@ -260,25 +344,37 @@ public class JUnit5TestFinder implements ITestFinder {
 				IBinding[] bindings= parser.createBindings(new IJavaElement[] { type }, monitor);
 				if (bindings.length == 1 && bindings[0] instanceof ITypeBinding) {
 					ITypeBinding binding= (ITypeBinding) bindings[0];
-					return isTest(binding);
+					return setTest(type, isTest(binding), binding);
 				}
-				return false;
+				return setTest(type, false, null);
 			} else {
 				parser.setSource(type.getClassFile());
 			}
 			parser.setFocalPosition(0);
 			parser.setResolveBindings(true);
 			CompilationUnit root= (CompilationUnit) parser.createAST(monitor);
-			ASTNode node= root.findDeclaringNode(type.getKey());
-			if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
-				ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
-				if (binding != null) {
-					return isTest(binding);
-				}
+			return setTest(type, root);
+		}
+		return setTest(type, false, null);
+
+	}
+
+	private boolean setTest(IType type, CompilationUnit root) {
+		ASTNode node= root.findDeclaringNode(type.getKey());
+		if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
+			ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
+			if (binding != null) {
+				return setTest(type, isTest(binding), binding);
 			}
 		}
-		return false;
+		return setTest(type, false, null);
+	}
 
+	private static boolean setTest(IType type, boolean isTest, ITypeBinding binding) {
+		Set<String> dependencies= new HashSet<>();
+		TestDiscoveryCache.collectDependencies(binding, dependencies);
+		TestDiscoveryCache.getInstance().setTest(TestKindRegistry.JUNIT5_TEST_KIND_ID, type, isTest, dependencies);
+		return isTest;
 	}
 
 	private static boolean isAvailable(ISourceRange range) {
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.IAnnotationBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+import org.eclipse.jdt.internal.core.manipulation.StructuralDelta;
+
+/**
+ * Caches the results of the test finders per Java project.
+ * <p>
+ * Two kinds of results are cached: whether a type is a test, together with the names of the types
+ * that the decision depends on (super types and annotation types), and the tests found in a
+ * container. The results are invalidated incrementally from Java element deltas:
+ * </p>
+ * <ul>
+ * <li>a structural change of a type removes the results of all types that depend on it,</li>
+ * <li>a structural change in a project removes the container results of the project and of the
+ * projects that require it,</li>
+ * <li>classpath and library changes remove all results of the project and of the projects that
+ * require it.</li>
+ * </ul>
+ * Changes inside method bodies don't invalidate anything, see {@link StructuralDelta}.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class TestDiscoveryCache {
+
+	private static final class Verdict {
+		final boolean fIsTest;
+		final String[] fDependencies;
+
+		Verdict(boolean isTest, Set<String> dependencies) {
+			fIsTest= isTest;
+			fDependencies= dependencies.toArray(new String[dependencies.size()]);
+		}
+
+		boolean dependsOn(Set<String> typeNames) {
+			for (String dependency : fDependencies) {
+				if (typeNames.contains(dependency))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private static final class ProjectCache {
+		final Map<String, Verdict> fVerdicts= new ConcurrentHashMap<>();
+		final Map<String, Set<IType>> fContainerResults= new ConcurrentHashMap<>();
+	}
+
+	private static final TestDiscoveryCache fgInstance= new TestDiscoveryCache();
+
+	private final Map<IJavaProject, ProjectCache> fProjectCaches= new ConcurrentHashMap<>();
+
+	private IElementChangedListener fListener;
+
+	private TestDiscoveryCache() {
+	}
+
+	public static TestDiscoveryCache getInstance() {
+		return fgInstance;
+	}
+
+	/**
+	 * Returns whether the given type has been found to be a test.
+	 *
+	 * @param finderId the id of the test finder that decided
+	 * @param type the type
+	 * @return the cached result, or <code>null</code> if not known
+	 */
+	public Boolean isTest(String finderId, IType type) {
+		ProjectCache cache= fProjectCaches.get(type.getJavaProject());
+		if (cache == null)
+			return null;
+		Verdict verdict= cache.fVerdicts.get(getKey(finderId, type));
+		return verdict == null ? null : Boolean.valueOf(verdict.fIsTest);
+	}
+
+	/**
+	 * Remembers whether the given type is a test.
+	 *
+	 * @param finderId the id of the test finder that decided
+	 * @param type the type
+	 * @param isTest whether the type is a test
+	 * @param dependencies the qualified names of the types the decision depends on, see
+	 *            {@link #collectDependencies(ITypeBinding, Set)}
+	 */
+	public void setTest(String finderId, IType type, boolean isTest, Set<String> dependencies) {
+		Set<String> allDependencies= new HashSet<>(dependencies);
+		allDependencies.add(type.getFullyQualifiedName('.'));
+		getProjectCache(type.getJavaProject()).fVerdicts.put(getKey(finderId, type), new Verdict(isTest, allDependencies));
+	}
+
+	/**
+	 * Returns the tests found in the given container.
+	 *
+	 * @param finderId the id of the test finder
+	 * @param container the container
+	 * @return the cached tests, or <code>null</code> if not known
+	 */
+	public Set<IType> getTests(String finderId, IJavaElement container) {
+		ProjectCache cache= fProjectCaches.get(container.getJavaProject());
+		if (cache == null)
+			return null;
+		return cache.fContainerResults.get(getKey(finderId, container));
+	}
+
+	/**
+	 * Remembers the tests found in the given container.
+	 *
+	 * @param finderId the id of the test finder
+	 * @param container the container
+	 * @param tests the tests
+	 */
+	public void setTests(String finderId, IJavaElement container, Set<IType> tests) {
+		getProjectCache(container.getJavaProject()).fContainerResults.put(getKey(finderId, container), Set.copyOf(tests));
+	}
+
+	/**
+	 * Discards all results and stops listening to Java element changes.
+	 */
+	public synchronized void dispose() {
+		if (fListener != null) {
+			JavaCore.removeElementChangedListener(fListener);
+			fListener= null;
+		}
+		fProjectCaches.clear();
+	}
+
+	/**
+	 * Adds the qualified names of the types that decide whether the given type is a test: the type,
+	 * its super types and the annotation types (including meta-annotations) of the type, its
+	 * methods and its member types.
+	 *
+	 * @param type the type binding
+	 * @param result the set to add the names to
+	 */
+	public static void collectDependencies(ITypeBinding type, Set<String> result) {
+		if (type == null)
+			return;
+		type= type.getErasure();
+		String name= type.getQualifiedName();
+		if (name.isEmpty() || !result.add(name))
+			return;
+		collectAnnotationDependencies(type.getAnnotations(), result);
+		for (IMethodBinding method : type.getDeclaredMethods()) {
+			collectAnnotationDependencies(method.getAnnotations(), result);
+		}
+		for (ITypeBinding memberType : type.getDeclaredTypes()) {
+			collectAnnotationDependencies(memberType.getAnnotations(), result);
+		}
+		collectDependencies(type.getSuperclass(), result);
+		for (ITypeBinding intf : type.getInterfaces()) {
+			collectDependencies(intf, result);
+		}
+	}
+
+	private static void collectAnnotationDependencies(IAnnotationBinding[] annotations, Set<String> result) {
+		for (IAnnotationBinding annotation : annotations) {
+			ITypeBinding annotationType= annotation == null ? null : annotation.getAnnotationType();
+			if (annotationType != null && result.add(annotationType.getQualifiedName())) {
+				collectAnnotationDependencies(annotationType.getAnnotations(), result);
+			}
+		}
+	}
+
+	private ProjectCache getProjectCache(IJavaProject project) {
+		synchronized (this) {
+			if (fListener == null) {
+				fListener= this::elementChanged;
+				JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+		}
+		return fProjectCaches.computeIfAbsent(project, p -> new ProjectCache());
+	}
+
+	private static String getKey(String finderId, IJavaElement element) {
+		return finderId + ':' + element.getHandleIdentifier();
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		if (fProjectCaches.isEmpty())
+			return;
+		StructuralDelta changes= StructuralDelta.collect(event.getDelta());
+		if (changes.isEmpty())
+			return;
+
+		Set<String> classpathChangedNames= StructuralDelta.getNames(changes.getClasspathChangedProjects());
+		Set<String> structureChangedNames= changes.getChangedProjectNames();
+		Set<String> changedTypes= changes.getChangedTypeNames();
+		for (Map.Entry<IJavaProject, ProjectCache> entry : fProjectCaches.entrySet()) {
+			IJavaProject project= entry.getKey();
+			ProjectCache cache= entry.getValue();
+			if (!project.exists() || classpathChangedNames.contains(project.getElementName()) || StructuralDelta.requiresAny(project, classpathChangedNames)) {
+				fProjectCaches.remove(project);
+				continue;
+			}
+			if (structureChangedNames.contains(project.getElementName()) || StructuralDelta.requiresAny(project, structureChangedNames)) {
+				cache.fContainerResults.clear();
+				cache.fVerdicts.values().removeIf(verdict -> verdict.dependsOn(changedTypes));
+			}
+		}
+	}
+}
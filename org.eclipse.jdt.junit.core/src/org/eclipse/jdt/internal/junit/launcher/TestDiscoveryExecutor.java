@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+
+/**
+ * Classifies the candidate types of the test finders in parallel.
+ * <p>
+ * The types are partitioned by package fragment into batches, which are classified on a pool that
+ * is shared by all searches. The number of threads is bounded by the
+ * <code>jdt.junit.discoveryThreads</code> system property and the number of processors.
+ * </p>
+ */
+final class TestDiscoveryExecutor {
+
+	/**
+	 * Classifies the types of one batch.
+	 */
+	@FunctionalInterface
+	interface IBatchClassifier {
+		/**
+		 * Returns the tests among the given types. Called concurrently for different batches.
+		 *
+		 * @param types the types of the batch
+		 * @param monitor the monitor, only used for cancellation
+		 * @return the tests
+		 * @throws CoreException if a type cannot be classified
+		 */
+		List<IType> classify(List<IType> types, IProgressMonitor monitor) throws CoreException;
+	}
+
+	/**
+	 * Maximal number of threads that classify the types of a container
+	 */
+	private static final int MAX_THREADS= Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), Integer.getInteger("jdt.junit.discoveryThreads", 4).intValue())); //$NON-NLS-1$
+
+	private static final AtomicInteger fgWorkerCount= new AtomicInteger();
+
+	/**
+	 * Shared pool on which the batches of all searches are classified. It bounds the number of
+	 * concurrent classifiers, idle threads are released after a while.
+	 */
+	private static final ThreadPoolExecutor DISCOVERY_POOL;
+	static {
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "JUnit Test Discovery Worker-" + fgWorkerCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		DISCOVERY_POOL= pool;
+	}
+
+	/**
+	 * Number of types that are classified by one task
+	 */
+	private static final int BATCH_SIZE= 50;
+
+	/**
+	 * Returns the tests among the given types. The types are partitioned by package fragment into
+	 * batches that are classified in parallel.
+	 *
+	 * @param types the types to classify
+	 * @param classifier classifies a batch
+	 * @param monitor the progress monitor
+	 * @return the tests
+	 * @throws CoreException if a type cannot be classified
+	 */
+	static List<IType> classify(List<IType> types, IBatchClassifier classifier, IProgressMonitor monitor) throws CoreException {
+		List<List<IType>> batches= createBatches(types);
+		SubMonitor subMonitor= SubMonitor.convert(monitor, batches.size());
+		if (MAX_THREADS <= 1 || batches.size() <= 1) {
+			List<IType> tests= new ArrayList<>();
+			for (List<IType> batch : batches) {
+				tests.addAll(classifier.classify(batch, subMonitor.split(1)));
+			}
+			return tests;
+		}
+
+		// the workers only check for cancellation, progress is reported by this thread
+		IProgressMonitor workerMonitor= new NullProgressMonitor();
+		List<Future<List<IType>>> futures= new ArrayList<>(batches.size());
+		try {
+			BlockingQueue<Future<List<IType>>> completed= new LinkedBlockingQueue<>();
+			for (List<IType> batch : batches) {
+				FutureTask<List<IType>> task= new FutureTask<>(() -> classifier.classify(batch, workerMonitor)) {
+					@Override
+					protected void done() {
+						completed.add(this);
+					}
+				};
+				futures.add(task);
+				DISCOVERY_POOL.execute(task);
+			}
+			List<IType> tests= new ArrayList<>();
+			for (int done= 0; done < batches.size();) {
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				Future<List<IType>> future= completed.poll(100, TimeUnit.MILLISECONDS);
+				if (future != null) {
+					tests.addAll(getResult(future));
+					subMonitor.worked(1);
+					done++;
+				}
+			}
+			return tests;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			// the pool is shared: stop the running batches of this search and remove the others
+			workerMonitor.setCanceled(true);
+			for (Future<List<IType>> future : futures) {
+				future.cancel(false);
+			}
+			DISCOVERY_POOL.purge();
+		}
+	}
+
+	private static List<IType> getResult(Future<List<IType>> future) throws CoreException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException) {
+				throw (CoreException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Groups the types by package fragment and fills the packages into batches of about
+	 * {@link #BATCH_SIZE} types. The types of a package are never split across batches.
+	 *
+	 * @param types the types
+	 * @return the batches
+	 */
+	private static List<List<IType>> createBatches(List<IType> types) {
+		Map<IJavaElement, List<IType>> typesByPackage= new LinkedHashMap<>();
+		for (IType type : types) {
+			typesByPackage.computeIfAbsent(type.getPackageFragment(), p -> new ArrayList<>()).add(type);
+		}
+		List<List<IType>> batches= new ArrayList<>();
+		List<IType> batch= new ArrayList<>();
+		for (List<IType> packageTypes : typesByPackage.values()) {
+			batch.addAll(packageTypes);
+			if (batch.size() >= BATCH_SIZE) {
+				batches.add(batch);
+				batch= new ArrayList<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	private TestDiscoveryExecutor() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,21 +15,25 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
-import java.io.PushbackReader;
+import java.io.PushbackInputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageSender;
 import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
@@ -55,6 +59,14 @@ public class RemoteTestRunnerClient {
 	class DefaultProcessingState extends ProcessingState {
 	    @Override
 		ProcessingState readMessage(String message) {
+	        if (message.startsWith(MessageIds.PROTOCOL_REQUEST)) {
+	            answerProtocolRequest(message.substring(MessageIds.MSG_HEADER_LENGTH));
+	            return this;
+	        }
+	        if (message.startsWith(MessageIds.PROTOCOL_SWITCH)) {
+	            switchProtocol(message.substring(MessageIds.MSG_HEADER_LENGTH));
+	            return this;
+	        }
 	        if (message.startsWith(MessageIds.TRACE_START)) {
 	        	fFailedTrace.setLength(0);
 	            return fTraceState;
@@ -227,12 +239,25 @@ public class RemoteTestRunnerClient {
 	private Socket fSocket;
 	private int fPort= -1;
 	private PrintWriter fWriter;
-	private PushbackReader fPushbackReader;
+	/**
+	 * The stream from the RemoteTestRunner. The text protocol is read from it byte by byte, so
+	 * that the frames of the binary protocol can be read from the same stream after a switch.
+	 */
+	private PushbackInputStream fPushbackStream;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
 	 */
 	private String fVersion;
+	/**
+	 * The protocol that has been accepted in the answer to a protocol request, or
+	 * <code>null</code>
+	 */
+	private String fAcceptedProtocol;
+	/**
+	 * Has the RemoteTestRunner switched to the binary protocol?
+	 */
+	private boolean fBinaryProtocol;
 	/**
 	 * The failed test that is currently reported from the RemoteTestRunner
 	 */
@@ -266,11 +291,14 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				fPushbackStream= new PushbackInputStream(new BufferedInputStream(fSocket.getInputStream()));
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
 				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+				while(fPushbackStream != null && !fBinaryProtocol && (message= readMessage(fPushbackStream)) != null)
 					receiveMessage(message);
+				PushbackInputStream in= fPushbackStream;
+				if (fBinaryProtocol && in != null)
+					readFrames(new DataInputStream(in));
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -320,9 +348,9 @@ public class RemoteTestRunnerClient {
 			fWriter= null;
 		}
 		try {
-			if (fPushbackReader != null) {
-				fPushbackReader.close();
-				fPushbackReader= null;
+			if (fPushbackStream != null) {
+				fPushbackStream.close();
+				fPushbackStream= null;
 			}
 		} catch(IOException e) {
 		}
@@ -346,32 +374,84 @@ public class RemoteTestRunnerClient {
 		return fSocket != null;
 	}
 
-	private String readMessage(PushbackReader in) throws IOException {
-		StringBuilder buf= new StringBuilder(128);
+	private String readMessage(PushbackInputStream in) throws IOException {
+		// the line delimiters cannot be part of a multi-byte UTF-8 character
+		ByteArrayOutputStream buf= new ByteArrayOutputStream(128);
 		int ch;
 		while ((ch= in.read()) != -1) {
 			switch (ch) {
 			case '\n':
 				fLastLineDelimiter= "\n"; //$NON-NLS-1$
-				return buf.toString();
+				return buf.toString(StandardCharsets.UTF_8);
 			case '\r':
 				ch= in.read();
 				if (ch == '\n') {
 					fLastLineDelimiter= "\r\n"; //$NON-NLS-1$
 				} else {
-					in.unread(ch);
+					if (ch != -1)
+						in.unread(ch);
 					fLastLineDelimiter= "\r"; //$NON-NLS-1$
 				}
-				return buf.toString();
+				return buf.toString(StandardCharsets.UTF_8);
 			default:
-				buf.append((char) ch);
+				buf.write(ch);
 				break;
 			}
 		}
 		fLastLineDelimiter= null;
-		if (buf.length() == 0)
+		if (buf.size() == 0)
 			return null;
-		return buf.toString();
+		return buf.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads the frames of the binary protocol, see {@link BinaryMessageSender}. The messages are
+	 * processed like the lines of the text protocol.
+	 *
+	 * @param in the stream to read from
+	 * @throws IOException if the stream cannot be read
+	 */
+	private void readFrames(DataInputStream in) throws IOException {
+		// a line without header is a complete trace or comparison result
+		fLastLineDelimiter= "\n"; //$NON-NLS-1$
+		byte[] frame= new byte[8192];
+		while (true) {
+			int length;
+			try {
+				length= in.readInt();
+			} catch (EOFException e) {
+				return;
+			}
+			if (length > frame.length)
+				frame= new byte[Math.max(length, 2 * frame.length)];
+			in.readFully(frame, 0, length);
+			ByteBuffer records= ByteBuffer.wrap(frame, 0, length);
+			while (records.hasRemaining()) {
+				int id= records.get() & 0xff;
+				int size= records.getInt();
+				String argument= new String(frame, records.position(), size, StandardCharsets.UTF_8);
+				records.position(records.position() + size);
+				receiveMessage(id == 0 ? argument : BinaryMessageSender.MESSAGE_IDS[id - 1] + argument);
+			}
+		}
+	}
+
+	private synchronized void answerProtocolRequest(String protocol) {
+		if (fWriter == null)
+			return;
+		if (BinaryMessageSender.PROTOCOL_VERSION.equals(protocol)) {
+			// the runner may have given up waiting, so the text protocol is used until it confirms the switch
+			fAcceptedProtocol= protocol;
+			fWriter.println(MessageIds.PROTOCOL_RESPONSE + protocol);
+		} else {
+			fWriter.println(MessageIds.PROTOCOL_RESPONSE + MessageIds.TEXT_PROTOCOL);
+		}
+		fWriter.flush();
+	}
+
+	private void switchProtocol(String protocol) {
+		if (protocol.equals(fAcceptedProtocol))
+			fBinaryProtocol= true;
 	}
 
 	private void receiveMessage(String message) {
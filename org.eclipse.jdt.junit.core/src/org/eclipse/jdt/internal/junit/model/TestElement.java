@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -319,6 +319,23 @@ public abstract class TestElement implements ITestElement {
 		return fStatus;
 	}
 
+	/**
+	 * Sets the status and failure of a test element loaded from a {@link TestRunSessionStore}.
+	 * Other than {@link #setStatus(Status, String, String, String)}, this neither updates the
+	 * running time nor notifies the parent.
+	 *
+	 * @param status the status
+	 * @param trace the trace, can be <code>null</code>
+	 * @param expected the expected value, can be <code>null</code>
+	 * @param actual the actual value, can be <code>null</code>
+	 */
+	void restoreStatus(Status status, String trace, String expected, String actual) {
+		fStatus= status;
+		fTrace= trace;
+		fExpected= expected;
+		fActual= actual;
+	}
+
 	public String getTrace() {
 		return fTrace;
 	}
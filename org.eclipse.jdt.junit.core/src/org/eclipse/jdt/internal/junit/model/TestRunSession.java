@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -83,6 +84,12 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private Result fTestResult;
 
+	/**
+	 * The store that the test tree is written to while the tests run, or <code>null</code>.
+	 * Once the store is complete, the test tree can be swapped out without writing it again.
+	 */
+	private TestRunSessionStore fStore;
+
 	/**
 	 * Map from testId to testElement.
 	 */
@@ -368,9 +375,10 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		try {
-			File swapFile= getSwapFile();
-
-			JUnitModel.exportTestRunSession(this, swapFile);
+			if (fStore == null || !fStore.isComplete())
+				writeSwapFile();
+			if (fStore != null)
+				fStore.close();
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
@@ -379,26 +387,68 @@ public class TestRunSession implements ITestRunSession {
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
-		} catch (IllegalStateException | CoreException e) {
+		} catch (IllegalStateException | IOException | CoreException e) {
 			JUnitCorePlugin.log(e);
 		}
 	}
 
+	/**
+	 * Writes the test tree to a new store. The test elements that have not been loaded from the
+	 * current store yet are loaded first, since they would be lost otherwise. If that is not
+	 * possible, the current store and its file are kept. If the new store cannot be written, the
+	 * test tree is exported as XML instead.
+	 *
+	 * @throws IOException if the test tree cannot be loaded completely
+	 * @throws CoreException if the test tree cannot be written
+	 */
+	private void writeSwapFile() throws IOException, CoreException {
+		TestRunSessionStore store= fStore;
+		if (store != null) {
+			store.loadAll(fTestRoot);
+			store.close();
+		}
+		try {
+			fStore= TestRunSessionStore.write(getSwapFile(), fTestRoot);
+			File xmlSwapFile= getXmlSwapFile();
+			if (xmlSwapFile.exists())
+				xmlSwapFile.delete();
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			fStore= null;
+			JUnitModel.exportTestRunSession(this, getXmlSwapFile());
+		}
+	}
+
 	public boolean isStarting() {
 		return getStartTime() == 0 && fLaunch != null && ! fLaunch.isTerminated();
 	}
 
 
-	public void removeSwapFile() {
+	public synchronized void removeSwapFile() {
+		if (fStore != null) {
+			fStore.delete();
+			fStore= null;
+		}
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
+		File xmlSwapFile= getXmlSwapFile();
+		if (xmlSwapFile.exists())
+			xmlSwapFile.delete();
 	}
 
 	private File getSwapFile() throws IllegalStateException {
+		return getSwapFile(".testrun"); //$NON-NLS-1$
+	}
+
+	private File getXmlSwapFile() throws IllegalStateException {
+		return getSwapFile(".xml"); //$NON-NLS-1$
+	}
+
+	private File getSwapFile(String extension) throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + extension;
 		return new File(historyDir, swapFileName);
 	}
 
@@ -408,8 +458,26 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
-		} catch (IllegalStateException | CoreException e) {
+			fIdToTest= new HashMap<>();
+			if (fStore != null && fStore.isComplete()) {
+				try {
+					fTestRoot= fStore.load(this);
+					return;
+				} catch (IOException e) {
+					JUnitCorePlugin.log(e);
+					fIdToTest= new HashMap<>();
+				}
+			}
+			if (fStore != null) {
+				// the test tree will be written to a new store at the next swap out
+				fStore.close();
+				fStore= null;
+			}
+			File xmlSwapFile= getXmlSwapFile();
+			if (!xmlSwapFile.exists())
+				throw new IOException("No test run store: " + getSwapFile()); //$NON-NLS-1$
+			JUnitModel.importIntoTestRunSession(xmlSwapFile, this);
+		} catch (IllegalStateException | IOException | CoreException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
 			fTestResult= null;
@@ -474,7 +542,24 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 	public TestElement getTestElement(String id) {
-		return fIdToTest.get(id);
+		TestElement testElement= fIdToTest.get(id);
+		if (testElement == null) {
+			// the element may not have been loaded from the store yet
+			TestRunSessionStore store= fStore;
+			TestRoot testRoot= fTestRoot;
+			if (store != null && testRoot != null)
+				testElement= store.findElement(testRoot, id);
+		}
+		return testElement;
+	}
+
+	/**
+	 * Registers a test element that has been loaded from the {@link TestRunSessionStore}.
+	 *
+	 * @param testElement the loaded test element
+	 */
+	void elementLoaded(TestElement testElement) {
+		fIdToTest.put(testElement.getId(), testElement);
 	}
 
 	private TestElement addTreeEntry(String treeEntry) {
@@ -580,6 +665,8 @@ public class TestRunSession implements ITestRunSession {
 			testElement= new TestCaseElement(parent, id, testName, displayName, isDynamicTest, parameterTypes, uniqueId);
 		}
 		fIdToTest.put(id, testElement);
+		if (fStore != null)
+			fStore.elementAdded(testElement);
 		return testElement;
 	}
 
@@ -640,6 +727,13 @@ public class TestRunSession implements ITestRunSession {
 			fStartTime= System.currentTimeMillis();
 			fIsRunning= true;
 
+			try {
+				fStore= TestRunSessionStore.create(getSwapFile());
+			} catch (IllegalStateException | IOException e) {
+				// the test tree will be written when it is swapped out
+				JUnitCorePlugin.log(e);
+			}
+
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStarted();
 			}
@@ -648,6 +742,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunEnded(long elapsedTime) {
 			fIsRunning= false;
+			completeStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionEnded(elapsedTime);
@@ -658,6 +753,7 @@ public class TestRunSession implements ITestRunSession {
 		public void testRunStopped(long elapsedTime) {
 			fIsRunning= false;
 			fIsStopped= true;
+			completeStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionStopped(elapsedTime);
@@ -668,6 +764,7 @@ public class TestRunSession implements ITestRunSession {
 		public void testRunTerminated() {
 			fIsRunning= false;
 			fIsStopped= true;
+			completeStore();
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionTerminated();
@@ -747,6 +844,7 @@ public class TestRunSession implements ITestRunSession {
 
 			if (testCaseElement.getStatus() == Status.RUNNING)
 				setStatus(testCaseElement, Status.OK);
+			storeState(testCaseElement);
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testEnded(testCaseElement);
@@ -771,6 +869,7 @@ public class TestRunSession implements ITestRunSession {
 			}
 
 			registerTestFailureStatus(testElement, status, trace, expected, actual);
+			storeState(testElement);
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.testFailed(testElement, status, trace, expected, actual);
@@ -790,6 +889,7 @@ public class TestRunSession implements ITestRunSession {
 
 			Status status= Status.convert(statusCode);
 			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
+			storeState(testElement);
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				//TODO: post old & new status?
@@ -797,6 +897,19 @@ public class TestRunSession implements ITestRunSession {
 			}
 		}
 
+		private void completeStore() {
+			TestRunSessionStore store= fStore;
+			TestRoot root= fTestRoot;
+			if (store != null && root != null)
+				store.complete(root);
+		}
+
+		private void storeState(TestElement testElement) {
+			TestRunSessionStore store= fStore;
+			if (store != null)
+				store.stateChanged(testElement);
+		}
+
 		private void logUnexpectedTest(String testId, TestElement testElement) {
 			JUnitCorePlugin.log(new Exception("Unexpected TestElement type for testId '" + testId + "': " + testElement)); //$NON-NLS-1$ //$NON-NLS-2$
 		}
@@ -847,8 +960,16 @@ public class TestRunSession implements ITestRunSession {
 	}
 
 	public TestElement[] getAllFailedTestElements() {
+		TestRoot testRoot= getTestRoot();
+		TestRunSessionStore store= fStore;
+		if (store != null) {
+			// only loads the suites that contain failures if the tree has been loaded from the store
+			TestElement[] failures= store.loadFailures(this, testRoot);
+			if (failures != null)
+				return failures;
+		}
 		ArrayList<ITestElement> failures= new ArrayList<>();
-		addFailures(failures, getTestRoot());
+		addFailures(failures, testRoot);
 		return failures.toArray(new TestElement[failures.size()]);
 	}
 
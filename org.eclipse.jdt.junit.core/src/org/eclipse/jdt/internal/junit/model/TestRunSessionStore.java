@@ -0,0 +1,799 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Append-only on-disk store of the test tree of a {@link TestRunSession}.
+ * <p>
+ * While the tests run, a record is appended for every test element that is added and for every
+ * test element whose result is known. When the run has finished, the final state of the suites and
+ * an index are appended. The index allows to recreate the test tree lazily: a suite loads its
+ * children on first access, and the failed test elements can be loaded without loading the other
+ * test elements.
+ * </p>
+ *
+ * <pre>
+ * file:    int magic, int version, record*, index
+ * record:  ELEMENT: byte type, int parent, String id, String name, String displayName,
+ *                   boolean suite, boolean dynamic, String[] parameterTypes, String uniqueId
+ *          STATE:   byte type, int element, byte status, byte children status, double time,
+ *                   boolean ignored, boolean assumption failed, String trace, String expected,
+ *                   String actual
+ * index:   byte type, int count, (int parent, long element record, long state record)[count],
+ *          root STATE record, int failure count, int[] failures, long index offset, int magic
+ * </pre>
+ *
+ * Elements are identified by the order in which they have been added, the parent of the children
+ * of the root is <code>-1</code>. Strings are written as length and UTF-8 encoded characters,
+ * <code>null</code> has the length <code>-1</code>.
+ * <p>
+ * The XML format of {@link TestRunSessionSerializer} is still used to export and import test runs.
+ * </p>
+ */
+public class TestRunSessionStore {
+
+	private static final int MAGIC= 0x4A555452; // "JUTR"
+
+	private static final int INDEX_MAGIC= 0x4A555449; // "JUTI"
+
+	private static final int VERSION= 1;
+
+	private static final byte ELEMENT= 1;
+
+	private static final byte STATE= 2;
+
+	private static final byte INDEX= 3;
+
+	/**
+	 * Statuses by their code, see {@link Status#getOldCode()}
+	 */
+	private static final Status[] STATUSES= { Status.OK, Status.ERROR, Status.FAILURE, Status.RUNNING, Status.NOT_RUN, Status.RUNNING_ERROR, Status.RUNNING_FAILURE };
+
+	private static final int NO_STATUS= -1;
+
+	/**
+	 * Counts the bytes written, so that records can be referenced by their offset.
+	 */
+	private static class PositionOutputStream extends FilterOutputStream {
+		long fPosition;
+
+		PositionOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			fPosition++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			fPosition+= len;
+		}
+	}
+
+	/**
+	 * Reads records at arbitrary offsets through a window on the file.
+	 */
+	private static class RecordReader {
+		private final FileChannel fChannel;
+		private final ByteBuffer fWindow= ByteBuffer.allocate(64 * 1024);
+		private long fWindowStart= -1;
+
+		RecordReader(FileChannel channel) {
+			fChannel= channel;
+			fWindow.limit(0);
+		}
+
+		void seek(long offset) throws IOException {
+			if (fWindowStart >= 0 && offset >= fWindowStart && offset <= fWindowStart + fWindow.limit()) {
+				fWindow.position((int) (offset - fWindowStart));
+			} else {
+				fill(offset, 0);
+			}
+		}
+
+		private void ensure(int bytes) throws IOException {
+			if (fWindow.remaining() < bytes)
+				fill(fWindowStart + fWindow.position(), bytes);
+		}
+
+		private void fill(long offset, int bytes) throws IOException {
+			fWindow.clear();
+			fWindowStart= offset;
+			while (fWindow.hasRemaining() && fChannel.read(fWindow, offset + fWindow.position()) >= 0) {
+				// read until the window is full or the end of the file is reached
+			}
+			fWindow.flip();
+			if (fWindow.remaining() < bytes)
+				throw new EOFException();
+		}
+
+		byte readByte() throws IOException {
+			ensure(1);
+			return fWindow.get();
+		}
+
+		boolean readBoolean() throws IOException {
+			return readByte() != 0;
+		}
+
+		int readInt() throws IOException {
+			ensure(4);
+			return fWindow.getInt();
+		}
+
+		long readLong() throws IOException {
+			ensure(8);
+			return fWindow.getLong();
+		}
+
+		double readDouble() throws IOException {
+			ensure(8);
+			return fWindow.getDouble();
+		}
+
+		String readString() throws IOException {
+			int length= readInt();
+			if (length < 0)
+				return null;
+			byte[] bytes= new byte[length];
+			int read= 0;
+			while (read < length) {
+				ensure(1);
+				int chunk= Math.min(length - read, fWindow.remaining());
+				fWindow.get(bytes, read, chunk);
+				read+= chunk;
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	private File fFile;
+
+	/* writing */
+
+	private DataOutputStream fOut;
+	private PositionOutputStream fPositionOut;
+	private Map<TestElement, Integer> fOrdinals;
+
+	/* index, available while writing and after the index has been written or read */
+
+	private int fCount;
+	private int[] fParents= new int[64];
+	private long[] fElementRecords= new long[64];
+	private long[] fStateRecords= new long[64];
+	private int[] fFailures;
+	private long fRootState;
+
+	/* reading */
+
+	private RecordReader fReader;
+	private FileChannel fChannel;
+	private int[] fFirstChildren;
+	private int[] fNextSiblings;
+	private TestElement[] fLoaded;
+	private Map<String, Integer> fOrdinalsById;
+	/**
+	 * <code>true</code> if the children of a suite could not be loaded
+	 */
+	private boolean fLoadFailed;
+
+	/**
+	 * <code>true</code> if the index has been written and all later changes of the test tree
+	 * have been stored
+	 */
+	private boolean fComplete;
+
+	private TestRunSessionStore(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Creates a new, empty store that records the test elements while the tests run.
+	 *
+	 * @param file the file to write to
+	 * @return the store
+	 * @throws IOException if the file cannot be written
+	 */
+	public static TestRunSessionStore create(File file) throws IOException {
+		TestRunSessionStore store= new TestRunSessionStore(file);
+		store.fPositionOut= new PositionOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+		store.fOut= new DataOutputStream(store.fPositionOut);
+		store.fOrdinals= new IdentityHashMap<>();
+		store.fOut.writeInt(MAGIC);
+		store.fOut.writeInt(VERSION);
+		return store;
+	}
+
+	/**
+	 * Writes a complete store for the given test tree. The store is written to a temporary file
+	 * that replaces the given file once it is complete, so an existing file is kept if the store
+	 * cannot be written.
+	 * <p>
+	 * All test elements must have been loaded, see {@link #loadAll(TestSuiteElement)}.
+	 * </p>
+	 *
+	 * @param file the file to write to
+	 * @param root the test tree
+	 * @return the complete store
+	 * @throws IOException if the file cannot be written
+	 */
+	public static TestRunSessionStore write(File file, TestRoot root) throws IOException {
+		File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		TestRunSessionStore store= create(temp);
+		try {
+			try {
+				store.addSubtree(root);
+				store.complete(root);
+			} finally {
+				store.close();
+			}
+			if (!store.isComplete())
+				throw new IOException("Cannot write test run store: " + file); //$NON-NLS-1$
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			temp.delete();
+		}
+		synchronized (store) {
+			store.fFile= file;
+		}
+		return store;
+	}
+
+	private void addSubtree(TestSuiteElement suite) throws IOException {
+		for (ITestElement child : suite.getChildren()) {
+			TestElement element= (TestElement) child;
+			writeElement(element);
+			if (element instanceof TestSuiteElement)
+				addSubtree((TestSuiteElement) element);
+			else
+				writeState(element);
+		}
+	}
+
+	/**
+	 * Records a test element that has been added to the test tree.
+	 *
+	 * @param element the new test element
+	 */
+	public synchronized void elementAdded(TestElement element) {
+		if (fOut == null || fComplete)
+			return;
+		try {
+			writeElement(element);
+		} catch (IOException e) {
+			failed(e);
+		}
+	}
+
+	/**
+	 * Records the state of a test element whose status has changed.
+	 *
+	 * @param element the test element
+	 */
+	public synchronized void stateChanged(TestElement element) {
+		if (fComplete) {
+			// e.g. a rerun, the store has to be written again
+			fComplete= false;
+			fOut= null;
+			return;
+		}
+		if (fOut == null)
+			return;
+		try {
+			writeState(element);
+		} catch (IOException e) {
+			failed(e);
+		}
+	}
+
+	/**
+	 * Appends the final state of the test tree and the index. Later changes are no longer recorded
+	 * and make the store incomplete.
+	 *
+	 * @param root the root of the test tree
+	 */
+	public synchronized void complete(TestRoot root) {
+		if (fOut == null || fComplete)
+			return;
+		try {
+			TestElement[] elements= new TestElement[fCount];
+			for (Map.Entry<TestElement, Integer> entry : fOrdinals.entrySet()) {
+				elements[entry.getValue().intValue()]= entry.getKey();
+			}
+			for (TestElement element : elements) {
+				if (element.getRoot() != root)
+					continue; // from before a reset
+				int i= fOrdinals.get(element).intValue();
+				if (element instanceof TestSuiteElement || fStateRecords[i] < 0 && !isDefaultState(element))
+					writeState(element);
+			}
+			fRootState= fPositionOut.fPosition;
+			writeStateRecord(-1, root);
+
+			List<Integer> failures= new ArrayList<>();
+			collectFailures(root, failures);
+
+			long indexOffset= fPositionOut.fPosition;
+			fOut.writeByte(INDEX);
+			fOut.writeInt(fCount);
+			for (int i= 0; i < fCount; i++) {
+				fOut.writeInt(fParents[i]);
+				fOut.writeLong(fElementRecords[i]);
+				fOut.writeLong(fStateRecords[i]);
+			}
+			fOut.writeLong(fRootState);
+			fOut.writeInt(failures.size());
+			fFailures= new int[failures.size()];
+			for (int i= 0; i < fFailures.length; i++) {
+				fFailures[i]= failures.get(i).intValue();
+				fOut.writeInt(fFailures[i]);
+			}
+			fOut.writeLong(indexOffset);
+			fOut.writeInt(INDEX_MAGIC);
+			fOut.close();
+			fOut= null;
+			fComplete= true;
+		} catch (IOException e) {
+			failed(e);
+		}
+		fOrdinals= null;
+	}
+
+	private static boolean isDefaultState(TestElement element) {
+		return element.getStatus() == Status.NOT_RUN && !element.isAssumptionFailure()
+				&& !(element instanceof TestCaseElement && ((TestCaseElement) element).isIgnored());
+	}
+
+	private void collectFailures(TestElement element, List<Integer> failures) {
+		// same order as TestRunSession#getAllFailedTestElements()
+		Result testResult= element.getTestResult(true);
+		if (testResult == Result.ERROR || testResult == Result.FAILURE) {
+			Integer ordinal= fOrdinals.get(element);
+			if (ordinal != null)
+				failures.add(ordinal);
+		}
+		if (element instanceof TestSuiteElement) {
+			for (ITestElement child : ((TestSuiteElement) element).getChildren()) {
+				collectFailures((TestElement) child, failures);
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the store contains the complete test tree
+	 */
+	public synchronized boolean isComplete() {
+		return fComplete;
+	}
+
+	/**
+	 * Closes the file. A complete store can still be loaded afterwards.
+	 */
+	public synchronized void close() {
+		if (fOut != null) {
+			try {
+				fOut.close();
+			} catch (IOException e) {
+				// the store is incomplete anyway
+			}
+			fOut= null;
+		}
+		closeReader();
+	}
+
+	private void closeReader() {
+		if (fChannel != null) {
+			try {
+				fChannel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fChannel= null;
+			fReader= null;
+		}
+		fLoaded= null;
+		fOrdinalsById= null;
+		fFirstChildren= null;
+		fNextSiblings= null;
+	}
+
+	/**
+	 * Closes and deletes the file.
+	 */
+	public synchronized void delete() {
+		close();
+		fComplete= false;
+		fFile.delete();
+	}
+
+	/**
+	 * Creates the test root and its children from a complete store. The children of suites are
+	 * loaded when they are accessed.
+	 *
+	 * @param session the session to load the test elements into
+	 * @return the test root
+	 * @throws IOException if the store cannot be read
+	 */
+	public synchronized TestRoot load(TestRunSession session) throws IOException {
+		if (!fComplete)
+			throw new IOException("Incomplete test run store: " + fFile); //$NON-NLS-1$
+		closeReader();
+		fLoadFailed= false;
+		fChannel= FileChannel.open(fFile.toPath(), StandardOpenOption.READ);
+		fReader= new RecordReader(fChannel);
+		readIndex();
+
+		fFirstChildren= new int[fCount + 1];
+		fNextSiblings= new int[fCount];
+		Arrays.fill(fFirstChildren, -1);
+		for (int i= fCount - 1; i >= 0; i--) {
+			int parent= fParents[i] + 1; // root is at 0
+			fNextSiblings[i]= fFirstChildren[parent];
+			fFirstChildren[parent]= i;
+		}
+		fLoaded= new TestElement[fCount];
+
+		TestRoot root= new TestRoot(session);
+		fReader.seek(fRootState);
+		readState(root);
+		loadChildren(session, root, -1);
+		return root;
+	}
+
+	/**
+	 * Returns the test elements whose result is an error or failure, see
+	 * {@link TestRunSession#getAllFailedTestElements()}. Only the suites containing the failures
+	 * are loaded.
+	 *
+	 * @param session the session that has been loaded from this store
+	 * @param root the root returned by {@link #load(TestRunSession)}
+	 * @return the failed test elements, or <code>null</code> if the store is not loaded
+	 */
+	public TestElement[] loadFailures(TestRunSession session, TestRoot root) {
+		int[] failureOrdinals;
+		synchronized (this) {
+			if (fLoaded == null || !fComplete)
+				return null;
+			failureOrdinals= fFailures;
+		}
+		// like TestRunSession#addFailures(..), the root is a failure if it contains failures
+		Result rootResult= root.getTestResult(true);
+		int first= rootResult == Result.ERROR || rootResult == Result.FAILURE ? 1 : 0;
+		TestElement[] failures= new TestElement[first + failureOrdinals.length];
+		if (first == 1)
+			failures[0]= root;
+		// don't hold the lock of the store while suites load their children
+		for (int i= 0; i < failureOrdinals.length; i++) {
+			TestElement failure= loadElement(root, failureOrdinals[i]);
+			if (failure == null)
+				return null;
+			failures[first + i]= failure;
+		}
+		return failures;
+	}
+
+	/**
+	 * Loads all test elements below the given suite that have not been loaded yet, for example
+	 * before the test tree is written to another store.
+	 *
+	 * @param suite the suite, usually the root returned by {@link #load(TestRunSession)}
+	 * @throws IOException if some test elements could not be loaded, in which case the test tree
+	 *             is incomplete
+	 */
+	public void loadAll(TestSuiteElement suite) throws IOException {
+		loadSubtree(suite);
+		synchronized (this) {
+			if (fLoadFailed)
+				throw new IOException("Cannot load the test elements from " + fFile); //$NON-NLS-1$
+		}
+	}
+
+	private static void loadSubtree(TestSuiteElement suite) {
+		for (ITestElement child : suite.getChildren()) {
+			if (child instanceof TestSuiteElement)
+				loadSubtree((TestSuiteElement) child);
+		}
+	}
+
+	/**
+	 * Returns the test element with the given id, loading it and the suites containing it if they
+	 * have not been loaded yet.
+	 *
+	 * @param root the root returned by {@link #load(TestRunSession)}
+	 * @param id the id of the test element
+	 * @return the test element, or <code>null</code> if the store does not contain it or is not
+	 *         loaded
+	 */
+	public TestElement findElement(TestRoot root, String id) {
+		Integer ordinal;
+		synchronized (this) {
+			if (fLoaded == null)
+				return null;
+			if (fOrdinalsById == null) {
+				try {
+					fOrdinalsById= readIds();
+				} catch (IOException e) {
+					failed(e);
+					return null;
+				}
+			}
+			ordinal= fOrdinalsById.get(id);
+		}
+		// don't hold the lock of the store while suites load their children
+		return ordinal != null ? loadElement(root, ordinal.intValue()) : null;
+	}
+
+	private Map<String, Integer> readIds() throws IOException {
+		Map<String, Integer> ordinals= new HashMap<>(fCount * 4 / 3 + 1);
+		for (int i= 0; i < fCount; i++) {
+			fReader.seek(fElementRecords[i]);
+			if (fReader.readByte() != ELEMENT)
+				throw new IOException("Corrupt element record: " + fFile); //$NON-NLS-1$
+			fReader.readInt(); // parent
+			ordinals.putIfAbsent(fReader.readString(), Integer.valueOf(i));
+		}
+		return ordinals;
+	}
+
+	private TestElement loadElement(TestRoot root, int ordinal) {
+		TestElement element= getLoaded(ordinal);
+		if (element == null) {
+			int parent= fParents[ordinal];
+			TestElement suite= parent == -1 ? root : loadElement(root, parent);
+			if (!(suite instanceof TestSuiteElement))
+				return null;
+			((TestSuiteElement) suite).getChildren(); // loads all children
+			element= getLoaded(ordinal);
+		}
+		return element;
+	}
+
+	private synchronized TestElement getLoaded(int ordinal) {
+		return fLoaded != null ? fLoaded[ordinal] : null;
+	}
+
+	private void readIndex() throws IOException {
+		long size= fChannel.size();
+		fReader.seek(size - 12);
+		long indexOffset= fReader.readLong();
+		if (fReader.readInt() != INDEX_MAGIC)
+			throw new IOException("Missing index: " + fFile); //$NON-NLS-1$
+		fReader.seek(0);
+		if (fReader.readInt() != MAGIC || fReader.readInt() != VERSION)
+			throw new IOException("Not a test run store: " + fFile); //$NON-NLS-1$
+		fReader.seek(indexOffset);
+		if (fReader.readByte() != INDEX)
+			throw new IOException("Corrupt index: " + fFile); //$NON-NLS-1$
+		fCount= fReader.readInt();
+		fParents= new int[fCount];
+		fElementRecords= new long[fCount];
+		fStateRecords= new long[fCount];
+		for (int i= 0; i < fCount; i++) {
+			fParents[i]= fReader.readInt();
+			fElementRecords[i]= fReader.readLong();
+			fStateRecords[i]= fReader.readLong();
+		}
+		fRootState= fReader.readLong();
+		fFailures= new int[fReader.readInt()];
+		for (int i= 0; i < fFailures.length; i++) {
+			fFailures[i]= fReader.readInt();
+		}
+	}
+
+	private void loadChildren(TestRunSession session, TestSuiteElement parent, int parentOrdinal) {
+		synchronized (this) {
+			if (fLoaded == null) {
+				// store has been closed, the children are lost
+				fLoadFailed= true;
+				return;
+			}
+			try {
+				for (int child= fFirstChildren[parentOrdinal + 1]; child != -1; child= fNextSiblings[child]) {
+					fLoaded[child]= readElement(session, parent, child);
+				}
+			} catch (IOException e) {
+				fLoadFailed= true;
+				failed(e);
+			}
+		}
+	}
+
+	private TestElement readElement(TestRunSession session, TestSuiteElement parent, int ordinal) throws IOException {
+		RecordReader reader= fReader;
+		reader.seek(fElementRecords[ordinal]);
+		if (reader.readByte() != ELEMENT)
+			throw new IOException("Corrupt element record: " + fFile); //$NON-NLS-1$
+		reader.readInt(); // parent
+		String id= reader.readString();
+		String name= reader.readString();
+		String displayName= reader.readString();
+		boolean isSuite= reader.readBoolean();
+		boolean isDynamic= reader.readBoolean();
+		String[] parameterTypes= null;
+		int parameterCount= reader.readInt();
+		if (parameterCount >= 0) {
+			parameterTypes= new String[parameterCount];
+			for (int i= 0; i < parameterCount; i++) {
+				parameterTypes[i]= reader.readString();
+			}
+		}
+		String uniqueId= reader.readString();
+
+		TestElement element;
+		if (isSuite) {
+			int childCount= 0;
+			for (int child= fFirstChildren[ordinal + 1]; child != -1; child= fNextSiblings[child]) {
+				childCount++;
+			}
+			TestSuiteElement suite= new TestSuiteElement(parent, id, name, childCount, displayName, parameterTypes, uniqueId);
+			if (childCount > 0)
+				suite.setChildrenLoader(() -> loadChildren(session, suite, ordinal));
+			element= suite;
+		} else {
+			element= new TestCaseElement(parent, id, name, displayName, isDynamic, parameterTypes, uniqueId);
+		}
+		if (fStateRecords[ordinal] >= 0) {
+			reader.seek(fStateRecords[ordinal]);
+			readState(element);
+		}
+		session.elementLoaded(element);
+		return element;
+	}
+
+	private void readState(TestElement element) throws IOException {
+		RecordReader reader= fReader;
+		if (reader.readByte() != STATE)
+			throw new IOException("Corrupt state record: " + fFile); //$NON-NLS-1$
+		reader.readInt(); // element
+		int status= reader.readByte();
+		int childrenStatus= reader.readByte();
+		double time= reader.readDouble();
+		boolean ignored= reader.readBoolean();
+		boolean assumptionFailed= reader.readBoolean();
+		String trace= reader.readString();
+		String expected= reader.readString();
+		String actual= reader.readString();
+
+		element.restoreStatus(STATUSES[status], trace, expected, actual);
+		if (element instanceof TestSuiteElement && childrenStatus != NO_STATUS)
+			((TestSuiteElement) element).restoreChildrenStatus(STATUSES[childrenStatus]);
+		element.setElapsedTimeInSeconds(time);
+		element.setAssumptionFailed(assumptionFailed);
+		if (element instanceof TestCaseElement)
+			((TestCaseElement) element).setIgnored(ignored);
+	}
+
+	private void writeElement(TestElement element) throws IOException {
+		TestSuiteElement parent= element.getParent();
+		Integer parentOrdinal= parent instanceof TestRoot ? null : fOrdinals.get(parent);
+		int ordinal= fCount++;
+		ensureCapacity(fCount);
+		fOrdinals.put(element, Integer.valueOf(ordinal));
+		fParents[ordinal]= parentOrdinal != null ? parentOrdinal.intValue() : -1;
+		fElementRecords[ordinal]= fPositionOut.fPosition;
+		fStateRecords[ordinal]= -1;
+
+		DataOutputStream out= fOut;
+		out.writeByte(ELEMENT);
+		out.writeInt(fParents[ordinal]);
+		writeString(element.getId());
+		writeString(element.getTestName());
+		writeString(element.getDisplayName());
+		out.writeBoolean(element instanceof TestSuiteElement);
+		out.writeBoolean(element instanceof TestCaseElement && ((TestCaseElement) element).isDynamicTest());
+		String[] parameterTypes= element.getParameterTypes();
+		if (parameterTypes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(parameterTypes.length);
+			for (String parameterType : parameterTypes) {
+				writeString(parameterType);
+			}
+		}
+		writeString(element.getUniqueId());
+	}
+
+	private void writeState(TestElement element) throws IOException {
+		Integer ordinal= fOrdinals.get(element);
+		if (ordinal == null)
+			return;
+		fStateRecords[ordinal.intValue()]= fPositionOut.fPosition;
+		writeStateRecord(ordinal.intValue(), element);
+	}
+
+	private void writeStateRecord(int ordinal, TestElement element) throws IOException {
+		DataOutputStream out= fOut;
+		out.writeByte(STATE);
+		out.writeInt(ordinal);
+		if (element instanceof TestSuiteElement) {
+			TestSuiteElement suite= (TestSuiteElement) element;
+			out.writeByte(suite.getSuiteStatus().getOldCode());
+			Status childrenStatus= suite.getChildrenStatus();
+			out.writeByte(childrenStatus != null ? childrenStatus.getOldCode() : NO_STATUS);
+		} else {
+			out.writeByte(element.getStatus().getOldCode());
+			out.writeByte(NO_STATUS);
+		}
+		out.writeDouble(element.fTime);
+		out.writeBoolean(element instanceof TestCaseElement && ((TestCaseElement) element).isIgnored());
+		out.writeBoolean(element.isAssumptionFailure());
+		writeString(element.getTrace());
+		writeString(element.getExpected());
+		writeString(element.getActual());
+	}
+
+	private void writeString(String s) throws IOException {
+		if (s == null) {
+			fOut.writeInt(-1);
+		} else {
+			byte[] bytes= s.getBytes(StandardCharsets.UTF_8);
+			fOut.writeInt(bytes.length);
+			fOut.write(bytes);
+		}
+	}
+
+	private void ensureCapacity(int count) {
+		if (count > fParents.length) {
+			int capacity= Math.max(count, 2 * fParents.length);
+			fParents= Arrays.copyOf(fParents, capacity);
+			fElementRecords= Arrays.copyOf(fElementRecords, capacity);
+			fStateRecords= Arrays.copyOf(fStateRecords, capacity);
+		}
+	}
+
+	private void failed(IOException e) {
+		if (fOut != null) {
+			try {
+				fOut.close();
+			} catch (IOException e1) {
+				// already failed
+			}
+			fOut= null;
+		}
+		fComplete= false;
+		fOrdinals= null;
+		JUnitCorePlugin.log(e);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,11 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	private List<TestElement> fChildren;
 	private Status fChildrenStatus;
+	/**
+	 * Loads the children of a suite from a {@link TestRunSessionStore}, or <code>null</code> if
+	 * the children are available.
+	 */
+	private volatile Runnable fChildrenLoader;
 
 	public TestSuiteElement(TestSuiteElement parent, String id, String testName, int childrenCount, String displayName, String[] parameterTypes, String uniqueId) {
 		super(parent, id, testName, displayName, parameterTypes, uniqueId);
@@ -47,6 +52,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public ITestElement[] getChildren() {
+		loadChildren();
 		return fChildren.toArray(new ITestElement[fChildren.size()]);
 	}
 
@@ -55,9 +61,26 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	public void removeChild(TestElement child) {
+		loadChildren();
 		fChildren.remove(child);
 	}
 
+	void setChildrenLoader(Runnable loader) {
+		fChildrenLoader= loader;
+	}
+
+	private void loadChildren() {
+		if (fChildrenLoader == null)
+			return;
+		synchronized (this) {
+			Runnable loader= fChildrenLoader;
+			if (loader != null) {
+				fChildrenLoader= null;
+				loader.run();
+			}
+		}
+	}
+
 	@Override
 	public Status getStatus() {
 		Status suiteStatus= getSuiteStatus();
@@ -70,6 +93,7 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	private Status getCumulatedStatus() {
+		loadChildren();
 		TestElement[] children= fChildren.toArray(new TestElement[fChildren.size()]); // copy list to avoid concurreny problems
 		if (children.length == 0)
 			return getSuiteStatus();
@@ -90,7 +114,20 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return super.getStatus();
 	}
 
+	/**
+	 * @return the combined status of the children, or <code>null</code> if no child has changed
+	 *         its status yet
+	 */
+	Status getChildrenStatus() {
+		return fChildrenStatus;
+	}
+
+	void restoreChildrenStatus(Status status) {
+		fChildrenStatus= status;
+	}
+
 	public void childChangedStatus(TestElement child, Status childStatus) {
+		loadChildren();
 		int childCount= fChildren.size();
 		if (child == fChildren.get(0) && childStatus.isRunning()) {
 			// is first child, and is running -> copy status
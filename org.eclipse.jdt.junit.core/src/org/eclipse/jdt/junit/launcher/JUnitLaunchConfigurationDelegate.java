@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,6 +99,10 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
+	private static final String REMOTE_TEST_RUNNER= "org.eclipse.jdt.internal.junit.runner.RemoteTestRunner"; //$NON-NLS-1$
+
+	private static final boolean USE_BINARY_PROTOCOL= Boolean.parseBoolean(System.getProperty("jdt.junit.binaryProtocol", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	@Override
 	public String showCommandLine(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		if (monitor == null) {
@@ -348,9 +352,29 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return testKind;
 	}
 
+	/**
+	 * Tells whether the binary protocol should be requested from the test runner. It is only
+	 * requested from the RemoteTestRunner of the test kinds contributed by JDT, since other
+	 * runners may not know the argument. The binary protocol can be disabled with the system
+	 * property <code>jdt.junit.binaryProtocol=false</code>.
+	 *
+	 * @param configuration the launch configuration
+	 * @param testRunnerKind the test kind
+	 * @return <code>true</code> if the binary protocol should be requested
+	 * @throws CoreException if the main type cannot be determined
+	 */
+	private boolean useBinaryProtocol(ILaunchConfiguration configuration, ITestKind testRunnerKind) throws CoreException {
+		if (!USE_BINARY_PROTOCOL)
+			return false;
+		String kindId= testRunnerKind.getId();
+		if (!TestKindRegistry.JUNIT3_TEST_KIND_ID.equals(kindId) && !TestKindRegistry.JUNIT4_TEST_KIND_ID.equals(kindId) && !TestKindRegistry.JUNIT5_TEST_KIND_ID.equals(kindId))
+			return false;
+		return REMOTE_TEST_RUNNER.equals(verifyMainTypeName(configuration));
+	}
+
 	@Override
 	public String verifyMainTypeName(ILaunchConfiguration configuration) throws CoreException {
-		return "org.eclipse.jdt.internal.junit.runner.RemoteTestRunner"; //$NON-NLS-1$
+		return REMOTE_TEST_RUNNER;
 	}
 
 	/**
@@ -444,6 +468,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 		ITestKind testRunnerKind= getTestRunnerKind(configuration);
 
+		if (useBinaryProtocol(configuration, testRunnerKind))
+			programArguments.add("-binaryprotocol"); //$NON-NLS-1$
+
 		programArguments.add("-testLoaderClass"); //$NON-NLS-1$
 		programArguments.add(testRunnerKind.getLoaderClassName());
 		programArguments.add("-loaderpluginname"); //$NON-NLS-1$
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends the messages of the RemoteTestRunner using the binary protocol.
+ * <p>
+ * The binary protocol is used instead of the line based text protocol if the client answers a
+ * {@link MessageIds#PROTOCOL_REQUEST} with a {@link MessageIds#PROTOCOL_RESPONSE} for the
+ * {@link #PROTOCOL_VERSION} in time. The runner then sends a {@link MessageIds#PROTOCOL_SWITCH} as
+ * the last message of the text protocol. The messages are the same as in the text protocol, but
+ * they are sent in frames:
+ * </p>
+ *
+ * <pre>
+ * frame:   int length, record*
+ * record:  byte message id, int length, byte[] UTF-8 encoded argument
+ * </pre>
+ *
+ * The message id is the index of the message header in {@link #MESSAGE_IDS} plus one, or
+ * <code>0</code> for lines without a header, like the lines of a trace. Line breaks inside a
+ * message are sent as they are.
+ * <p>
+ * Messages are collected in a frame until the frame is full, a message that ends a test run is
+ * sent, or the flush interval has elapsed since the last frame was sent. Calls to {@link #flush()}
+ * in between are coalesced.
+ * </p>
+ */
+public class BinaryMessageSender implements MessageSender {
+
+	/**
+	 * The version of the binary protocol
+	 */
+	public static final String PROTOCOL_VERSION= "binary1"; //$NON-NLS-1$
+
+	/**
+	 * The message headers that are sent as message ids, the id of a header is its index plus one
+	 */
+	public static final String[] MESSAGE_IDS= {
+			MessageIds.TRACE_START, MessageIds.TRACE_END,
+			MessageIds.EXPECTED_START, MessageIds.EXPECTED_END,
+			MessageIds.ACTUAL_START, MessageIds.ACTUAL_END,
+			MessageIds.RTRACE_START, MessageIds.RTRACE_END,
+			MessageIds.TEST_RUN_START, MessageIds.TEST_START, MessageIds.TEST_END,
+			MessageIds.TEST_ERROR, MessageIds.TEST_FAILED,
+			MessageIds.TEST_RUN_END, MessageIds.TEST_STOPPED, MessageIds.TEST_RERAN,
+			MessageIds.TEST_TREE };
+
+	/**
+	 * Maximal time in milliseconds a message is held back
+	 */
+	private static final int FLUSH_INTERVAL= 50;
+
+	/**
+	 * Size in bytes after which a frame is sent
+	 */
+	private static final int MAX_FRAME_SIZE= 64 * 1024;
+
+	private static final Map<String, Integer> fgIds= new HashMap<>();
+
+	static {
+		for (int i= 0; i < MESSAGE_IDS.length; i++) {
+			fgIds.put(MESSAGE_IDS[i], Integer.valueOf(i + 1));
+		}
+	}
+
+	private final DataOutputStream fOut;
+
+	private final ByteArrayOutputStream fFrame= new ByteArrayOutputStream(8192);
+
+	private final DataOutputStream fFrameOut= new DataOutputStream(fFrame);
+
+	private long fLastFrameTime;
+
+	private boolean fClosed;
+
+	/**
+	 * Creates a sender that writes to the given stream and starts the thread that sends pending
+	 * messages after the flush interval.
+	 *
+	 * @param out the stream to write to
+	 */
+	public BinaryMessageSender(OutputStream out) {
+		fOut= new DataOutputStream(new BufferedOutputStream(out, MAX_FRAME_SIZE + 4));
+		Thread flusher= new Thread("MessageFlusher") { //$NON-NLS-1$
+			@Override
+			public void run() {
+				synchronized (BinaryMessageSender.this) {
+					while (!fClosed) {
+						try {
+							BinaryMessageSender.this.wait(FLUSH_INTERVAL);
+						} catch (InterruptedException e) {
+							return;
+						}
+						sendFrame();
+					}
+				}
+			}
+		};
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	@Override
+	public synchronized void sendMessage(String msg) {
+		if (fClosed)
+			return;
+		String message= String.valueOf(msg);
+		Integer id= message.length() >= MessageIds.MSG_HEADER_LENGTH ? fgIds.get(message.substring(0, MessageIds.MSG_HEADER_LENGTH)) : null;
+		String argument= id != null ? message.substring(MessageIds.MSG_HEADER_LENGTH) : message;
+		byte[] bytes= argument.getBytes(StandardCharsets.UTF_8);
+		try {
+			fFrameOut.writeByte(id != null ? id.intValue() : 0);
+			fFrameOut.writeInt(bytes.length);
+			fFrameOut.write(bytes);
+		} catch (IOException e) {
+			// cannot happen, writes to memory
+		}
+		if (fFrame.size() >= MAX_FRAME_SIZE || isEndOfRun(message))
+			sendFrame();
+	}
+
+	@Override
+	public synchronized void flush() {
+		if (System.currentTimeMillis() - fLastFrameTime >= FLUSH_INTERVAL)
+			sendFrame();
+	}
+
+	/**
+	 * Sends the pending messages and stops the sender. The underlying stream is not closed.
+	 */
+	public synchronized void close() {
+		sendFrame();
+		fClosed= true;
+		notifyAll();
+	}
+
+	private static boolean isEndOfRun(String message) {
+		return message.startsWith(MessageIds.TEST_RUN_END) || message.startsWith(MessageIds.TEST_STOPPED) || message.startsWith(MessageIds.TEST_RERAN);
+	}
+
+	private void sendFrame() {
+		if (fFrame.size() == 0)
+			return;
+		try {
+			fOut.writeInt(fFrame.size());
+			fFrame.writeTo(fOut);
+			fOut.flush();
+		} catch (IOException e) {
+			// like the PrintWriter of the text protocol, ignore a broken connection
+		}
+		fFrame.reset();
+		fLastFrameTime= System.currentTimeMillis();
+	}
+}
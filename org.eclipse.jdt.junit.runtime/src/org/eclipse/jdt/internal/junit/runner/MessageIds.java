@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,32 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Request to use another protocol for the messages that follow.
+	 * PROTOCOL_REQUEST + protocolVersion <br>
+	 * The runner continues with the requested protocol only if the client answers with
+	 * PROTOCOL_RESPONSE + protocolVersion in time, and it confirms the switch with
+	 * PROTOCOL_SWITCH + protocolVersion, see BinaryMessageSender.
+	 */
+	public static final String PROTOCOL_REQUEST= "%PROTOCL"; //$NON-NLS-1$
+	/**
+	 * Answer to a PROTOCOL_REQUEST.
+	 * PROTOCOL_RESPONSE + protocolVersion <br>
+	 * protocolVersion = the requested version if it is accepted, otherwise TEXT_PROTOCOL
+	 */
+	public static final String PROTOCOL_RESPONSE= ">PROTOCL"; //$NON-NLS-1$
+	/**
+	 * The last message of the text protocol, the messages that follow use the given protocol.
+	 * PROTOCOL_SWITCH + protocolVersion <br>
+	 * Sent by the runner once it has received the PROTOCOL_RESPONSE that accepts the protocol. If
+	 * the response arrives too late, the runner does not switch and keeps the text protocol.
+	 */
+	public static final String PROTOCOL_SWITCH= "%PROTOSW"; //$NON-NLS-1$
+	/**
+	 * The version of the line based text protocol.
+	 */
+	public static final String TEXT_PROTOCOL= "text"; //$NON-NLS-1$
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
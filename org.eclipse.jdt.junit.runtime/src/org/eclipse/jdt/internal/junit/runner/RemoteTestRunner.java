@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.util.Vector;
 
 import org.eclipse.jdt.internal.junit.runner.junit3.JUnit3TestLoader;
@@ -56,6 +57,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	public static final String RERAN_OK = "OK"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds to wait for the answer to a protocol request
+	 */
+	private static final int PROTOCOL_TIMEOUT= 5000;
+
 	/**
 	 * The name of the test classes to be executed
 	 */
@@ -136,6 +142,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private boolean fConsoleMode = false;
 
+	/**
+	 * Should the binary protocol be requested from the client?
+	 */
+	private boolean fRequestBinaryProtocol= false;
+	/**
+	 * Sender for the binary protocol, <code>null</code> if the text protocol is used
+	 */
+	private BinaryMessageSender fBinarySender;
+
 	/**
 	 * Reader thread that processes messages from the client.
 	 */
@@ -201,6 +216,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: request the binary protocol from the client
      * </pre>
      */
 	public static void main(String[] args) {
@@ -300,6 +316,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fRequestBinaryProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -657,6 +676,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
                 } catch (UnsupportedEncodingException e1) {
                     fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream()));
                 }
+				if (fRequestBinaryProtocol)
+					negotiateProtocol();
 				fReaderThread= new ReaderThread();
 				fReaderThread.start();
 				return true;
@@ -672,10 +693,45 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		return false;
 	}
 
+	/**
+	 * Requests the binary protocol from the client and switches to it if the client accepts it.
+	 * Clients that don't know the binary protocol ignore the request, in which case the text
+	 * protocol is used after a timeout. The switch is confirmed with a last text message, so that
+	 * a client whose answer arrives after the timeout keeps reading the text protocol.
+	 */
+	private void negotiateProtocol() {
+		fWriter.println(MessageIds.PROTOCOL_REQUEST + BinaryMessageSender.PROTOCOL_VERSION);
+		fWriter.flush();
+		try {
+			fClientSocket.setSoTimeout(PROTOCOL_TIMEOUT);
+			try {
+				String answer= fReader.readLine();
+				if ((MessageIds.PROTOCOL_RESPONSE + BinaryMessageSender.PROTOCOL_VERSION).equals(answer)) {
+					fWriter.println(MessageIds.PROTOCOL_SWITCH + BinaryMessageSender.PROTOCOL_VERSION);
+					fWriter.flush();
+					fBinarySender= new BinaryMessageSender(fClientSocket.getOutputStream());
+				}
+			} finally {
+				fClientSocket.setSoTimeout(0);
+			}
+		} catch (SocketTimeoutException e) {
+			// no answer, keep the text protocol
+		} catch (IOException e) {
+			if (fDebugMode)
+				e.printStackTrace();
+		}
+		if (fDebugMode)
+			System.out.println("RemoteTestRunner: using " + (fBinarySender != null ? BinaryMessageSender.PROTOCOL_VERSION : MessageIds.TEXT_PROTOCOL) + " protocol"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
 	/**
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinarySender != null) {
+			fBinarySender.close();
+			fBinarySender= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -709,6 +765,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinarySender != null) {
+			fBinarySender.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -749,6 +809,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinarySender != null) {
+			fBinarySender.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Checks that the positions of an incremental reconcile after an edit are the same as the
+ * positions of a full reconcile.
+ */
+public class IncrementalSemanticHighlightingTest extends AbstractSemanticHighlightingTest {
+
+	@Rule
+	public SemanticHighlightingTestSetup shts= new SemanticHighlightingTestSetup("/SHTest/src/SHTest.java");
+
+	@Test
+	public void editInMethodBody() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE);
+		IDocument document= getDocument();
+		// before "local++;" in method(int)
+		Position inserted= createPosition(9, 2, 0);
+		document.replace(inserted.getOffset(), 0, "int added= local;\n\t\t");
+		joinReconciler();
+
+		Position[] incremental= getSemanticHighlightingPositions();
+		assertTrue(contains(incremental, createPosition(9, 6, 5)));
+		assertTrue(contains(incremental, createPosition(9, 13, 5)));
+
+		forceReconcile();
+		assertEqualPositions(getSemanticHighlightingPositions(), incremental);
+	}
+
+	@Test
+	public void editInMultipleMethodBodies() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE);
+		IDocument document= getDocument();
+		// in deprecatedMethod() and in method(int)
+		Position second= createPosition(25, 2, 0);
+		document.replace(second.getOffset(), 0, "int other= 1;\n\t\t");
+		Position first= createPosition(9, 2, 0);
+		document.replace(first.getOffset(), 0, "int added= local;\n\t\t");
+		joinReconciler();
+
+		Position[] incremental= getSemanticHighlightingPositions();
+		assertTrue(contains(incremental, createPosition(9, 6, 5)));
+		assertTrue(contains(incremental, createPosition(26, 6, 5)));
+
+		forceReconcile();
+		assertEqualPositions(getSemanticHighlightingPositions(), incremental);
+	}
+
+	@Test
+	public void editOfDeclaration() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		IDocument document= getDocument();
+		// rename "field", the references in other members are no longer fields
+		Position name= createPosition(3, 5, 5);
+		document.replace(name.getOffset(), name.getLength(), "renamed");
+		joinReconciler();
+
+		Position[] incremental= getSemanticHighlightingPositions();
+		assertTrue(contains(incremental, createPosition(3, 5, 7)));
+
+		forceReconcile();
+		assertEqualPositions(getSemanticHighlightingPositions(), incremental);
+	}
+
+	private static boolean contains(Position[] positions, Position expected) {
+		for (Position position : positions) {
+			if (!position.isDeleted() && position.getOffset() == expected.getOffset() && position.getLength() == expected.getLength())
+				return true;
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -264,4 +264,12 @@ public class IndentActionTest {
 			project.setOption(DefaultCodeFormatterConstants.FORMATTER_INDENT_SWITCHSTATEMENTS_COMPARE_TO_SWITCH, value);
 		}
 	}
+
+	@Test
+	public void testSelectionEndsInComment() throws Exception {
+		// more than 50 lines are indented on a snapshot of the document
+		int end= fDocument.get().indexOf("the selection ends");
+		fSourceViewer.setSelectedRange(0, end);
+		assertIndentResult();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@
 package org.eclipse.jdt.text.tests;
 
 import org.eclipse.jdt.text.tests.codemining.CodeMiningTriggerTest;
+import org.eclipse.jdt.text.tests.codemining.JavaReferenceCounterTest;
 import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
+import org.eclipse.jdt.text.tests.spelling.CompiledSpellDictionaryTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 import org.junit.runner.RunWith;
@@ -57,8 +59,10 @@ import org.junit.runners.Suite;
 //			});
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	CompiledSpellDictionaryTest.class,
 	SemanticHighlightingTest.class,
 	AutoboxingSemanticHighlightingTest.class,
+	IncrementalSemanticHighlightingTest.class,
 	NewForLoopJavaContextTest.class,
 	IteratorForLoopJavaContextTest.class,
 	ArrayWithTempVarForLoopJavaContextTest.class,
@@ -73,6 +77,7 @@ import org.junit.runners.Suite;
 	JavaElementPrefixPatternMatcherTest.class,
 	CodeMiningTriggerTest.class,
 	ParameterNamesCodeMiningTest.class,
+	JavaReferenceCounterTest.class,
 })
 public class JdtTextTestSuite {
 }
\ No newline at end of file
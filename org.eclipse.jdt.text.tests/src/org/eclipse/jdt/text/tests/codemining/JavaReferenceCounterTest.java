@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaReferenceCounter;
+
+public class JavaReferenceCounterTest {
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar17(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src");
+		fPackage= root.createPackageFragment("p", true, null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void testBatchedCountsMatchSingleSearches() throws Exception {
+		String a= "package p;\n" +
+				"public class A {\n" +
+				"	public int count;\n" +
+				"	public static final String NAME= \"a\";\n" +
+				"	public A() {}\n" +
+				"	public A(int count) { this.count= count; }\n" +
+				"	public void run() { run(1); }\n" +
+				"	public void run(int times) { count+= times; }\n" +
+				"	public int size() { return count; }\n" +
+				"	public class Inner {}\n" +
+				"}\n";
+		String b= "package p;\n" +
+				"public class B extends A {\n" +
+				"	A.Inner inner;\n" +
+				"	B() { super(size()); }\n" +
+				"	int use(A a) {\n" +
+				"		a.run();\n" +
+				"		a.run(a.size());\n" +
+				"		String n= A.NAME + NAME;\n" +
+				"		return a.count + size() + count + n.length();\n" +
+				"	}\n" +
+				"}\n";
+		ICompilationUnit unit= fPackage.createCompilationUnit("A.java", a, true, null);
+		fPackage.createCompilationUnit("B.java", b, true, null);
+
+		List<IJavaElement> members= new ArrayList<>();
+		collectMembers(unit.getTypes(), members);
+
+		JavaReferenceCounter counter= new JavaReferenceCounter(new NullProgressMonitor());
+		for (IJavaElement member : members) {
+			counter.add(member);
+		}
+		for (IJavaElement member : members) {
+			long count= counter.getCount(member).get(30, TimeUnit.SECONDS).longValue();
+			assertEquals(member.getElementName(), countReferences(member), count);
+		}
+	}
+
+	@Test
+	public void testCachedCountsFollowChangedUnits() throws Exception {
+		ICompilationUnit unit= fPackage.createCompilationUnit("A.java", "package p;\npublic class A {\n	public void foo() {}\n	public void bar() {}\n}\n", true, null);
+		ICompilationUnit b= fPackage.createCompilationUnit("B.java", "package p;\nclass B {\n	void use(A a) { a.foo(); a.bar(); }\n}\n", true, null);
+		IType type= unit.getType("A");
+		IJavaElement foo= type.getMethod("foo", new String[0]);
+		IJavaElement bar= type.getMethod("bar", new String[0]);
+		assertEquals(1, count(foo));
+		assertEquals(1, count(bar));
+
+		// a new unit references foo
+		fPackage.createCompilationUnit("C.java", "package p;\nclass C {\n	void use(A a) { a.foo(); }\n}\n", true, null);
+		assertEquals(2, count(foo));
+		assertEquals(1, count(bar));
+
+		// the unit with the reference to bar is removed
+		b.delete(true, null);
+		assertEquals(1, count(foo));
+		assertEquals(0, count(bar));
+	}
+
+	private static long count(IJavaElement element) throws Exception {
+		JavaReferenceCounter counter= new JavaReferenceCounter(new NullProgressMonitor());
+		counter.add(element);
+		return counter.getCount(element).get(30, TimeUnit.SECONDS).longValue();
+	}
+
+	private static void collectMembers(IType[] types, List<IJavaElement> members) throws CoreException {
+		for (IType type : types) {
+			members.add(type);
+			for (IJavaElement child : type.getChildren()) {
+				if (child.getElementType() == IJavaElement.FIELD || child.getElementType() == IJavaElement.METHOD) {
+					members.add(child);
+				}
+			}
+			collectMembers(type.getTypes(), members);
+		}
+	}
+
+	private static long countReferences(IJavaElement element) throws CoreException {
+		AtomicLong count= new AtomicLong();
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				SearchEngine.createWorkspaceScope(), new SearchRequestor() {
+					@Override
+					public void acceptSearchMatch(SearchMatch match) {
+						if (match.getElement() instanceof IJavaElement
+								&& ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT) != null) {
+							count.incrementAndGet();
+						}
+					}
+				}, null);
+		return count.get();
+	}
+}
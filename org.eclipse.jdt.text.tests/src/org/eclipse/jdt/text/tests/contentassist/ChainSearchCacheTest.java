@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.AST;
+
+import org.eclipse.jdt.internal.ui.text.ChainSearchCache;
+
+/**
+ * Tests the reuse and the invalidation of the caches of the chain completion.
+ */
+public class ChainSearchCacheTest {
+
+	private static final String BODY= "        return 1;\n";
+
+	private IJavaProject fJProject;
+
+	private IJavaProject fRequiringProject;
+
+	private IPackageFragment fPack;
+
+	private final AtomicInteger fComputations= new AtomicInteger();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(fJProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject, "src");
+		fPack= root.createPackageFragment("test", false, null);
+		fRequiringProject= JavaProjectHelper.createJavaProject("RequiringProject", "bin");
+		JavaProjectHelper.addRTJar18(fRequiringProject);
+		JavaProjectHelper.addRequiredProject(fRequiringProject, fJProject);
+		ChainSearchCache.disposeAll();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ChainSearchCache.disposeAll();
+		JavaProjectHelper.delete(fRequiringProject);
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	private Boolean compute(String key) {
+		fComputations.incrementAndGet();
+		return Boolean.TRUE;
+	}
+
+	private ICompilationUnit createUnit(String name) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n");
+		buf.append("public class " + name + " {\n");
+		buf.append("    public int get() {\n");
+		buf.append(BODY);
+		buf.append("    }\n");
+		buf.append("}\n");
+		return fPack.createCompilationUnit(name + ".java", buf.toString(), false, null);
+	}
+
+	@Test
+	public void testResultsAreReused() throws Exception {
+		ChainSearchCache cache= ChainSearchCache.forProject(fJProject);
+		assertSame(cache, ChainSearchCache.forProject(fJProject));
+
+		cache.isAssignable("a", this::compute);
+		cache.isAssignable("a", this::compute);
+		cache.isAssignable("b", this::compute);
+		assertEquals(2, fComputations.get());
+
+		cache.getFieldsAndMethods("a", key -> {
+			fComputations.incrementAndGet();
+			return Collections.emptyList();
+		});
+		cache.getFieldsAndMethods("a", key -> {
+			fComputations.incrementAndGet();
+			return Collections.emptyList();
+		});
+		assertEquals(3, fComputations.get());
+	}
+
+	@Test
+	public void testNullProjectIsNotShared() throws Exception {
+		assertNotSame(ChainSearchCache.forProject(null), ChainSearchCache.forProject(null));
+	}
+
+	@Test
+	public void testFullCacheIsCleared() throws Exception {
+		ChainSearchCache cache= ChainSearchCache.forProject(fJProject);
+		int maxEntries= 20000;
+		for (int i= 0; i < maxEntries; i++) {
+			cache.isAssignable(String.valueOf(i), this::compute);
+		}
+		cache.isAssignable("0", this::compute);
+		assertEquals(maxEntries, fComputations.get());
+
+		// adding one more entry discards the others
+		cache.isAssignable("full", this::compute);
+		cache.isAssignable("0", this::compute);
+		assertEquals(maxEntries + 2, fComputations.get());
+	}
+
+	@Test
+	public void testStructuralChangeInvalidates() throws Exception {
+		ChainSearchCache cache= ChainSearchCache.forProject(fJProject);
+		ChainSearchCache requiringCache= ChainSearchCache.forProject(fRequiringProject);
+		cache.isAssignable("a", this::compute);
+
+		createUnit("A");
+
+		ChainSearchCache newCache= ChainSearchCache.forProject(fJProject);
+		assertNotSame(cache, newCache);
+		assertNotSame(requiringCache, ChainSearchCache.forProject(fRequiringProject));
+		newCache.isAssignable("a", this::compute);
+		assertEquals(2, fComputations.get());
+	}
+
+	@Test
+	public void testChangeInRequiringProjectKeepsRequiredCache() throws Exception {
+		ChainSearchCache cache= ChainSearchCache.forProject(fJProject);
+		ChainSearchCache requiringCache= ChainSearchCache.forProject(fRequiringProject);
+
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fRequiringProject, "src");
+		root.createPackageFragment("other", false, null).createCompilationUnit("B.java", "package other;\npublic class B {}\n", false, null);
+
+		assertSame(cache, ChainSearchCache.forProject(fJProject));
+		assertNotSame(requiringCache, ChainSearchCache.forProject(fRequiringProject));
+	}
+
+	@Test
+	public void testMethodBodyChangeKeepsCache() throws Exception {
+		ICompilationUnit cu= createUnit("A");
+		ICompilationUnit wc= cu.getWorkingCopy(null);
+		try {
+			ChainSearchCache cache= ChainSearchCache.forProject(fJProject);
+			cache.isAssignable("a", this::compute);
+
+			String contents= wc.getBuffer().getContents();
+			int offset= contents.indexOf(BODY);
+			wc.getBuffer().replace(offset, BODY.length(), "        return 2;\n");
+			wc.reconcile(AST.getJLSLatest(), false, null, null);
+
+			assertSame(cache, ChainSearchCache.forProject(fJProject));
+			cache.isAssignable("a", this::compute);
+			assertEquals(1, fComputations.get());
+
+			// a changed signature invalidates
+			contents= wc.getBuffer().getContents();
+			offset= contents.indexOf("int get()");
+			wc.getBuffer().replace(offset, "int get()".length(), "long get()");
+			wc.reconcile(AST.getJLSLatest(), false, null, null);
+			assertNotSame(cache, ChainSearchCache.forProject(fJProject));
+		} finally {
+			wc.discardWorkingCopy();
+		}
+	}
+}
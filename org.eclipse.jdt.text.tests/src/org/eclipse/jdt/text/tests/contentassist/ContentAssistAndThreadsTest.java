@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc., and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc., and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,6 +11,7 @@
 package org.eclipse.jdt.text.tests.contentassist;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -26,6 +27,7 @@ import org.junit.After;
 import org.junit.Test;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
 
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
@@ -37,7 +39,10 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.text.tests.Accessor;
+
 import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
 
 import org.eclipse.ui.texteditor.ContentAssistAction;
 import org.eclipse.ui.texteditor.ITextEditorActionConstants;
@@ -50,15 +55,21 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
+import org.eclipse.jdt.ui.text.java.CompletionProposalCollector;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor;
 import org.eclipse.jdt.internal.ui.text.java.JavaCompletionProcessor;
 
 public class ContentAssistAndThreadsTest extends AbstractCompletionTest {
+	private static final String COMPUTER_TIMEOUT= "jdt.ui.contentAssist.computerTimeout";
+
 	@After
 	public void resetPreference() {
 		JavaPlugin.getDefault().getPreferenceStore().setToDefault(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION);
+		System.clearProperty(COMPUTER_TIMEOUT);
 	}
 
 	@Test
@@ -131,6 +142,66 @@ public class ContentAssistAndThreadsTest extends AbstractCompletionTest {
 		assertTrue("UI was frozen for " + thread.getMaxDuration(), thread.getMaxDuration() < 1000);
 	}
 
+	private static List<String> computeInBackground(JavaCompletionProcessor processor, JavaEditor part) throws InterruptedException {
+		AtomicReference<ICompletionProposal[]> proposals= new AtomicReference<>();
+		Thread thread= new Thread(() -> proposals.set(processor.computeCompletionProposals(part.getViewer(), 0)));
+		thread.start();
+		thread.join();
+		return Arrays.stream(proposals.get()).map(ICompletionProposal::getDisplayString).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testLateComputerIsDropped() throws Exception {
+		// the computers of the JDT bundles that do not use the shared state of the invocation context,
+		// like LongCompletionProposalComputer, run concurrently
+		JavaPlugin.getDefault().getPreferenceStore().setValue(PreferenceConstants.CODEASSIST_NONUITHREAD_COMPUTATION, true);
+		System.setProperty(COMPUTER_TIMEOUT, "100");
+		IJavaProject fJProject1= JavaProjectHelper.createJavaProject("TestProject2", "bin");
+		JavaEditor part= null;
+		try {
+			JavaProjectHelper.addRTJar(fJProject1);
+			IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+			IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+			ICompilationUnit cu= pack1.createCompilationUnit("Blah.java", LongCompletionProposalComputer.CONTENT_TRIGGER_STRING, true, new NullProgressMonitor());
+			part= (JavaEditor) JavaUI.openInEditor(cu);
+			assertTrue(part.getViewer() instanceof JavaSourceViewer && ((JavaSourceViewer) part.getViewer()).isAsyncCompletionActive());
+			ContentAssistant assistant= new ContentAssistant();
+			assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+			JavaCompletionProcessor javaProcessor= new JavaCompletionProcessor(part, assistant, getContentType());
+			Accessor accessor= new Accessor(javaProcessor, ContentAssistProcessor.class);
+			accessor.invoke("setCategoryIteration", new Object[0]);
+			accessor.set("fRepetition", 0);
+
+			// the Java computers run on the calling thread and are never dropped, warm them up
+			cu.codeComplete(0, new CompletionProposalCollector(cu));
+
+			// the proposals of the computer that misses its deadline are dropped
+			int started= LongCompletionProposalComputer.STARTED.get();
+			assertFalse(computeInBackground(javaProcessor, part).contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+			assertEquals(started + 1, LongCompletionProposalComputer.STARTED.get());
+			assertEquals(1, LongCompletionProposalComputer.RUNNING.get());
+
+			// the late computer is not started again while it is running
+			assertFalse(computeInBackground(javaProcessor, part).contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+			assertEquals(started + 1, LongCompletionProposalComputer.STARTED.get());
+
+			// once it has completed, it contributes again if it completes in time
+			System.setProperty(COMPUTER_TIMEOUT, "5000");
+			for (int i= 0; i < 100 && LongCompletionProposalComputer.RUNNING.get() > 0; i++) {
+				Thread.sleep(50);
+			}
+			List<String> proposals= Collections.emptyList();
+			for (int i= 0; i < 10 && !proposals.contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING); i++) {
+				proposals= computeInBackground(javaProcessor, part);
+			}
+			assertTrue(proposals.toString(), proposals.contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+		} finally {
+			if (part != null)
+				EditorTestHelper.closeEditor(part);
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
 	private Table findCompletionSelectionControl(Widget control) {
 		if (control instanceof Table) {
 			return (Table)control;
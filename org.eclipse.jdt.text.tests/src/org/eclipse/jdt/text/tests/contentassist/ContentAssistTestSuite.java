@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,6 +41,7 @@ import org.junit.runners.Suite;
 			CodeCompletionTest1d8.class,
 			ContinuousTypingCompletionTest.class,
 			ChainCompletionTest.class,
+			ChainSearchCacheTest.class,
 			PostFixCompletionTest.class
 			//$JUnit-END$
 })
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat Inc., and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc., and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@ package org.eclipse.jdt.text.tests.contentassist;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -28,6 +29,16 @@ public class LongCompletionProposalComputer implements IJavaCompletionProposalCo
 
 	public static final String CONTENT_TRIGGER_STRING = "longCompletion";
 
+	/**
+	 * The number of computations that have been started.
+	 */
+	public static final AtomicInteger STARTED = new AtomicInteger();
+
+	/**
+	 * The number of computations that are running.
+	 */
+	public static final AtomicInteger RUNNING = new AtomicInteger();
+
 	@Override
 	public void sessionStarted() {
 	}
@@ -35,10 +46,14 @@ public class LongCompletionProposalComputer implements IJavaCompletionProposalCo
 	@Override
 	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
 		if (context.getDocument().get().contains(CONTENT_TRIGGER_STRING)) {
+			STARTED.incrementAndGet();
+			RUNNING.incrementAndGet();
 			try {
 				Thread.sleep(1000);
 			} catch (InterruptedException e) {
 				JavaPlugin.log(e);
+			} finally {
+				RUNNING.decrementAndGet();
 			}
 			return Collections.singletonList(new CompletionProposal(CONTENT_TRIGGER_STRING, 0, 0, 0, null, CONTENT_TRIGGER_STRING, null, null));
 		}
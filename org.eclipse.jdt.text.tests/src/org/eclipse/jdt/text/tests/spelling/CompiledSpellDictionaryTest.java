@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompiledSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticHashProvider;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.IPhoneticHashProvider;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.LocaleSensitiveSpellDictionary;
+
+public class CompiledSpellDictionaryTest {
+
+	private static final Locale LOCALE= new Locale("xx", "YY"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final class InitialHashProvider implements IPhoneticHashProvider {
+
+		@Override
+		public String getHash(String word) {
+			return word.substring(0, 1);
+		}
+
+		@Override
+		public char[] getMutators() {
+			return new char[0];
+		}
+	}
+
+	private final IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
+
+	private File fDirectory;
+
+	@Before
+	public void setUp() throws IOException {
+		fDirectory= Files.createTempDirectory("dictionaries").toFile(); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : fDirectory.listFiles()) {
+			file.delete();
+		}
+		fDirectory.delete();
+	}
+
+	private static File getCacheFile() {
+		String encoding= JavaPlugin.getDefault().getPreferenceStore().getString(PreferenceConstants.SPELLING_USER_DICTIONARY_ENCODING);
+		if (encoding == null || encoding.isEmpty())
+			encoding= ResourcesPlugin.getEncoding();
+		return JavaPlugin.getDefault().getStateLocation().append("dictionaries").append(LOCALE.toString() + '_' + encoding + CompiledSpellDictionary.FILE_EXTENSION).toFile(); //$NON-NLS-1$
+	}
+
+	private CompiledSpellDictionary compile(String words) throws IOException {
+		File target= new File(fDirectory, "test" + CompiledSpellDictionary.FILE_EXTENSION); //$NON-NLS-1$
+		CompiledSpellDictionary.compile(new BufferedReader(new StringReader(words)), fHashProvider, 42, target);
+		return CompiledSpellDictionary.open(target);
+	}
+
+	private byte[] hash(String word) {
+		return fHashProvider.getHash(word).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testCompileAndLookup() throws IOException {
+		CompiledSpellDictionary dictionary= compile("truck\nlorry\nglobal\n"); //$NON-NLS-1$
+		try {
+			assertEquals(42, dictionary.getSourceStamp());
+			assertArrayEquals("truck".getBytes(StandardCharsets.UTF_8), (byte[]) dictionary.getCandidates(hash("truck"))); //$NON-NLS-1$ //$NON-NLS-2$
+			assertArrayEquals("global".getBytes(StandardCharsets.UTF_8), (byte[]) dictionary.getCandidates(hash("global"))); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNull(dictionary.getCandidates(hash("sentence"))); //$NON-NLS-1$
+		} finally {
+			dictionary.close();
+		}
+	}
+
+	@Test
+	public void testWordsWithSameHash() throws IOException {
+		File target= new File(fDirectory, "initials" + CompiledSpellDictionary.FILE_EXTENSION); //$NON-NLS-1$
+		CompiledSpellDictionary.compile(new BufferedReader(new StringReader("truck\nlorry\ntrain\n")), new InitialHashProvider(), 42, target); //$NON-NLS-1$
+		CompiledSpellDictionary dictionary= CompiledSpellDictionary.open(target);
+		try {
+			@SuppressWarnings("unchecked")
+			List<byte[]> words= (List<byte[]>) dictionary.getCandidates(new byte[] { 't' });
+			assertEquals(2, words.size());
+			assertArrayEquals("truck".getBytes(StandardCharsets.UTF_8), words.get(0)); //$NON-NLS-1$
+			assertArrayEquals("train".getBytes(StandardCharsets.UTF_8), words.get(1)); //$NON-NLS-1$
+			assertArrayEquals("lorry".getBytes(StandardCharsets.UTF_8), (byte[]) dictionary.getCandidates(new byte[] { 'l' })); //$NON-NLS-1$
+		} finally {
+			dictionary.close();
+		}
+	}
+
+	@Test
+	public void testClosedDictionaryHasNoCandidates() throws IOException {
+		CompiledSpellDictionary dictionary= compile("truck\n"); //$NON-NLS-1$
+		dictionary.close();
+		assertNull(dictionary.getCandidates(hash("truck"))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSourceStamp() {
+		long stamp= CompiledSpellDictionary.computeSourceStamp(1000, 2000, "UTF-8", fHashProvider); //$NON-NLS-1$
+		assertTrue(stamp >= 0);
+		assertEquals(stamp, CompiledSpellDictionary.computeSourceStamp(1000, 2000, "UTF-8", new DefaultPhoneticHashProvider())); //$NON-NLS-1$
+		assertNotEquals(stamp, CompiledSpellDictionary.computeSourceStamp(1001, 2000, "UTF-8", fHashProvider)); //$NON-NLS-1$
+		assertNotEquals(stamp, CompiledSpellDictionary.computeSourceStamp(1000, 2001, "UTF-8", fHashProvider)); //$NON-NLS-1$
+		assertNotEquals(stamp, CompiledSpellDictionary.computeSourceStamp(1000, 2000, "ISO-8859-1", fHashProvider)); //$NON-NLS-1$
+		assertNotEquals(stamp, CompiledSpellDictionary.computeSourceStamp(1000, 2000, "UTF-8", new InitialHashProvider())); //$NON-NLS-1$
+		assertEquals(-1, CompiledSpellDictionary.computeSourceStamp(-1, 2000, "UTF-8", fHashProvider)); //$NON-NLS-1$
+		assertEquals(-1, CompiledSpellDictionary.computeSourceStamp(1000, 0, "UTF-8", fHashProvider)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testChangedWordListIsRecompiled() throws IOException {
+		File wordList= new File(fDirectory, LOCALE.toString() + ".dictionary"); //$NON-NLS-1$
+		Files.writeString(wordList.toPath(), "truck\nlorry\n", StandardCharsets.US_ASCII); //$NON-NLS-1$
+		wordList.setLastModified(1_000_000_000_000L);
+
+		LocaleSensitiveSpellDictionary dictionary= new LocaleSensitiveSpellDictionary(LOCALE, fDirectory.toURI().toURL());
+		try {
+			assertTrue(dictionary.isCorrect("truck")); //$NON-NLS-1$
+			assertFalse(dictionary.isCorrect("wagon")); //$NON-NLS-1$
+			assertTrue(getCacheFile().isFile());
+
+			// same length, but a different modification time
+			Files.writeString(wordList.toPath(), "truck\nwagon\n", StandardCharsets.US_ASCII); //$NON-NLS-1$
+			wordList.setLastModified(1_000_000_001_000L);
+			dictionary.unload();
+
+			assertTrue(dictionary.isCorrect("truck")); //$NON-NLS-1$
+			assertTrue(dictionary.isCorrect("wagon")); //$NON-NLS-1$
+			assertFalse(dictionary.isCorrect("lorry")); //$NON-NLS-1$
+		} finally {
+			dictionary.unload();
+			getCacheFile().delete();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package p;
+public class SomeClass {
+	String someDifferentClass;
+
+	public void foo() {
+		SomeClass someClass= this;
+		someDifferentClass= someClass.toString();
+	}
+}
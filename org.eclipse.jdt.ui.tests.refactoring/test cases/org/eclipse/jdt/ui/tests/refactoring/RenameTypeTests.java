@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1926,4 +1926,10 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		// Test references in annotations and type parameters
 		helper3("Try", "Bla", true, false, true);
 	}
+
+	@Test
+	public void testSimilarElements35() throws Exception {
+		// Renamed local variable shadows a field that is used in its scope
+		helper3_fail("SomeClass", "SomeDifferentClass", true, false, true);
+	}
 }
@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeBitSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariableWorkList;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ImmutableTypeVariable2;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests for {@link TypeBitSet}, the {@link EnumeratedTypeSet}s based on it and the
+ * {@link ConstraintVariableWorkList}.
+ */
+public class TypeBitSetTests {
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private static final int[] BOUNDARY_IDS= { 0, 1, 63, 64, 65, 127, 128, 1000, 100_000, Integer.MAX_VALUE };
+
+	private static TypeBitSet create(int... ids) {
+		TypeBitSet set= new TypeBitSet();
+		for (int id : ids) {
+			set.add(id);
+		}
+		return set;
+	}
+
+	private static TypeBitSet create(BitSet ids) {
+		TypeBitSet set= new TypeBitSet();
+		ids.stream().forEach(set::add);
+		return set;
+	}
+
+	private static void assertSameIds(BitSet expected, TypeBitSet actual, int maxId) {
+		assertEquals(expected.cardinality(), actual.cardinality());
+		assertEquals(expected.isEmpty(), actual.isEmpty());
+		for (int id= 0; id < maxId; id++) {
+			assertEquals(Integer.toString(id), expected.get(id), actual.contains(id));
+		}
+		assertEquals(create(expected), actual);
+		assertEquals(create(expected).hashCode(), actual.hashCode());
+	}
+
+	/**
+	 * Returns a random set of ids, with runs of ids in some words and single ids in others.
+	 */
+	private static BitSet randomIds(Random random, int maxId) {
+		BitSet ids= new BitSet();
+		int count= random.nextInt(40);
+		for (int i= 0; i < count; i++) {
+			int id= random.nextInt(maxId);
+			if (random.nextBoolean()) {
+				ids.set(id, Math.min(maxId, id + random.nextInt(100)));
+			} else {
+				ids.set(id);
+			}
+		}
+		return ids;
+	}
+
+	@Test
+	public void addContainsRemove() {
+		TypeBitSet set= new TypeBitSet();
+		assertTrue(set.isEmpty());
+		for (int id : BOUNDARY_IDS) {
+			assertFalse(set.contains(id));
+			assertTrue(set.add(id));
+			assertFalse(set.add(id));
+			assertTrue(set.contains(id));
+		}
+		assertEquals(BOUNDARY_IDS.length, set.cardinality());
+		assertFalse(set.contains(2));
+		assertFalse(set.contains(62));
+		assertFalse(set.contains(129));
+		assertFalse(set.contains(100_001));
+
+		for (int id : BOUNDARY_IDS) {
+			assertTrue(set.remove(id));
+			assertFalse(set.remove(id));
+			assertFalse(set.contains(id));
+		}
+		assertTrue(set.isEmpty());
+		assertEquals(new TypeBitSet(), set);
+		assertEquals(new TypeBitSet().hashCode(), set.hashCode());
+	}
+
+	@Test
+	public void copyIsIndependent() {
+		TypeBitSet set= create(BOUNDARY_IDS);
+		TypeBitSet copy= new TypeBitSet(set);
+		assertEquals(set, copy);
+		copy.add(2);
+		copy.remove(64);
+		assertTrue(set.contains(64));
+		assertFalse(set.contains(2));
+		assertNotEquals(set, copy);
+
+		copy.clear();
+		assertTrue(copy.isEmpty());
+		assertEquals(BOUNDARY_IDS.length, set.cardinality());
+	}
+
+	@Test
+	public void union() {
+		TypeBitSet set= create(0, 63, 128);
+		assertTrue(set.addAll(create(64, 128, 1000)));
+		assertEquals(create(0, 63, 64, 128, 1000), set);
+		assertFalse(set.addAll(create(63, 1000)));
+		assertFalse(set.addAll(new TypeBitSet()));
+
+		TypeBitSet empty= new TypeBitSet();
+		assertTrue(empty.addAll(set));
+		assertEquals(set, empty);
+	}
+
+	@Test
+	public void intersect() {
+		TypeBitSet set= create(0, 63, 64, 128, 1000);
+		assertTrue(set.retainAll(create(1, 63, 64, 129, 1000)));
+		assertEquals(create(63, 64, 1000), set);
+		assertFalse(set.retainAll(create(63, 64, 1000, 5000)));
+
+		// words that become empty are dropped
+		assertTrue(set.retainAll(create(1000)));
+		assertEquals(create(1000), set);
+		assertTrue(set.retainAll(create(999)));
+		assertTrue(set.isEmpty());
+		assertEquals(new TypeBitSet(), set);
+	}
+
+	@Test
+	public void difference() {
+		TypeBitSet set= create(0, 63, 64, 128, 1000);
+		assertTrue(set.removeAll(create(63, 64, 999)));
+		assertEquals(create(0, 128, 1000), set);
+		assertFalse(set.removeAll(create(1, 65, 2000)));
+		assertTrue(set.removeAll(create(0, 128, 1000)));
+		assertTrue(set.isEmpty());
+	}
+
+	@Test
+	public void containsAll() {
+		TypeBitSet set= create(0, 63, 64, 128, 1000);
+		assertTrue(set.containsAll(new TypeBitSet()));
+		assertTrue(set.containsAll(set));
+		assertTrue(set.containsAll(create(63, 64)));
+		assertTrue(set.containsAll(create(0, 1000)));
+		assertFalse(set.containsAll(create(62, 63)));
+		assertFalse(set.containsAll(create(0, 1001)));
+		assertFalse(set.containsAll(create(2000)));
+		assertFalse(new TypeBitSet().containsAll(create(0)));
+	}
+
+	@Test
+	public void randomOperations() {
+		Random random= new Random(42);
+		int maxId= 700;
+		for (int i= 0; i < 200; i++) {
+			BitSet a= randomIds(random, maxId);
+			BitSet b= randomIds(random, maxId);
+
+			TypeBitSet union= create(a);
+			union.addAll(create(b));
+			BitSet expected= (BitSet) a.clone();
+			expected.or(b);
+			assertSameIds(expected, union, maxId);
+
+			TypeBitSet intersection= create(a);
+			intersection.retainAll(create(b));
+			expected= (BitSet) a.clone();
+			expected.and(b);
+			assertSameIds(expected, intersection, maxId);
+
+			TypeBitSet difference= create(a);
+			difference.removeAll(create(b));
+			expected= (BitSet) a.clone();
+			expected.andNot(b);
+			assertSameIds(expected, difference, maxId);
+
+			assertTrue(union.containsAll(create(a)));
+			assertTrue(create(a).containsAll(intersection));
+			expected= (BitSet) b.clone();
+			expected.andNot(a);
+			assertEquals(expected.isEmpty(), create(a).containsAll(create(b)));
+		}
+	}
+
+	private static List<TType> createArrayTypes(TypeEnvironment environment, int count) {
+		List<TType> types= new ArrayList<>();
+		for (int dimensions= 1; dimensions <= count; dimensions++) {
+			types.add(environment.createArrayType(environment.INT, dimensions));
+		}
+		return types;
+	}
+
+	private static List<TType> toList(EnumeratedTypeSet set) {
+		List<TType> result= new ArrayList<>();
+		for (Iterator<TType> iter= set.iterator(); iter.hasNext();) {
+			result.add(iter.next());
+		}
+		return result;
+	}
+
+	@Test
+	public void enumeratedTypeSetIteration() throws Exception {
+		TypeEnvironment environment= new TypeEnvironment();
+		// the universe of a type set environment is the set of subtypes of java.lang.Object
+		environment.initializeJavaLangObject(rts.getProject());
+		TypeSetEnvironment typeSetEnvironment= new TypeSetEnvironment(environment);
+		List<TType> types= createArrayTypes(environment, 200);
+		assertTrue(environment.getTypeCount() > 3 * 64);
+		Collections.shuffle(types, new Random(7));
+
+		// the iteration order is the insertion order, not the order of the ids
+		EnumeratedTypeSet set= new EnumeratedTypeSet(types.iterator(), typeSetEnvironment);
+		assertEquals(types, toList(set));
+
+		List<TType> expected= new ArrayList<>();
+		for (int i= 0; i < types.size(); i++) {
+			if (i % 3 == 0)
+				assertTrue(set.remove(types.get(i)));
+			else
+				expected.add(types.get(i));
+		}
+		assertEquals(expected, toList(set));
+		assertEquals(expected.size(), set.size());
+
+		// removed types are added at the end again, and only once
+		TType first= types.get(0);
+		assertTrue(set.add(first));
+		assertFalse(set.add(first));
+		expected.add(first);
+		assertEquals(expected, toList(set));
+		assertEquals(expected.size(), set.size());
+		assertEquals(expected, Arrays.asList(set.toArray()));
+
+		EnumeratedTypeSet other= new EnumeratedTypeSet(types.subList(0, 100).iterator(), typeSetEnvironment);
+		EnumeratedTypeSet union= (EnumeratedTypeSet) set.addedTo(other);
+		List<TType> expectedUnion= new ArrayList<>(expected);
+		for (TType type : types.subList(0, 100)) {
+			if (!expectedUnion.contains(type))
+				expectedUnion.add(type);
+		}
+		assertEquals(expectedUnion, toList(union));
+		assertTrue(union.containsAll(set));
+		assertTrue(union.containsAll(other));
+		assertFalse(set.containsAll(other));
+
+		set.intersectWith(other);
+		List<TType> expectedIntersection= new ArrayList<>(expected);
+		expectedIntersection.retainAll(types.subList(0, 100));
+		assertEquals(expectedIntersection, toList(set));
+		assertTrue(other.containsAll(set));
+	}
+
+	@Test
+	public void workListSkipsQueuedVariables() {
+		TypeEnvironment environment= new TypeEnvironment();
+		ConstraintVariable2 a= new ImmutableTypeVariable2(environment.INT);
+		ConstraintVariable2 b= new ImmutableTypeVariable2(environment.CHAR);
+		// equal to a, but a different variable
+		ConstraintVariable2 a2= new ImmutableTypeVariable2(environment.INT);
+
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		assertTrue(workList.isEmpty());
+		assertTrue(workList.add(a));
+		assertTrue(workList.add(b));
+		assertFalse(workList.add(a));
+		workList.addAll(new ConstraintVariable2[] { b, a2, a });
+		workList.addAll(Arrays.asList(a2, b));
+		assertEquals(3, workList.size());
+		assertEquals(3, workList.getAddedCount());
+		assertEquals(5, workList.getDuplicateCount());
+		assertEquals(3, workList.getMaxSize());
+
+		assertSame(a, workList.removeFirst());
+		// a variable can be queued again once it has been removed
+		assertTrue(workList.add(a));
+		assertFalse(workList.add(b));
+		assertSame(b, workList.removeFirst());
+		assertSame(a2, workList.removeFirst());
+		assertSame(a, workList.removeFirst());
+		assertTrue(workList.isEmpty());
+
+		assertEquals(4, workList.getProcessedCount());
+		assertEquals(4, workList.getAddedCount());
+		assertEquals(6, workList.getDuplicateCount());
+		assertEquals(3, workList.getMaxSize());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -617,6 +619,56 @@ public class VisitorTest {
 		hv.build(result2);
 	}
 
+	/**
+	 * Run several visitors in one traversal, each one gets the same callbacks as in a traversal of
+	 * its own.
+	 */
+	@Test
+	public void fusedTest() {
+		List<String> separate1= new ArrayList<>();
+		List<String> separate2= new ArrayList<>();
+		createTracingVisitor(separate1, VisitorEnum.EnhancedForStatement).build(result);
+		createTracingVisitor(separate2, VisitorEnum.ExpressionStatement).build(result);
+
+		List<String> fused1= new ArrayList<>();
+		List<String> fused2= new ArrayList<>();
+		HelperVisitor.buildAll(result, createTracingVisitor(fused1, VisitorEnum.EnhancedForStatement),
+				createTracingVisitor(fused2, VisitorEnum.ExpressionStatement));
+
+		assertEquals(separate1, fused1);
+		assertEquals(separate2, fused2);
+	}
+
+	private HelperVisitor<SimpleReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> createTracingVisitor(List<String> trace, VisitorEnum prune) {
+		HelperVisitor<SimpleReferenceHolder<VisitorEnum, Integer>, VisitorEnum, Integer> hv= new HelperVisitor<>(null, new SimpleReferenceHolder<>());
+		VisitorEnum.stream().forEach(ve -> {
+			hv.add(ve, (node, holder) -> {
+				trace.add("Start " + node);
+				holder.merge(ve, 1, Integer::sum);
+				return ve != prune;
+			}, (node, holder) -> {
+				trace.add("End   " + node);
+			});
+		});
+		hv.addMethodInvocation("println", (node, holder) -> {
+			trace.add("println " + node);
+			return true;
+		});
+		return hv;
+	}
+
+	@Test
+	public void simpleReferenceHolderTest() {
+		SimpleReferenceHolder<VisitorEnum, Integer> dataholder= new SimpleReferenceHolder<>();
+		HelperVisitor.callVisitor(result, EnumSet.allOf(VisitorEnum.class), dataholder, null, (node, holder) -> {
+			holder.merge(VisitorEnum.fromNode(node), 1, Integer::sum);
+		});
+		ReferenceHolder<VisitorEnum, Integer> referenceholder= new ReferenceHolder<>();
+		HelperVisitor.callVisitor(result, EnumSet.allOf(VisitorEnum.class), referenceholder, null, this::countVisits);
+		assertEquals(referenceholder, dataholder);
+		assertEquals(Integer.valueOf(4), dataholder.get(VisitorEnum.ExpressionStatement));
+	}
+
 	Collection<String> getUsedVariableNames(ASTNode node) {
 		CompilationUnit root= (CompilationUnit) node.getRoot();
 		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
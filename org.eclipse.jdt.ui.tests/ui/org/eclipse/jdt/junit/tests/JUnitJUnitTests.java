@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,16 +31,19 @@ TestTestSearchEngine.class,
 TestRunListenerTest3.class,
 TestRunListenerTest4.class,
 TestRunListenerTest5.class,
+RemoteTestProtocolTest.class,
 
 TestRunFilteredStandardRunnerTest4.class,
 TestRunFilteredParameterizedRunnerTest4.class,
 
 TestRunSessionSerializationTests3.class,
 TestRunSessionSerializationTests4.class,
+TestRunSessionStoreTest.class,
 
 JUnit3TestFinderTest.class,
 JUnit4TestFinderTest.class,
 JUnit4TestFinderTest16.class,
+TestDiscoveryCacheTest.class,
 
 TestSorting.class
 /**
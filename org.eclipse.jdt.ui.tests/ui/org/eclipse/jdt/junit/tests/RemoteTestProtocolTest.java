@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.ITestRunListener2;
+import org.eclipse.jdt.internal.junit.model.RemoteTestRunnerClient;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageSender;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+/**
+ * Tests the protocol between the RemoteTestRunner and the {@link RemoteTestRunnerClient}, with
+ * the client socket taking the role of the runner.
+ */
+public class RemoteTestProtocolTest {
+
+	private static final String TRACE= "java.lang.AssertionError: expected\n\tat p.T.testB(T.java:12)\n"; //$NON-NLS-1$
+
+	private static final List<String> EXPECTED_EVENTS= Arrays.asList(
+			"runStarted 2", //$NON-NLS-1$
+			"tree 1,p.T,true,2", //$NON-NLS-1$
+			"started 2 testA(p.T)", //$NON-NLS-1$
+			"ended 2 testA(p.T)", //$NON-NLS-1$
+			"started 3 testB(p.T)", //$NON-NLS-1$
+			"failed 3 testB(p.T) " + TRACE, //$NON-NLS-1$
+			"ended 3 testB(p.T)", //$NON-NLS-1$
+			"runEnded 42"); //$NON-NLS-1$
+
+	private static class RecordingListener implements ITestRunListener2 {
+
+		final List<String> fEvents= new ArrayList<>();
+
+		final CountDownLatch fEnded= new CountDownLatch(1);
+
+		private synchronized void add(String event) {
+			fEvents.add(event);
+		}
+
+		synchronized List<String> getEvents() {
+			return new ArrayList<>(fEvents);
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			add("runStarted " + testCount); //$NON-NLS-1$
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			add("runEnded " + elapsedTime); //$NON-NLS-1$
+			fEnded.countDown();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			add("runStopped " + elapsedTime); //$NON-NLS-1$
+			fEnded.countDown();
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			add("started " + testId + ' ' + testName); //$NON-NLS-1$
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			add("ended " + testId + ' ' + testName); //$NON-NLS-1$
+		}
+
+		@Override
+		public void testRunTerminated() {
+			add("terminated"); //$NON-NLS-1$
+			fEnded.countDown();
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			add("tree " + description); //$NON-NLS-1$
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			add("failed " + testId + ' ' + testName + ' ' + trace); //$NON-NLS-1$
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			add("reran " + testId); //$NON-NLS-1$
+		}
+	}
+
+	private RemoteTestRunnerClient fClient;
+
+	private RecordingListener fListener;
+
+	private Socket fSocket;
+
+	private PrintWriter fWriter;
+
+	private BufferedReader fReader;
+
+	@Before
+	public void setUp() throws Exception {
+		int port;
+		try (ServerSocket socket= new ServerSocket(0)) {
+			port= socket.getLocalPort();
+		}
+		fListener= new RecordingListener();
+		fClient= new RemoteTestRunnerClient();
+		fClient.startListening(new ITestRunListener2[] { fListener }, port);
+		fSocket= connect(port);
+		fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8));
+		fReader= new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		fSocket.close();
+		fClient.stopWaiting();
+	}
+
+	private static Socket connect(int port) throws Exception {
+		for (int i= 0; i < 100; i++) {
+			try {
+				return new Socket("127.0.0.1", port); //$NON-NLS-1$
+			} catch (ConnectException e) {
+				// the client is not listening yet
+				Thread.sleep(50);
+			}
+		}
+		return new Socket("127.0.0.1", port); //$NON-NLS-1$
+	}
+
+	private static void sendRun(MessageSenderAdapter sender) {
+		sender.send(MessageIds.TEST_RUN_START + "2 v2"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_TREE + "1,p.T,true,2"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_START + "2,testA(p.T)"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_END + "2,testA(p.T)"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_START + "3,testB(p.T)"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_FAILED + "3,testB(p.T)"); //$NON-NLS-1$
+		sender.send(MessageIds.TRACE_START);
+		sender.sendTrace(TRACE);
+		sender.send(MessageIds.TRACE_END);
+		sender.send(MessageIds.TEST_END + "3,testB(p.T)"); //$NON-NLS-1$
+		sender.send(MessageIds.TEST_RUN_END + "42"); //$NON-NLS-1$
+	}
+
+	private interface MessageSenderAdapter {
+		void send(String message);
+
+		void sendTrace(String trace);
+	}
+
+	private MessageSenderAdapter textSender() {
+		return new MessageSenderAdapter() {
+			@Override
+			public void send(String message) {
+				fWriter.print(message + '\n');
+				fWriter.flush();
+			}
+
+			@Override
+			public void sendTrace(String trace) {
+				// the text protocol sends a trace line by line
+				for (String line : trace.split("\n")) { //$NON-NLS-1$
+					send(line);
+				}
+			}
+		};
+	}
+
+	private void assertRunReceived() throws InterruptedException {
+		assertTrue("run did not end", fListener.fEnded.await(30, TimeUnit.SECONDS)); //$NON-NLS-1$
+		assertEquals(EXPECTED_EVENTS, fListener.getEvents());
+	}
+
+	@Test
+	public void textProtocolWithoutRequest() throws Exception {
+		// a runtime that does not request the binary protocol
+		sendRun(textSender());
+		assertRunReceived();
+	}
+
+	@Test
+	public void unknownProtocolFallsBackToText() throws Exception {
+		textSender().send(MessageIds.PROTOCOL_REQUEST + "binary99"); //$NON-NLS-1$
+		assertEquals(MessageIds.PROTOCOL_RESPONSE + MessageIds.TEXT_PROTOCOL, fReader.readLine());
+
+		sendRun(textSender());
+		assertRunReceived();
+	}
+
+	@Test
+	public void binaryProtocol() throws Exception {
+		textSender().send(MessageIds.PROTOCOL_REQUEST + BinaryMessageSender.PROTOCOL_VERSION);
+		assertEquals(MessageIds.PROTOCOL_RESPONSE + BinaryMessageSender.PROTOCOL_VERSION, fReader.readLine());
+		textSender().send(MessageIds.PROTOCOL_SWITCH + BinaryMessageSender.PROTOCOL_VERSION);
+
+		BinaryMessageSender sender= new BinaryMessageSender(fSocket.getOutputStream());
+		try {
+			sendRun(new MessageSenderAdapter() {
+				@Override
+				public void send(String message) {
+					sender.sendMessage(message);
+				}
+
+				@Override
+				public void sendTrace(String trace) {
+					// the binary protocol sends a trace as one message
+					sender.sendMessage(trace.substring(0, trace.length() - 1));
+				}
+			});
+			assertRunReceived();
+		} finally {
+			sender.close();
+		}
+	}
+
+	@Test
+	public void lateAnswerKeepsText() throws Exception {
+		textSender().send(MessageIds.PROTOCOL_REQUEST + BinaryMessageSender.PROTOCOL_VERSION);
+		// the runner has given up waiting and continues with the text protocol
+		sendRun(textSender());
+		assertEquals(MessageIds.PROTOCOL_RESPONSE + BinaryMessageSender.PROTOCOL_VERSION, fReader.readLine());
+		assertRunReceived();
+	}
+
+	@Test
+	public void binaryMessageEncoding() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		BinaryMessageSender sender= new BinaryMessageSender(out);
+		sender.sendMessage(MessageIds.TEST_START + "2,testA(p.T)"); //$NON-NLS-1$
+		sender.sendMessage("line one\nline two"); //$NON-NLS-1$
+		sender.sendMessage(MessageIds.TEST_RUN_END + "42"); //$NON-NLS-1$
+		sender.close();
+
+		DataInputStream in= new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+		int frameLength= in.readInt();
+		assertEquals(out.size() - 4, frameLength);
+
+		assertEquals(indexOf(MessageIds.TEST_START) + 1, in.readUnsignedByte());
+		assertEquals("2,testA(p.T)", readArgument(in)); //$NON-NLS-1$
+		assertEquals(0, in.readUnsignedByte());
+		assertEquals("line one\nline two", readArgument(in)); //$NON-NLS-1$
+		assertEquals(indexOf(MessageIds.TEST_RUN_END) + 1, in.readUnsignedByte());
+		assertEquals("42", readArgument(in)); //$NON-NLS-1$
+		assertEquals(0, in.available());
+	}
+
+	private static int indexOf(String header) {
+		return Arrays.asList(BinaryMessageSender.MESSAGE_IDS).indexOf(header);
+	}
+
+	private static String readArgument(DataInputStream in) throws IOException {
+		byte[] bytes= new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
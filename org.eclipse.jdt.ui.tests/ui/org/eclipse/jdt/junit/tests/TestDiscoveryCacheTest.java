@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.launcher.TestDiscoveryCache;
+
+public class TestDiscoveryCacheTest {
+
+	private static final String FINDER_ID= "finder"; //$NON-NLS-1$
+
+	private final TestDiscoveryCache fCache= TestDiscoveryCache.getInstance();
+
+	private IJavaProject fProject;
+
+	private IPackageFragment fPackage;
+
+	@Before
+	public void setUp() throws Exception {
+		fCache.dispose();
+		fProject= JavaProjectHelper.createJavaProject("TestProject", "bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		JavaProjectHelper.addRTJar(fProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fProject, "src"); //$NON-NLS-1$
+		fPackage= root.createPackageFragment("p", true, null); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fCache.dispose();
+		JavaProjectHelper.delete(fProject);
+	}
+
+	private IType createType(IPackageFragment pack, String name, String source) throws Exception {
+		return pack.createCompilationUnit(name + ".java", source, false, null).findPrimaryType(); //$NON-NLS-1$
+	}
+
+	private static void reconcile(ICompilationUnit unit, String source) throws Exception {
+		unit.getBuffer().setContents(source);
+		unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	}
+
+	@Test
+	public void setAndGet() throws Exception {
+		IType type= createType(fPackage, "A", "package p;\npublic class A {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(fCache.isTest(FINDER_ID, type));
+		assertNull(fCache.getTests(FINDER_ID, fPackage));
+
+		fCache.setTest(FINDER_ID, type, true, Collections.emptySet());
+		fCache.setTests(FINDER_ID, fPackage, Set.of(type));
+		assertEquals(Boolean.TRUE, fCache.isTest(FINDER_ID, type));
+		assertNull(fCache.isTest("other", type)); //$NON-NLS-1$
+		assertEquals(Set.of(type), fCache.getTests(FINDER_ID, fPackage));
+		assertNull(fCache.getTests("other", fPackage)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void methodBodyChangeKeepsResults() throws Exception {
+		IType type= createType(fPackage, "A", "package p;\npublic class A {\n\tvoid m() {\n\t}\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		fCache.setTest(FINDER_ID, type, false, Collections.emptySet());
+		fCache.setTests(FINDER_ID, fPackage, Collections.emptySet());
+
+		ICompilationUnit unit= type.getCompilationUnit();
+		unit.becomeWorkingCopy(null);
+		try {
+			reconcile(unit, "package p;\npublic class A {\n\tvoid m() {\n\t\tm();\n\t}\n}\n"); //$NON-NLS-1$
+			assertEquals(Boolean.FALSE, fCache.isTest(FINDER_ID, type));
+			assertNotNull(fCache.getTests(FINDER_ID, fPackage));
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void signatureChangeDropsDependentResults() throws Exception {
+		IType a= createType(fPackage, "A", "package p;\npublic class A {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		IType b= createType(fPackage, "B", "package p;\npublic class B extends A {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		IType c= createType(fPackage, "C", "package p;\npublic class C {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		fCache.setTest(FINDER_ID, b, false, Set.of("p.A")); //$NON-NLS-1$
+		fCache.setTest(FINDER_ID, c, false, Collections.emptySet());
+		fCache.setTests(FINDER_ID, fPackage, Collections.emptySet());
+
+		ICompilationUnit unit= a.getCompilationUnit();
+		unit.becomeWorkingCopy(null);
+		try {
+			reconcile(unit, "package p;\npublic class A {\n\tpublic void testA() {\n\t}\n}\n"); //$NON-NLS-1$
+			assertNull(fCache.isTest(FINDER_ID, b));
+			assertEquals(Boolean.FALSE, fCache.isTest(FINDER_ID, c));
+			assertNull(fCache.getTests(FINDER_ID, fPackage));
+		} finally {
+			unit.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void classpathChangeDropsRequiringProjects() throws Exception {
+		IJavaProject requiring= JavaProjectHelper.createJavaProject("RequiringProject", "bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		IJavaProject unrelated= JavaProjectHelper.createJavaProject("UnrelatedProject", "bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			JavaProjectHelper.addRTJar(requiring);
+			JavaProjectHelper.addRequiredProject(requiring, fProject);
+			IPackageFragment requiringPackage= JavaProjectHelper.addSourceContainer(requiring, "src").createPackageFragment("q", true, null); //$NON-NLS-1$ //$NON-NLS-2$
+			JavaProjectHelper.addRTJar(unrelated);
+			IPackageFragment unrelatedPackage= JavaProjectHelper.addSourceContainer(unrelated, "src").createPackageFragment("r", true, null); //$NON-NLS-1$ //$NON-NLS-2$
+
+			IType a= createType(fPackage, "A", "package p;\npublic class A {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			IType q= createType(requiringPackage, "Q", "package q;\npublic class Q {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			IType r= createType(unrelatedPackage, "R", "package r;\npublic class R {\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fCache.setTest(FINDER_ID, a, false, Collections.emptySet());
+			fCache.setTest(FINDER_ID, q, false, Collections.emptySet());
+			fCache.setTest(FINDER_ID, r, false, Collections.emptySet());
+			fCache.setTests(FINDER_ID, unrelatedPackage, Set.of(r));
+
+			JavaProjectHelper.addSourceContainer(fProject, "src2"); //$NON-NLS-1$
+
+			assertNull(fCache.isTest(FINDER_ID, a));
+			assertNull(fCache.isTest(FINDER_ID, q));
+			assertEquals(Boolean.FALSE, fCache.isTest(FINDER_ID, r));
+			assertEquals(Set.of(r), fCache.getTests(FINDER_ID, unrelatedPackage));
+		} finally {
+			JavaProjectHelper.delete(requiring);
+			JavaProjectHelper.delete(unrelated);
+		}
+	}
+}
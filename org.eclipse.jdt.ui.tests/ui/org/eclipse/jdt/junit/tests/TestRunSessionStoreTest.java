@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSessionStore;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestRunSessionStoreTest {
+
+	private File fFile;
+
+	@Before
+	public void setUp() throws IOException {
+		fFile= File.createTempFile("session", ".testrun"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@After
+	public void tearDown() {
+		fFile.delete();
+	}
+
+	/**
+	 * Creates the test tree:
+	 *
+	 * <pre>
+	 * p.A
+	 *   a1 OK
+	 *   a2 FAILURE
+	 * p.B
+	 *   p.B$Inner
+	 *     b1 ignored
+	 *     b2 ERROR
+	 * c NOT_RUN
+	 * </pre>
+	 */
+	private static void createTree(TestRoot root) {
+		TestSuiteElement a= new TestSuiteElement(root, "1", "p.A", 2, "A", null, "[class:p.A]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		TestCaseElement a1= new TestCaseElement(a, "2", "a1(p.A)", null, false, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		a1.setStatus(Status.OK);
+		a1.setElapsedTimeInSeconds(0.5);
+		TestCaseElement a2= new TestCaseElement(a, "3", "a2(p.A)", null, false, new String[] { "int", "java.lang.String" }, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		a2.setStatus(Status.FAILURE, "junit.framework.ComparisonFailure\n\tat p.A.a2(A.java:5)\n", "1", "2"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		TestSuiteElement b= new TestSuiteElement(root, "4", "p.B", 1, null, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		TestSuiteElement inner= new TestSuiteElement(b, "5", "p.B$Inner", 2, null, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		TestCaseElement b1= new TestCaseElement(inner, "6", "b1(p.B$Inner)", null, false, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		b1.setIgnored(true);
+		TestCaseElement b2= new TestCaseElement(inner, "7", "b2(p.B$Inner)", "dynamic b2", true, null, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		b2.setStatus(Status.ERROR, "java.lang.NullPointerException\n", null, null); //$NON-NLS-1$
+
+		new TestCaseElement(root, "8", "c(p.C)", null, false, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void assertSameTree(TestElement expected, TestElement actual) {
+		assertEquals(expected.getId(), actual.getId());
+		assertEquals(expected.getTestName(), actual.getTestName());
+		assertEquals(expected.getDisplayName(), actual.getDisplayName());
+		assertArrayEquals(expected.getParameterTypes(), actual.getParameterTypes());
+		assertEquals(expected.getUniqueId(), actual.getUniqueId());
+		assertEquals(expected.getTestName(), expected.getStatus(), actual.getStatus());
+		assertEquals(expected.getTestName(), expected.getTestResult(true), actual.getTestResult(true));
+		assertEquals(expected.getTrace(), actual.getTrace());
+		assertEquals(expected.getExpected(), actual.getExpected());
+		assertEquals(expected.getActual(), actual.getActual());
+		assertEquals(expected.getElapsedTimeInSeconds(), actual.getElapsedTimeInSeconds(), 0);
+		assertEquals(expected.isAssumptionFailure(), actual.isAssumptionFailure());
+		if (expected instanceof TestCaseElement) {
+			assertTrue(actual instanceof TestCaseElement);
+			assertEquals(((TestCaseElement) expected).isIgnored(), ((TestCaseElement) actual).isIgnored());
+			assertEquals(((TestCaseElement) expected).isDynamicTest(), ((TestCaseElement) actual).isDynamicTest());
+		} else {
+			assertTrue(actual instanceof TestSuiteElement);
+			ITestElement[] expectedChildren= ((TestSuiteElement) expected).getChildren();
+			ITestElement[] actualChildren= ((TestSuiteElement) actual).getChildren();
+			assertEquals(expected.getTestName(), expectedChildren.length, actualChildren.length);
+			for (int i= 0; i < expectedChildren.length; i++) {
+				assertSame(actual, ((TestElement) actualChildren[i]).getParent());
+				assertSameTree((TestElement) expectedChildren[i], (TestElement) actualChildren[i]);
+			}
+		}
+	}
+
+	private static void assertSameTree(TestRoot expected, TestRoot actual) {
+		ITestElement[] expectedChildren= expected.getChildren();
+		ITestElement[] actualChildren= actual.getChildren();
+		assertEquals(expectedChildren.length, actualChildren.length);
+		for (int i= 0; i < expectedChildren.length; i++) {
+			assertSameTree((TestElement) expectedChildren[i], (TestElement) actualChildren[i]);
+		}
+		assertEquals(expected.getTestResult(true), actual.getTestResult(true));
+	}
+
+	@Test
+	public void roundTrip() throws IOException {
+		TestRunSession session= new TestRunSession("roundTrip", null); //$NON-NLS-1$
+		TestRoot root= new TestRoot(session);
+		createTree(root);
+
+		TestRunSessionStore store= TestRunSessionStore.write(fFile, root);
+		try {
+			assertTrue(store.isComplete());
+			assertSameTree(root, store.load(new TestRunSession("loaded", null))); //$NON-NLS-1$
+		} finally {
+			store.close();
+		}
+	}
+
+	@Test
+	public void loadFailures() throws IOException {
+		TestRunSession session= new TestRunSession("failures", null); //$NON-NLS-1$
+		TestRoot root= new TestRoot(session);
+		createTree(root);
+
+		TestRunSessionStore store= TestRunSessionStore.write(fFile, root);
+		try {
+			TestRunSession loadedSession= new TestRunSession("loaded", null); //$NON-NLS-1$
+			TestRoot loaded= store.load(loadedSession);
+			TestElement[] failures= store.loadFailures(loadedSession, loaded);
+			assertNotNull(failures);
+			assertEquals(6, failures.length); // root, p.A, a2, p.B, p.B$Inner, b2
+			assertSame(loaded, failures[0]);
+			assertEquals("a2(p.A)", failures[2].getTestName()); //$NON-NLS-1$
+			assertEquals("b2(p.B$Inner)", failures[5].getTestName()); //$NON-NLS-1$
+			assertEquals("1", failures[2].getExpected()); //$NON-NLS-1$
+		} finally {
+			store.close();
+		}
+	}
+
+	@Test
+	public void findElementThatIsNotLoaded() throws IOException {
+		TestRunSession session= new TestRunSession("find", null); //$NON-NLS-1$
+		TestRoot root= new TestRoot(session);
+		createTree(root);
+
+		TestRunSessionStore store= TestRunSessionStore.write(fFile, root);
+		try {
+			TestRunSession loadedSession= new TestRunSession("loaded", null); //$NON-NLS-1$
+			TestRoot loaded= store.load(loadedSession);
+			assertNull(loadedSession.getTestElement("7")); //$NON-NLS-1$
+
+			TestElement b2= store.findElement(loaded, "7"); //$NON-NLS-1$
+			assertNotNull(b2);
+			assertEquals("b2(p.B$Inner)", b2.getTestName()); //$NON-NLS-1$
+			assertEquals("p.B$Inner", b2.getParent().getTestName()); //$NON-NLS-1$
+			assertSame(b2, loadedSession.getTestElement("7")); //$NON-NLS-1$
+			assertSame(b2, store.findElement(loaded, "7")); //$NON-NLS-1$
+			assertNull(store.findElement(loaded, "unknown")); //$NON-NLS-1$
+		} finally {
+			store.close();
+		}
+	}
+
+	@Test
+	public void rewritePartiallyLoadedTree() throws IOException {
+		TestRunSession session= new TestRunSession("rewrite", null); //$NON-NLS-1$
+		TestRoot root= new TestRoot(session);
+		createTree(root);
+
+		TestRunSessionStore store= TestRunSessionStore.write(fFile, root);
+		TestRoot loaded= store.load(new TestRunSession("loaded", null)); //$NON-NLS-1$
+		// a changed state, e.g. from a rerun, makes the store incomplete
+		TestElement c= (TestElement) loaded.getChildren()[2];
+		store.stateChanged(c);
+		assertFalse(store.isComplete());
+
+		// like TestRunSession#swapOut(), load the rest of the tree before the file is replaced
+		store.loadAll(loaded);
+		store.close();
+		TestRunSessionStore rewritten= TestRunSessionStore.write(fFile, loaded);
+		try {
+			assertTrue(rewritten.isComplete());
+			assertSameTree(root, rewritten.load(new TestRunSession("reloaded", null))); //$NON-NLS-1$
+		} finally {
+			rewritten.close();
+		}
+	}
+
+	@Test
+	public void closedStoreCannotLoadRest() throws IOException {
+		TestRunSession session= new TestRunSession("closed", null); //$NON-NLS-1$
+		TestRoot root= new TestRoot(session);
+		createTree(root);
+
+		TestRunSessionStore store= TestRunSessionStore.write(fFile, root);
+		long length= fFile.length();
+		TestRoot loaded= store.load(new TestRunSession("loaded", null)); //$NON-NLS-1$
+		store.close();
+		try {
+			store.loadAll(loaded);
+			fail("children of a closed store must not be lost silently"); //$NON-NLS-1$
+		} catch (IOException e) {
+			// expected
+		}
+		assertEquals(length, fFile.length());
+	}
+
+	@Test
+	public void sessionSwapOutAndIn() {
+		TestRunSession session= new TestRunSession("swap", null); //$NON-NLS-1$
+		TestRoot expected= new TestRoot(new TestRunSession("expected", null)); //$NON-NLS-1$
+		createTree(expected);
+		createTree(session.getTestRoot());
+		try {
+			session.swapOut();
+			TestRoot swappedIn= session.getTestRoot();
+			TestElement b2= session.getTestElement("7"); //$NON-NLS-1$
+			assertNotNull(b2);
+			assertEquals("b2(p.B$Inner)", b2.getTestName()); //$NON-NLS-1$
+			assertSameTree(expected, swappedIn);
+
+			// a complete store is not written again
+			session.swapOut();
+			assertSameTree(expected, session.getTestRoot());
+		} finally {
+			session.removeSwapFile();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -113,6 +113,39 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void callersReportedToCollector() throws Exception {
+        helper.createSimpleClasses();
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(helper.getMethod2());
+        expectedMethods.add(helper.getMethod3());
+
+        List<MethodWrapper> reported= new ArrayList<>();
+        MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod1());
+        MethodWrapper[] calls= wrapper.getCalls(new NullProgressMonitor(), batch -> reported.addAll(Arrays.asList(batch)));
+        helper.assertCalls(expectedMethods, calls);
+        helper.assertCalls(expectedMethods, reported.toArray(new MethodWrapper[reported.size()]));
+
+        reported.clear();
+        wrapper.getCalls(new NullProgressMonitor(), batch -> reported.addAll(Arrays.asList(batch)));
+        helper.assertCalls(expectedMethods, reported.toArray(new MethodWrapper[reported.size()]));
+    }
+
+	@Test
+	public void callersCacheClearedByChange() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method= helper.getMethod4();
+        helper.assertCalls(new ArrayList<>(), getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+        IMethod method5= helper.getType2().createMethod("public void method5() { method4(); }\n", null, true, null);
+
+        Collection<IMember> expectedMethods= new ArrayList<>();
+        expectedMethods.add(method5);
+        helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+    }
+
 	@Test
 	public void callees() throws Exception {
         helper.createSimpleClasses();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,10 +54,13 @@ TypeHierarchyTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
 TypeInfoTest.class,
+TypeNameIndexTest.class,
 StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
 ASTProviderTest.class,
+SharedASTCacheTest.class,
+SuperTypeHierarchyCacheTest.class,
 JDTFlagsTest18.class,
 JavaTokenComparatorTest.class,
 JavaIgnoreWhitespaceContributorTest.class,
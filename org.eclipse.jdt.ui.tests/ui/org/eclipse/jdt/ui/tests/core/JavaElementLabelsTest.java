@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -670,4 +670,22 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testMethodLabelAfterChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		String content= "package org.test;\npublic class Outer {\n    public int foo(String s) { return 0; }\n}\n";
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", content, false, null);
+
+		IJavaElement elem= cu.getElementAt(content.indexOf("foo"));
+		long flags= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.M_APP_RETURNTYPE;
+		assertExpectedLabel(elem, "foo(String) : int", flags);
+		// the cached label is returned again
+		assertExpectedLabel(elem, "foo(String) : int", flags);
+
+		content= "package org.test;\npublic class Outer {\n    public long foo(String s) { return 0; }\n}\n";
+		pack1.createCompilationUnit("Outer.java", content, true, null);
+		assertExpectedLabel(elem, "foo(String) : long", flags);
+	}
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.SharedASTCache;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests the cache of recently used ASTs of the AST provider.
+ */
+public class SharedASTCacheTest extends CoreTests {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+	private final List<ICompilationUnit> fWorkingCopies= new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (ICompilationUnit wc : fWorkingCopies) {
+			wc.discardWorkingCopy();
+		}
+		fWorkingCopies.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private ICompilationUnit createWorkingCopy(String name) throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class " + name + " {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= pack1.createCompilationUnit(name + ".java", buf.toString(), false, null);
+		ICompilationUnit wc= cu.getWorkingCopy(null);
+		fWorkingCopies.add(wc);
+		return wc;
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit cu) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(cu);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		ICompilationUnit b= createWorkingCopy("B");
+		ICompilationUnit c= createWorkingCopy("C");
+		CompilationUnit astA= createAST(a);
+		CompilationUnit astB= createAST(b);
+		CompilationUnit astC= createAST(c);
+
+		SharedASTCache cache= new SharedASTCache(2);
+		cache.put(astA);
+		cache.put(astB);
+		assertSame(astA, cache.get(a));
+
+		// B is now the least recently used entry
+		cache.put(astC);
+		assertEquals(2, cache.size());
+		assertNull(cache.get(b));
+		assertSame(astA, cache.get(a));
+		assertSame(astC, cache.get(c));
+
+		cache.setCapacity(1);
+		assertEquals(1, cache.size());
+		assertNull(cache.get(a));
+		assertSame(astC, cache.get(c));
+	}
+
+	@Test
+	public void testPutReplacesAST() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		CompilationUnit first= createAST(a);
+		CompilationUnit second= createAST(a);
+
+		SharedASTCache cache= new SharedASTCache(2);
+		cache.put(first);
+		cache.put(second);
+		assertEquals(1, cache.size());
+		assertSame(second, cache.get(a));
+	}
+
+	@Test
+	public void testBufferChangeInvalidates() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		ICompilationUnit b= createWorkingCopy("B");
+		CompilationUnit astA= createAST(a);
+		CompilationUnit astB= createAST(b);
+
+		SharedASTCache cache= new SharedASTCache(5);
+		cache.put(astA);
+		cache.put(astB);
+
+		a.getBuffer().append("\n");
+		assertNull(cache.get(a));
+		assertEquals(1, cache.size());
+		assertSame(astB, cache.get(b));
+	}
+
+	@Test
+	public void testClosedBufferInvalidates() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		CompilationUnit astA= createAST(a);
+
+		SharedASTCache cache= new SharedASTCache(5);
+		cache.put(astA);
+		assertSame(astA, cache.get(a));
+
+		a.discardWorkingCopy();
+		fWorkingCopies.remove(a);
+		assertNull(cache.get(a));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testRemoveAndClear() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		ICompilationUnit b= createWorkingCopy("B");
+		SharedASTCache cache= new SharedASTCache(5);
+		cache.put(createAST(a));
+		cache.put(createAST(b));
+
+		cache.remove(a);
+		assertNull(cache.get(a));
+		assertEquals(1, cache.size());
+
+		cache.clear();
+		assertNull(cache.get(b));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testDisabledCache() throws Exception {
+		ICompilationUnit a= createWorkingCopy("A");
+		SharedASTCache cache= new SharedASTCache(0);
+		cache.put(createAST(a));
+		assertEquals(0, cache.size());
+		assertNull(cache.get(a));
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests the cache of super type hierarchies.
+ */
+public class SuperTypeHierarchyCacheTest extends CoreTests {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPack;
+	private int fCapacity;
+	private int fMaxHierarchies;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= sourceFolder.createPackageFragment("test1", false, null);
+		fCapacity= SuperTypeHierarchyCache.getCapacity();
+		fMaxHierarchies= SuperTypeHierarchyCache.getMaxHierarchies();
+		SuperTypeHierarchyCache.clear();
+		SuperTypeHierarchyCache.resetStatistics();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SuperTypeHierarchyCache.setCapacity(fCapacity);
+		SuperTypeHierarchyCache.setMaxHierarchies(fMaxHierarchies);
+		SuperTypeHierarchyCache.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private IType createType(String name, String superclass) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class " + name + (superclass != null ? " extends " + superclass : "") + " {\n");
+		buf.append("}\n");
+		ICompilationUnit cu= fPack.createCompilationUnit(name + ".java", buf.toString(), false, null);
+		return cu.getType(name);
+	}
+
+	@Test
+	public void testWeightIsBounded() throws Exception {
+		IType a= createType("A", null);
+		IType b= createType("B", null);
+		IType c= createType("C", null);
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		int weight= SuperTypeHierarchyCache.getWeight();
+		assertTrue(String.valueOf(weight), weight > 1);
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+		assertEquals(2 * weight, SuperTypeHierarchyCache.getWeight());
+
+		// the hierarchy of C does not fit, the least recently used one is evicted
+		SuperTypeHierarchyCache.setCapacity(2 * weight);
+		SuperTypeHierarchyCache.getTypeHierarchy(c);
+		assertEquals(2, SuperTypeHierarchyCache.getSize());
+		assertEquals(2 * weight, SuperTypeHierarchyCache.getWeight());
+		assertFalse(SuperTypeHierarchyCache.hasInCache(a));
+
+		// a single hierarchy is kept even if it is larger than the capacity
+		SuperTypeHierarchyCache.setCapacity(1);
+		assertEquals(1, SuperTypeHierarchyCache.getSize());
+		assertTrue(SuperTypeHierarchyCache.hasInCache(c));
+		assertEquals(2, SuperTypeHierarchyCache.getCacheEvictions());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() throws Exception {
+		IType a= createType("A", null);
+		IType b= createType("B", null);
+		IType c= createType("C", null);
+		SuperTypeHierarchyCache.setMaxHierarchies(2);
+
+		ITypeHierarchy hierarchyA= SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+		// B is now the least recently used hierarchy
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		SuperTypeHierarchyCache.getTypeHierarchy(c);
+
+		assertEquals(2, SuperTypeHierarchyCache.getSize());
+		assertEquals(1, SuperTypeHierarchyCache.getCacheEvictions());
+		assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(c));
+		assertSame(hierarchyA, SuperTypeHierarchyCache.getTypeHierarchy(a));
+		assertEquals(3, SuperTypeHierarchyCache.getCacheMisses());
+		assertEquals(1, SuperTypeHierarchyCache.getCacheHits());
+	}
+
+	@Test
+	public void testSharedSuperTypeSurvivesRemoval() throws Exception {
+		IType base= createType("Base", null);
+		IType a= createType("A", "Base");
+		IType b= createType("B", "Base");
+		SuperTypeHierarchyCache.setMaxHierarchies(2);
+
+		ITypeHierarchy hierarchyA= SuperTypeHierarchyCache.getTypeHierarchy(a);
+		SuperTypeHierarchyCache.getTypeHierarchy(b);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+
+		// evicts the hierarchy of B, the one of A still contains Base
+		SuperTypeHierarchyCache.setMaxHierarchies(1);
+		assertFalse(SuperTypeHierarchyCache.hasInCache(b));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(base));
+
+		int misses= SuperTypeHierarchyCache.getCacheMisses();
+		assertSame(hierarchyA, SuperTypeHierarchyCache.getTypeHierarchy(base));
+		assertEquals(misses, SuperTypeHierarchyCache.getCacheMisses());
+	}
+
+	@Test
+	public void testSharedSuperTypeOfMostRecentHierarchy() throws Exception {
+		IType base= createType("Base", null);
+		IType a= createType("A", "Base");
+		IType b= createType("B", "Base");
+		SuperTypeHierarchyCache.setMaxHierarchies(2);
+
+		SuperTypeHierarchyCache.getTypeHierarchy(a);
+		ITypeHierarchy hierarchyB= SuperTypeHierarchyCache.getTypeHierarchy(b);
+		assertEquals(2, SuperTypeHierarchyCache.getSize());
+		assertSame(hierarchyB, SuperTypeHierarchyCache.getTypeHierarchy(base));
+
+		// a hierarchy of a subtype replaces the hierarchy of its super type
+		IType c= createType("C", "A");
+		SuperTypeHierarchyCache.getTypeHierarchy(c);
+		assertEquals(2, SuperTypeHierarchyCache.getSize());
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(b));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(base));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.jdt.core.IJavaProject;
 
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
 import org.eclipse.jdt.internal.core.manipulation.ProjectTemplateStore;
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -216,4 +217,39 @@ public class TemplateStoreTest extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testCachedProjectCodeTemplates() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			String templateId= CodeTemplateContextType.GETTERCOMMENT_ID;
+			String instancePattern= new ProjectTemplateStore(null).findTemplateById(templateId).getPattern();
+			assertEquals(instancePattern, StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			setProjectPattern(templateId, "//Hello4");
+			assertEquals("//Hello4", StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			// the cached store is loaded again after the preference has changed
+			setProjectPattern(templateId, "//Hello5");
+			assertEquals("//Hello5", StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+
+			ProjectTemplateStore projectStore= new ProjectTemplateStore(fJProject1.getProject());
+			projectStore.load();
+			projectStore.setProjectSpecific(templateId, false);
+			projectStore.save();
+			assertEquals(instancePattern, StubUtility.getCodeTemplate(templateId, fJProject1).getPattern());
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	private void setProjectPattern(String templateId, String pattern) throws Exception {
+		ProjectTemplateStore projectStore= new ProjectTemplateStore(fJProject1.getProject());
+		projectStore.load();
+		projectStore.setProjectSpecific(templateId, true);
+		TemplatePersistenceData data= find(templateId, projectStore.getTemplateData());
+		Template oldTemplate= data.getTemplate();
+		data.setTemplate(new Template(oldTemplate.getName(), oldTemplate.getDescription(), oldTemplate.getContextTypeId(), pattern, oldTemplate.isAutoInsertable()));
+		projectStore.save();
+	}
+
 }
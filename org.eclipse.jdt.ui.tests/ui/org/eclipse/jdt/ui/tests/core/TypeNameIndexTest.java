@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Compares the candidates of the {@link TypeNameIndex} with the result of
+ * {@link SearchEngine#searchAllTypeNames} after the workspace has changed.
+ */
+public class TypeNameIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private static final String[] PATTERNS= { "", "Ty", "TNI", "t*Index", "Renamed" };
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack;
+
+	private TypeNameIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= sourceFolder.createPackageFragment("p", false, null);
+		fPack.createCompilationUnit("TypeNameIndexed.java", "package p;\npublic class TypeNameIndexed {\n\tclass Inner {}\n}\n", false, null);
+
+		fIndex= new TypeNameIndex();
+		fIndex.connect();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.dispose();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private void waitUntilReady() throws InterruptedException {
+		for (int i= 0; i < 600 && !fIndex.isReady(); i++) {
+			Thread.sleep(50);
+		}
+		assertTrue("index not ready", fIndex.isReady());
+	}
+
+	private static String toString(TypeNameMatch match) {
+		return match.getFullyQualifiedName() + " " + match.getModifiers() + " " + match.getPackageFragmentRoot().getPath();
+	}
+
+	private void assertSameAsSearchEngine() throws Exception {
+		waitUntilReady();
+		for (String pattern : PATTERNS) {
+			TypeInfoFilter filter= new TypeInfoFilter(pattern, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+			Set<String> expected= new TreeSet<>();
+			new SearchEngine().searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+				@Override
+				public void acceptTypeNameMatch(TypeNameMatch match) {
+					if (filter.matchesCachedResult(match))
+						expected.add(TypeNameIndexTest.toString(match));
+				}
+			}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+
+			Set<String> actual= new TreeSet<>();
+			assertTrue(fIndex.search(filter, match -> {
+				if (filter.matchesCachedResult(match))
+					actual.add(toString(match));
+			}, new NullProgressMonitor()));
+			assertEquals("pattern '" + pattern + "'", String.join("\n", expected), String.join("\n", actual));
+		}
+	}
+
+	@Test
+	public void initialBuild() throws Exception {
+		assertSameAsSearchEngine();
+	}
+
+	@Test
+	public void connectedClients() throws Exception {
+		waitUntilReady();
+		fIndex.connect();
+		fIndex.disconnect();
+		assertTrue(fIndex.isReady());
+
+		fIndex.dispose();
+		assertFalse(fIndex.isReady());
+		assertFalse(fIndex.search(new TypeInfoFilter("", SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null), match -> {}, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void addType() throws Exception {
+		assertSameAsSearchEngine();
+		fPack.createCompilationUnit("TypeAdded.java", "package p;\npublic class TypeAdded {\n}\ninterface TypeNotIndexedBefore {}\n", false, null);
+		assertSameAsSearchEngine();
+	}
+
+	@Test
+	public void renameType() throws Exception {
+		assertSameAsSearchEngine();
+		ICompilationUnit cu= fPack.getCompilationUnit("TypeNameIndexed.java");
+		cu.rename("Renamed.java", false, null);
+		fPack.createCompilationUnit("Renamed.java", "package p;\npublic class Renamed {\n\tclass Inner {}\n}\n", true, null);
+		assertSameAsSearchEngine();
+	}
+
+	@Test
+	public void removeType() throws Exception {
+		assertSameAsSearchEngine();
+		fPack.getCompilationUnit("TypeNameIndexed.java").delete(true, null);
+		assertSameAsSearchEngine();
+	}
+
+	@Test
+	public void changeModifiers() throws Exception {
+		assertSameAsSearchEngine();
+		ICompilationUnit cu= fPack.getCompilationUnit("TypeNameIndexed.java");
+		cu.becomeWorkingCopy(null);
+		try {
+			cu.getBuffer().setContents("package p;\npublic final class TypeNameIndexed {\n\tclass Inner {}\n}\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			cu.commitWorkingCopy(true, null);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+		assertSameAsSearchEngine();
+	}
+
+	@Test
+	public void changeClasspath() throws Exception {
+		assertSameAsSearchEngine();
+		File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+		assertNotNull("Junit source", junitSrcArchive);
+		IPackageFragmentRoot junitSource= JavaProjectHelper.addSourceContainerWithImport(fJProject1, "junit", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		assertSameAsSearchEngine();
+
+		JavaProjectHelper.removeFromClasspath(fJProject1, junitSource.getPath());
+		assertSameAsSearchEngine();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.jarexport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
@@ -29,6 +30,8 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Enumeration;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -262,6 +265,13 @@ public class FatJarExportTests {
 			}
 			assertEquals("loader is a class file", 0xCAFEBABE, magic); //$NON-NLS-1$
 			assertEquals("loader compiled with JDK 1.8", "52.0", majorVersion + "." + minorVersion); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+			// libraries are not compressed again
+			for (Enumeration<? extends ZipEntry> entries= generatedArchive.entries(); entries.hasMoreElements();) {
+				ZipEntry entry= entries.nextElement();
+				if (entry.getName().endsWith(".jar")) //$NON-NLS-1$
+					assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+			}
 		}
 
 		MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
@@ -898,6 +908,34 @@ public class FatJarExportTests {
 		}
 	}
 
+	@Test
+	public void exportTwiceIsIdentical() throws Exception {
+		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_STDOUT);
+		IPackageFragmentRoot root= JavaProjectHelper.addLibraryWithImport(fProject, Path.fromOSString(lib.getPath()), null, null);
+
+		try {
+			buildProject();
+			for (LibraryHandler libraryHandler : new LibraryHandler[] { new ExtractLibraryHandler(), new PackageLibraryHandler() }) {
+				JarPackageData data= createJarPackageData(fProject, getName() + "_" + libraryHandler.getID(), libraryHandler); //$NON-NLS-1$
+				try (ZipFile generatedArchive= createArchive(data)) {
+					assertNotNull(generatedArchive);
+				}
+				byte[] first= Files.readAllBytes(data.getAbsoluteJarLocation().toFile().toPath());
+
+				// zip entries store the time in steps of two seconds
+				Thread.sleep(2500);
+
+				try (ZipFile generatedArchive= createArchive(data)) {
+					assertNotNull(generatedArchive);
+				}
+				byte[] second= Files.readAllBytes(data.getAbsoluteJarLocation().toFile().toPath());
+				assertArrayEquals("library handler " + libraryHandler.getID(), first, second); //$NON-NLS-1$
+			}
+		} finally {
+			JavaProjectHelper.removeFromClasspath(fProject, root.getPath());
+		}
+	}
+
 	@Test
 	public void classFolder() throws Exception {
 		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_STDOUT);
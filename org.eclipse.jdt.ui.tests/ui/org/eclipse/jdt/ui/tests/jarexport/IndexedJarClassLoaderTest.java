@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackagerfat.FatJarRsrcUrlBuilder;
+
+/**
+ * Tests the class loader of the Jar-in-Jar loader which reads the nested JARs of a runnable JAR
+ * by their central directories. The loader is taken from the jar-in-jar-loader.zip and loaded
+ * from a runnable JAR created by the test.
+ */
+public class IndexedJarClassLoaderTest {
+
+	private static final String LOADER_CLASS= "org.eclipse.jdt.internal.jarinjarloader.IndexedJarClassLoader";
+
+	private static final String RESOURCE= "mylib/resource.txt";
+
+	private static final String OUTER_RESOURCE= "data/outer.txt";
+
+	private File fRunnableJar;
+
+	private URLClassLoader fOuterLoader;
+
+	@Before
+	public void setUp() throws IOException {
+		fRunnableJar= File.createTempFile("runnable", ".jar");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (fOuterLoader != null)
+			fOuterLoader.close();
+		fRunnableJar.delete();
+	}
+
+	/**
+	 * Creates a copy of mylib.jar with a resource and package attributes in the manifest.
+	 */
+	private static byte[] createLibrary(String resourceContent) throws IOException {
+		Manifest manifest= new Manifest();
+		Attributes attributes= manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.put(Attributes.Name.IMPLEMENTATION_TITLE, "mylib");
+		attributes.put(Attributes.Name.IMPLEMENTATION_VERSION, "1.2");
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		try (JarOutputStream jar= new JarOutputStream(out, manifest);
+				ZipFile mylib= new ZipFile(JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB))) {
+			for (Enumeration<? extends ZipEntry> entries= mylib.entries(); entries.hasMoreElements();) {
+				ZipEntry entry= entries.nextElement();
+				if (entry.getName().startsWith("mylib/")) {
+					jar.putNextEntry(new ZipEntry(entry.getName()));
+					try (InputStream in= mylib.getInputStream(entry)) {
+						in.transferTo(jar);
+					}
+				}
+			}
+			jar.putNextEntry(new ZipEntry(RESOURCE));
+			jar.write(resourceContent.getBytes(StandardCharsets.UTF_8));
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Creates the runnable JAR with the classes of the Jar-in-Jar loader and the given libraries.
+	 *
+	 * @param method the compression method of the libraries in the runnable JAR
+	 * @param libraries the content of the libraries by their path
+	 */
+	private void createRunnableJar(int method, Map<String, byte[]> libraries) throws IOException {
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(fRunnableJar));
+				ZipInputStream loader= new ZipInputStream(JavaPlugin.getDefault().getBundle().getEntry(FatJarRsrcUrlBuilder.JAR_RSRC_LOADER_ZIP).openStream())) {
+			for (ZipEntry entry= loader.getNextEntry(); entry != null; entry= loader.getNextEntry()) {
+				out.putNextEntry(new ZipEntry(entry.getName()));
+				loader.transferTo(out);
+			}
+			out.putNextEntry(new ZipEntry(OUTER_RESOURCE));
+			out.write("outer".getBytes(StandardCharsets.UTF_8));
+			for (Map.Entry<String, byte[]> library : libraries.entrySet()) {
+				byte[] bytes= library.getValue();
+				ZipEntry entry= new ZipEntry(library.getKey());
+				entry.setMethod(method);
+				if (method == ZipEntry.STORED) {
+					CRC32 crc= new CRC32();
+					crc.update(bytes);
+					entry.setSize(bytes.length);
+					entry.setCompressedSize(bytes.length);
+					entry.setCrc(crc.getValue());
+				}
+				out.putNextEntry(entry);
+				out.write(bytes);
+			}
+		}
+		fOuterLoader= new URLClassLoader(new URL[] { fRunnableJar.toURI().toURL() }, null);
+	}
+
+	private ClassLoader createIndexedLoader(String... rsrcClassPath) throws Exception {
+		Constructor<?> constructor= fOuterLoader.loadClass(LOADER_CLASS).getConstructor(String[].class, ClassLoader.class, ClassLoader.class);
+		try {
+			return (ClassLoader) constructor.newInstance(rsrcClassPath, fOuterLoader, null);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof Exception)
+				throw (Exception) e.getCause();
+			throw e;
+		}
+	}
+
+	private static String read(URL url) throws IOException {
+		try (InputStream in= url.openStream()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void assertLibraryLoaded(ClassLoader loader) throws Exception {
+		Class<?> foo= loader.loadClass("mylib.Foo");
+		assertSame(loader, foo.getClassLoader());
+		assertSame(foo, loader.loadClass("mylib.Foo"));
+		assertSame(loader, loader.loadClass("mylib.Foo$FooInner").getClassLoader());
+		try {
+			loader.loadClass("mylib.Missing");
+			fail("class does not exist");
+		} catch (ClassNotFoundException e) {
+			// expected
+		}
+
+		Package pack= foo.getPackage();
+		assertEquals("mylib", pack.getName());
+		assertEquals("mylib", pack.getImplementationTitle());
+		assertEquals("1.2", pack.getImplementationVersion());
+
+		CodeSource codeSource= foo.getProtectionDomain().getCodeSource();
+		assertEquals("jar:rsrc:mylib.jar!/", codeSource.getLocation().toString());
+		assertNull(codeSource.getCodeSigners());
+
+		URL url= loader.getResource(RESOURCE);
+		assertNotNull(url);
+		assertEquals("jar:rsrc:mylib.jar!/" + RESOURCE, url.toString());
+		assertEquals("mylib", read(url));
+		assertNull(loader.getResource("mylib/missing.txt"));
+		assertNull(loader.getResource("other/resource.txt"));
+	}
+
+	@Test
+	public void storedLibrary() throws Exception {
+		createRunnableJar(ZipEntry.STORED, Collections.singletonMap("mylib.jar", createLibrary("mylib")));
+		assertLibraryLoaded(createIndexedLoader("mylib.jar"));
+	}
+
+	@Test
+	public void deflatedLibrary() throws Exception {
+		createRunnableJar(ZipEntry.DEFLATED, Collections.singletonMap("mylib.jar", createLibrary("mylib")));
+		assertLibraryLoaded(createIndexedLoader("mylib.jar"));
+	}
+
+	@Test
+	public void classPathOrder() throws Exception {
+		Map<String, byte[]> libraries= new LinkedHashMap<>();
+		libraries.put("mylib.jar", createLibrary("mylib"));
+		libraries.put("other.jar", createLibrary("other"));
+		createRunnableJar(ZipEntry.STORED, libraries);
+		ClassLoader loader= createIndexedLoader("./", "mylib.jar", "other.jar");
+		assertLibraryLoaded(loader);
+
+		List<String> contents= new ArrayList<>();
+		for (URL url : Collections.list(loader.getResources(RESOURCE))) {
+			contents.add(read(url));
+		}
+		assertEquals(List.of("mylib", "other"), contents);
+
+		// the root of the runnable JAR is found by the class loader of the runnable JAR
+		URL outer= loader.getResource(OUTER_RESOURCE);
+		assertNotNull(outer);
+		assertEquals("outer", read(outer));
+	}
+
+	@Test
+	public void signedLibrary() throws Exception {
+		// JarRsrcLoader falls back to a URLClassLoader, which verifies the signatures
+		File signedLibrary= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_SIG);
+		createRunnableJar(ZipEntry.STORED, Collections.singletonMap("mylib_sig.jar", Files.readAllBytes(signedLibrary.toPath())));
+		try {
+			createIndexedLoader("mylib_sig.jar");
+			fail("signed library is loaded without its signers");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("mylib_sig.jar"));
+		}
+	}
+}
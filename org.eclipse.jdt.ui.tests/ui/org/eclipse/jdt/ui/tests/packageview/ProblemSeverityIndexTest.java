@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
+
+/**
+ * Tests for {@link ProblemSeverityIndex}.
+ */
+public class ProblemSeverityIndexTest {
+
+	private IJavaProject fProject;
+
+	private IFolder fFolder;
+
+	private IFolder fSubFolder;
+
+	private IFile fFile1;
+
+	private IFile fFile2;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject(getClass().getSimpleName(), "bin");
+		IProject project= fProject.getProject();
+		fFolder= project.getFolder("a");
+		fFolder.create(true, true, null);
+		fSubFolder= fFolder.getFolder("b");
+		fSubFolder.create(true, true, null);
+		fFile1= fFolder.getFile("f1.txt");
+		fFile1.create(new ByteArrayInputStream(new byte[0]), true, null);
+		fFile2= fSubFolder.getFile("f2.txt");
+		fFile2.create(new ByteArrayInputStream(new byte[0]), true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void buildAndUpdate() throws Exception {
+		createProblem(fFile1, IMarker.SEVERITY_WARNING);
+		IMarker error= createProblem(fFile2, IMarker.SEVERITY_ERROR);
+
+		ProblemSeverityIndex index= new ProblemSeverityIndex();
+		index.build(ResourcesPlugin.getWorkspace().getRoot());
+		assertTrue(index.isReady());
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFile1));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fSubFolder));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fProject.getProject()));
+
+		error.delete();
+		Set<IResource> changed= new HashSet<>();
+		index.update(fFile2, IResource.DEPTH_ZERO, changed);
+		assertEquals(-1, index.getMaxSeverity(fFile2));
+		assertEquals(-1, index.getMaxSeverity(fSubFolder));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFolder));
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fProject.getProject()));
+		assertTrue(changed.contains(fFile2));
+		assertTrue(changed.contains(fSubFolder));
+		assertTrue(changed.contains(fFolder));
+
+		// repeating an update does not change the counts
+		changed.clear();
+		index.update(fFile2, IResource.DEPTH_ZERO, changed);
+		index.update(fFile1, IResource.DEPTH_ZERO, changed);
+		assertEquals(IMarker.SEVERITY_WARNING, index.getMaxSeverity(fFolder));
+		assertTrue(changed.isEmpty());
+	}
+
+	@Test
+	public void remove() throws Exception {
+		createProblem(fFile1, IMarker.SEVERITY_INFO);
+		createProblem(fFile2, IMarker.SEVERITY_ERROR);
+
+		ProblemSeverityIndex index= new ProblemSeverityIndex();
+		index.build(ResourcesPlugin.getWorkspace().getRoot());
+
+		Set<IResource> changed= new HashSet<>();
+		index.remove(fSubFolder, changed);
+		assertEquals(-1, index.getMaxSeverity(fFile2));
+		assertEquals(IMarker.SEVERITY_INFO, index.getMaxSeverity(fFolder));
+		assertTrue(changed.contains(fFolder));
+
+		index.update(fSubFolder, IResource.DEPTH_INFINITE, changed);
+		assertEquals(IMarker.SEVERITY_ERROR, index.getMaxSeverity(fFolder));
+	}
+
+	private static IMarker createProblem(IResource resource, int severity) throws Exception {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		return marker;
+	}
+}
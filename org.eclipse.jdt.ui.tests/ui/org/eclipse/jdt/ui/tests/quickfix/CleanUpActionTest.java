@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,18 +14,26 @@
 package org.eclipse.jdt.ui.tests.quickfix;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jface.viewers.StructuredSelection;
 
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
+
 import org.eclipse.ui.IWorkbenchPartSite;
 import org.eclipse.ui.PlatformUI;
 
@@ -35,10 +43,13 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.MultiSortMembersAction;
 
 /**
@@ -102,4 +113,63 @@ public class CleanUpActionTest extends CleanUpTestCase {
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
 
+	@Test
+	public void testParallelCleanUpHasSameChanges() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("testParallelCleanUp", false, null);
+		List<ICompilationUnit> cus= new ArrayList<>();
+		for (int i= 0; i < 60; i++) {
+			StringBuilder buf= new StringBuilder();
+			buf.append("package testParallelCleanUp;\n");
+			buf.append("import java.util.List;\n");
+			buf.append("public class E" + i + " {\n");
+			buf.append("    private int field;\n");
+			buf.append("    public int get(boolean b) {\n");
+			buf.append("        if (b)\n");
+			buf.append("            return field;\n");
+			buf.append("        for (int j= 0; j < " + i + "; j++)\n");
+			buf.append("            field+= j;\n");
+			buf.append("        return 0;\n");
+			buf.append("    }\n");
+			buf.append("}\n");
+			cus.add(pack1.createCompilationUnit("E" + i + ".java", buf.toString(), false, null));
+		}
+
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS);
+		enable(CleanUpConstants.MEMBER_ACCESSES_NON_STATIC_FIELD_USE_THIS_ALWAYS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.ORGANIZE_IMPORTS);
+
+		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
+		List<String> sequential= createPreviews(units, 1);
+		List<String> parallel= createPreviews(units, 4);
+
+		assertEquals(units.length, sequential.size());
+		assertEquals(sequential, parallel);
+		for (String preview : sequential) {
+			assertTrue(preview, preview.contains("return this.field;"));
+			assertTrue(preview, preview.contains("if (b) {"));
+			assertFalse(preview, preview.contains("import java.util.List;"));
+		}
+	}
+
+	private List<String> createPreviews(ICompilationUnit[] cus, int maxParallelism) throws CoreException {
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setMaxParallelism(maxParallelism);
+		for (ICompilationUnit cu : cus) {
+			ref.addCompilationUnit(cu);
+		}
+		for (ICleanUp cleanUp : JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps()) {
+			ref.addCleanUp(cleanUp);
+		}
+		assertTrue(ref.checkAllConditions(new NullProgressMonitor()).isOK());
+
+		List<String> result= new ArrayList<>();
+		for (Change change : ((CompositeChange) ref.createChange(new NullProgressMonitor())).getChildren()) {
+			result.add(((TextEditBasedChange) change).getPreviewContent(new NullProgressMonitor()));
+		}
+		return result;
+	}
+
 }
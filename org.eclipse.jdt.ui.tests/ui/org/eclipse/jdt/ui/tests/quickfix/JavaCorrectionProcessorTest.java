@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.jface.text.source.Annotation;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+
+import org.eclipse.jdt.internal.ui.text.correction.AdvancedQuickAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.CorrectionMessages;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
+import org.eclipse.jdt.internal.ui.text.correction.QuickAssistProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredASTRewriteCorrectionProposal;
+
+/**
+ * Tests the collection of the quick assist proposals with a latency budget, see
+ * {@link JavaCorrectionProcessor#collectProposals}.
+ */
+public class JavaCorrectionProcessorTest extends QuickFixTest {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private ICompilationUnit fCu;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= projectSetup.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    public int foo(boolean b, int i) {
+			        if (b && i > 0) {
+			            return i;
+			        } else {
+			            return -i;
+			        }
+			    }
+			}
+			""";
+		fCu= pack1.createCompilationUnit("E.java", str, false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	private AssistContext createContext() throws Exception {
+		String source= fCu.getSource();
+		return getCorrectionContext(fCu, source.indexOf("if ("), 0);
+	}
+
+	private static List<String> getLabels(List<IJavaCompletionProposal> proposals) {
+		List<String> labels= new ArrayList<>();
+		for (IJavaCompletionProposal proposal : proposals) {
+			labels.add(proposal.getDisplayString());
+		}
+		labels.sort(null);
+		return labels;
+	}
+
+	@Test
+	public void deferredRewrite() throws Exception {
+		AssistContext context= createContext();
+		int[] count= { 0 };
+		DeferredASTRewriteCorrectionProposal proposal= new DeferredASTRewriteCorrectionProposal("deferred", fCu, 1, null, () -> {
+			count[0]++;
+			return ASTRewrite.create(context.getASTRoot().getAST());
+		});
+		assertEquals(0, count[0]);
+
+		proposal.getPreviewContent();
+		assertEquals(1, count[0]);
+	}
+
+	@Test
+	public void collectedProposalsEqualProcessorProposals() throws Exception {
+		ProblemLocation[] locations= new ProblemLocation[0];
+		AssistContext context= createContext();
+		List<IJavaCompletionProposal> expected= new ArrayList<>();
+		expected.addAll(Arrays.asList(new QuickAssistProcessor().getAssists(context, locations)));
+		expected.addAll(Arrays.asList(new AdvancedQuickAssistProcessor().getAssists(context, locations)));
+		assertFalse(expected.isEmpty());
+
+		List<IJavaCompletionProposal> collected= collectAssists(createContext(), null);
+		List<String> collectedLabels= getLabels(collected);
+		for (String label : getLabels(expected)) {
+			assertTrue(label, collectedLabels.remove(label));
+		}
+
+		// the deferred rewrites can be created
+		assertCorrectLabels(collected);
+		getPreviewContents(collected);
+	}
+
+	@Test
+	public void deadline() throws Exception {
+		List<IJavaCompletionProposal> all= collectAssists(createContext(), null);
+
+		// processors that would start after the deadline are skipped and reported, all others contribute their proposals
+		List<IJavaCompletionProposal> proposals= new ArrayList<>();
+		IStatus status= JavaCorrectionProcessor.collectProposals(createContext(), null, new Annotation[0], false, true, proposals, 1);
+		List<String> allLabels= getLabels(all);
+		for (String label : getLabels(proposals)) {
+			assertTrue(label, allLabels.remove(label));
+		}
+		if (!status.isOK()) {
+			assertEquals(CorrectionMessages.JavaCorrectionProcessor_timeout_message, status.getMessage());
+			for (IStatus child : status.getChildren()) {
+				assertEquals(child.toString(), IStatus.WARNING, child.getSeverity());
+			}
+		}
+
+		// the budget of one invocation does not affect the next invocation
+		assertEquals(getLabels(all), getLabels(collectAssists(createContext(), null)));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -38,15 +47,54 @@ import org.eclipse.jdt.core.dom.IBinding;
  */
 public class ASTBatchParser {
 
-	private static final int MAX_AT_ONCE;
+	private static final int MAX_AT_ONCE= getMaxAtOnce(Runtime.getRuntime().maxMemory() / (1 << 20));
+
+	/**
+	 * Heap (in MiB) that a single parser working on a chunk of {@link #getMaxAtOnce(long)}
+	 * units is expected to need. Used to bound the number of concurrent parsers.
+	 */
+	private static final long MEMORY_PER_WORKER= 250;
+
+	/**
+	 * The minimal number of units that are parsed together when ASTs are created with more than
+	 * one worker.
+	 */
+	private static final int MIN_CHUNK_SIZE= 10;
+
+	private static final AtomicInteger fgWorkerCount= new AtomicInteger();
+
+	/**
+	 * Shared pool on which chunks are parsed when ASTs are created with more than one worker.
+	 * It bounds the number of concurrent parsers of all callers, idle threads are released after
+	 * a while.
+	 */
+	private static final ExecutorService PARSER_POOL;
 	static {
-		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+		int threads= Math.max(1, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "AST Batch Parser Worker-" + fgWorkerCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		PARSER_POOL= pool;
+	}
+
+	private static int getMaxAtOnce(long memory) {
+		if      (memory >= 2000) return 400;
+		else if (memory >= 1500) return 300;
+		else if (memory >= 1000) return 200;
+		else if (memory >=  500) return 100;
+		else                     return  25;
+	}
 
-		if      (maxMemory >= 2000) MAX_AT_ONCE= 400;
-		else if (maxMemory >= 1500) MAX_AT_ONCE= 300;
-		else if (maxMemory >= 1000) MAX_AT_ONCE= 200;
-		else if (maxMemory >=  500) MAX_AT_ONCE= 100;
-		else                        MAX_AT_ONCE=  25;
+	/**
+	 * @return the heap (in MiB) that can still be allocated before reaching the maximum heap size
+	 */
+	private static long getHeapHeadroom() {
+		Runtime runtime= Runtime.getRuntime();
+		long used= runtime.totalMemory() - runtime.freeMemory();
+		return Math.max(0, runtime.maxMemory() - used) / (1 << 20);
 	}
 
 	/**
@@ -99,11 +147,122 @@ public class ASTBatchParser {
 		}
 	}
 
+	/**
+	 * Creates ASTs for each compilation unit in <code>units</code> using up to
+	 * <code>maxWorkers</code> parsers concurrently.
+	 * <p>
+	 * The compilation units are split by project and then into chunks. The chunk size and the
+	 * number of workers are derived from the heap that is still available when this method is
+	 * called, so that the concurrent parsers together do not need more memory than a single
+	 * sequential parser would in a larger heap. If only one worker can be afforded, this method
+	 * behaves like {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)}.
+	 * The chunks are parsed on a pool that is shared by all callers.
+	 * </p>
+	 * <p>
+	 * <code>ASTRequestor.acceptAST</code> is called in no particular order and from several
+	 * threads at once, the requestor must therefore be thread safe. A runtime exception thrown by
+	 * the requestor cancels the remaining chunks and is rethrown in the calling thread.
+	 * </p>
+	 *
+	 * @param compilationUnits the compilation units to create ASTs for
+	 * @param bindingKeys the binding keys to create bindings for
+	 * @param requestor the thread safe AST requestor that collects abstract syntax trees and bindings
+	 * @param maxWorkers the maximal number of parsers to run concurrently
+	 * @param monitor the progress monitor used to report progress and request cancelation,
+	 *   or <code>null</code> if none
+	 * @since 3.31
+	 */
+	public final void createASTs(ICompilationUnit[] compilationUnits, String[] bindingKeys, ASTRequestor requestor, int maxWorkers, IProgressMonitor monitor) {
+		if (compilationUnits.length == 0)
+			return;
+
+		long headroom= getHeapHeadroom();
+		int workers= (int) Math.max(1, Math.min(maxWorkers, headroom / MEMORY_PER_WORKER));
+		// spread small sets over the workers, but do not pay for a parser per handful of units
+		int chunkSize= Math.min(getMaxAtOnce(headroom / workers), Math.max(MIN_CHUNK_SIZE, (compilationUnits.length + workers - 1) / workers));
+
+		List<ICompilationUnit[]> chunks= new ArrayList<>();
+		for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
+			for (int cursor= 0; cursor < units.length; cursor+= chunkSize) {
+				chunks.add(Arrays.copyOfRange(units, cursor, Math.min(cursor + chunkSize, units.length)));
+			}
+		}
+		workers= Math.min(workers, chunks.size());
+		if (workers <= 1) {
+			createASTs(compilationUnits, bindingKeys, requestor, monitor);
+			return;
+		}
+
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		final IProgressMonitor parentMonitor= monitor;
+		final AtomicBoolean failed= new AtomicBoolean();
+		final IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return failed.get() || parentMonitor.isCanceled();
+			}
+		};
+		final AtomicInteger nextChunk= new AtomicInteger();
+		monitor.beginTask("", compilationUnits.length); //$NON-NLS-1$
+		List<Future<?>> futures= new ArrayList<>(workers);
+		try {
+			// each worker takes the next chunk until all are parsed, so at most 'workers' parsers run for this call
+			for (int i= 0; i < workers; i++) {
+				futures.add(PARSER_POOL.submit(() -> {
+					try {
+						int index;
+						while (!cancelMonitor.isCanceled() && (index= nextChunk.getAndIncrement()) < chunks.size()) {
+							ICompilationUnit[] chunk= chunks.get(index);
+							createParser(chunk[0].getJavaProject()).createASTs(chunk, bindingKeys, requestor, cancelMonitor);
+							synchronized (parentMonitor) {
+								parentMonitor.worked(chunk.length);
+							}
+						}
+					} catch (RuntimeException | Error e) {
+						failed.set(true);
+						throw e;
+					}
+				}));
+			}
+			Throwable failure= null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// a worker that failed cancels the others, report the failure and not their cancelation
+					Throwable cause= e.getCause();
+					if (failure == null || failure instanceof OperationCanceledException)
+						failure= cause;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+			}
+			if (failure instanceof RuntimeException)
+				throw (RuntimeException) failure;
+			if (failure instanceof Error)
+				throw (Error) failure;
+			if (failure != null)
+				throw new IllegalStateException(failure);
+			if (parentMonitor.isCanceled())
+				throw new OperationCanceledException();
+		} finally {
+			failed.set(true);
+			for (Future<?> future : futures) {
+				future.cancel(false);
+			}
+			monitor.done();
+		}
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
 	 * <p>
-	 * Subclasses may override
+	 * Subclasses may override. The method can be called concurrently when
+	 * ASTs are created with more than one worker.
 	 * </p>
 	 *
 	 * @param project the project for which ASTs are been generated
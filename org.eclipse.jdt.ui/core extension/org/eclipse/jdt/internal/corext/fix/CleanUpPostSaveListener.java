@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -340,14 +340,18 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 			} else {
 				FIRST_CALL= true;
 			}
-			HashSet<ICleanUp> slowCleanUps;
+			HashMap<ICleanUp, Long> cleanUpTimes;
 			if (FIRST_CALL_DONE) {
-				slowCleanUps= new HashSet<>();
+				cleanUpTimes= new HashMap<>();
 			} else {
-				slowCleanUps= null;
+				cleanUpTimes= null;
 			}
 			IUndoManager manager= RefactoringCore.getUndoManager();
 
+			// the AST of the previous iteration, as long as no change has been applied since
+			CompilationUnit currentAst= null;
+			Map<String, String> currentAstOptions= null;
+
 			boolean success= false;
 			try {
     			manager.aboutToPerformChange(result);
@@ -355,7 +359,10 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     			do {
     				RefactoringStatus preCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
+						long timeBefore= cleanUpTimes != null ? System.currentTimeMillis() : 0;
 						RefactoringStatus conditions= cleanUp.checkPreConditions(unit.getJavaProject(), new ICompilationUnit[] {unit}, new SubProgressMonitor(monitor, 5));
+						if (cleanUpTimes != null)
+							CleanUpRefactoring.addCleanUpTime(cleanUpTimes, cleanUp, timeBefore);
 						preCondition.merge(conditions);
 					}
     				if (showStatus(preCondition) != Window.OK)
@@ -371,7 +378,13 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 
     				CompilationUnit ast= null;
     				if (requiresAST(cleanUps)) {
-    					ast= createAst(unit, options, new SubProgressMonitor(monitor, 10));
+    					if (currentAst != null && currentAstOptions.entrySet().containsAll(options.entrySet())) {
+    						ast= currentAst;
+    					} else {
+    						ast= createAst(unit, options, new SubProgressMonitor(monitor, 10));
+    						currentAst= ast;
+    						currentAstOptions= options;
+    					}
     				}
 
     				CleanUpContext context;
@@ -382,11 +395,14 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				}
 
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
-					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, cleanUpTimes);
 
     				RefactoringStatus postCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
+						long timeBefore= cleanUpTimes != null ? System.currentTimeMillis() : 0;
 						RefactoringStatus conditions= cleanUp.checkPostConditions(new SubProgressMonitor(monitor, 1));
+						if (cleanUpTimes != null)
+							CleanUpRefactoring.addCleanUpTime(cleanUpTimes, cleanUp, timeBefore);
 						postCondition.merge(conditions);
 					}
     				if (showStatus(postCondition) != Window.OK)
@@ -394,6 +410,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 
     				cleanUps= undoneCleanUps.toArray(new ICleanUp[undoneCleanUps.size()]);
     				if (change != null) {
+    					currentAst= null;
     					result.add(change);
 
     					change.setSaveMode(TextFileChange.LEAVE_DIRTY);
@@ -424,8 +441,11 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     			manager.addUndo(result.getName(), undo);
 			}
 
-			if (slowCleanUps != null && slowCleanUps.size() > 0)
-				showSlowCleanUpsWarning(slowCleanUps);
+			if (cleanUpTimes != null) {
+				HashSet<ICleanUp> slowCleanUps= CleanUpRefactoring.getSlowCleanUps(cleanUpTimes);
+				if (slowCleanUps.size() > 0)
+					showSlowCleanUpsWarning(slowCleanUps);
+			}
 		} finally {
 			monitor.done();
 		}
@@ -618,6 +638,9 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		if (projectOption == null)
 			return false;
 
+		if (projectOption.equals(cleanUpOption))
+			return true;
+
 		if (ERROR_VALUE.equals(cleanUpOption)) {
 			return ERROR_VALUE.equals(projectOption);
 		} else if (WARNING_VALUE.equals(cleanUpOption)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -234,27 +234,54 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		@Override
 		public void done() {}
 
-		public int getIndex() {
+		public synchronized int getIndex() {
 			return fIndex + fFlushCount;
 		}
 
+		/**
+		 * Reports one processed compilation unit. Used instead of {@link #flush()} when
+		 * compilation units are processed concurrently and the work reported by the
+		 * parser cannot be attributed to a single unit.
+		 */
+		public synchronized void unitProcessed() {
+			super.internalWorked(1);
+			fFlushCount++;
+		}
+
+		@Override
+		public synchronized void subTask(String name) {
+			super.subTask(name);
+		}
+
 		public String getSubTaskMessage(ICompilationUnit source) {
 			String typeName= BasicElementLabels.getFileName(source);
 			return Messages.format(FixMessages.CleanUpRefactoring_ProcessingCompilationUnit_message, new Object[] {Integer.valueOf(getIndex()), Integer.valueOf(fSize), typeName});
 		}
 	}
 
+	/**
+	 * Calculates the solutions for the ASTs passed by the parser. When created for concurrent
+	 * use, <code>acceptAST</code> may be called from several threads at once, each with a
+	 * different compilation unit. The ASTs are then created concurrently, but the fixes are still
+	 * created one at a time, since the clean ups are not thread safe. The undone elements are
+	 * always reported in the order of the parse list, so that the result does not depend on the
+	 * order in which ASTs arrive.
+	 */
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
-		private final List<ParseListElement> fUndoneElements;
+		private final List<ParseListElement> fParseList;
+		private final Hashtable<ICompilationUnit, ParseListElement> fUndoneElements;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final boolean fConcurrent;
 
-		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor, boolean concurrent) {
+			fParseList= parseList;
 			fSolutions= solutions;
 			fMonitor= monitor;
-			fUndoneElements= new ArrayList<>();
+			fConcurrent= concurrent;
+			fUndoneElements= new Hashtable<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
 				fCompilationUnitParseElementMap.put(element.getTarget().getCompilationUnit(), element);
@@ -276,11 +303,21 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			} else {
 				context= new CleanUpContext(source, ast);
 			}
-			ICleanUp[] rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
+			ICleanUp[] rejectedCleanUps;
+			if (fConcurrent) {
+				synchronized (this) {
+					rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
+				}
+			} else {
+				rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
+			}
 
 			if (rejectedCleanUps.length > 0) {
-				fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
-				fMonitor.reset();
+				fUndoneElements.put(primary, new ParseListElement(target, rejectedCleanUps));
+				if (!fConcurrent)
+					fMonitor.reset();
+			} else if (fConcurrent) {
+				fMonitor.unitProcessed();
 			} else {
 				fMonitor.flush();
 			}
@@ -291,7 +328,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 
 		public List<ParseListElement> getUndoneElements() {
-			return fUndoneElements;
+			List<ParseListElement> result= new ArrayList<>(fUndoneElements.size());
+			for (ParseListElement element : fParseList) {
+				ParseListElement undone= fUndoneElements.get(element.getTarget().getCompilationUnit());
+				if (undone != null)
+					result.add(undone);
+			}
+			return result;
 		}
 
 		private ICleanUp[] calculateSolutions(CleanUpContext context, ICleanUp[] cleanUps) {
@@ -325,19 +368,24 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final List<ICompilationUnit> fTargetUnits;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
+		private final boolean fConcurrentCleanUps;
 		private final int fSize;
 		private int fIndex;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+			fConcurrentCleanUps= areBuiltInCleanUps(cleanUps);
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
 			fParseList= new ArrayList<>(targets.length);
+			fTargetUnits= new ArrayList<>(targets.length);
 			for (CleanUpTarget target : targets) {
 				fParseList.add(new ParseListElement(target, cleanUps));
+				fTargetUnits.add(target.getCompilationUnit());
 			}
 
 			fCleanUpOptions= new Hashtable<>();
@@ -380,7 +428,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
-				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				boolean concurrent= fMaxParallelism > 1 && parseList.size() > 1 && fConcurrentCleanUps;
+				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor, concurrent);
 				if (parseList.size() > 0) {
 					ASTBatchParser parser= new ASTBatchParser() {
 						@Override
@@ -396,7 +445,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					};
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						if (concurrent) {
+							IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+								@Override
+								public boolean isCanceled() {
+									return cuMonitor.isCanceled();
+								}
+							};
+							parser.createASTs(units, new String[0], requestor, fMaxParallelism, cancelMonitor);
+						} else {
+							parser.createASTs(units, new String[0], requestor, cuMonitor);
+						}
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -428,6 +487,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			fWorkingCopies.clear();
 		}
 
+		/**
+		 * Tells whether the fixes of the given clean ups can be created on the threads that parse
+		 * the compilation units. The fixes are created one at a time in any case, but contributed
+		 * clean ups may expect to be called from the thread that runs the refactoring.
+		 *
+		 * @param cleanUps the clean ups
+		 * @return <code>true</code> if all clean ups are built-in clean ups
+		 */
+		private boolean areBuiltInCleanUps(ICleanUp[] cleanUps) {
+			for (ICleanUp cleanUp : cleanUps) {
+				if (cleanUp.getClass().getClassLoader() != CleanUpRefactoring.class.getClassLoader())
+					return false;
+			}
+			return true;
+		}
+
 		private boolean requiresAST(ICleanUp[] cleanUps) {
 			for (ICleanUp cleanUp : cleanUps) {
 				if (cleanUp.getRequirements().requiresAST()) {
@@ -441,9 +516,10 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			for (ICompilationUnit unit : fTargetUnits) {
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null)
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -495,6 +571,14 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private static final RefactoringTickProvider CLEAN_UP_REFACTORING_TICK_PROVIDER= new RefactoringTickProvider(0, 1, 0, 0);
 
+	/**
+	 * The maximal number of workers used by the Clean Up action, see {@link #setMaxParallelism(int)}.
+	 * Can be set with the system property <code>jdt.ui.cleanup.parallelism</code>, <code>1</code>
+	 * processes all compilation units in the calling thread.
+	 */
+	public static final int DEFAULT_MAX_PARALLELISM= Math.max(1, Integer.getInteger("jdt.ui.cleanup.parallelism", //$NON-NLS-1$
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1))).intValue());
+
 	/**
 	 * A clean up is considered slow if its execution lasts longer then the value of
 	 * SLOW_CLEAN_UP_THRESHOLD in ms.
@@ -509,6 +593,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fMaxParallelism;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -518,12 +604,33 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fMaxParallelism= 1;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the maximal number of compilation unit chunks of a project that are parsed and
+	 * cleaned up concurrently. The number of workers actually used is further limited by the
+	 * available heap, see {@link ASTBatchParser#createASTs(ICompilationUnit[], String[], ASTRequestor, int, IProgressMonitor)}.
+	 * <p>
+	 * Projects are still processed one after the other, since the clean ups are configured and
+	 * their pre- and post-conditions are checked per project, but the chunks of a project use all
+	 * workers. The compilation units are only parsed concurrently if all added clean ups are
+	 * built-in clean ups, and the fixes are always created one at a time, since the clean ups are
+	 * not thread safe.
+	 * </p>
+	 *
+	 * @param maxParallelism the maximal number of workers, <code>1</code> to process all
+	 *            compilation units in the calling thread (the default)
+	 * @see #DEFAULT_MAX_PARALLELISM
+	 */
+	public void setMaxParallelism(int maxParallelism) {
+		fMaxParallelism= Math.max(1, maxParallelism);
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -754,7 +861,21 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return buf.toString();
 	}
 
-	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps) throws CoreException {
+	/**
+	 * Calculates the combined change of the given clean ups. The clean ups that cannot be applied
+	 * together with the previous ones, or that require a fresh AST, are added to
+	 * <code>undoneCleanUps</code>.
+	 *
+	 * @param context the clean up context
+	 * @param cleanUps the clean ups
+	 * @param undoneCleanUps receives the clean ups that have not been applied
+	 * @param cleanUpTimes receives the time in milliseconds that each clean up takes to create its
+	 *            fix and change, added to the time already recorded, or <code>null</code> if the
+	 *            time is not measured
+	 * @return the change, or <code>null</code> if there is nothing to change
+	 * @throws CoreException if a clean up fails
+	 */
+	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, Map<ICleanUp, Long> cleanUpTimes) throws CoreException {
 		if (cleanUps.length == 0)
 			return null;
 
@@ -762,17 +883,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		int i= 0;
 		do {
 			ICleanUp cleanUp= cleanUps[i];
-			ICleanUpFix fix;
-			if (slowCleanUps != null) {
-				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
-					slowCleanUps.add(cleanUp);
-			} else {
-				fix= cleanUp.createFix(context);
+			long timeBefore= cleanUpTimes != null ? System.currentTimeMillis() : 0;
+			ICleanUpFix fix= cleanUp.createFix(context);
+			CompilationUnitChange current= fix != null ? fix.createChange(null) : null;
+			if (cleanUpTimes != null) {
+				addCleanUpTime(cleanUpTimes, cleanUp, timeBefore);
 			}
-			if (fix != null) {
-				CompilationUnitChange current= fix.createChange(null);
+			if (current != null) {
 				TextEdit currentEdit= current.getEdit();
 
 				if (solution != null) {
@@ -803,6 +920,34 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return solution;
 	}
 
+	/**
+	 * Adds the time since <code>start</code> to the time recorded for the given clean up.
+	 *
+	 * @param cleanUpTimes the time in milliseconds taken by each clean up
+	 * @param cleanUp the clean up
+	 * @param start the {@link System#currentTimeMillis()} at which the clean up has started
+	 * @since 3.31
+	 */
+	public static void addCleanUpTime(Map<ICleanUp, Long> cleanUpTimes, ICleanUp cleanUp, long start) {
+		cleanUpTimes.merge(cleanUp, Long.valueOf(System.currentTimeMillis() - start), Long::sum);
+	}
+
+	/**
+	 * Returns the clean ups that have taken longer than {@link #SLOW_CLEAN_UP_THRESHOLD} in total.
+	 *
+	 * @param cleanUpTimes the time in milliseconds taken by each clean up
+	 * @return the slow clean ups
+	 * @since 3.31
+	 */
+	public static HashSet<ICleanUp> getSlowCleanUps(Map<ICleanUp, Long> cleanUpTimes) {
+		HashSet<ICleanUp> result= new HashSet<>();
+		for (Entry<ICleanUp, Long> entry : cleanUpTimes.entrySet()) {
+			if (entry.getValue().longValue() > SLOW_CLEAN_UP_THRESHOLD)
+				result.add(entry.getKey());
+		}
+		return result;
+	}
+
 	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,6 @@ import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.TypedPosition;
-import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.source.LineRange;
 import org.eclipse.jface.text.templates.DocumentTemplateContext;
 import org.eclipse.jface.text.templates.TemplateBuffer;
@@ -46,11 +45,8 @@ import org.eclipse.jdt.core.formatter.CodeFormatter;
 
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
 
-import org.eclipse.jdt.ui.text.IJavaPartitions;
-
 import org.eclipse.jdt.internal.ui.javaeditor.IndentUtil;
 import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileManager;
-import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitioner;
 
 /**
@@ -91,33 +87,12 @@ public class JavaFormatter {
 			Assert.isLegal(buffer != null);
 			fBuffer= buffer;
 			fDocument= new Document(fBuffer.getString());
-			installJavaStuff(fDocument, project);
+			FastJavaPartitioner.install(fDocument, project);
 			fDocument.addPositionCategory(CATEGORY);
 			fDocument.addPositionUpdater(new ExclusivePositionUpdater(CATEGORY));
 			fPositions= createRangeMarkers(fBuffer.getVariables(), fDocument);
 		}
 
-		/**
-		 * Installs a java partitioner with <code>document</code>.
-		 *
-		 * @param document the document
-		 * @param project the project associated with the document
-		 */
-		private static void installJavaStuff(Document document, IJavaProject project) {
-			String[] types= new String[] {
-										  IJavaPartitions.JAVA_DOC,
-										  IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
-										  IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
-										  IJavaPartitions.JAVA_STRING,
-										  IJavaPartitions.JAVA_CHARACTER,
-										  IJavaPartitions.JAVA_MULTI_LINE_STRING,
-										  IDocument.DEFAULT_CONTENT_TYPE
-			};
-			FastPartitioner partitioner= new FastJavaPartitioner(new FastJavaPartitionScanner(project), types);
-			partitioner.connect(document);
-			document.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
-		}
-
 		/**
 		 * Returns the document with the buffer contents. Whitespace variables are decorated with
 		 * comments.
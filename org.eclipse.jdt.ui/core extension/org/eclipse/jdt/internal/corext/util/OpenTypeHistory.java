@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -172,6 +172,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
+	private final TypeNameIndex fTypeNameIndex;
 
 	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
@@ -208,6 +209,18 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=135278
 		// for details.
 		fUpdateJob.setPriority(Job.SHORT);
+		fTypeNameIndex= new TypeNameIndex();
+	}
+
+	/**
+	 * Returns the index of the type names of the workspace, which is built while clients are
+	 * connected, see {@link TypeNameIndex#connect()}.
+	 *
+	 * @return the type name index
+	 * @since 3.31
+	 */
+	public TypeNameIndex getTypeNameIndex() {
+		return fTypeNameIndex;
 	}
 
 	public void markAsInconsistent() {
@@ -305,6 +318,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 			Long lastTested= fTimestampMapping.get(type);
 			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
 				continue;
+			if (fTypeNameIndex.contains(type)) {
+				// the type exists with the same modifiers
+				fTimestampMapping.put(type, currentTimestamp);
+				continue;
+			}
 			try {
 				IType jType= type.getType();
 				if (jType == null || !jType.exists()) {
@@ -378,6 +396,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private void doShutdown() {
 		JavaCore.removeElementChangedListener(fDeltaListener);
+		fTypeNameIndex.dispose();
 		save();
 	}
 
@@ -0,0 +1,581 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Resident index of the names of all types of the workspace, used by the open type dialog instead
+ * of searching all type names for every pattern.
+ * <p>
+ * The index is divided into one segment per package fragment root. A segment keeps the types
+ * sorted by their lower case simple names, which are packed into one char array, so that the
+ * candidates of a prefix are found with a binary search and all other patterns scan the packed
+ * names without touching the matches.
+ * </p>
+ * <p>
+ * The index is built in the background when the first client connects and kept up to date with
+ * Java element deltas while clients are connected: the types of changed compilation units are read
+ * from the Java model, the segments of changed roots are searched again, and changes to the class
+ * path rebuild the whole index. While an update is pending, {@link #isReady()} returns <code>false</code> and clients search as before.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * <code>false</code> to disable the index, the open type dialog then searches for every
+	 * pattern.
+	 */
+	private static final boolean ENABLED= Boolean.parseBoolean(System.getProperty("jdt.ui.openType.index", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Time in milliseconds that the index is kept up to date after the last client disconnected, so
+	 * that the open type dialog finds it ready when it is opened again soon.
+	 */
+	private static final long KEEP_ALIVE= 5 * 60 * 1000;
+
+	/**
+	 * The types of one package fragment root, sorted by their lower case simple names.
+	 */
+	private static final class Segment {
+
+		private static final Comparator<TypeNameMatch> BY_NAME= Comparator.comparing(match -> toLowerCase(match.getSimpleTypeName()));
+
+		final TypeNameMatch[] fMatches;
+
+		/** The lower case simple names of the matches */
+		final char[] fNames;
+
+		/** The start of the name of match <code>i</code> in {@link #fNames}, followed by the end */
+		final int[] fNameStarts;
+
+		Segment(TypeNameMatch[] matches) {
+			Arrays.sort(matches, BY_NAME);
+			fMatches= matches;
+			fNameStarts= new int[matches.length + 1];
+			int length= 0;
+			for (int i= 0; i < matches.length; i++) {
+				fNameStarts[i]= length;
+				length+= matches[i].getSimpleTypeName().length();
+			}
+			fNameStarts[matches.length]= length;
+			fNames= new char[length];
+			for (int i= 0; i < matches.length; i++) {
+				String name= toLowerCase(matches[i].getSimpleTypeName());
+				name.getChars(0, name.length(), fNames, fNameStarts[i]);
+			}
+		}
+
+		/**
+		 * Returns a copy of this segment without the types of the given compilation unit and with
+		 * the given types.
+		 *
+		 * @param cu the compilation unit
+		 * @param added the types of the compilation unit
+		 * @return the new segment
+		 */
+		Segment replace(ICompilationUnit cu, List<TypeNameMatch> added) {
+			List<TypeNameMatch> matches= new ArrayList<>(fMatches.length + added.size());
+			for (TypeNameMatch match : fMatches) {
+				if (!cu.equals(match.getType().getCompilationUnit()))
+					matches.add(match);
+			}
+			matches.addAll(added);
+			return new Segment(matches.toArray(new TypeNameMatch[matches.size()]));
+		}
+
+		/**
+		 * Returns the index of the first name that is greater than or equal to the given prefix.
+		 *
+		 * @param prefix the lower case prefix
+		 * @return the index
+		 */
+		int lowerBound(String prefix) {
+			int low= 0;
+			int high= fMatches.length;
+			while (low < high) {
+				int mid= (low + high) >>> 1;
+				if (compare(mid, prefix) < 0)
+					low= mid + 1;
+				else
+					high= mid;
+			}
+			return low;
+		}
+
+		/**
+		 * Compares the name of a match with a prefix, names that start with the prefix are equal.
+		 *
+		 * @param index the index of the match
+		 * @param prefix the lower case prefix
+		 * @return the comparison result
+		 */
+		int compare(int index, String prefix) {
+			int start= fNameStarts[index];
+			int length= Math.min(fNameStarts[index + 1] - start, prefix.length());
+			for (int i= 0; i < length; i++) {
+				int diff= fNames[start + i] - prefix.charAt(i);
+				if (diff != 0)
+					return diff;
+			}
+			return fNameStarts[index + 1] - start < prefix.length() ? -1 : 0;
+		}
+	}
+
+	/**
+	 * Discards the index when no client has connected again.
+	 */
+	private final class ReleaseJob extends Job {
+
+		ReleaseJob() {
+			super(CorextMessages.TypeNameIndex_update);
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			synchronized (fLock) {
+				if (fClients == 0)
+					stop();
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final class UpdateJob extends Job {
+
+		UpdateJob() {
+			super(CorextMessages.TypeNameIndex_update);
+			setSystem(true);
+			setPriority(Job.LONG);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				update(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final Object fLock= new Object();
+
+	/** Copied on write, <code>null</code> until the index is built */
+	private volatile Map<IPackageFragmentRoot, Segment> fSegments;
+
+	private boolean fRebuild= true;
+
+	private final Set<IPackageFragmentRoot> fChangedRoots= new LinkedHashSet<>();
+
+	private final Set<ICompilationUnit> fChangedUnits= new LinkedHashSet<>();
+
+	private volatile boolean fReady;
+
+	private final IElementChangedListener fDeltaListener= this::elementChanged;
+
+	private final UpdateJob fUpdateJob= new UpdateJob();
+
+	private final ReleaseJob fReleaseJob= new ReleaseJob();
+
+	private boolean fStarted;
+
+	/** The number of connected clients */
+	private int fClients;
+
+	/**
+	 * Creates an index that is not built yet.
+	 */
+	public TypeNameIndex() {
+	}
+
+	/**
+	 * Registers a client of the index. The index is built in the background and kept up to date
+	 * until the last client has disconnected, if it is enabled.
+	 *
+	 * @see #disconnect()
+	 */
+	public void connect() {
+		if (!ENABLED)
+			return;
+		synchronized (fLock) {
+			fClients++;
+			if (fStarted) {
+				fReleaseJob.cancel();
+				return;
+			}
+			fStarted= true;
+			JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		fUpdateJob.schedule();
+	}
+
+	/**
+	 * Unregisters a client of the index. When the last client has disconnected, the index stops
+	 * listening to Java element changes and is discarded after {@link #KEEP_ALIVE} milliseconds,
+	 * unless a client connects again.
+	 *
+	 * @see #connect()
+	 */
+	public void disconnect() {
+		synchronized (fLock) {
+			if (fClients == 0 || --fClients > 0)
+				return;
+		}
+		fReleaseJob.schedule(KEEP_ALIVE);
+	}
+
+	/**
+	 * Stops listening to Java element changes and discards the index, regardless of the connected
+	 * clients.
+	 */
+	public void dispose() {
+		synchronized (fLock) {
+			fClients= 0;
+			stop();
+		}
+		fReleaseJob.cancel();
+		fUpdateJob.cancel();
+	}
+
+	private void stop() {
+		if (!fStarted)
+			return;
+		fStarted= false;
+		JavaCore.removeElementChangedListener(fDeltaListener);
+		fReady= false;
+		fSegments= null;
+		fRebuild= true;
+		fChangedRoots.clear();
+		fChangedUnits.clear();
+	}
+
+	/**
+	 * Tells whether the index is built and has no pending updates.
+	 *
+	 * @return <code>true</code> if {@link #search(TypeInfoFilter, Consumer, IProgressMonitor)} finds
+	 *         all types
+	 */
+	public boolean isReady() {
+		return fReady;
+	}
+
+	/**
+	 * Reports the types that may match the name pattern of the given filter. The types must still
+	 * be checked with the filter, but all types that match it are reported.
+	 *
+	 * @param filter the filter
+	 * @param requestor receives the candidates
+	 * @param monitor the progress monitor
+	 * @return <code>false</code> if the index is not ready and nothing has been reported
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	public boolean search(TypeInfoFilter filter, Consumer<TypeNameMatch> requestor, IProgressMonitor monitor) {
+		Map<IPackageFragmentRoot, Segment> segments= fSegments;
+		if (!fReady || segments == null)
+			return false;
+
+		String prefix= getCandidatePrefix(filter);
+		int count= 0;
+		for (Segment segment : segments.values()) {
+			int start= prefix.isEmpty() ? 0 : segment.lowerBound(prefix);
+			for (int i= start, n= segment.fMatches.length; i < n && (prefix.isEmpty() || segment.compare(i, prefix) == 0); i++) {
+				if ((++count & 0x3ff) == 0 && monitor.isCanceled())
+					throw new OperationCanceledException();
+				requestor.accept(segment.fMatches[i]);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether the given type is in the index.
+	 *
+	 * @param match the type
+	 * @return <code>true</code> if the index is ready and contains a type that is equal to the
+	 *         given one
+	 */
+	public boolean contains(TypeNameMatch match) {
+		Map<IPackageFragmentRoot, Segment> segments= fSegments;
+		if (!fReady || segments == null)
+			return false;
+		Segment segment= segments.get(match.getPackageFragmentRoot());
+		if (segment == null)
+			return false;
+		String name= toLowerCase(match.getSimpleTypeName());
+		for (int i= segment.lowerBound(name), n= segment.fMatches.length; i < n && segment.compare(i, name) == 0; i++) {
+			if (match.equals(segment.fMatches[i]))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lower case prefix that all names matching the filter start with.
+	 *
+	 * @param filter the filter
+	 * @return the prefix, empty if the names can start with any character
+	 */
+	private static String getCandidatePrefix(TypeInfoFilter filter) {
+		if (filter.getText().isEmpty())
+			return ""; //$NON-NLS-1$
+		String pattern= filter.getNamePattern();
+		int end;
+		switch (filter.getSearchFlags()) {
+			case SearchPattern.R_EXACT_MATCH:
+			case SearchPattern.R_PREFIX_MATCH:
+				end= pattern.length();
+				break;
+			case SearchPattern.R_PATTERN_MATCH:
+				end= 0;
+				while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '?')
+					end++;
+				break;
+			default:
+				// camel case patterns only fix the first character
+				end= Math.min(1, pattern.length());
+		}
+		// only ASCII letters are compared in lower case, case insensitive matching of others differs
+		int ascii= 0;
+		while (ascii < end && pattern.charAt(ascii) < 128)
+			ascii++;
+		return toLowerCase(pattern.substring(0, ascii));
+	}
+
+	private static String toLowerCase(String name) {
+		for (int i= 0; i < name.length(); i++) {
+			char ch= name.charAt(i);
+			if (ch >= 'A' && ch <= 'Z') {
+				char[] chars= name.toCharArray();
+				for (int j= i; j < chars.length; j++) {
+					if (chars[j] >= 'A' && chars[j] <= 'Z')
+						chars[j]+= 'a' - 'A';
+				}
+				return new String(chars);
+			}
+		}
+		return name;
+	}
+
+	private void update(IProgressMonitor monitor) throws JavaModelException {
+		boolean rebuild;
+		List<IPackageFragmentRoot> roots;
+		List<ICompilationUnit> units;
+		synchronized (fLock) {
+			if (!fStarted)
+				return;
+			rebuild= fRebuild || fSegments == null;
+			roots= new ArrayList<>(fChangedRoots);
+			units= new ArrayList<>(fChangedUnits);
+			fRebuild= false;
+			fChangedRoots.clear();
+			fChangedUnits.clear();
+		}
+
+		Map<IPackageFragmentRoot, Segment> segments;
+		if (rebuild) {
+			segments= searchSegments(SearchEngine.createWorkspaceScope(), monitor);
+		} else {
+			segments= new HashMap<>(fSegments);
+			if (!roots.isEmpty()) {
+				for (IPackageFragmentRoot root : roots) {
+					segments.remove(root);
+				}
+				List<IPackageFragmentRoot> existing= new ArrayList<>();
+				for (IPackageFragmentRoot root : roots) {
+					if (root.exists())
+						existing.add(root);
+				}
+				if (!existing.isEmpty()) {
+					IJavaSearchScope scope= SearchEngine.createJavaSearchScope(existing.toArray(new IJavaElement[existing.size()]));
+					segments.putAll(searchSegments(scope, monitor));
+				}
+			}
+		}
+		// after a rebuild, the changes of the units are contained in the search result or reported again
+		for (ICompilationUnit cu : units) {
+			IPackageFragmentRoot root= (IPackageFragmentRoot) cu.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			Segment segment= segments.get(root);
+			if (segment != null)
+				segments.put(root, segment.replace(cu, getTypes(cu)));
+		}
+
+		synchronized (fLock) {
+			if (!fStarted)
+				return;
+			fSegments= segments;
+			fReady= !fRebuild && fChangedRoots.isEmpty() && fChangedUnits.isEmpty();
+		}
+	}
+
+	private static Map<IPackageFragmentRoot, Segment> searchSegments(IJavaSearchScope scope, IProgressMonitor monitor) throws JavaModelException {
+		Map<IPackageFragmentRoot, List<TypeNameMatch>> matches= new HashMap<>();
+		new SearchEngine().searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, scope, new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				matches.computeIfAbsent(match.getPackageFragmentRoot(), root -> new ArrayList<>()).add(match);
+			}
+		}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		Map<IPackageFragmentRoot, Segment> segments= new HashMap<>();
+		for (Map.Entry<IPackageFragmentRoot, List<TypeNameMatch>> entry : matches.entrySet()) {
+			List<TypeNameMatch> list= entry.getValue();
+			segments.put(entry.getKey(), new Segment(list.toArray(new TypeNameMatch[list.size()])));
+		}
+		return segments;
+	}
+
+	private static List<TypeNameMatch> getTypes(ICompilationUnit cu) throws JavaModelException {
+		List<TypeNameMatch> types= new ArrayList<>();
+		if (cu.exists()) {
+			for (IType type : cu.getAllTypes()) {
+				types.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+			}
+		}
+		return types;
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		Set<IPackageFragmentRoot> roots= new HashSet<>();
+		Set<ICompilationUnit> units= new HashSet<>();
+		boolean rebuild= processDelta(event.getDelta(), roots, units);
+		if (!rebuild && roots.isEmpty() && units.isEmpty())
+			return;
+		synchronized (fLock) {
+			if (!fStarted)
+				return;
+			fReady= false;
+			fRebuild|= rebuild;
+			fChangedRoots.addAll(roots);
+			fChangedUnits.addAll(units);
+		}
+		fUpdateJob.schedule();
+	}
+
+	/**
+	 * Collects the roots and compilation units whose types may have changed.
+	 *
+	 * @param delta the Java element delta
+	 * @param roots the roots that must be searched again
+	 * @param units the compilation units whose types must be read again
+	 * @return <code>true</code> if the whole index must be rebuilt
+	 */
+	private static boolean processDelta(IJavaElementDelta delta, Set<IPackageFragmentRoot> roots, Set<ICompilationUnit> units) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+						| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0)
+					return true;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+						| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					roots.add((IPackageFragmentRoot) element);
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+			case IJavaElement.CLASS_FILE:
+				if (kind != IJavaElementDelta.CHANGED) {
+					roots.add((IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT));
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (JavaModelUtil.isPrimary(cu) && (kind != IJavaElementDelta.CHANGED || isTypeChange(delta)))
+					units.add(cu.getPrimary());
+				return false;
+			default:
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (processDelta(child, roots, units))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether the delta of a compilation unit may add, remove or modify types.
+	 *
+	 * @param delta the delta of a compilation unit or type
+	 * @return <code>true</code> if the types must be read again
+	 */
+	private static boolean isTypeChange(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT) {
+			if ((flags & (IJavaElementDelta.F_PRIMARY_WORKING_COPY | IJavaElementDelta.F_PRIMARY_RESOURCE)) != 0)
+				return true;
+			if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+				return true; // no details available
+		} else if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_MODIFIERS) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() == IJavaElement.TYPE && isTypeChange(child))
+				return true;
+		}
+		return false;
+	}
+}
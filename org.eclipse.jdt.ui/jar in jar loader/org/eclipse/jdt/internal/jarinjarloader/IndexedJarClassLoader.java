@@ -0,0 +1,734 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.jarinjarloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * This class will be compiled into the binary jar-in-jar-loader.zip. This ZIP is used for the
+ * "Runnable JAR File Exporter".
+ * Source has to comply to java 1.8 - see <a href="file:../../../../../../scripts/build_jar-in-jar-loader.xml">build_jar-in-jar-loader.xml</a>
+ *
+ * A class loader for the libraries packaged into the runnable JAR. The central directories of the
+ * nested JARs are read once when the loader is created. Entries of nested JARs which are stored
+ * uncompressed in the runnable JAR are read directly from the file at their offset, other nested
+ * JARs are read into memory once. The class path entries which contain a package are looked up once
+ * per package.
+ *
+ * The signatures of nested JARs are not verified by this class loader. If a nested JAR is signed,
+ * the loader cannot be created and {@link JarRsrcLoader} uses a {@link java.net.URLClassLoader}
+ * instead.
+ *
+ * @since 3.31
+ */
+public class IndexedJarClassLoader extends ClassLoader {
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+	private static final int END_LENGTH = 22;
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static final Charset UTF8 = Charset.forName(JIJConstants.UTF8_ENCODING);
+
+	private final ClassPathElement[] elements;
+
+	/**
+	 * Maps a package directory to the indices of the nested JARs which contain entries in it.
+	 */
+	private final Map<String, List<Integer>> packageIndex = new HashMap<>();
+
+	/**
+	 * Maps a package directory to the class path elements to search for entries in it.
+	 */
+	private final Map<String, ClassPathElement[]> lookupCache = new ConcurrentHashMap<>();
+
+	private final FileChannel outerJar;
+
+	/**
+	 * Creates a class loader for the given class path.
+	 *
+	 * @param rsrcClassPath the entries of the <code>Rsrc-Class-Path</code> manifest attribute
+	 * @param resourceLoader the class loader which has loaded the runnable JAR
+	 * @param parent the parent class loader
+	 * @throws IOException if the runnable JAR is not a local file, cannot be read or contains a
+	 *             signed library
+	 */
+	public IndexedJarClassLoader(String[] rsrcClassPath, ClassLoader resourceLoader, ClassLoader parent) throws IOException {
+		super(parent);
+		File outerFile = getOuterFile();
+		@SuppressWarnings("resource")
+		RandomAccessFile file = new RandomAccessFile(outerFile, "r"); //$NON-NLS-1$
+		outerJar = file.getChannel();
+		boolean success = false;
+		try {
+			FileSource outerSource = new FileSource(outerJar, 0, outerJar.size());
+			Map<String, EntryInfo> outerEntries = readCentralDirectory(outerSource);
+			elements = new ClassPathElement[rsrcClassPath.length];
+			for (int i = 0; i < rsrcClassPath.length; i++) {
+				String rsrcPath = rsrcClassPath[i];
+				if (rsrcPath.endsWith(JIJConstants.PATH_SEPARATOR)) {
+					elements[i] = new DirectoryElement(rsrcPath, resourceLoader, this);
+				} else {
+					Source source = openNestedJar(rsrcPath, outerSource, outerEntries.get(rsrcPath), resourceLoader);
+					NestedJar jar = new NestedJar(rsrcPath, source, this);
+					if (jar.isSigned())
+						throw new IOException("Signed library in runnable JAR: " + rsrcPath); //$NON-NLS-1$
+					elements[i] = jar;
+					for (String dir : jar.packages) {
+						List<Integer> jars = packageIndex.get(dir);
+						if (jars == null) {
+							jars = new ArrayList<>(1);
+							packageIndex.put(dir, jars);
+						}
+						jars.add(Integer.valueOf(i));
+					}
+				}
+			}
+			success = true;
+		} finally {
+			if (!success)
+				outerJar.close();
+		}
+	}
+
+	private static File getOuterFile() throws IOException {
+		CodeSource codeSource = JarRsrcLoader.class.getProtectionDomain().getCodeSource();
+		URL location = codeSource != null ? codeSource.getLocation() : null;
+		if (location == null || !"file".equals(location.getProtocol())) //$NON-NLS-1$
+			throw new IOException("Runnable JAR is not a local file: " + location); //$NON-NLS-1$
+		try {
+			File file = new File(location.toURI());
+			if (!file.isFile())
+				throw new IOException("Runnable JAR is not a file: " + file); //$NON-NLS-1$
+			return file;
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the content of a nested JAR. A JAR which is stored uncompressed is read from the
+	 * runnable JAR on demand, otherwise it is read into memory.
+	 */
+	private static Source openNestedJar(String rsrcPath, FileSource outerSource, EntryInfo entry, ClassLoader resourceLoader) throws IOException {
+		if (entry != null && entry.method == STORED)
+			return new FileSource(outerSource.channel, entry.getDataOffset(outerSource), entry.size);
+		try (InputStream in = resourceLoader.getResourceAsStream(rsrcPath)) {
+			if (in == null)
+				throw new IOException("Missing library in runnable JAR: " + rsrcPath); //$NON-NLS-1$
+			ByteArrayOutputStream out = new ByteArrayOutputStream(entry != null ? (int) Math.min(entry.size, Integer.MAX_VALUE - 8) : 8192);
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = in.read(buffer)) != -1)
+				out.write(buffer, 0, count);
+			return new ArraySource(out.toByteArray());
+		}
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		String path = name.replace('.', '/').concat(".class"); //$NON-NLS-1$
+		for (ClassPathElement element : getElements(path)) {
+			byte[] bytes;
+			try {
+				bytes = element.getBytes(path);
+			} catch (IOException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+			if (bytes != null) {
+				definePackageIfNeeded(name, element);
+				return defineClass(name, bytes, 0, bytes.length, element.protectionDomain);
+			}
+		}
+		throw new ClassNotFoundException(name);
+	}
+
+	@Override
+	protected URL findResource(String name) {
+		for (ClassPathElement element : getElements(name)) {
+			URL url = element.getResource(name);
+			if (url != null)
+				return url;
+		}
+		return null;
+	}
+
+	@Override
+	protected Enumeration<URL> findResources(String name) throws IOException {
+		List<URL> result = new ArrayList<>();
+		for (ClassPathElement element : getElements(name)) {
+			URL url = element.getResource(name);
+			if (url != null)
+				result.add(url);
+		}
+		return Collections.enumeration(result);
+	}
+
+	/**
+	 * Returns the class path elements which may contain the given entry, in class path order.
+	 */
+	private ClassPathElement[] getElements(String name) {
+		String dir = getDirectory(name);
+		ClassPathElement[] result = lookupCache.get(dir);
+		if (result == null) {
+			List<Integer> jars = packageIndex.get(dir);
+			List<ClassPathElement> list = new ArrayList<>();
+			for (int i = 0; i < elements.length; i++) {
+				if (elements[i] instanceof DirectoryElement || (jars != null && jars.contains(Integer.valueOf(i))))
+					list.add(elements[i]);
+			}
+			result = list.toArray(new ClassPathElement[list.size()]);
+			lookupCache.put(dir, result);
+		}
+		return result;
+	}
+
+	@SuppressWarnings("deprecation") // getDefinedPackage(String) is not available on Java 8
+	private void definePackageIfNeeded(String className, ClassPathElement element) {
+		int lastDot = className.lastIndexOf('.');
+		if (lastDot == -1)
+			return;
+		String packageName = className.substring(0, lastDot);
+		if (getPackage(packageName) != null)
+			return;
+		Manifest manifest = element.getManifest();
+		try {
+			if (manifest == null) {
+				definePackage(packageName, null, null, null, null, null, null, null);
+			} else {
+				Attributes main = manifest.getMainAttributes();
+				Attributes attributes = manifest.getAttributes(packageName.replace('.', '/') + JIJConstants.PATH_SEPARATOR);
+				definePackage(packageName,
+						getValue(attributes, main, Name.SPECIFICATION_TITLE),
+						getValue(attributes, main, Name.SPECIFICATION_VERSION),
+						getValue(attributes, main, Name.SPECIFICATION_VENDOR),
+						getValue(attributes, main, Name.IMPLEMENTATION_TITLE),
+						getValue(attributes, main, Name.IMPLEMENTATION_VERSION),
+						getValue(attributes, main, Name.IMPLEMENTATION_VENDOR),
+						null);
+			}
+		} catch (IllegalArgumentException e) {
+			// defined concurrently
+		}
+	}
+
+	private static String getValue(Attributes attributes, Attributes main, Name name) {
+		String value = attributes != null ? attributes.getValue(name) : null;
+		return value != null ? value : main.getValue(name);
+	}
+
+	private static String getDirectory(String name) {
+		int lastSlash = name.lastIndexOf('/');
+		return lastSlash != -1 ? name.substring(0, lastSlash) : ""; //$NON-NLS-1$
+	}
+
+	private static int getJavaVersion() {
+		String version = System.getProperty("java.specification.version", "1.8"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (version.startsWith("1.")) //$NON-NLS-1$
+			version = version.substring(2);
+		try {
+			return Integer.parseInt(version);
+		} catch (NumberFormatException e) {
+			return 8;
+		}
+	}
+
+	// ---- class path elements ----
+
+	private abstract static class ClassPathElement {
+
+		final String rsrcPath;
+
+		/**
+		 * The protection domain of the classes of this element. Signed nested JARs are not loaded by
+		 * this class loader, so the code source has no certificates.
+		 */
+		ProtectionDomain protectionDomain;
+
+		ClassPathElement(String rsrcPath) {
+			this.rsrcPath = rsrcPath;
+		}
+
+		/**
+		 * Sets the code source of this element. The URL is created with its handler, it does not
+		 * depend on the URL stream handler factory installed by {@link JarRsrcLoader}.
+		 */
+		void setCodeSource(URL codeSourceURL, ClassLoader loader) {
+			protectionDomain = new ProtectionDomain(new CodeSource(codeSourceURL, (Certificate[]) null), null, loader, null);
+		}
+
+		abstract byte[] getBytes(String name) throws IOException;
+
+		abstract URL getResource(String name);
+
+		abstract Manifest getManifest();
+	}
+
+	/**
+	 * A directory of the runnable JAR, its resources are loaded by the class loader which has
+	 * loaded the runnable JAR.
+	 */
+	private static final class DirectoryElement extends ClassPathElement {
+
+		private final String prefix;
+
+		private final ClassLoader resourceLoader;
+
+		DirectoryElement(String rsrcPath, ClassLoader resourceLoader, ClassLoader loader) throws MalformedURLException {
+			super(rsrcPath);
+			this.prefix = JIJConstants.CURRENT_DIR.equals(rsrcPath) ? "" : rsrcPath; //$NON-NLS-1$
+			this.resourceLoader = resourceLoader;
+			setCodeSource(new URL(JIJConstants.INTERNAL_URL_PROTOCOL, "", -1, rsrcPath, new RsrcURLStreamHandler(resourceLoader)), loader); //$NON-NLS-1$
+		}
+
+		@Override
+		byte[] getBytes(String name) throws IOException {
+			try (InputStream in = resourceLoader.getResourceAsStream(prefix + name)) {
+				if (in == null)
+					return null;
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[8192];
+				int count;
+				while ((count = in.read(buffer)) != -1)
+					out.write(buffer, 0, count);
+				return out.toByteArray();
+			}
+		}
+
+		@Override
+		URL getResource(String name) {
+			return resourceLoader.getResource(prefix + name);
+		}
+
+		@Override
+		Manifest getManifest() {
+			return null;
+		}
+	}
+
+	/**
+	 * A JAR nested in the runnable JAR, indexed by its central directory.
+	 */
+	private static final class NestedJar extends ClassPathElement {
+
+		private static final String META_INF_DIR = "META-INF/"; //$NON-NLS-1$
+
+		private static final String VERSIONS_DIR = META_INF_DIR + "versions/"; //$NON-NLS-1$
+
+		private final Source source;
+
+		private final Map<String, EntryInfo> entries;
+
+		/**
+		 * The directories containing entries, including the directories of versioned entries.
+		 */
+		final List<String> packages = new ArrayList<>();
+
+		private final Manifest manifest;
+
+		/**
+		 * The prefixes of the versioned entries to look at, from the highest version.
+		 */
+		private final String[] versionPrefixes;
+
+		private final URLStreamHandler handler = new URLStreamHandler() {
+			@Override
+			protected URLConnection openConnection(URL url) throws IOException {
+				final String name = url.getFile().substring(url.getFile().indexOf(JIJConstants.JAR_INTERNAL_SEPARATOR) + JIJConstants.JAR_INTERNAL_SEPARATOR.length());
+				return new URLConnection(url) {
+					@Override
+					public void connect() throws IOException {
+					}
+
+					@Override
+					public InputStream getInputStream() throws IOException {
+						byte[] bytes = getBytes(name);
+						if (bytes == null)
+							throw new IOException("Could not open InputStream for URL '" + url + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+						return new ByteArrayInputStream(bytes);
+					}
+				};
+			}
+		};
+
+		NestedJar(String rsrcPath, Source source, ClassLoader loader) throws IOException {
+			super(rsrcPath);
+			this.source = source;
+			this.entries = readCentralDirectory(source);
+			Map<String, Boolean> dirs = new HashMap<>();
+			for (String name : entries.keySet()) {
+				String dir = getDirectory(name);
+				if (name.startsWith(VERSIONS_DIR)) {
+					int end = name.indexOf('/', VERSIONS_DIR.length());
+					if (end != -1 && dir.length() > end)
+						dir = dir.substring(end + 1);
+				}
+				if (dirs.put(dir, Boolean.TRUE) == null)
+					packages.add(dir);
+			}
+			byte[] manifestBytes = getEntryBytes(JarFile.MANIFEST_NAME);
+			this.manifest = manifestBytes != null ? new Manifest(new ByteArrayInputStream(manifestBytes)) : null;
+			this.versionPrefixes = getVersionPrefixes();
+			setCodeSource(createURL(""), loader); //$NON-NLS-1$
+		}
+
+		/**
+		 * Returns whether the JAR contains a signature file. The signatures are only verified when
+		 * a JAR is read with {@link java.util.jar.JarFile} or {@link java.util.jar.JarInputStream}.
+		 */
+		boolean isSigned() {
+			for (String name : entries.keySet()) {
+				if (name.startsWith(META_INF_DIR) && name.indexOf('/', META_INF_DIR.length()) == -1
+						&& name.toUpperCase(Locale.ENGLISH).endsWith(".SF")) //$NON-NLS-1$
+					return true;
+			}
+			return false;
+		}
+
+		private String[] getVersionPrefixes() {
+			if (manifest == null || !"true".equalsIgnoreCase(manifest.getMainAttributes().getValue("Multi-Release"))) //$NON-NLS-1$ //$NON-NLS-2$
+				return new String[0];
+			List<String> prefixes = new ArrayList<>();
+			for (int version = getJavaVersion(); version >= 9; version--) {
+				String prefix = VERSIONS_DIR + version + '/';
+				for (String name : entries.keySet()) {
+					if (name.startsWith(prefix)) {
+						prefixes.add(prefix);
+						break;
+					}
+				}
+			}
+			return prefixes.toArray(new String[prefixes.size()]);
+		}
+
+		private EntryInfo getEntry(String name) {
+			if (!name.startsWith(META_INF_DIR)) {
+				for (String prefix : versionPrefixes) {
+					EntryInfo entry = entries.get(prefix + name);
+					if (entry != null)
+						return entry;
+				}
+			}
+			return entries.get(name);
+		}
+
+		@Override
+		byte[] getBytes(String name) throws IOException {
+			EntryInfo entry = getEntry(name);
+			return entry != null ? entry.read(source) : null;
+		}
+
+		private byte[] getEntryBytes(String name) throws IOException {
+			EntryInfo entry = entries.get(name);
+			return entry != null ? entry.read(source) : null;
+		}
+
+		@Override
+		URL getResource(String name) {
+			if (getEntry(name) == null)
+				return null;
+			try {
+				return createURL(name);
+			} catch (MalformedURLException e) {
+				return null;
+			}
+		}
+
+		private URL createURL(String name) throws MalformedURLException {
+			return new URL("jar", "", -1, JIJConstants.INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR + name, handler); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		Manifest getManifest() {
+			return manifest;
+		}
+	}
+
+	// ---- ZIP format ----
+
+	/**
+	 * Random access to the bytes of a ZIP file.
+	 */
+	private interface Source {
+
+		long length();
+
+		void read(long position, byte[] buffer, int offset, int length) throws IOException;
+	}
+
+	/**
+	 * A region of a file, read with positional reads which are safe for concurrent use.
+	 */
+	private static final class FileSource implements Source {
+
+		final FileChannel channel;
+
+		private final long start;
+
+		private final long length;
+
+		FileSource(FileChannel channel, long start, long length) {
+			this.channel = channel;
+			this.start = start;
+			this.length = length;
+		}
+
+		@Override
+		public long length() {
+			return length;
+		}
+
+		@Override
+		public void read(long position, byte[] buffer, int offset, int len) throws IOException {
+			if (position < 0 || position + len > length)
+				throw new EOFException();
+			ByteBuffer target = ByteBuffer.wrap(buffer, offset, len);
+			long filePosition = start + position;
+			while (target.hasRemaining()) {
+				int count = channel.read(target, filePosition);
+				if (count < 0)
+					throw new EOFException();
+				filePosition += count;
+			}
+		}
+	}
+
+	private static final class ArraySource implements Source {
+
+		private final byte[] data;
+
+		ArraySource(byte[] data) {
+			this.data = data;
+		}
+
+		@Override
+		public long length() {
+			return data.length;
+		}
+
+		@Override
+		public void read(long position, byte[] buffer, int offset, int len) throws IOException {
+			if (position < 0 || position + len > data.length)
+				throw new EOFException();
+			System.arraycopy(data, (int) position, buffer, offset, len);
+		}
+	}
+
+	private static final class EntryInfo {
+
+		final int method;
+
+		final long compressedSize;
+
+		final long size;
+
+		/**
+		 * Offset of the local header in the source.
+		 */
+		final long offset;
+
+		EntryInfo(int method, long compressedSize, long size, long offset) {
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.offset = offset;
+		}
+
+		long getDataOffset(Source source) throws IOException {
+			byte[] header = new byte[30];
+			source.read(offset, header, 0, header.length);
+			if (getInt(header, 0) != LOCAL_HEADER_SIGNATURE)
+				throw new ZipException("Invalid local header"); //$NON-NLS-1$
+			return offset + header.length + getShort(header, 26) + getShort(header, 28);
+		}
+
+		byte[] read(Source source) throws IOException {
+			if (size > Integer.MAX_VALUE - 8 || compressedSize > Integer.MAX_VALUE - 8)
+				throw new ZipException("Entry too large"); //$NON-NLS-1$
+			if (method == STORED) {
+				byte[] data = new byte[(int) compressedSize];
+				source.read(getDataOffset(source), data, 0, data.length);
+				return data;
+			}
+			if (method != DEFLATED)
+				throw new ZipException("Unsupported compression method " + method); //$NON-NLS-1$
+			// inflating without header may need an extra dummy byte
+			byte[] data = new byte[(int) compressedSize + 1];
+			source.read(getDataOffset(source), data, 0, data.length - 1);
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(data);
+				byte[] result = new byte[(int) size];
+				int length = 0;
+				while (length < result.length) {
+					int count = inflater.inflate(result, length, result.length - length);
+					if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+						break;
+					length += count;
+				}
+				if (length != result.length)
+					throw new ZipException("Invalid entry size"); //$NON-NLS-1$
+				return result;
+			} catch (DataFormatException e) {
+				throw new ZipException(e.getMessage());
+			} finally {
+				inflater.end();
+			}
+		}
+	}
+
+	/**
+	 * Reads the central directory of a ZIP file. If names are duplicated, the first entry wins like
+	 * in {@link java.util.zip.ZipFile}.
+	 */
+	private static Map<String, EntryInfo> readCentralDirectory(Source source) throws IOException {
+		long length = source.length();
+		int tailLength = (int) Math.min(length, END_LENGTH + 0xFFFF);
+		byte[] tail = new byte[tailLength];
+		source.read(length - tailLength, tail, 0, tailLength);
+		int end = -1;
+		for (int i = tailLength - END_LENGTH; i >= 0; i--) {
+			if (getInt(tail, i) == END_SIGNATURE) {
+				end = i;
+				break;
+			}
+		}
+		if (end == -1)
+			throw new ZipException("Missing end of central directory"); //$NON-NLS-1$
+		long endPosition = length - tailLength + end;
+		long count = getShort(tail, end + 10);
+		long directorySize = getUnsignedInt(tail, end + 12);
+		long directoryOffset = getUnsignedInt(tail, end + 16);
+		if ((count == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) && endPosition >= 20) {
+			byte[] locator = new byte[20];
+			source.read(endPosition - 20, locator, 0, locator.length);
+			if (getInt(locator, 0) == ZIP64_LOCATOR_SIGNATURE) {
+				long zip64EndPosition = getLong(locator, 8);
+				byte[] zip64End = new byte[56];
+				source.read(zip64EndPosition, zip64End, 0, zip64End.length);
+				if (getInt(zip64End, 0) != ZIP64_END_SIGNATURE)
+					throw new ZipException("Invalid zip64 end of central directory"); //$NON-NLS-1$
+				count = getLong(zip64End, 32);
+				directorySize = getLong(zip64End, 40);
+				directoryOffset = getLong(zip64End, 48);
+				endPosition = zip64EndPosition;
+			}
+		}
+		if (directorySize > Integer.MAX_VALUE || directorySize > endPosition)
+			throw new ZipException("Invalid central directory"); //$NON-NLS-1$
+		// data prepended to the archive shifts all offsets
+		long base = endPosition - directorySize - directoryOffset;
+		byte[] directory = new byte[(int) directorySize];
+		source.read(endPosition - directorySize, directory, 0, directory.length);
+
+		Map<String, EntryInfo> entries = new HashMap<>((int) Math.min(count * 4 / 3 + 1, 1 << 20));
+		int position = 0;
+		for (long i = 0; i < count; i++) {
+			if (position + 46 > directory.length || getInt(directory, position) != CENTRAL_HEADER_SIGNATURE)
+				throw new ZipException("Invalid central directory entry"); //$NON-NLS-1$
+			int method = getShort(directory, position + 10);
+			long compressedSize = getUnsignedInt(directory, position + 20);
+			long size = getUnsignedInt(directory, position + 24);
+			int nameLength = getShort(directory, position + 28);
+			int extraLength = getShort(directory, position + 30);
+			int commentLength = getShort(directory, position + 32);
+			long offset = getUnsignedInt(directory, position + 42);
+			String name = new String(directory, position + 46, nameLength, UTF8);
+
+			int extra = position + 46 + nameLength;
+			int extraEnd = extra + extraLength;
+			while (extra + 4 <= extraEnd) {
+				int id = getShort(directory, extra);
+				int dataLength = getShort(directory, extra + 2);
+				if (id == ZIP64_EXTRA_ID) {
+					int value = extra + 4;
+					if (size == 0xFFFFFFFFL) {
+						size = getLong(directory, value);
+						value += 8;
+					}
+					if (compressedSize == 0xFFFFFFFFL) {
+						compressedSize = getLong(directory, value);
+						value += 8;
+					}
+					if (offset == 0xFFFFFFFFL) {
+						offset = getLong(directory, value);
+					}
+					break;
+				}
+				extra += 4 + dataLength;
+			}
+			if (!name.endsWith(JIJConstants.PATH_SEPARATOR) && !entries.containsKey(name))
+				entries.put(name, new EntryInfo(method, compressedSize, size, base + offset));
+			position = extraEnd + commentLength;
+		}
+		return entries;
+	}
+
+	private static int getShort(byte[] b, int i) {
+		return (b[i] & 0xFF) | ((b[i + 1] & 0xFF) << 8);
+	}
+
+	private static int getInt(byte[] b, int i) {
+		return getShort(b, i) | (getShort(b, i + 2) << 16);
+	}
+
+	private static long getUnsignedInt(byte[] b, int i) {
+		return getInt(b, i) & 0xFFFFFFFFL;
+	}
+
+	private static long getLong(byte[] b, int i) {
+		return getUnsignedInt(b, i) | (getUnsignedInt(b, i + 4) << 32);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,13 +55,24 @@ public class JarRsrcLoader {
 			else
 				rsrcUrls[i] = new URL(JIJConstants.JAR_INTERNAL_URL_PROTOCOL_WITH_COLON + rsrcPath + JIJConstants.JAR_INTERNAL_SEPARATOR);
 		}
-		ClassLoader jceClassLoader = new URLClassLoader(rsrcUrls, getParentClassLoader());
+		ClassLoader jceClassLoader = createClassLoader(mi.rsrcClassPath, rsrcUrls, cl);
 		Thread.currentThread().setContextClassLoader(jceClassLoader);
 		Class<?> c = Class.forName(mi.rsrcMainClass, true, jceClassLoader);
 		Method main = c.getMethod(JIJConstants.MAIN_METHOD_NAME, args.getClass());
 		main.invoke((Object) null, new Object[] {args});
 	}
 
+	private static ClassLoader createClassLoader(String[] rsrcClassPath, URL[] rsrcUrls, ClassLoader cl) throws InvocationTargetException, IllegalAccessException {
+		if (!"false".equals(System.getProperty(JIJConstants.INDEXED_LOADER_PROPERTY))) { //$NON-NLS-1$
+			try {
+				return new IndexedJarClassLoader(rsrcClassPath, cl, getParentClassLoader());
+			} catch (IOException e) {
+				// not started from a local JAR file or a library is signed, use the URLs which verify signatures
+			}
+		}
+		return new URLClassLoader(rsrcUrls, getParentClassLoader());
+	}
+
 	private static ClassLoader getParentClassLoader() throws InvocationTargetException, IllegalAccessException {
 		// On Java8, it is ok to use a null parent class loader, but, starting with Java 9,
 		// we need to provide one that has access to the restricted list of packages that
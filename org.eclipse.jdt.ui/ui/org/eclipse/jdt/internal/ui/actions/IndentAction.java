@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,11 +29,16 @@ import org.eclipse.jdt.internal.core.manipulation.util.Strings;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.FastJavaPartitioner;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.IRewriteTarget;
 import org.eclipse.jface.text.ITextSelection;
@@ -102,6 +107,18 @@ public class IndentAction extends TextEditorAction {
 
 	}
 
+	/**
+	 * Whether more than {@link #BUSY_LINE_COUNT} lines are indented on a snapshot of the document,
+	 * see {@link #indentLines(IDocument, int, int, IJavaProject)}.
+	 */
+	private static final boolean BULK_INDENT= Boolean.parseBoolean(System.getProperty("jdt.ui.indent.bulk", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Number of lines above which a busy indicator is shown and the lines are indented on a
+	 * snapshot of the document. Copying the document does not pay off for fewer lines.
+	 */
+	private static final int BUSY_LINE_COUNT= 50;
+
 	/** The caret offset after an indent operation. */
 	private int fCaretOffset;
 
@@ -166,13 +183,17 @@ public class IndentAction extends TextEditorAction {
 					target.beginCompoundChange();
 
 				try {
-					JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-					JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
 					final boolean multiLine= nLines > 1;
 					boolean hasChanged= false;
-					TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
-					for (int i= 0; i < nLines; i++) {
-						hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine, textBlockInfo);
+					if (nLines > BUSY_LINE_COUNT && !fIsTabAction && BULK_INDENT) {
+						hasChanged= indentLines(document, firstLine, nLines, getJavaProject());
+					} else {
+						JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+						JavaIndenter indenter= new JavaIndenter(document, scanner, getJavaProject());
+						TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
+						for (int i= 0; i < nLines; i++) {
+							hasChanged |= indentLine(document, firstLine + i, offset, indenter, scanner, multiLine, textBlockInfo);
+						}
 					}
 
 					// update caret position: move to new position when indenting just one line
@@ -202,7 +223,7 @@ public class IndentAction extends TextEditorAction {
 				}
 			};
 
-			if (nLines > 50) {
+			if (nLines > BUSY_LINE_COUNT) {
 				Display display= getTextEditor().getEditorSite().getWorkbenchWindow().getShell().getDisplay();
 				BusyIndicator.showWhile(display, runnable);
 			} else
@@ -279,16 +300,73 @@ public class IndentAction extends TextEditorAction {
 		int offset= 0;
 		int length= document.getLength();
 
-		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
-		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
-
-		ArrayList<ReplaceEdit> edits= new ArrayList<>();
-
 		int firstLine= document.getLineOfOffset(offset);
 		// check for marginal (zero-length) lines
 		int minusOne= length == 0 ? 0 : 1;
 		int numberOfLines= document.getLineOfOffset(offset + length - minusOne) - firstLine + 1;
 
+		return indent(document, firstLine, numberOfLines, project);
+	}
+
+	/**
+	 * Indents the given lines of a snapshot of <code>document</code> and applies the changes to
+	 * <code>document</code> at once.
+	 * <p>
+	 * The document of an editor is synchronized and notifies its listeners on each change, which
+	 * makes reading it character by character and changing it line by line slow for large ranges.
+	 * The snapshot is an unshared copy of the text with its own Java partitioning, so the heuristic
+	 * scanner reads it without locking and the indentation of each line only updates the snapshot.
+	 * </p>
+	 *
+	 * @param document the document to indent
+	 * @param firstLine the first line to indent
+	 * @param numberOfLines the number of lines to indent
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @return <code>true</code> if <code>document</code> was modified, <code>false</code> otherwise
+	 * @throws BadLocationException if the document got changed concurrently
+	 */
+	private static boolean indentLines(IDocument document, int firstLine, int numberOfLines, IJavaProject project) throws BadLocationException {
+		Document snapshot= new Document(document.get());
+		FastJavaPartitioner.install(snapshot, project);
+
+		TextEdit edit= indent(snapshot, firstLine, numberOfLines, project);
+		if (edit == null)
+			return false;
+
+		DocumentRewriteSession session= null;
+		if (document instanceof IDocumentExtension4)
+			session= ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.SEQUENTIAL);
+		try {
+			edit.apply(document, TextEdit.NONE);
+		} finally {
+			if (session != null)
+				((IDocumentExtension4) document).stopRewriteSession(session);
+		}
+		return true;
+	}
+
+	/**
+	 * Indents the given lines of <code>document</code> in one pass, with one scanner and indenter.
+	 * <p>
+	 * WARNING: This method does change the content of the given document.
+	 * </p>
+	 *
+	 * @param document the document to indent, must have a java partitioning installed
+	 * @param firstLine the first line to indent
+	 * @param numberOfLines the number of lines to indent
+	 * @param project the project to retrieve the indentation settings from, <b>null</b> for workspace settings
+	 * @return a text edit describing the changes in the coordinates of the unchanged document, or
+	 *         <b>null</b> if no changes required
+	 * @throws BadLocationException if the document got modified concurrently
+	 */
+	private static TextEdit indent(IDocument document, int firstLine, int numberOfLines, IJavaProject project) throws BadLocationException {
+		JavaHeuristicScanner scanner= new JavaHeuristicScanner(document);
+		JavaIndenter indenter= new JavaIndenter(document, scanner, project);
+		// only the leading whitespace of the lines is changed below
+		indenter.setReuseSkippedScopes(true);
+
+		ArrayList<ReplaceEdit> edits= new ArrayList<>();
+
 		TextBlockInfo textBlockInfo= new TextBlockInfo(-1, -1);
 
 		int shift= 0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -66,6 +67,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
 
     private DeferredTreeContentManager fManager;
     private CallHierarchyViewPart fPart;
+    private final AtomicInteger fFetchCount= new AtomicInteger();
 
     private static class MethodWrapperRunnable implements IRunnableWithProgress {
         private MethodWrapper fMethodWrapper;
@@ -466,6 +468,9 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      *
      */
     public void doneFetching() {
+        // searches run concurrently, keep cancel enabled until the last one is done
+        if (fFetchCount.decrementAndGet() > 0)
+            return;
         if (fPart != null) {
             fPart.setCancelEnabled(false);
         }
@@ -475,6 +480,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      *
      */
     public void startFetching() {
+        fFetchCount.incrementAndGet();
         if (fPart != null) {
             fPart.setCancelEnabled(true);
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,14 @@ import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter implements IDeferredWorkbenchAdapter {
+
+	/**
+	 * Number of call hierarchy searches that can run concurrently.
+	 */
+	private static final int MAX_CONCURRENT_SEARCHES= Boolean.parseBoolean(System.getProperty("jdt.ui.callHierarchy.parallel", "true")) //$NON-NLS-1$ //$NON-NLS-2$
+			? Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1))
+			: 1;
+
     private final CallHierarchyContentProvider fProvider;
 
     /**
@@ -66,16 +74,13 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         this.fProvider = provider;
     }
 
-    private Object getCalls(IProgressMonitor monitor) {
-        return getMethodWrapper().getCalls(monitor);
-    }
-
     @Override
 	public void fetchDeferredChildren(Object object, IElementCollector collector, IProgressMonitor monitor) {
     	final DeferredMethodWrapper deferredMethodWrapper= (DeferredMethodWrapper)object;
     	try {
             fProvider.startFetching();
-            collector.add((Object[]) deferredMethodWrapper.getCalls(monitor), monitor);
+            // the children are added to the tree as soon as the search has found them
+            deferredMethodWrapper.getMethodWrapper().getCalls(monitor, calls -> collector.add((Object[]) calls, monitor));
             collector.done();
         } catch (OperationCanceledException e) {
         	final MethodWrapper methodWrapper= deferredMethodWrapper.getMethodWrapper();
@@ -98,9 +103,14 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         return true;
     }
 
+    /**
+     * Returns one of {@link #MAX_CONCURRENT_SEARCHES} rules, so that the children of siblings are
+     * searched concurrently while the children of one member are never searched twice at once.
+     */
     @Override
 	public ISchedulingRule getRule(Object o) {
-        return new BatchSimilarSchedulingRule("org.eclipse.jdt.ui.callhierarchy.methodwrapper"); //$NON-NLS-1$
+        int stripe= Math.floorMod(getMethodWrapper().getMember().getHandleIdentifier().hashCode(), MAX_CONCURRENT_SEARCHES);
+        return new BatchSimilarSchedulingRule("org.eclipse.jdt.ui.callhierarchy.methodwrapper" + stripe); //$NON-NLS-1$
     }
 
     @Override
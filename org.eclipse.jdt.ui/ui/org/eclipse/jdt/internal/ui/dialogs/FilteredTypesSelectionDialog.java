@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -169,6 +170,9 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 
 	private TypeItemsFilter fFilter;
 
+	/** Whether this dialog is a client of the type name index, from creation until it is closed */
+	private boolean fTypeNameIndexConnected;
+
 	/**
 	 * Creates new FilteredTypesSelectionDialog instance
 	 *
@@ -414,6 +418,10 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	 */
 	@Override
 	public void create() {
+		if (!fTypeNameIndexConnected) {
+			OpenTypeHistory.getInstance().getTypeNameIndex().connect();
+			fTypeNameIndexConnected= true;
+		}
 		super.create();
 		Control patternControl= getPatternControl();
 		if (patternControl instanceof Text) {
@@ -421,6 +429,15 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		}
 	}
 
+	@Override
+	public boolean close() {
+		if (fTypeNameIndexConnected) {
+			fTypeNameIndexConnected= false;
+			OpenTypeHistory.getInstance().getTypeNameIndex().disconnect();
+		}
+		return super.close();
+	}
+
 	@Override
 	public int open() {
 		if (getInitialPattern() == null) {
@@ -469,10 +486,20 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	@Override
 	protected void fillContentProvider(AbstractContentProvider provider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 		TypeItemsFilter typeSearchFilter= (TypeItemsFilter) itemsFilter;
+		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
+
+		// the candidates of the index are checked by the filter when they are added
+		TypeNameIndex index= OpenTypeHistory.getInstance().getTypeNameIndex();
+		if (index.search(typeSearchFilter.fTypeInfoFilter, match -> {
+			if (!TypeFilter.isFiltered(match))
+				provider.add(match, typeSearchFilter);
+		}, progressMonitor)) {
+			return;
+		}
+
 		TypeSearchRequestor requestor= new TypeSearchRequestor(provider, typeSearchFilter);
 		SearchEngine engine= new SearchEngine((WorkingCopyOwner) null);
 		String packPattern= typeSearchFilter.getPackagePattern();
-		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
 
 		/*
 		 * Setting the filter into match everything mode avoids filtering twice
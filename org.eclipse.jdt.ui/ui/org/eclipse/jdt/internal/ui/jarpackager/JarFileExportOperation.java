@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,9 +25,11 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -614,7 +616,8 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 	 */
 	private void exportSelectedElements(IProgressMonitor progressMonitor) throws InterruptedException {
 		fExportedClassContainers= new HashSet<>(10);
-		Set<IJavaProject> enclosingJavaProjects= new HashSet<>(10);
+		// keep the order of the elements, so that the output folders are always exported in the same order
+		Set<IJavaProject> enclosingJavaProjects= new LinkedHashSet<>(10);
 		int n= fJarPackage.getElements().length;
 		for (int i= 0; i < n; i++) {
 			Object element= fJarPackage.getElements()[i];
@@ -702,7 +705,9 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 					outputContainers.add(outputFolder);
 			}
 		}
-		return outputContainers.toArray(new IContainer[outputContainers.size()]);
+		IContainer[] result= outputContainers.toArray(new IContainer[outputContainers.size()]);
+		Arrays.sort(result, Comparator.comparing(container -> container.getFullPath().toString()));
+		return result;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,7 +54,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	public static final String JAR_RSRC_LOADER_ZIP= "jar-in-jar-loader.zip"; //$NON-NLS-1$
 
 	private Set<String> jarNames;
-	private JarPackageData fJarPackage;
 
 	@Override
 	public String getId() {
@@ -92,7 +91,6 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 	@Override
 	public void open(JarPackageData jarPackage, Shell displayShell, MultiStatus status) throws CoreException {
 		super.open(jarPackage, displayShell, status);
-		fJarPackage= jarPackage;
 		jarNames= new HashSet<>();
 		try {
 			writeRsrcUrlClasses();
@@ -110,11 +108,12 @@ public class FatJarRsrcUrlBuilder extends FatJarBuilder {
 		}
 		jarNames.add(jarName);
 		JarEntry newEntry = new JarEntry(jarName);
+		// libraries are compressed already, store them as they are
 		newEntry.setMethod(ZipEntry.STORED);
+		newEntry.setTime(jarPathFile.lastModified());
 		byte[] readBuffer= new byte[4096];
 		try {
-			if (!fJarPackage.isCompressed())
-				JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
+			JarPackagerUtil.calculateCrcAndSize(newEntry, new FileInputStream(jarPathFile), readBuffer);
 			getJarWriter().addZipEntryStream(newEntry, new FileInputStream(jarPathFile), jarName);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
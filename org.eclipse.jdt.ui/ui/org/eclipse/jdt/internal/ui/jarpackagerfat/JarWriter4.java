@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,18 +74,10 @@ public class JarWriter4 extends JarWriter3 {
 	public void addZipEntryStream(ZipEntry zipEntry, InputStream is, String path) throws IOException {
 		if (fJarPackage.areDirectoryEntriesIncluded())
 			addDirectories(path);
-		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
-		if (fJarPackage.isCompressed())
-			newEntry.setMethod(ZipEntry.DEFLATED);
-		// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-			newEntry.setSize(zipEntry.getSize());
-			newEntry.setCrc(zipEntry.getCrc());
-		}
-		long lastModified= System.currentTimeMillis();
+		// Entries which are stored in the source are not compressed again
+		JarEntry newEntry= JarPackagerUtilCore.createEntry(zipEntry, path, fJarPackage.isCompressed());
 		// Set modification time
-		newEntry.setTime(lastModified);
+		JarPackagerUtilCore.setTime(newEntry, zipEntry);
 		addEntry(newEntry, is);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,7 +25,9 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextPresentation;
@@ -34,15 +36,21 @@ import org.eclipse.jface.text.source.ISourceViewer;
 import org.eclipse.ui.IWorkbenchPartSite;
 
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -52,7 +60,6 @@ import org.eclipse.jdt.core.dom.YieldStatement;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
-import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.Highlighting;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.DeprecatedMemberHighlighting;
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings.RestrictedIdentifiersHighlighting;
@@ -262,21 +269,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 * @param highlighting The highlighting
 		 */
 		private void addPosition(int offset, int length, Highlighting highlighting) {
-			boolean isExisting= false;
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
-				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position == null)
-					continue;
-				if (position.isEqual(offset, length, highlighting)) {
-					isExisting= true;
-					fRemovedPositions.set(i, null);
-					fNOfRemovedPositions--;
-					break;
-				}
-			}
-
-			if (!isExisting) {
+			if (!fExistingPositions.retain(offset, length, highlighting)) {
 				Position position= fJobPresenter.createHighlightedPosition(offset, length, highlighting);
 				fAddedPositions.add(position);
 			}
@@ -289,14 +282,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
-				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position != null && position.isContained(offset, length)) {
-					fRemovedPositions.set(i, null);
-					fNOfRemovedPositions--;
-				}
-			}
+			fExistingPositions.retainContained(offset, length);
 		}
 
 		@Override
@@ -322,6 +308,132 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * The regions of the document that have been edited since the last completed reconcile.
+	 * <p>
+	 * The regions are kept in the coordinates of the current document, ordered by offset and
+	 * without overlaps. They are only cleared when the result of a reconcile has been applied and
+	 * the document has not been changed in between.
+	 * </p>
+	 *
+	 * @since 3.31
+	 */
+	private static final class EditedRegions implements IDocumentListener, ITextInputListener {
+
+		/** Maximal number of regions, beyond that the whole compilation unit is reconciled */
+		private static final int MAX_REGIONS= 16;
+
+		/** The regions as <code>{ start, end }</code> */
+		private final List<int[]> fRegions= new ArrayList<>();
+
+		/** <code>true</code> if the edits are unknown and the whole compilation unit must be reconciled */
+		private boolean fUnknown= true;
+
+		/** Incremented on every change */
+		private int fStamp;
+
+		/**
+		 * Returns the current regions.
+		 *
+		 * @return the regions as <code>{ start, end }</code> ordered by offset, or <code>null</code>
+		 *         if the edits are unknown
+		 */
+		public synchronized int[][] getRegions() {
+			return fUnknown ? null : fRegions.toArray(new int[fRegions.size()][]);
+		}
+
+		public synchronized int getStamp() {
+			return fStamp;
+		}
+
+		/**
+		 * Clears the regions if the document has not been changed since the given stamp.
+		 *
+		 * @param stamp the stamp of the regions that have been reconciled
+		 */
+		public synchronized void reconciled(int stamp) {
+			if (stamp == fStamp) {
+				fRegions.clear();
+				fUnknown= false;
+			}
+		}
+
+		/**
+		 * Forgets the regions, the next reconcile covers the whole compilation unit.
+		 */
+		public synchronized void invalidate() {
+			fRegions.clear();
+			fUnknown= true;
+			fStamp++;
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// the regions are updated after the change
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			fStamp++;
+			if (fUnknown)
+				return;
+
+			int offset= event.getOffset();
+			int oldEnd= offset + event.getLength();
+			String text= event.getText();
+			int newLength= text != null ? text.length() : 0;
+			int delta= newLength - event.getLength();
+
+			// merge the regions touched by the change into the changed region, move the regions after it
+			int start= offset;
+			int end= offset + newLength;
+			int index= fRegions.size();
+			for (int i= fRegions.size() - 1; i >= 0; i--) {
+				int[] region= fRegions.get(i);
+				if (region[0] > oldEnd) {
+					region[0]+= delta;
+					region[1]+= delta;
+					index= i;
+				} else if (region[1] >= offset) {
+					start= Math.min(start, region[0]);
+					if (region[1] > oldEnd)
+						end= Math.max(end, region[1] + delta);
+					fRegions.remove(i);
+					index= i;
+				} else {
+					break;
+				}
+			}
+			fRegions.add(index, new int[] { start, end });
+
+			if (fRegions.size() > MAX_REGIONS) {
+				fRegions.clear();
+				fUnknown= true;
+			}
+		}
+
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			if (oldInput != null)
+				oldInput.removeDocumentListener(this);
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			invalidate();
+			if (newInput != null)
+				newInput.addDocumentListener(this);
+		}
+	}
+
+	/**
+	 * <code>true</code> if only the members that have been edited are reconciled, see
+	 * {@link #getAffectedSubtrees(CompilationUnit, int[][])}.
+	 *
+	 * @since 3.31
+	 */
+	private static final boolean INCREMENTAL= Boolean.parseBoolean(System.getProperty("jdt.ui.semanticHighlighting.incremental", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	/** Position collector */
 	private PositionCollector fCollector= new PositionCollector();
 
@@ -340,8 +452,17 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private List<Position> fAddedPositions= new ArrayList<>();
 	/** Background job's removed highlighted positions */
 	private List<Position> fRemovedPositions= new ArrayList<>();
-	/** Number of removed positions */
-	private int fNOfRemovedPositions;
+	/**
+	 * Background job's existing highlighted positions in the reconciled subtrees
+	 * @since 3.31
+	 */
+	private final SortedPositionIndex fExistingPositions= new SortedPositionIndex();
+	/**
+	 * The regions edited since the last reconcile, or <code>null</code> if every reconcile covers
+	 * the whole compilation unit
+	 * @since 3.31
+	 */
+	private EditedRegions fEditedRegions;
 
 	/** Background job */
 	private Job fJob;
@@ -405,11 +526,21 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			EditedRegions editedRegions= fEditedRegions;
+			int stamp= 0;
+			int[][] regions= null;
+			if (editedRegions != null) {
+				// read the stamp first, the regions are at least as recent
+				stamp= editedRegions.getStamp();
+				if (!forced)
+					regions= editedRegions.getRegions();
+			}
+
+			ASTNode[] subtrees= getAffectedSubtrees(ast, regions);
 			if (subtrees.length == 0)
 				return;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees);
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -427,8 +558,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
-				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+			if (!fJobPresenter.isCanceled()) {
+				if (fAddedPositions.isEmpty() && fRemovedPositions.isEmpty()) {
+					if (editedRegions != null)
+						editedRegions.reconciled(stamp);
+				} else {
+					updatePresentation(textPresentation, fAddedPositions, fRemovedPositions, editedRegions, stamp);
+				}
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -443,20 +580,98 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
+	 * Returns the subtrees that may be affected by the edited regions.
+	 * <p>
+	 * An edit inside the body of a method or initializer of a named type only affects the
+	 * highlighting inside that body: the local variables, local and anonymous types declared in a
+	 * body are not visible outside of it. For such edits the outermost enclosing body is returned.
+	 * Edits of declarations, e.g. of fields or method signatures, can change the highlighting of
+	 * references anywhere in the compilation unit, so the whole compilation unit is returned for
+	 * them, as well as if the edits are unknown or the AST has syntax errors outside of the edited
+	 * bodies.
+	 * </p>
+	 *
+	 * @param ast the compilation unit
+	 * @param regions the edited regions as <code>{ start, end }</code> ordered by offset, or
+	 *            <code>null</code> if unknown
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, int[][] regions) {
+		if (!INCREMENTAL || regions == null || regions.length == 0)
+			return new ASTNode[] { ast };
+
+		List<ASTNode> bodies= new ArrayList<>();
+		for (int[] region : regions) {
+			Block body= getEnclosingMemberBody(ast, region[0], region[1]);
+			if (body == null)
+				return new ASTNode[] { ast };
+			if (bodies.isEmpty() || bodies.get(bodies.size() - 1) != body)
+				bodies.add(body);
+		}
+
+		// e.g. an unterminated comment changes the structure beyond the edited body
+		for (IProblem problem : ast.getProblems()) {
+			if ((problem.getID() & IProblem.Syntax) != 0 && !isCovered(bodies, problem.getSourceStart()))
+				return new ASTNode[] { ast };
+		}
+		return bodies.toArray(new ASTNode[bodies.size()]);
+	}
+
+	/**
+	 * Returns the outermost body of a method or initializer of a named type that contains the given
+	 * region, not including the braces of the body.
+	 *
+	 * @param ast the compilation unit
+	 * @param start the start of the region
+	 * @param end the end of the region
+	 * @return the body or <code>null</code> if there is none
+	 */
+	private static Block getEnclosingMemberBody(CompilationUnit ast, int start, int end) {
+		Block body= null;
+		for (ASTNode node= NodeFinder.perform(ast, start, end - start); node != null; node= node.getParent()) {
+			if (node instanceof Block) {
+				ASTNode parent= node.getParent();
+				if ((parent instanceof MethodDeclaration || parent instanceof Initializer) && parent.getParent() instanceof AbstractTypeDeclaration)
+					body= (Block) node;
+			}
+		}
+		if (body == null || body.getStartPosition() >= start || body.getStartPosition() + body.getLength() <= end)
+			return null;
+		return body;
+	}
+
+	private static boolean isCovered(List<ASTNode> nodes, int offset) {
+		for (ASTNode node : nodes) {
+			if (node.getStartPosition() <= offset && offset < node.getStartPosition() + node.getLength())
+				return true;
+		}
+		return false;
 	}
 
 	/**
 	 * Start reconciling positions.
+	 *
+	 * @param subtrees the AST subtrees that are reconciled
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
-		fNOfRemovedPositions= fRemovedPositions.size();
+	private void startReconcilingPositions(ASTNode[] subtrees) {
+		List<Position> positions= new ArrayList<>();
+		fJobPresenter.addAllPositions(positions);
+		if (!(subtrees[0] instanceof CompilationUnit)) {
+			// positions outside of the subtrees are kept
+			List<Position> covered= new ArrayList<>();
+			for (Position position : positions) {
+				int offset= position.getOffset();
+				for (ASTNode subtree : subtrees) {
+					int start= subtree.getStartPosition();
+					if (start <= offset && offset + position.getLength() <= start + subtree.getLength()) {
+						covered.add(position);
+						break;
+					}
+				}
+			}
+			positions= covered;
+		}
+		fExistingPositions.reset(positions);
 	}
 
 	/**
@@ -465,19 +680,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param subtrees the AST subtrees
 	 */
 	private void reconcilePositions(ASTNode[] subtrees) {
-		// FIXME: remove positions not covered by subtrees
-
-
-
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
-		List<Position> oldPositions= fRemovedPositions;
-		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
-		for (Position current : oldPositions) {
-			if (current != null)
-				newPositions.add(current);
-		}
-		fRemovedPositions= newPositions;
+		fRemovedPositions= fExistingPositions.getRemovedPositions();
 	}
 
 	/**
@@ -486,12 +691,24 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param textPresentation the text presentation
 	 * @param addedPositions the added positions
 	 * @param removedPositions the removed positions
+	 * @param editedRegions the edited regions to clear once the presentation has been updated, or
+	 *            <code>null</code>
+	 * @param stamp the stamp of the edited regions that have been reconciled
 	 */
-	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
-		Runnable runnable= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
-		if (runnable == null)
+	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions, EditedRegions editedRegions, int stamp) {
+		Runnable update= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
+		if (update == null)
 			return;
 
+		Runnable runnable= update;
+		if (editedRegions != null) {
+			runnable= () -> {
+				update.run();
+				// not cleared if the document has been changed and the update was canceled
+				editedRegions.reconciled(stamp);
+			};
+		}
+
 		JavaEditor editor= fEditor;
 		if (editor == null)
 			return;
@@ -516,7 +733,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
-		fNOfRemovedPositions= 0;
+		fExistingPositions.clear();
 		fAddedPositions.clear();
 	}
 
@@ -538,6 +755,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
+				if (INCREMENTAL) {
+					fEditedRegions= new EditedRegions();
+					fSourceViewer.addTextInputListener(fEditedRegions);
+					IDocument document= fSourceViewer.getDocument();
+					if (document != null)
+						document.addDocumentListener(fEditedRegions);
+				}
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
 			}
 		} else if (fEditor != null) {
@@ -569,6 +793,14 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fEditor= null;
 		}
 
+		if (fEditedRegions != null) {
+			fSourceViewer.removeTextInputListener(fEditedRegions);
+			IDocument document= fSourceViewer.getDocument();
+			if (document != null)
+				document.removeDocumentListener(fEditedRegions);
+			fEditedRegions= null;
+		}
+
 		fSourceViewer= null;
 		fSemanticHighlightings= null;
 		fHighlightings= null;
@@ -656,6 +888,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	public void refresh() {
+		EditedRegions editedRegions= fEditedRegions;
+		if (editedRegions != null)
+			editedRegions.invalidate();
 		scheduleJob();
 	}
 }
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.HighlightedPosition;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager.Highlighting;
+
+/**
+ * The existing highlighted positions of a semantic highlighting reconcile, sorted by offset.
+ * <p>
+ * Positions are retained when the reconcile finds them again, the positions that are not retained
+ * at the end of the reconcile are removed. Looking up a position or the positions in a range is
+ * logarithmic in the number of positions.
+ * </p>
+ * <p>
+ * The offsets are captured when the index is filled. If a position is moved concurrently, the
+ * reconcile is canceled anyway.
+ * </p>
+ *
+ * @since 3.31
+ */
+final class SortedPositionIndex {
+
+	private HighlightedPosition[] fPositions= new HighlightedPosition[0];
+
+	private int[] fOffsets= new int[0];
+
+	private int fSize;
+
+	private final BitSet fRetained= new BitSet();
+
+	private int fRetainedCount;
+
+	/**
+	 * Fills the index with the given positions.
+	 *
+	 * @param positions the highlighted positions, usually already ordered by offset
+	 */
+	public void reset(List<Position> positions) {
+		int size= positions.size();
+		long[] keys= new long[size];
+		for (int i= 0; i < size; i++) {
+			// sort by the captured offset, the offsets can change while sorting
+			keys[i]= ((long) positions.get(i).getOffset() << 32) | i;
+		}
+		Arrays.sort(keys);
+
+		if (fPositions.length < size) {
+			fPositions= new HighlightedPosition[size];
+			fOffsets= new int[size];
+		} else {
+			Arrays.fill(fPositions, size, fSize, null);
+		}
+		for (int i= 0; i < size; i++) {
+			fPositions[i]= (HighlightedPosition) positions.get((int) keys[i]);
+			fOffsets[i]= (int) (keys[i] >> 32);
+		}
+		fSize= size;
+		fRetained.clear();
+		fRetainedCount= 0;
+	}
+
+	/**
+	 * Retains the position with the given range and highlighting, if there is one.
+	 *
+	 * @param offset the offset
+	 * @param length the length
+	 * @param highlighting the highlighting
+	 * @return <code>true</code> if the position exists
+	 */
+	public boolean retain(int offset, int length, Highlighting highlighting) {
+		for (int i= indexOf(offset); i < fSize && fOffsets[i] == offset; i++) {
+			if (!fRetained.get(i) && fPositions[i].isEqual(offset, length, highlighting)) {
+				fRetained.set(i);
+				fRetainedCount++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retains the positions completely contained in the given range.
+	 *
+	 * @param offset the range offset
+	 * @param length the range length
+	 */
+	public void retainContained(int offset, int length) {
+		int end= offset + length;
+		for (int i= indexOf(offset); i < fSize && fOffsets[i] <= end; i++) {
+			if (!fRetained.get(i) && fPositions[i].isContained(offset, length)) {
+				fRetained.set(i);
+				fRetainedCount++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the positions that have not been retained, ordered by offset.
+	 *
+	 * @return the positions to remove
+	 */
+	public List<Position> getRemovedPositions() {
+		List<Position> removed= new ArrayList<>(fSize - fRetainedCount);
+		for (int i= fRetained.nextClearBit(0); i < fSize; i= fRetained.nextClearBit(i + 1)) {
+			removed.add(fPositions[i]);
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all positions.
+	 */
+	public void clear() {
+		Arrays.fill(fPositions, 0, fSize, null);
+		fSize= 0;
+		fRetained.clear();
+		fRetainedCount= 0;
+	}
+
+	/**
+	 * Returns the index of the first position with an offset greater than or equal to the given
+	 * offset.
+	 *
+	 * @param offset the offset
+	 * @return the index
+	 */
+	private int indexOf(int offset) {
+		int low= 0;
+		int high= fSize;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (fOffsets[mid] < offset)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+}
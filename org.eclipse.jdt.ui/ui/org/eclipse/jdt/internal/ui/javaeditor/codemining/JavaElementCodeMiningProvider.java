@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Angelo Zerr and others.
+ * Copyright (c) 2018, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -10,6 +10,7 @@
  *
  * Contributors:
  * - Angelo Zerr: initial API and implementation
+ * - IBM Corporation
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
@@ -100,7 +101,8 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				JavaReferenceCounter counter= new JavaReferenceCounter(monitor);
+				collectMinings(unit, textEditor, unit.getChildren(), minings, counter, viewer, monitor);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -124,12 +126,13 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 	 * @param textEditor the Java editor
 	 * @param elements the java elements to track
 	 * @param minings the current list of minings to update
+	 * @param counter the counter of the references of all members
 	 * @param viewer the viewer
 	 * @param monitor the monitor
 	 * @throws JavaModelException thrown when java model error
 	 */
 	private void collectMinings(ITypeRoot unit, ITextEditor textEditor, IJavaElement[] elements,
-			List<ICodeMining> minings, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
+			List<ICodeMining> minings, JavaReferenceCounter counter, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
 
 		// Only Java editor is supported, see bug 541811
 		if(!(textEditor instanceof JavaEditor)) {
@@ -146,7 +149,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				return;
 			}
 			if (element.getElementType() == IJavaElement.TYPE) {
-				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, viewer, monitor);
+				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, counter, viewer, monitor);
 			} else if ((element.getElementType() != IJavaElement.METHOD)
 					&& (element.getElementType() != IJavaElement.FIELD)) {
 				continue;
@@ -158,7 +161,8 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 							|| (showReferencesOnFields && (element.getElementType() == IJavaElement.FIELD)) // Show references on fields
 					) {
 						minings.add(new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
-								this, showAtLeastOne));
+								this, counter, showAtLeastOne));
+						counter.add(element);
 					}
 				} catch (BadLocationException e) {
 					// Should never occur
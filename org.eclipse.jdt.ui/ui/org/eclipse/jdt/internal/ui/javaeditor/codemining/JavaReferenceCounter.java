@@ -0,0 +1,559 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.core.manipulation.StructuralDelta;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Counts the references to the members of one editor for the {@link JavaReferenceCodeMining}s.
+ * <p>
+ * The members are searched in batches on a small shared pool: the references to all members of a
+ * batch are found with one search for an OR pattern, and a match is attributed to the member whose
+ * name it contains. Members that cannot be told apart by their names, e.g. overloaded methods and
+ * constructors, and the members of matches without source are searched on their own. The count of
+ * a member is available as soon as its batch or its own search is done.
+ * </p>
+ * <p>
+ * The counts are cached per element handle together with the compilation units they depend on:
+ * the unit that declares the member and the units that contain its references. A change of a
+ * compilation unit discards the counts that depend on it and the counts of the members whose names
+ * occur in its new source, since a new reference contains the name of the member or of its type.
+ * Reconciles that only change method or initializer bodies are ignored, such changes are taken into
+ * account when the unit is saved. Changes of the classpath or of class files discard all counts.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class JavaReferenceCounter {
+
+	/**
+	 * Maximal number of members searched with one pattern.
+	 */
+	private static final int BATCH_SIZE= 32;
+
+	private static final AtomicInteger THREAD_COUNT= new AtomicInteger();
+
+	/**
+	 * Shared pool on which the references are searched, idle threads are released after a while.
+	 */
+	private static final ExecutorService SEARCH_POOL;
+	static {
+		int threads= Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "Java Reference Code Mining-" + THREAD_COUNT.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		SEARCH_POOL= pool;
+	}
+
+	/**
+	 * A cached count and the compilation units it depends on.
+	 */
+	private static final class CachedCount {
+
+		final long fCount;
+
+		final Set<ICompilationUnit> fUnits;
+
+		CachedCount(long count, Set<ICompilationUnit> units) {
+			fCount= count;
+			fUnits= units;
+		}
+	}
+
+	private static final Map<IJavaElement, CachedCount> fgCounts= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented before cached counts are discarded, counts of older searches are not cached.
+	 */
+	private static final AtomicInteger fgGeneration= new AtomicInteger();
+
+	private static IElementChangedListener fgListener;
+
+	private final Map<IJavaElement, CompletableFuture<Long>> fCounts= new LinkedHashMap<>();
+
+	private final IProgressMonitor fMonitor;
+
+	private final AtomicBoolean fStarted= new AtomicBoolean();
+
+	/**
+	 * Creates a counter.
+	 *
+	 * @param monitor the monitor of the code minings
+	 */
+	public JavaReferenceCounter(IProgressMonitor monitor) {
+		fMonitor= monitor;
+	}
+
+	/**
+	 * Adds a member whose references are counted. All members must be added before the first
+	 * count is requested.
+	 *
+	 * @param element the member
+	 */
+	public void add(IJavaElement element) {
+		Assert.isTrue(!fStarted.get());
+		fCounts.putIfAbsent(element, new CompletableFuture<>());
+	}
+
+	/**
+	 * Returns the number of references to the given member. The searches of all members of this
+	 * counter are started on the first call.
+	 *
+	 * @param element the member
+	 * @return the future number of references
+	 */
+	public CompletableFuture<Long> getCount(IJavaElement element) {
+		CompletableFuture<Long> count= fCounts.get(element);
+		if (count == null) {
+			// not known in advance
+			return CompletableFuture.supplyAsync(() -> Long.valueOf(countSingle(element, fgGeneration.get(), fMonitor)), SEARCH_POOL);
+		}
+		if (fStarted.compareAndSet(false, true)) {
+			start();
+		}
+		return count;
+	}
+
+	/**
+	 * Stops listening to Java element changes and discards the cached counts.
+	 */
+	public static void shutdown() {
+		synchronized (fgCounts) {
+			if (fgListener != null) {
+				JavaCore.removeElementChangedListener(fgListener);
+				fgListener= null;
+			}
+			fgCounts.clear();
+		}
+	}
+
+	private void start() {
+		synchronized (fgCounts) {
+			if (fgListener == null) {
+				fgListener= JavaReferenceCounter::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			}
+		}
+		List<IJavaElement> batch= new ArrayList<>(BATCH_SIZE);
+		for (Map.Entry<IJavaElement, CompletableFuture<Long>> entry : fCounts.entrySet()) {
+			CachedCount cached= fgCounts.get(entry.getKey());
+			if (cached != null) {
+				entry.getValue().complete(Long.valueOf(cached.fCount));
+			} else {
+				batch.add(entry.getKey());
+				if (batch.size() == BATCH_SIZE) {
+					submit(batch);
+					batch= new ArrayList<>(BATCH_SIZE);
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			submit(batch);
+		}
+	}
+
+	private void submit(List<IJavaElement> batch) {
+		SEARCH_POOL.execute(() -> {
+			try {
+				countBatch(batch);
+			} catch (CoreException | RuntimeException e) {
+				for (IJavaElement element : batch) {
+					fCounts.get(element).completeExceptionally(e);
+				}
+			}
+		});
+	}
+
+	private void countBatch(List<IJavaElement> batch) throws CoreException {
+		int generation= fgGeneration.get();
+		if (fMonitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+
+		// members with a unique name are searched together
+		Map<String, IJavaElement> byName= new HashMap<>();
+		Set<String> ambiguousNames= new HashSet<>();
+		for (IJavaElement element : fCounts.keySet()) {
+			String name= element.getElementName();
+			if (byName.putIfAbsent(name, element) != null) {
+				ambiguousNames.add(name);
+			}
+		}
+		List<IJavaElement> combined= new ArrayList<>(batch.size());
+		List<IJavaElement> single= new ArrayList<>();
+		for (IJavaElement element : batch) {
+			String name= element.getElementName();
+			if (name.isEmpty() || ambiguousNames.contains(name) || isConstructor(element) || element.getAncestor(IJavaElement.COMPILATION_UNIT) == null) {
+				single.add(element);
+			} else {
+				combined.add(element);
+			}
+		}
+
+		if (combined.size() == 1) {
+			single.add(0, combined.remove(0));
+		} else if (!combined.isEmpty()) {
+			single.addAll(0, countCombined(combined, generation));
+		}
+		for (IJavaElement element : single) {
+			complete(element, countSingle(element, generation, fMonitor));
+		}
+	}
+
+	/**
+	 * Counts the references to the given members with one search.
+	 *
+	 * @param elements the members, with names that are unique in this counter
+	 * @param generation the generation of the cached counts
+	 * @return the members whose references could not be attributed and must be searched on their
+	 *         own
+	 * @throws CoreException if the search fails
+	 */
+	private List<IJavaElement> countCombined(List<IJavaElement> elements, int generation) throws CoreException {
+		Map<String, IJavaElement> byName= new HashMap<>();
+		Map<IJavaElement, AtomicLong> counts= new HashMap<>();
+		Map<IJavaElement, Set<ICompilationUnit>> units= new HashMap<>();
+		SearchPattern pattern= null;
+		for (IJavaElement element : elements) {
+			SearchPattern elementPattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (elementPattern == null) {
+				completeAndCache(element, 0, new HashSet<>(), generation);
+				continue;
+			}
+			pattern= pattern == null ? elementPattern : SearchPattern.createOrPattern(pattern, elementPattern);
+			byName.put(element.getElementName(), element);
+			counts.put(element, new AtomicLong());
+			units.put(element, new HashSet<>());
+		}
+		if (pattern == null) {
+			return new ArrayList<>();
+		}
+
+		final boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		final Set<IJavaElement> unattributed= new HashSet<>();
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				createSearchScope(elements.get(0)), new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (!isCounted(match, ignoreInaccurate)) {
+							return;
+						}
+						Set<IJavaElement> candidates= getCandidates(match, byName);
+						if (candidates.size() == 1) {
+							IJavaElement element= candidates.iterator().next();
+							counts.get(element).incrementAndGet();
+							addUnit(match, units.get(element));
+						} else if (candidates.isEmpty()) {
+							unattributed.addAll(counts.keySet());
+						} else {
+							unattributed.addAll(candidates);
+						}
+					}
+				}, fMonitor);
+
+		List<IJavaElement> remaining= new ArrayList<>(unattributed);
+		for (Map.Entry<IJavaElement, AtomicLong> entry : counts.entrySet()) {
+			if (!unattributed.contains(entry.getKey())) {
+				completeAndCache(entry.getKey(), entry.getValue().get(), units.get(entry.getKey()), generation);
+			}
+		}
+		return remaining;
+	}
+
+	private void completeAndCache(IJavaElement element, long count, Set<ICompilationUnit> units, int generation) {
+		cache(element, count, units, generation);
+		fCounts.get(element).complete(Long.valueOf(count));
+	}
+
+	private void complete(IJavaElement element, long count) {
+		fCounts.get(element).complete(Long.valueOf(count));
+	}
+
+	/**
+	 * Returns the members whose names occur in the source range of the match. A reference always
+	 * contains the name of the referenced member, the constructors are never searched together.
+	 *
+	 * @param match the match
+	 * @param byName the members by name
+	 * @return the members that may be referenced, empty if the source is not available
+	 * @throws CoreException if the source cannot be read
+	 */
+	private static Set<IJavaElement> getCandidates(SearchMatch match, Map<String, IJavaElement> byName) throws CoreException {
+		Set<IJavaElement> candidates= new HashSet<>(2);
+		IOpenable openable= ((IJavaElement) match.getElement()).getOpenable();
+		IBuffer buffer= openable != null ? openable.getBuffer() : null;
+		if (buffer == null || match.getOffset() < 0 || match.getOffset() + match.getLength() > buffer.getLength()) {
+			return candidates;
+		}
+		for (String name : getIdentifiers(buffer.getText(match.getOffset(), match.getLength()))) {
+			IJavaElement element= byName.get(name);
+			if (element != null) {
+				candidates.add(element);
+			}
+		}
+		return candidates;
+	}
+
+	private static Set<String> getIdentifiers(String source) {
+		Set<String> identifiers= new HashSet<>();
+		for (int i= 0, n= source.length(); i < n;) {
+			if (!Character.isJavaIdentifierStart(source.charAt(i))) {
+				i++;
+				continue;
+			}
+			int start= i++;
+			while (i < n && Character.isJavaIdentifierPart(source.charAt(i))) {
+				i++;
+			}
+			identifiers.add(source.substring(start, i));
+		}
+		return identifiers;
+	}
+
+	/**
+	 * Return the number of references for the given java element.
+	 *
+	 * @param element the java element.
+	 * @param generation the generation of the cached counts
+	 * @param monitor the monitor
+	 * @return the number of references for the given java element.
+	 */
+	private static long countSingle(IJavaElement element, int generation, IProgressMonitor monitor) {
+		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+		if (pattern == null) {
+			return 0;
+		}
+		final AtomicLong count= new AtomicLong(0);
+		final Set<ICompilationUnit> units= new HashSet<>();
+		final boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+		try {
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+					createSearchScope(element), new SearchRequestor() {
+
+						@Override
+						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							if (isCounted(match, ignoreInaccurate)) {
+								count.incrementAndGet();
+								addUnit(match, units);
+							}
+						}
+					}, monitor);
+		} catch (CoreException e) {
+			// Should never occur
+			return 0;
+		}
+		cache(element, count.get(), units, generation);
+		return count.get();
+	}
+
+	/**
+	 * Caches the count of the given member unless cached counts have been discarded since the
+	 * search started.
+	 *
+	 * @param element the member
+	 * @param count the number of references
+	 * @param units the compilation units that contain the references, the unit that declares the
+	 *            member is added
+	 * @param generation the generation of the cached counts when the search started
+	 */
+	private static void cache(IJavaElement element, long count, Set<ICompilationUnit> units, int generation) {
+		IJavaElement unit= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit != null) {
+			units.add(((ICompilationUnit) unit).getPrimary());
+		}
+		if (fgGeneration.get() != generation) {
+			return;
+		}
+		CachedCount cached= new CachedCount(count, units);
+		fgCounts.put(element, cached);
+		if (fgGeneration.get() != generation) {
+			// discarded concurrently, the listener may not have seen the new count
+			fgCounts.remove(element, cached);
+		}
+	}
+
+	private static void addUnit(SearchMatch match, Set<ICompilationUnit> units) {
+		IJavaElement unit= ((IJavaElement) match.getElement()).getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (unit != null) {
+			units.add(((ICompilationUnit) unit).getPrimary());
+		}
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		Set<ICompilationUnit> units= new HashSet<>();
+		if (!collectChangedUnits(event.getDelta(), event.getType() == ElementChangedEvent.POST_RECONCILE, units)) {
+			fgGeneration.incrementAndGet();
+			fgCounts.clear();
+		} else if (!units.isEmpty()) {
+			fgGeneration.incrementAndGet();
+			invalidate(units);
+		}
+	}
+
+	/**
+	 * Collects the compilation units of the delta whose changes can add or remove references.
+	 *
+	 * @param delta the delta
+	 * @param reconcile <code>true</code> if the delta is the result of a reconcile
+	 * @param units the collected compilation units
+	 * @return <code>false</code> if the classpath or class files have changed and all counts must be
+	 *         discarded
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, boolean reconcile, Set<ICompilationUnit> units) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// non-Java resources do not change references
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (delta.getKind() == IJavaElementDelta.CHANGED && (delta.getFlags() & ~IJavaElementDelta.F_PRIMARY_WORKING_COPY) == 0) {
+					return true; // an editor has been opened or closed
+				}
+				if (!reconcile || StructuralDelta.isStructuralChange(delta)) {
+					units.add(((ICompilationUnit) element).getPrimary());
+				}
+				return true;
+			case IJavaElement.CLASS_FILE:
+				return false;
+			default:
+				return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedUnits(child, reconcile, units)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Discards the counts that depend on the given compilation units and the counts of the members
+	 * whose names occur in the units, as the units may now contain references to them.
+	 *
+	 * @param units the changed compilation units
+	 */
+	private static void invalidate(Set<ICompilationUnit> units) {
+		Set<String> names= new HashSet<>();
+		for (ICompilationUnit unit : units) {
+			if (!unit.exists()) {
+				continue; // removed, it does not contain new references
+			}
+			try {
+				String source= unit.getSource();
+				if (source == null) {
+					fgCounts.clear();
+					return;
+				}
+				names.addAll(getIdentifiers(source));
+			} catch (JavaModelException e) {
+				fgCounts.clear();
+				return;
+			}
+		}
+		// the name of a constructor is the name of its type
+		fgCounts.entrySet().removeIf(entry -> names.contains(entry.getKey().getElementName()) || !Collections.disjoint(entry.getValue().fUnits, units));
+	}
+
+	private static boolean isConstructor(IJavaElement element) {
+		try {
+			// explicit constructor invocations do not contain the name
+			return element instanceof IMethod && ((IMethod) element).isConstructor();
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private static boolean isCounted(SearchMatch match, boolean ignoreInaccurate) {
+		if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
+			return false;
+		}
+		Object o= match.getElement();
+		if (o instanceof IJavaElement) {
+			IJavaElement e= (IJavaElement) o;
+			return e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+					|| e.getAncestor(IJavaElement.CLASS_FILE) != null;
+		}
+		return false;
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE= factory.isInsideJRE(element);
+		return factory.createWorkspaceScope(isInsideJRE);
+	}
+}
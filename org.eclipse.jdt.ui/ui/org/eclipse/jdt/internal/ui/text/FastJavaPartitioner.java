@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,17 @@
 package org.eclipse.jdt.internal.ui.text;
 
 import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.rules.IPartitionTokenScanner;
 
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+
 public class FastJavaPartitioner extends FastPartitioner {
 
 
@@ -28,6 +34,27 @@ public class FastJavaPartitioner extends FastPartitioner {
 		super(scanner, legalContentTypes);
 	}
 
+	/**
+	 * Installs a java partitioner with <code>document</code>.
+	 *
+	 * @param document the document
+	 * @param project the project associated with the document, may be <code>null</code>
+	 */
+	public static void install(Document document, IJavaProject project) {
+		String[] types= new String[] {
+									  IJavaPartitions.JAVA_DOC,
+									  IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
+									  IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
+									  IJavaPartitions.JAVA_STRING,
+									  IJavaPartitions.JAVA_CHARACTER,
+									  IJavaPartitions.JAVA_MULTI_LINE_STRING,
+									  IDocument.DEFAULT_CONTENT_TYPE
+		};
+		FastPartitioner partitioner= new FastJavaPartitioner(new FastJavaPartitionScanner(project), types);
+		partitioner.connect(document);
+		document.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
+	}
+
 	@Override
 	protected void initialize() {
 		super.initialize();
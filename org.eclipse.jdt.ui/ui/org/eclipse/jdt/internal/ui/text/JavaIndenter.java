@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
@@ -395,6 +398,12 @@ public final class JavaIndenter {
 	 * @since 3.2
 	 */
 	private final CorePrefs fPrefs;
+	/**
+	 * The scopes skipped so far, from the closing to the opening peer, or <code>null</code> if
+	 * skipped scopes are not reused. The positions are encoded with {@link #encodePosition(int)}.
+	 * @since 3.31
+	 */
+	private Map<Long, long[]> fSkippedScopes;
 
 	/**
 	 * Creates a new instance.
@@ -426,6 +435,23 @@ public final class JavaIndenter {
 		fPrefs= new CorePrefs(project);
 	}
 
+	/**
+	 * Sets whether the scopes that are skipped to find a reference position are remembered and
+	 * reused for later offsets. This avoids scanning the same blocks again when the lines of a
+	 * range are indented one after the other.
+	 * <p>
+	 * A scope is remembered by the lines of its peers and their distances from the line ends. This
+	 * stays valid while the document only changes in the leading whitespace of its lines, which is
+	 * what indenting does. Reuse must be turned off before the document is changed in other ways.
+	 * </p>
+	 *
+	 * @param reuse <code>true</code> to reuse skipped scopes, <code>false</code> to forget them
+	 * @since 3.31
+	 */
+	public void setReuseSkippedScopes(boolean reuse) {
+		fSkippedScopes= reuse ? new HashMap<>() : null;
+	}
+
 	/**
 	 * Computes the indentation at the reference point of <code>position</code>.
 	 *
@@ -2159,6 +2185,22 @@ public final class JavaIndenter {
 	 *         otherwise
 	 */
 	private boolean skipScope(int openToken, int closeToken) {
+		long closePosition= -1;
+		if (fSkippedScopes != null) {
+			closePosition= encodePosition(fPosition);
+			long[] skipped= fSkippedScopes.get(Long.valueOf(closePosition));
+			if (skipped != null) {
+				int openPosition= decodePosition(skipped[0]);
+				int previousPosition= decodePosition(skipped[1]);
+				if (openPosition != -1 && previousPosition != -1) {
+					fToken= openToken;
+					fPosition= openPosition;
+					fTokenPos= openPosition;
+					fPreviousPos= previousPosition;
+					return true;
+				}
+			}
+		}
 
 		int depth= 1;
 
@@ -2169,11 +2211,52 @@ public final class JavaIndenter {
 				depth++;
 			} else if (fToken == openToken) {
 				depth--;
-				if (depth == 0)
+				if (depth == 0) {
+					if (closePosition != -1)
+						fSkippedScopes.put(Long.valueOf(closePosition), new long[] { encodePosition(fPosition), encodePosition(fPreviousPos) });
 					return true;
+				}
 			} else if (fToken == Symbols.TokenEOF) {
 					return false;
 			}
 		}
 	}
+
+	/**
+	 * Encodes an offset as its line and its distance from the end of the line, which does not
+	 * change when the indentation of lines changes.
+	 *
+	 * @param offset the offset
+	 * @return the encoded position, or <code>-1</code> if the offset is invalid
+	 * @since 3.31
+	 */
+	private long encodePosition(int offset) {
+		try {
+			int line= fDocument.getLineOfOffset(offset);
+			IRegion region= fDocument.getLineInformation(line);
+			int distance= region.getOffset() + region.getLength() - offset;
+			return distance < 0 ? -1 : ((long) line << 32) | distance;
+		} catch (BadLocationException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Decodes a position encoded with {@link #encodePosition(int)}.
+	 *
+	 * @param position the encoded position
+	 * @return the offset, or <code>-1</code> if the position is invalid
+	 * @since 3.31
+	 */
+	private int decodePosition(long position) {
+		if (position == -1)
+			return -1;
+		try {
+			IRegion region= fDocument.getLineInformation((int) (position >>> 32));
+			int offset= region.getOffset() + region.getLength() - (int) position;
+			return offset >= region.getOffset() ? offset : -1;
+		} catch (BadLocationException e) {
+			return -1;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,6 +135,7 @@ import org.eclipse.jdt.internal.ui.actions.AddGetterSetterTypeProposal;
 import org.eclipse.jdt.internal.ui.actions.HashCodeEqualsTypeProposal;
 import org.eclipse.jdt.internal.ui.actions.ToStringTypeProposal;
 import org.eclipse.jdt.internal.ui.fix.ExpressionsCleanUp;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredASTRewriteCorrectionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.FixCorrectionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedCorrectionProposal;
 import org.eclipse.jdt.internal.ui.util.ASTHelper;
@@ -291,32 +292,32 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 			return true;
 		}
 
-		AST ast= coveringNode.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		newIf.setThenStatement(ast.newReturnStatement());
-		ListRewrite listRewriter= rewrite.getListRewrite(ifStatement.getParent(), (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-		listRewriter.replace(ifStatement, newIf, null);
-		// remove last 'return' in 'then' block
-		ArrayList<Statement> statements= getUnwrappedStatements(ifStatement.getThenStatement());
-		Statement lastStatement= statements.get(statements.size() - 1);
-		if (lastStatement instanceof ReturnStatement) {
-			statements.remove(lastStatement);
-		}
-		// add statements from 'then' to the end of block
-		for (Statement statement : statements) {
-			listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
-		}
-
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertToIfReturn;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_TO_IF_RETURN, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.CONVERT_TO_IF_RETURN, image, () -> {
+			AST ast= coveringNode.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			newIf.setThenStatement(ast.newReturnStatement());
+			ListRewrite listRewriter= rewrite.getListRewrite(ifStatement.getParent(), (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+			listRewriter.replace(ifStatement, newIf, null);
+			// remove last 'return' in 'then' block
+			ArrayList<Statement> statements= getUnwrappedStatements(ifStatement.getThenStatement());
+			Statement lastStatement= statements.get(statements.size() - 1);
+			if (lastStatement instanceof ReturnStatement) {
+				statements.remove(lastStatement);
+			}
+			// add statements from 'then' to the end of block
+			for (Statement statement : statements) {
+				listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
+			}
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -382,32 +383,32 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// remove last 'return' in 'then' block
-		ListRewrite listRewriter= rewrite.getListRewrite(thenBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-		listRewriter.remove(thenStatements.get(thenStatements.size() - 1), null);
-		// prepare original nodes
-		Expression conditionPlaceholder= (Expression) rewrite.createMoveTarget(ifStatement.getExpression());
-		Statement thenPlaceholder= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
-		// prepare 'else' block
-		Block elseBlock= ast.newBlock();
-		for (int i= ifIndex + 1; i < statements.size(); i++) {
-			Statement statement= statements.get(i);
-			elseBlock.statements().add(rewrite.createMoveTarget(statement));
-		}
-		// prepare new 'if' statement
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(conditionPlaceholder);
-		newIf.setThenStatement(thenPlaceholder);
-		newIf.setElseStatement(elseBlock);
-		rewrite.replace(ifStatement, newIf, null);
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertToIfElse_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_TO_IF_ELSE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.CONVERT_TO_IF_ELSE, image, () -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// remove last 'return' in 'then' block
+			ListRewrite listRewriter= rewrite.getListRewrite(thenBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+			listRewriter.remove(thenStatements.get(thenStatements.size() - 1), null);
+			// prepare original nodes
+			Expression conditionPlaceholder= (Expression) rewrite.createMoveTarget(ifStatement.getExpression());
+			Statement thenPlaceholder= (Statement) rewrite.createMoveTarget(ifStatement.getThenStatement());
+			// prepare 'else' block
+			Block elseBlock= ast.newBlock();
+			for (int i= ifIndex + 1; i < statements.size(); i++) {
+				Statement statement= statements.get(i);
+				elseBlock.statements().add(rewrite.createMoveTarget(statement));
+			}
+			// prepare new 'if' statement
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(conditionPlaceholder);
+			newIf.setThenStatement(thenPlaceholder);
+			newIf.setElseStatement(elseBlock);
+			rewrite.replace(ifStatement, newIf, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -423,32 +424,32 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		Statement thenStatement= ifStatement.getThenStatement();
-		Statement elseStatement= ifStatement.getElseStatement();
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIf_description;
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_IF_STATEMENT, image, () -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			Statement thenStatement= ifStatement.getThenStatement();
+			Statement elseStatement= ifStatement.getElseStatement();
 
-		// prepare original nodes
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			// prepare original nodes
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
 
-		Statement newElseStatement= (Statement) rewrite.createMoveTarget(thenStatement);
-		Statement newThenStatement= (Statement) rewrite.createMoveTarget(elseStatement);
-		// set new nodes
-		rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, inversedExpression, null);
+			Statement newElseStatement= (Statement) rewrite.createMoveTarget(thenStatement);
+			Statement newThenStatement= (Statement) rewrite.createMoveTarget(elseStatement);
+			// set new nodes
+			rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, inversedExpression, null);
 
-		if (elseStatement instanceof IfStatement) {// bug 79507 && bug 74580
-			Block elseBlock= ast.newBlock();
-			elseBlock.statements().add(newThenStatement);
-			newThenStatement= elseBlock;
-		}
-		rewrite.set(ifStatement, IfStatement.THEN_STATEMENT_PROPERTY, newThenStatement, null);
-		rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, newElseStatement, null);
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIf_description;
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_IF_STATEMENT, image);
-		resultingCollections.add(proposal);
+			if (elseStatement instanceof IfStatement) {// bug 79507 && bug 74580
+				Block elseBlock= ast.newBlock();
+				elseBlock.statements().add(newThenStatement);
+				newThenStatement= elseBlock;
+			}
+			rewrite.set(ifStatement, IfStatement.THEN_STATEMENT_PROPERTY, newThenStatement, null);
+			rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, newElseStatement, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -465,7 +466,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 			return false;
 		}
 		// check that 'if' statement is statement in block that is body of loop
-		Block loopBlock= null;
+		Block loopBlock;
 		if (ifStatement.getParent() instanceof Block
 				&& (ifStatement.getParent().getParent() instanceof ForStatement || ifStatement.getParent().getParent() instanceof WhileStatement)) {
 			loopBlock= (Block) ifStatement.getParent();
@@ -475,28 +476,28 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		// prepare 'then' for new 'if'
-		Block thenBlock= ast.newBlock();
-		int ifIndex= loopBlock.statements().indexOf(ifStatement);
-		for (int i= ifIndex + 1; i < loopBlock.statements().size(); i++) {
-			Statement statement= (Statement) loopBlock.statements().get(i);
-			thenBlock.statements().add(rewrite.createMoveTarget(statement));
-		}
-		newIf.setThenStatement(thenBlock);
-		// replace 'if' statement in loop
-		rewrite.replace(ifStatement, newIf, null);
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIfContinue_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_IF_CONTINUE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_IF_CONTINUE, image, () -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			// prepare 'then' for new 'if'
+			Block thenBlock= ast.newBlock();
+			int ifIndex= loopBlock.statements().indexOf(ifStatement);
+			for (int i= ifIndex + 1; i < loopBlock.statements().size(); i++) {
+				Statement statement= (Statement) loopBlock.statements().get(i);
+				thenBlock.statements().add(rewrite.createMoveTarget(statement));
+			}
+			newIf.setThenStatement(thenBlock);
+			// replace 'if' statement in loop
+			rewrite.replace(ifStatement, newIf, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -510,12 +511,8 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		}
 		// prepare outer control structure and block that contains 'if' statement
 		ASTNode ifParent= ifStatement.getParent();
-		Block ifParentBlock= null;
-		ASTNode ifParentStructure= ifParent;
-		if (ifParentStructure instanceof Block) {
-			ifParentBlock= (Block) ifParent;
-			ifParentStructure= ifParentStructure.getParent();
-		}
+		Block ifParentBlock= ifParent instanceof Block ? (Block) ifParent : null;
+		ASTNode ifParentStructure= ifParentBlock != null ? ifParent.getParent() : ifParent;
 		// check that control structure is loop and 'if' statement if last statement
 		if (!(ifParentStructure instanceof ForStatement) && !(ifParentStructure instanceof WhileStatement)) {
 			return false;
@@ -527,42 +524,42 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// create inverted 'if' statement
-		Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
-		IfStatement newIf= ast.newIfStatement();
-		newIf.setExpression(inversedExpression);
-		newIf.setThenStatement(ast.newContinueStatement());
-		//
-		if (ifParentBlock == null) {
-			// if there is no block, create it
-			ifParentBlock= ast.newBlock();
-			ifParentBlock.statements().add(newIf);
-			for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
-				ifParentBlock.statements().add(rewrite.createMoveTarget(statement));
-			}
-			// replace 'if' statement as body with new block
-			if (ifParentStructure instanceof ForStatement) {
-				rewrite.set(ifParentStructure, ForStatement.BODY_PROPERTY, ifParentBlock, null);
-			} else if (ifParentStructure instanceof WhileStatement) {
-				rewrite.set(ifParentStructure, WhileStatement.BODY_PROPERTY, ifParentBlock, null);
-			}
-		} else {
-			// if there was block, replace
-			ListRewrite listRewriter= rewrite.getListRewrite(ifParentBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
-			listRewriter.replace(ifStatement, newIf, null);
-			// add statements from 'then' to the end of block
-			for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
-				listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
-			}
-		}
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseIfToContinue_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERT_IF_TO_CONTINUE, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.INVERT_IF_TO_CONTINUE, image, () -> {
+			AST ast= covering.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// create inverted 'if' statement
+			Expression inversedExpression= getInversedExpression(rewrite, ifStatement.getExpression());
+			IfStatement newIf= ast.newIfStatement();
+			newIf.setExpression(inversedExpression);
+			newIf.setThenStatement(ast.newContinueStatement());
+			//
+			if (ifParentBlock == null) {
+				// if there is no block, create it
+				Block newParentBlock= ast.newBlock();
+				newParentBlock.statements().add(newIf);
+				for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
+					newParentBlock.statements().add(rewrite.createMoveTarget(statement));
+				}
+				// replace 'if' statement as body with new block
+				if (ifParentStructure instanceof ForStatement) {
+					rewrite.set(ifParentStructure, ForStatement.BODY_PROPERTY, newParentBlock, null);
+				} else if (ifParentStructure instanceof WhileStatement) {
+					rewrite.set(ifParentStructure, WhileStatement.BODY_PROPERTY, newParentBlock, null);
+				}
+			} else {
+				// if there was block, replace
+				ListRewrite listRewriter= rewrite.getListRewrite(ifParentBlock, (ChildListPropertyDescriptor) ifStatement.getLocationInParent());
+				listRewriter.replace(ifStatement, newIf, null);
+				// add statements from 'then' to the end of block
+				for (Statement statement : getUnwrappedStatements(ifStatement.getThenStatement())) {
+					listRewriter.insertLast(rewrite.createMoveTarget(statement), null);
+				}
+			}
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -1039,40 +1036,40 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= ifStatement.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitAndCondition_description;
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.SPLIT_AND_CONDITION, image, () -> {
+			AST ast= ifStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
 
-		// prepare left and right conditions
-		Expression[] newOperands= { null, null };
-		breakInfixOperationAtOperation(rewrite, topInfixExpression, andOperator, offset, true, newOperands);
+			// prepare left and right conditions
+			Expression[] newOperands= { null, null };
+			breakInfixOperationAtOperation(rewrite, (InfixExpression) ifStatement.getExpression(), andOperator, offset, true, newOperands);
 
-		Expression leftCondition= newOperands[0];
-		Expression rightCondition= newOperands[1];
+			Expression leftCondition= newOperands[0];
+			Expression rightCondition= newOperands[1];
 
-		// replace conditions in outer IfStatement
-		rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, leftCondition, null);
+			// replace conditions in outer IfStatement
+			rewrite.set(ifStatement, IfStatement.EXPRESSION_PROPERTY, leftCondition, null);
 
-		// prepare inner IfStatement
-		IfStatement innerIf= ast.newIfStatement();
+			// prepare inner IfStatement
+			IfStatement innerIf= ast.newIfStatement();
 
-		innerIf.setExpression(rightCondition);
-		innerIf.setThenStatement((Statement) rewrite.createMoveTarget(ifStatement.getThenStatement()));
-		Block innerBlock= ast.newBlock();
-		innerBlock.statements().add(innerIf);
+			innerIf.setExpression(rightCondition);
+			innerIf.setThenStatement((Statement) rewrite.createMoveTarget(ifStatement.getThenStatement()));
+			Block innerBlock= ast.newBlock();
+			innerBlock.statements().add(innerIf);
 
-		Statement elseStatement= ifStatement.getElseStatement();
-		if (elseStatement != null) {
-			innerIf.setElseStatement((Statement) rewrite.createCopyTarget(elseStatement));
-		}
-
-		// replace outer thenStatement
-		rewrite.replace(ifStatement.getThenStatement(), innerBlock, null);
+			Statement elseStatement= ifStatement.getElseStatement();
+			if (elseStatement != null) {
+				innerIf.setElseStatement((Statement) rewrite.createCopyTarget(elseStatement));
+			}
 
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitAndCondition_description;
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.SPLIT_AND_CONDITION, image);
-		resultingCollections.add(proposal);
+			// replace outer thenStatement
+			rewrite.replace(ifStatement.getThenStatement(), innerBlock, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -1226,36 +1223,36 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= ifStatement.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-
-		// prepare left and right conditions
-		Expression[] newOperands= { null, null };
-		breakInfixOperationAtOperation(rewrite, topInfixExpression, orOperator, offset, true, newOperands);
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitOrCondition_description;
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.SPLIT_OR_CONDITION, image, () -> {
+			AST ast= ifStatement.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
 
-		Expression leftCondition= newOperands[0];
-		Expression rightCondition= newOperands[1];
+			// prepare left and right conditions
+			Expression[] newOperands= { null, null };
+			breakInfixOperationAtOperation(rewrite, (InfixExpression) ifStatement.getExpression(), orOperator, offset, true, newOperands);
 
-		// prepare first statement
-		rewrite.replace(ifStatement.getExpression(), leftCondition, null);
+			Expression leftCondition= newOperands[0];
+			Expression rightCondition= newOperands[1];
 
-		IfStatement secondIf= ast.newIfStatement();
-		secondIf.setExpression(rightCondition);
-		secondIf.setThenStatement((Statement) rewrite.createCopyTarget(ifStatement.getThenStatement()));
+			// prepare first statement
+			rewrite.replace(ifStatement.getExpression(), leftCondition, null);
 
-		Statement elseStatement= ifStatement.getElseStatement();
-		if (elseStatement == null) {
-			rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, secondIf, null);
-		} else {
-			rewrite.replace(elseStatement, secondIf, null);
-			secondIf.setElseStatement((Statement) rewrite.createMoveTarget(elseStatement));
-		}
+			IfStatement secondIf= ast.newIfStatement();
+			secondIf.setExpression(rightCondition);
+			secondIf.setThenStatement((Statement) rewrite.createCopyTarget(ifStatement.getThenStatement()));
 
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_splitOrCondition_description;
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.SPLIT_OR_CONDITION, image);
-		resultingCollections.add(proposal);
+			Statement elseStatement= ifStatement.getElseStatement();
+			if (elseStatement == null) {
+				rewrite.set(ifStatement, IfStatement.ELSE_STATEMENT_PROPERTY, secondIf, null);
+			} else {
+				rewrite.replace(elseStatement, secondIf, null);
+				secondIf.setElseStatement((Statement) rewrite.createMoveTarget(elseStatement));
+			}
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -1274,21 +1271,21 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		//
-		AST ast= covering.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare new conditional expression
-		ConditionalExpression newExpression= ast.newConditionalExpression();
-		newExpression.setExpression(getInversedExpression(rewrite, expression.getExpression()));
-		newExpression.setThenExpression((Expression) rewrite.createCopyTarget(expression.getElseExpression()));
-		newExpression.setElseExpression((Expression) rewrite.createCopyTarget(expression.getThenExpression()));
-		// replace old expression with new
-		rewrite.replace(expression, newExpression, null);
-		// add correction proposal
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
 		String label= CorrectionMessages.AdvancedQuickAssistProcessor_inverseConditionalExpression_description;
 		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.INVERSE_CONDITIONAL_EXPRESSION, image);
-		resultingCollections.add(proposal);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.INVERSE_CONDITIONAL_EXPRESSION, image, () -> {
+			AST ast= expression.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare new conditional expression
+			ConditionalExpression newExpression= ast.newConditionalExpression();
+			newExpression.setExpression(getInversedExpression(rewrite, expression.getExpression()));
+			newExpression.setThenExpression((Expression) rewrite.createCopyTarget(expression.getElseExpression()));
+			newExpression.setElseExpression((Expression) rewrite.createCopyTarget(expression.getThenExpression()));
+			// replace old expression with new
+			rewrite.replace(expression, newExpression, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -1395,55 +1392,57 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		AST ast= infixExpression.getAST();
-		ASTRewrite rewrite= ASTRewrite.create(ast);
-		// prepare left and right expressions
-		Expression leftExpression= null;
-		Expression rightExpression= null;
-		InfixExpression currentExpression= infixExpression;
-		leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getLeftOperand(), false, operator);
-		if (infixExpression.getRightOperand().getStartPosition() <= context.getSelectionOffset()) {
-			leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getRightOperand(), false, operator);
-		} else {
-			rightExpression= combineOperands(rewrite, rightExpression, infixExpression.getRightOperand(), false, operator);
-		}
-		for (Iterator<Expression> iter= currentExpression.extendedOperands().iterator(); iter.hasNext();) {
-			Expression extendedOperand= iter.next();
-			if (extendedOperand.getStartPosition() <= context.getSelectionOffset()) {
-				leftExpression= combineOperands(rewrite, leftExpression, extendedOperand, false, operator);
+		// add correction proposal, the rewrite is created when the proposal is previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_exchangeOperands_description;
+		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
+		resultingCollections.add(new DeferredASTRewriteCorrectionProposal(label, context.getCompilationUnit(), IProposalRelevance.EXCHANGE_OPERANDS, image, () -> {
+			AST ast= infixExpression.getAST();
+			ASTRewrite rewrite= ASTRewrite.create(ast);
+			// prepare left and right expressions
+			Expression leftExpression= null;
+			Expression rightExpression= null;
+			InfixExpression currentExpression= infixExpression;
+			leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getLeftOperand(), false, operator);
+			if (infixExpression.getRightOperand().getStartPosition() <= context.getSelectionOffset()) {
+				leftExpression= combineOperands(rewrite, leftExpression, infixExpression.getRightOperand(), false, operator);
 			} else {
-				rightExpression= combineOperands(rewrite, rightExpression, extendedOperand, false, operator);
+				rightExpression= combineOperands(rewrite, rightExpression, infixExpression.getRightOperand(), false, operator);
+			}
+			for (Iterator<Expression> iter= currentExpression.extendedOperands().iterator(); iter.hasNext();) {
+				Expression extendedOperand= iter.next();
+				if (extendedOperand.getStartPosition() <= context.getSelectionOffset()) {
+					leftExpression= combineOperands(rewrite, leftExpression, extendedOperand, false, operator);
+				} else {
+					rightExpression= combineOperands(rewrite, rightExpression, extendedOperand, false, operator);
+				}
 			}
-		}
-
-		if (NecessaryParenthesesChecker.needsParentheses(leftExpression, infixExpression, InfixExpression.RIGHT_OPERAND_PROPERTY)) {
-			leftExpression= getParenthesizedExpression(ast, leftExpression);
-		}
-		if (NecessaryParenthesesChecker.needsParentheses(rightExpression, infixExpression, InfixExpression.LEFT_OPERAND_PROPERTY)) {
-			rightExpression= getParenthesizedExpression(ast, rightExpression);
-		}
 
-		if (operator == InfixExpression.Operator.LESS) {
-			operator= InfixExpression.Operator.GREATER;
-		} else if (operator == InfixExpression.Operator.LESS_EQUALS) {
-			operator= InfixExpression.Operator.GREATER_EQUALS;
-		} else if (operator == InfixExpression.Operator.GREATER) {
-			operator= InfixExpression.Operator.LESS;
-		} else if (operator == InfixExpression.Operator.GREATER_EQUALS) {
-			operator= InfixExpression.Operator.LESS_EQUALS;
-		}
+			if (NecessaryParenthesesChecker.needsParentheses(leftExpression, infixExpression, InfixExpression.RIGHT_OPERAND_PROPERTY)) {
+				leftExpression= getParenthesizedExpression(ast, leftExpression);
+			}
+			if (NecessaryParenthesesChecker.needsParentheses(rightExpression, infixExpression, InfixExpression.LEFT_OPERAND_PROPERTY)) {
+				rightExpression= getParenthesizedExpression(ast, rightExpression);
+			}
 
-		// create new infix expression
-		InfixExpression newInfix= ast.newInfixExpression();
-		newInfix.setOperator(operator);
-		newInfix.setLeftOperand(rightExpression);
-		newInfix.setRightOperand(leftExpression);
-		rewrite.replace(infixExpression, newInfix, null);
-		// add correction proposal
-		String label= CorrectionMessages.AdvancedQuickAssistProcessor_exchangeOperands_description;
-		Image image= JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE);
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.EXCHANGE_OPERANDS, image);
-		resultingCollections.add(proposal);
+			Operator newOperator= operator;
+			if (operator == InfixExpression.Operator.LESS) {
+				newOperator= InfixExpression.Operator.GREATER;
+			} else if (operator == InfixExpression.Operator.LESS_EQUALS) {
+				newOperator= InfixExpression.Operator.GREATER_EQUALS;
+			} else if (operator == InfixExpression.Operator.GREATER) {
+				newOperator= InfixExpression.Operator.LESS;
+			} else if (operator == InfixExpression.Operator.GREATER_EQUALS) {
+				newOperator= InfixExpression.Operator.LESS_EQUALS;
+			}
+
+			// create new infix expression
+			InfixExpression newInfix= ast.newInfixExpression();
+			newInfix.setOperator(newOperator);
+			newInfix.setLeftOperand(rightExpression);
+			newInfix.setRightOperand(leftExpression);
+			rewrite.replace(infixExpression, newInfix, null);
+			return rewrite;
+		}));
 		return true;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.core.expressions.ExpressionTagNames;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -48,6 +49,11 @@ public final class ContributedProcessorDescriptor {
 	private String fRequiredSourceLevel;
 	private final Set<String> fHandledMarkerTypes;
 
+	/** The performance event id used to trace slow quick fix and quick assist processors. */
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/quickassist/extensions"; //$NON-NLS-1$
+	/** Tells whether to inform performance listeners about slow processors. */
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
 	private static final String ID= "id"; //$NON-NLS-1$
 	private static final String CLASS= "class"; //$NON-NLS-1$
 
@@ -127,6 +133,41 @@ public final class ContributedProcessorDescriptor {
 		return false;
 	}
 
+	/**
+	 * Returns the id of the processor extension.
+	 *
+	 * @return the id, or <code>null</code> if none is declared
+	 */
+	public String getId() {
+		return fConfigurationElement.getAttribute(ID);
+	}
+
+	/**
+	 * Starts the performance stats for an invocation of the processor, if performance tracing is
+	 * enabled.
+	 *
+	 * @param processor the processor
+	 * @return the started stats, or <code>null</code>
+	 */
+	PerformanceStats startMeter(Object processor) {
+		if (!MEASURE_PERFORMANCE)
+			return null;
+		PerformanceStats stats= PerformanceStats.getStats(PERFORMANCE_EVENT, processor);
+		stats.startRun(getId());
+		return stats;
+	}
+
+	/**
+	 * Ends the performance stats for an invocation of the processor.
+	 *
+	 * @param stats the stats returned by {@link #startMeter(Object)}, or <code>null</code>
+	 */
+	void stopMeter(PerformanceStats stats) {
+		if (stats != null) {
+			stats.endRun();
+		}
+	}
+
 	public Object getProcessor(ICompilationUnit cunit, Class<?> expectedType) {
 		if (matches(cunit)) {
 			if (fProcessorInstance == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,12 +18,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -73,6 +75,14 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds that the quick assist popup waits for the processors, the processors
+	 * that would start later are skipped.
+	 */
+	private static final long LATENCY_BUDGET= Long.getLong("jdt.ui.quickAssist.budget", 2000).longValue(); //$NON-NLS-1$
+
+	private static final long NO_DEADLINE= Long.MIN_VALUE;
+
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
 
@@ -245,7 +255,7 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		ICompletionProposal[] res= null;
 		if (model != null && context != null && annotations != null) {
 			ArrayList<IJavaCompletionProposal> proposals= new ArrayList<>(10);
-			IStatus status= collectProposals(context, model, annotations, true, !fAssistant.isUpdatedOffset(), proposals);
+			IStatus status= collectProposals(context, model, annotations, true, !fAssistant.isUpdatedOffset(), proposals, LATENCY_BUDGET);
 			res= proposals.toArray(new ICompletionProposal[proposals.size()]);
 			if (!status.isOK()) {
 				fErrorMessage= status.getMessage();
@@ -263,6 +273,26 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static IStatus collectProposals(IInvocationContext context, IAnnotationModel model, Annotation[] annotations, boolean addQuickFixes, boolean addQuickAssists, Collection<IJavaCompletionProposal> proposals) {
+		return collectProposals(context, model, annotations, addQuickFixes, addQuickAssists, proposals, 0);
+	}
+
+	/**
+	 * Collects the quick fixes and quick assists for the given context. The processors that would
+	 * start after the given time has passed are skipped and reported in the returned status.
+	 *
+	 * @param context the invocation context
+	 * @param model the annotation model
+	 * @param annotations the annotations at the invocation offset
+	 * @param addQuickFixes whether to collect quick fixes
+	 * @param addQuickAssists whether to collect quick assists
+	 * @param proposals receives the proposals
+	 * @param timeout the time in milliseconds after which no further processor is started, or 0
+	 *            to run all processors
+	 * @return the status of the processors
+	 * @since 3.31
+	 */
+	public static IStatus collectProposals(IInvocationContext context, IAnnotationModel model, Annotation[] annotations, boolean addQuickFixes, boolean addQuickAssists, Collection<IJavaCompletionProposal> proposals, long timeout) {
+		long deadline= timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : NO_DEADLINE;
 		ArrayList<ProblemLocation> problems= new ArrayList<>();
 
 		// collect problem locations and corrections from marker annotations
@@ -282,17 +312,17 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 		IProblemLocationCore[] problemLocations= problems.toArray(new IProblemLocationCore[problems.size()]);
 		if (addQuickFixes) {
-			IStatus status= collectCorrections(context, problemLocations, proposals);
+			IStatus status= collectCorrections(context, problemLocations, proposals, deadline);
 			if (!status.isOK()) {
-				resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickfix_message, null);
+				resStatus= createStatus(status, CorrectionMessages.JavaCorrectionProcessor_error_quickfix_message);
 				resStatus.add(status);
 			}
 		}
 		if (addQuickAssists) {
-			IStatus status= collectAssists(context, problemLocations, proposals);
+			IStatus status= collectAssists(context, problemLocations, proposals, deadline);
 			if (!status.isOK()) {
 				if (resStatus == null) {
-					resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickassist_message, null);
+					resStatus= createStatus(status, CorrectionMessages.JavaCorrectionProcessor_error_quickassist_message);
 				}
 				resStatus.add(status);
 			}
@@ -303,6 +333,11 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		return Status.OK_STATUS;
 	}
 
+	private static MultiStatus createStatus(IStatus status, String errorMessage) {
+		String message= status.matches(IStatus.ERROR) ? errorMessage : CorrectionMessages.JavaCorrectionProcessor_timeout_message;
+		return new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, message, null);
+	}
+
 	private static ProblemLocation getProblemLocation(IJavaAnnotation javaAnnotation, IAnnotationModel model) {
 		int problemId= javaAnnotation.getId();
 		if (problemId != -1) {
@@ -325,13 +360,6 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		private MultiStatus fMulti= null;
 		private ContributedProcessorDescriptor fDescriptor;
 
-		public void process(ContributedProcessorDescriptor[] desc) {
-			for (ContributedProcessorDescriptor d : desc) {
-				fDescriptor= d;
-				SafeRunner.run(this);
-			}
-		}
-
 		public void process(ContributedProcessorDescriptor desc) {
 			fDescriptor= desc;
 			SafeRunner.run(this);
@@ -361,56 +389,132 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 	}
 
-	private static class SafeCorrectionCollector extends SafeCorrectionProcessorAccess {
-		private final IInvocationContext fContext;
+	/**
+	 * Collects the proposals of several processors. The processors run one after another on the
+	 * calling thread and share the context and its AST. Processors that would start after the
+	 * deadline are skipped and reported in the status.
+	 */
+	private static abstract class SafeProposalCollector {
+		protected final IInvocationContext fContext;
 		private final Collection<IJavaCompletionProposal> fProposals;
-		private IProblemLocationCore[] fLocations;
+		private final List<ContributedProcessorDescriptor> fDescriptors= new ArrayList<>();
+		private final List<IProblemLocationCore[]> fLocations= new ArrayList<>();
+		private MultiStatus fMulti= null;
 
-		public SafeCorrectionCollector(IInvocationContext context, Collection<IJavaCompletionProposal> proposals) {
+		public SafeProposalCollector(IInvocationContext context, Collection<IJavaCompletionProposal> proposals) {
 			fContext= context;
 			fProposals= proposals;
 		}
 
-		public void setProblemLocations(IProblemLocationCore[] locations) {
-			fLocations= locations;
+		public void add(ContributedProcessorDescriptor desc, IProblemLocationCore[] locations) {
+			fDescriptors.add(desc);
+			fLocations.add(locations);
 		}
 
-		@Override
-		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
-			IQuickFixProcessor curr= (IQuickFixProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickFixProcessor.class);
-			if (curr != null) {
-				List<ProblemLocation> wrapped = Arrays.asList(fLocations).stream().map(x -> new ProblemLocation(x)).collect(Collectors.toList());
-				ProblemLocation[] asArr = wrapped.toArray(new ProblemLocation[wrapped.size()]);
-				IJavaCompletionProposal[] res= curr.getCorrections(fContext, asArr);
+		/**
+		 * Computes the proposals of all added processors.
+		 *
+		 * @param deadline the {@link System#nanoTime()} after which no further processor is
+		 *            started, or {@link JavaCorrectionProcessor#NO_DEADLINE}
+		 */
+		public void collect(long deadline) {
+			for (int i= 0; i < fDescriptors.size(); i++) {
+				if (deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0) {
+					handleTimeout(fDescriptors.get(i));
+					continue;
+				}
+				IJavaCompletionProposal[] res= compute(fDescriptors.get(i), fLocations.get(i));
 				if (res != null) {
 					fProposals.addAll(Arrays.asList(res));
 				}
 			}
 		}
+
+		private IJavaCompletionProposal[] compute(ContributedProcessorDescriptor desc, IProblemLocationCore[] locations) {
+			IJavaCompletionProposal[][] result= new IJavaCompletionProposal[1][];
+			SafeRunner.run(new ISafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					Object processor= desc.getProcessor(fContext.getCompilationUnit(), getProcessorType());
+					if (processor != null) {
+						List<ProblemLocation> wrapped = Arrays.asList(locations).stream().map(x -> new ProblemLocation(x)).collect(Collectors.toList());
+						ProblemLocation[] asArr = wrapped.toArray(new ProblemLocation[wrapped.size()]);
+						PerformanceStats stats= desc.startMeter(processor);
+						try {
+							result[0]= computeProposals(processor, fContext, asArr);
+						} finally {
+							desc.stopMeter(stats);
+						}
+					}
+				}
+
+				@Override
+				public void handleException(Throwable exception) {
+					SafeProposalCollector.this.handleException(exception);
+				}
+			});
+			return result[0];
+		}
+
+		protected abstract Class<?> getProcessorType();
+
+		protected abstract IJavaCompletionProposal[] computeProposals(Object processor, IInvocationContext context, ProblemLocation[] locations) throws Exception;
+
+		private MultiStatus getMultiStatus() {
+			if (fMulti == null) {
+				fMulti= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.OK, CorrectionMessages.JavaCorrectionProcessor_error_status, null);
+			}
+			return fMulti;
+		}
+
+		private void handleException(Throwable exception) {
+			getMultiStatus().merge(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_status, exception));
+		}
+
+		private void handleTimeout(ContributedProcessorDescriptor desc) {
+			String message= Messages.format(CorrectionMessages.JavaCorrectionProcessor_timeout_status, desc.getId());
+			getMultiStatus().merge(new Status(IStatus.WARNING, JavaUI.ID_PLUGIN, message));
+		}
+
+		public IStatus getStatus() {
+			if (fMulti == null) {
+				return Status.OK_STATUS;
+			}
+			return fMulti;
+		}
 	}
 
-	private static class SafeAssistCollector extends SafeCorrectionProcessorAccess {
-		private final IInvocationContext fContext;
-		private final IProblemLocationCore[] fLocations;
-		private final Collection<IJavaCompletionProposal> fProposals;
+	private static class SafeCorrectionCollector extends SafeProposalCollector {
 
-		public SafeAssistCollector(IInvocationContext context, IProblemLocationCore[] locations, Collection<IJavaCompletionProposal> proposals) {
-			fContext= context;
-			fLocations= locations;
-			fProposals= proposals;
+		public SafeCorrectionCollector(IInvocationContext context, Collection<IJavaCompletionProposal> proposals) {
+			super(context, proposals);
 		}
 
 		@Override
-		public void safeRun(ContributedProcessorDescriptor desc) throws Exception {
-			IQuickAssistProcessor curr= (IQuickAssistProcessor) desc.getProcessor(fContext.getCompilationUnit(), IQuickAssistProcessor.class);
-			if (curr != null) {
-				List<ProblemLocation> wrapped = Arrays.asList(fLocations).stream().map(x -> new ProblemLocation(x)).collect(Collectors.toList());
-				ProblemLocation[] asArr = wrapped.toArray(new ProblemLocation[wrapped.size()]);
-				IJavaCompletionProposal[] res= curr.getAssists(fContext, asArr);
-				if (res != null) {
-					fProposals.addAll(Arrays.asList(res));
-				}
-			}
+		protected Class<?> getProcessorType() {
+			return IQuickFixProcessor.class;
+		}
+
+		@Override
+		protected IJavaCompletionProposal[] computeProposals(Object processor, IInvocationContext context, ProblemLocation[] locations) throws Exception {
+			return ((IQuickFixProcessor) processor).getCorrections(context, locations);
+		}
+	}
+
+	private static class SafeAssistCollector extends SafeProposalCollector {
+
+		public SafeAssistCollector(IInvocationContext context, Collection<IJavaCompletionProposal> proposals) {
+			super(context, proposals);
+		}
+
+		@Override
+		protected Class<?> getProcessorType() {
+			return IQuickAssistProcessor.class;
+		}
+
+		@Override
+		protected IJavaCompletionProposal[] computeProposals(Object processor, IInvocationContext context, ProblemLocation[] locations) throws Exception {
+			return ((IQuickAssistProcessor) processor).getAssists(context, locations);
 		}
 	}
 
@@ -462,14 +566,18 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 
 	public static IStatus collectCorrections(IInvocationContext context, IProblemLocationCore[] locations, Collection<IJavaCompletionProposal> proposals) {
+		return collectCorrections(context, locations, proposals, NO_DEADLINE);
+	}
+
+	private static IStatus collectCorrections(IInvocationContext context, IProblemLocationCore[] locations, Collection<IJavaCompletionProposal> proposals, long deadline) {
 		SafeCorrectionCollector collector= new SafeCorrectionCollector(context, proposals);
 		for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
 			IProblemLocationCore[] handled= getHandledProblems(locations, curr);
 			if (handled != null) {
-				collector.setProblemLocations(handled);
-				collector.process(curr);
+				collector.add(curr, handled);
 			}
 		}
+		collector.collect(deadline);
 		return collector.getStatus();
 	}
 
@@ -506,10 +614,15 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static IStatus collectAssists(IInvocationContext context, IProblemLocationCore[] locations, Collection<IJavaCompletionProposal> proposals) {
-		ContributedProcessorDescriptor[] processors= getAssistProcessors();
-		SafeAssistCollector collector= new SafeAssistCollector(context, locations, proposals);
-		collector.process(processors);
+		return collectAssists(context, locations, proposals, NO_DEADLINE);
+	}
 
+	private static IStatus collectAssists(IInvocationContext context, IProblemLocationCore[] locations, Collection<IJavaCompletionProposal> proposals, long deadline) {
+		SafeAssistCollector collector= new SafeAssistCollector(context, proposals);
+		for (ContributedProcessorDescriptor curr : getAssistProcessors()) {
+			collector.add(curr, locations);
+		}
+		collector.collect(deadline);
 		return collector.getStatus();
 	}
 
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction.proposals;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.ui.text.java.correction.ASTRewriteCorrectionProposal;
+
+/**
+ * A proposal that creates its rewrite when the proposal is previewed or applied.
+ *
+ * @see DeferredASTRewriteCorrectionProposalCore
+ */
+public class DeferredASTRewriteCorrectionProposal extends ASTRewriteCorrectionProposal {
+
+	public DeferredASTRewriteCorrectionProposal(String name, ICompilationUnit cu, int relevance, Image image, DeferredASTRewriteCorrectionProposalCore.IRewriteFactory factory) {
+		super(name, cu, null, relevance, image, new DeferredASTRewriteCorrectionProposalCore(name, cu, relevance, factory));
+	}
+}
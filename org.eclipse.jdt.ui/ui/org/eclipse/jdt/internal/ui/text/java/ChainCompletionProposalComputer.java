@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,19 @@
  */
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -43,6 +48,7 @@ import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.Chain;
 import org.eclipse.jdt.internal.ui.text.ChainElement;
 import org.eclipse.jdt.internal.ui.text.ChainElementAnalyzer;
@@ -54,6 +60,24 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	public static final String CATEGORY_ID= "org.eclipse.jdt.ui.javaChainProposalCategory"; //$NON-NLS-1$
 
+	private static final AtomicInteger THREAD_COUNT= new AtomicInteger();
+
+	/**
+	 * Shared pool on which the expected types are searched, idle threads are released after a
+	 * while.
+	 */
+	private static final ExecutorService SEARCH_POOL;
+	static {
+		int threads= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "Chain Completion Search-" + THREAD_COUNT.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		SEARCH_POOL= pool;
+	}
+
 	private JavaContentAssistInvocationContext ctx;
 
 	private CompletionProposalCollector collector;
@@ -165,21 +189,29 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 		final List<ChainType> expectedTypes= ChainElementAnalyzer.resolveBindingsForExpectedTypes(ctx.getProject(), ctx.getCoreContext());
 		final ChainFinder finder= new ChainFinder(expectedTypes, Arrays.asList(excludedTypes), invocationType);
-		final ExecutorService executor= Executors.newSingleThreadExecutor();
+		final long timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
+		final long deadline= System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+		// finding the entry points asks for the visible elements, which can be slow, so it is part of the timeout
+		final Future<Boolean> entrypointsFound= SEARCH_POOL.submit(this::findEntrypoints);
+		boolean completed;
 		try {
-			Future<?> future= executor.submit(() -> {
-				if (findEntrypoints()) {
-					finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
-				}
-			});
-			long timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
-			future.get(timeout, TimeUnit.SECONDS);
-		} catch (final Exception e) {
-			finder.cancel();
-			executor.shutdownNow();
+			completed= !entrypointsFound.get(timeout, TimeUnit.SECONDS).booleanValue()
+					|| finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth, SEARCH_POOL, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			entrypointsFound.cancel(true);
+			completed= false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			entrypointsFound.cancel(true);
+			completed= false;
+		} catch (ExecutionException e) {
+			JavaPlugin.log(e.getCause());
+			completed= true;
+		}
+		if (!completed) {
 			setError("Timeout during call chain computation."); //$NON-NLS-1$
 		}
-		return buildCompletionProposals(finder.getChains());
+		return buildCompletionProposals(new ArrayList<>(finder.getChains()));
 	}
 
 	private List<ICompletionProposal> buildCompletionProposals(final List<Chain> chains) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -276,6 +276,22 @@ public final class CompletionProposalCategory {
 		return false;
 	}
 
+	/**
+	 * Returns the computers of this category that contribute to the given partition.
+	 *
+	 * @param partition the partition type
+	 * @return the computers of this category in the given partition, in the order of the registry
+	 * @since 3.31
+	 */
+	List<CompletionProposalComputerDescriptor> getProposalComputerDescriptors(String partition) {
+		List<CompletionProposalComputerDescriptor> result= new ArrayList<>();
+		for (CompletionProposalComputerDescriptor desc : fRegistry.getProposalComputerDescriptors(partition)) {
+			if (desc.getCategory() == this)
+				result.add(desc);
+		}
+		return result;
+	}
+
 	/**
 	 * @return sortOrder
 	 */
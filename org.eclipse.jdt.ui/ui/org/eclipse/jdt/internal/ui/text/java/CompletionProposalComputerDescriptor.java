@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -597,6 +597,34 @@ final class CompletionProposalComputerDescriptor {
         }
     }
 
+	/**
+	 * Tells whether the described computer uses the state that a
+	 * {@link org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext} shares between the
+	 * computers: the core completion context, the keyword proposals and the collector. These
+	 * computers must run one after the other. A computer that cannot be created is assumed to use
+	 * the shared state.
+	 *
+	 * @return <code>true</code> if the computer uses the shared state of the invocation context
+	 * @since 3.31
+	 */
+	boolean usesSharedContext() {
+		IStatus status;
+		try {
+			IJavaCompletionProposalComputer computer= getComputer(true);
+			return computer == null
+					|| computer instanceof JavaCompletionProposalComputer
+					|| computer instanceof AbstractTemplateCompletionProposalComputer
+					|| computer instanceof PostfixCompletionProposalComputer
+					|| computer instanceof ChainCompletionProposalComputer;
+		} catch (InvalidRegistryObjectException x) {
+			status= createExceptionStatus(x);
+		} catch (CoreException x) {
+			status= createExceptionStatus(x);
+		}
+		fRegistry.informUser(this, status);
+		return true;
+	}
+
 	/**
 	 * Returns the <code>needsSortingAfterFiltering</code> flag of the described extension.
 	 *
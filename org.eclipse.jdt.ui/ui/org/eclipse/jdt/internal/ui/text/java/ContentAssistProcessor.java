@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,19 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -38,6 +50,7 @@ import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -51,6 +64,7 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.JFaceResources;
 
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.contentassist.ContentAssistEvent;
 import org.eclipse.jface.text.contentassist.ContentAssistant;
@@ -73,10 +87,12 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaSourceViewer;
 
 
 /**
@@ -115,6 +131,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 				return;
 			}
 
+			fSessionCount++;
 			fIterationGesture= getIterationGesture();
 			KeySequence binding= getIterationBinding();
 
@@ -181,8 +198,27 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 				return;
 			}
 
-			for (CompletionProposalCategory cat : getCategoriesToNotify()) {
-				cat.sessionEnded();
+			Set<CompletionProposalCategory> categories= getCategoriesToNotify();
+			CompletableFuture<?>[] lateComputations= fLateComputations.toArray(new CompletableFuture<?>[0]);
+			if (lateComputations.length == 0) {
+				for (CompletionProposalCategory cat : categories) {
+					cat.sessionEnded();
+				}
+			} else {
+				// end the session once the late computers have completed, unless a new session has started
+				int session= fSessionCount;
+				Display display= Display.getDefault();
+				CompletableFuture.allOf(lateComputations).whenComplete((result, exception) -> {
+					if (!display.isDisposed()) {
+						display.asyncExec(() -> {
+							if (session == fSessionCount) {
+								for (CompletionProposalCategory cat : categories) {
+									cat.sessionEnded();
+								}
+							}
+						});
+					}
+				});
 			}
 
 			fSelectedProposal= null;
@@ -229,6 +265,92 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
+	private static final boolean PARALLEL= Boolean.parseBoolean(System.getProperty("jdt.ui.contentAssist.parallel", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * System property with the time in milliseconds that a concurrent computation waits for each
+	 * computer, the proposals of computers that take longer are not shown. The property is read for
+	 * each computation.
+	 */
+	private static final String COMPUTER_TIMEOUT= "jdt.ui.contentAssist.computerTimeout"; //$NON-NLS-1$
+
+	/**
+	 * Prefix of the bundles whose computers may run concurrently. The computers of other bundles
+	 * are not known to be thread safe.
+	 */
+	private static final String JDT_BUNDLE_PREFIX= "org.eclipse.jdt."; //$NON-NLS-1$
+
+	private static final AtomicInteger THREAD_COUNT= new AtomicInteger();
+
+	/**
+	 * Shared pool on which the computers compute their proposals when content assist runs
+	 * asynchronously, idle threads are released after a while.
+	 */
+	private static final ExecutorService COMPUTER_POOL;
+	static {
+		int threads= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+		ThreadPoolExecutor pool= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread= new Thread(r, "Java Completion Proposal Computer-" + THREAD_COUNT.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		pool.allowCoreThreadTimeOut(true);
+		COMPUTER_POOL= pool;
+	}
+
+	/**
+	 * The computations that are still running on {@link #COMPUTER_POOL}, by computer. A computer
+	 * that has missed its deadline is not started again until it has completed, so that it is
+	 * never called concurrently.
+	 */
+	private static final Map<CompletionProposalComputerDescriptor, Future<List<ICompletionProposal>>> RUNNING_COMPUTERS= new ConcurrentHashMap<>();
+
+	/**
+	 * The computation of one computer for one invocation.
+	 */
+	private static final class ComputerTask {
+		final CompletionProposalComputerDescriptor fDescriptor;
+		final IProgressMonitor fMonitor= new NullProgressMonitor();
+		final FutureTask<List<ICompletionProposal>> fFuture;
+		final CompletableFuture<Void> fCompleted= new CompletableFuture<>();
+		boolean fStarted;
+
+		ComputerTask(CompletionProposalComputerDescriptor descriptor, ContentAssistInvocationContext context) {
+			fDescriptor= descriptor;
+			fFuture= new FutureTask<>(() -> descriptor.computeCompletionProposals(context, fMonitor)) {
+				@Override
+				protected void done() {
+					RUNNING_COMPUTERS.remove(descriptor, this);
+					fCompleted.complete(null);
+				}
+			};
+		}
+
+		boolean isConcurrent() {
+			IContributor contributor= fDescriptor.getContributor();
+			return contributor != null && contributor.getName().startsWith(JDT_BUNDLE_PREFIX) && !fDescriptor.usesSharedContext();
+		}
+
+		/**
+		 * Computes the proposals on the calling thread.
+		 */
+		void run() {
+			fStarted= true;
+			fFuture.run();
+		}
+
+		/**
+		 * Starts the computation on {@link #COMPUTER_POOL}, unless the computer is still running
+		 * for an earlier invocation.
+		 */
+		void start() {
+			if (RUNNING_COMPUTERS.putIfAbsent(fDescriptor, fFuture) == null) {
+				fStarted= true;
+				COMPUTER_POOL.execute(fFuture);
+			}
+		}
+	}
+
 	private final List<CompletionProposalCategory> fCategories;
 	private final String fPartition;
 	private final ContentAssistant fAssistant;
@@ -243,6 +365,28 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	private int fNumberOfComputedResults= 0;
 	private String fErrorMessage;
 
+	/**
+	 * Tells whether the status line shows the computers that have missed their deadline.
+	 *
+	 * @since 3.31
+	 */
+	private boolean fShowsLateComputers;
+
+	/**
+	 * The computations of the computers that have missed their deadline and are still running.
+	 * The session of their categories is not ended before they have completed.
+	 *
+	 * @since 3.31
+	 */
+	private final Set<CompletableFuture<Void>> fLateComputations= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The number of sessions that have started.
+	 *
+	 * @since 3.31
+	 */
+	private int fSessionCount;
+
 	/**
 	 * The completion proposal registry.
 	 *
@@ -329,13 +473,20 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
+		List<List<ICompletionProposal>> concurrentlyComputed= isComputingConcurrently(context) ? computeConcurrently(providers, context, monitor) : null;
+		for (int i= 0; i < providers.size(); i++) {
+			CompletionProposalCategory cat= providers.get(i);
+			List<ICompletionProposal> computed;
+			if (concurrentlyComputed != null) {
+				computed= concurrentlyComputed.get(i);
+			} else {
+				computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
+				if (fErrorMessage == null) {
+					fErrorMessage= cat.getErrorMessage();
+				}
+			}
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
-			if (fErrorMessage == null) {
-				fErrorMessage= cat.getErrorMessage();
-			}
 		}
 		if (fNeedsSortingAfterFiltering && !needsSortingAfterFiltering) {
 			fAssistant.setSorter(null);
@@ -344,6 +495,135 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	private static boolean isComputingConcurrently(ContentAssistInvocationContext context) {
+		return PARALLEL && context.getViewer() instanceof JavaSourceViewer && ((JavaSourceViewer) context.getViewer()).isAsyncCompletionActive();
+	}
+
+	/**
+	 * Computes the proposals of the given categories with some computers of the JDT bundles running
+	 * concurrently on {@link #COMPUTER_POOL}. This is only done when content assist runs
+	 * asynchronously, since then none of the computers requires the UI thread. The computers that
+	 * use the shared state of the invocation context, like the Java, template, postfix and chain
+	 * computers, and the computers of other bundles run one after the other on the calling thread,
+	 * in the same order as without concurrency, while the other computers of the JDT bundles run
+	 * concurrently. Each concurrent computer has {@link #COMPUTER_TIMEOUT} milliseconds from the
+	 * start of the computation. The proposals of the computers that miss this deadline are dropped,
+	 * and the computers are named in the status line of the proposal popup. The computers on the
+	 * calling thread are never dropped.
+	 *
+	 * @param categories the categories
+	 * @param context the invocation context shared by the computers
+	 * @param monitor the progress monitor
+	 * @return the proposals of each category, in the order of the categories
+	 */
+	private List<List<ICompletionProposal>> computeConcurrently(List<CompletionProposalCategory> categories, ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		// initialize the lazily computed state of the context that the concurrent computers read
+		try {
+			context.computeIdentifierPrefix();
+		} catch (BadLocationException e) {
+			// the computers will run into the same problem
+		}
+		if (context instanceof JavaContentAssistInvocationContext) {
+			((JavaContentAssistInvocationContext) context).getCompilationUnit();
+		}
+
+		List<List<ComputerTask>> tasks= new ArrayList<>(categories.size());
+		List<ComputerTask> callingThreadTasks= new ArrayList<>();
+		long deadline= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Long.getLong(COMPUTER_TIMEOUT, 5000).longValue());
+		for (CompletionProposalCategory cat : categories) {
+			List<ComputerTask> catTasks= new ArrayList<>();
+			for (CompletionProposalComputerDescriptor desc : cat.getProposalComputerDescriptors(fPartition)) {
+				ComputerTask task= new ComputerTask(desc, context);
+				if (task.isConcurrent()) {
+					task.start();
+				} else {
+					callingThreadTasks.add(task);
+				}
+				catTasks.add(task);
+			}
+			tasks.add(catTasks);
+		}
+		for (ComputerTask task : callingThreadTasks) {
+			task.run();
+		}
+
+		List<List<ICompletionProposal>> result= new ArrayList<>(categories.size());
+		List<String> lateComputers= new ArrayList<>();
+		boolean interrupted= false;
+		for (List<ComputerTask> catTasks : tasks) {
+			List<ICompletionProposal> computed= new ArrayList<>();
+			for (ComputerTask task : catTasks) {
+				if (!task.fStarted) {
+					lateComputers.add(task.fDescriptor.getName());
+					continue;
+				}
+				if (interrupted) {
+					task.fMonitor.setCanceled(true);
+					continue;
+				}
+				try {
+					computed.addAll(task.fFuture.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+					if (fErrorMessage == null) {
+						fErrorMessage= task.fDescriptor.getErrorMessage();
+					}
+				} catch (TimeoutException e) {
+					task.fMonitor.setCanceled(true);
+					lateComputers.add(task.fDescriptor.getName());
+					fLateComputations.add(task.fCompleted);
+					task.fCompleted.whenComplete((proposals, exception) -> fLateComputations.remove(task.fCompleted));
+				} catch (ExecutionException e) {
+					// the descriptor handles the exceptions of the computer
+					JavaPlugin.log(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					task.fMonitor.setCanceled(true);
+					interrupted= true;
+				}
+			}
+			result.add(computed);
+			monitor.worked(1);
+		}
+		showLateComputers(lateComputers);
+		return result;
+	}
+
+	/**
+	 * Names the computers that have missed their deadline in the status line of the proposal
+	 * popup, or removes a previous message if there are none.
+	 *
+	 * @param lateComputers the names of the late computers
+	 */
+	private void showLateComputers(List<String> lateComputers) {
+		if (lateComputers.isEmpty() && !fShowsLateComputers) {
+			return;
+		}
+		final boolean visible;
+		final String message;
+		if (!lateComputers.isEmpty()) {
+			visible= true;
+			message= Messages.format(JavaTextMessages.ContentAssistProcessor_computers_timed_out, String.join(", ", lateComputers)); //$NON-NLS-1$
+		} else if (fCategoryIteration != null && fCategoryIteration.size() > 1) {
+			// the iteration message has already been restored by getCategories()
+			visible= true;
+			message= null;
+		} else {
+			visible= false;
+			message= null;
+		}
+		fShowsLateComputers= !lateComputers.isEmpty();
+		Runnable update= () -> {
+			fAssistant.setStatusLineVisible(visible);
+			if (message != null) {
+				fAssistant.setStatusMessage(message);
+			}
+		};
+		if (Display.getCurrent() != null) {
+			update.run();
+		} else {
+			Display.getDefault().asyncExec(update);
+		}
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,6 @@ import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextUtilities;
-import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.source.ISourceViewer;
 
 import org.eclipse.ui.IEditorPart;
@@ -65,7 +64,6 @@ import org.eclipse.jdt.ui.text.IJavaPartitions;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
-import org.eclipse.jdt.internal.ui.text.FastJavaPartitionScanner;
 import org.eclipse.jdt.internal.ui.text.FastJavaPartitioner;
 import org.eclipse.jdt.internal.ui.text.JavaHeuristicScanner;
 import org.eclipse.jdt.internal.ui.text.JavaIndenter;
@@ -624,26 +622,6 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 		return true;
 	}
 
-	/**
-	 * Installs a java partitioner with <code>document</code>.
-	 *
-	 * @param document the document
-	 */
-	private void installJavaStuff(Document document) {
-		String[] types= new String[] {
-									  IJavaPartitions.JAVA_DOC,
-									  IJavaPartitions.JAVA_MULTI_LINE_COMMENT,
-									  IJavaPartitions.JAVA_SINGLE_LINE_COMMENT,
-									  IJavaPartitions.JAVA_STRING,
-									  IJavaPartitions.JAVA_CHARACTER,
-									  IJavaPartitions.JAVA_MULTI_LINE_STRING,
-									  IDocument.DEFAULT_CONTENT_TYPE
-		};
-		FastPartitioner partitioner= new FastJavaPartitioner(new FastJavaPartitionScanner(fProject), types);
-		partitioner.connect(document);
-		document.setDocumentPartitioner(IJavaPartitions.JAVA_PARTITIONING, partitioner);
-	}
-
 	/**
 	 * Installs a java partitioner with <code>document</code>.
 	 *
@@ -691,7 +669,7 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
 			DocumentRewriteSession session= temp.startRewriteSession(DocumentRewriteSessionType.STRICTLY_SEQUENTIAL);
 			scanner= new JavaHeuristicScanner(temp);
 			indenter= new JavaIndenter(temp, scanner, fProject);
-			installJavaStuff(temp);
+			FastJavaPartitioner.install(temp, fProject);
 
 			// indent the first and second line
 			// compute the relative indentation difference from the second line
@@ -995,7 +973,7 @@ public class JavaAutoIndentStrategy extends DefaultIndentLineAutoEditStrategy {
     	 * in the document.
     	 */
     	Document pasted= new Document(command.text);
-    	installJavaStuff(pasted);
+    	FastJavaPartitioner.install(pasted, fProject);
     	int firstPeer= command.offset;
 
     	JavaHeuristicScanner pScanner= new JavaHeuristicScanner(pasted);
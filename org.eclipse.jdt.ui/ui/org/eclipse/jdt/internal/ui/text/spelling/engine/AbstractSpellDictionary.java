@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
+	/**
+	 * The memory-mapped word list, or <code>null</code> if none
+	 * @since 3.31
+	 */
+	private volatile CompiledSpellDictionary fCompiledDictionary;
+
 	/** Is the dictionary already loaded? */
 	private boolean fLoaded= false;
 	/**
@@ -156,7 +162,25 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			JavaPlugin.log(e);
 			return null;
 		}
-		return fHashBuckets.get(hashBytes);
+		Object candidates= fHashBuckets.get(hashBytes);
+		CompiledSpellDictionary compiled= fCompiledDictionary;
+		if (compiled == null)
+			return candidates;
+
+		Object compiledCandidates= compiled.getCandidates(hashBytes.byteArray);
+		if (candidates == null)
+			return compiledCandidates;
+		if (compiledCandidates == null)
+			return candidates;
+
+		ArrayList<Object> merged= new ArrayList<>();
+		for (Object each : new Object[] { compiledCandidates, candidates }) {
+			if (each instanceof ArrayList)
+				merged.addAll((ArrayList<?>)each);
+			else
+				merged.add(each);
+		}
+		return merged;
 	}
 
 	/**
@@ -314,7 +338,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		return fHashBuckets.isEmpty() && fCompiledDictionary == null;
 	}
 
 	/**
@@ -574,7 +598,26 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || fHashBuckets.size() > 0 || fCompiledDictionary != null;
+	}
+
+	/**
+	 * Opens a compiled version of the given word list, which is queried instead of hashing the
+	 * words into this dictionary. The compiled word list must have been created with the
+	 * {@link #getEncoding() encoding} and the {@link #getHashProvider() hash provider} of this
+	 * dictionary.
+	 * <p>
+	 * Subclasses may override. The default implementation returns <code>null</code>.
+	 * </p>
+	 *
+	 * @param url
+	 *                   The URL of the word list to load
+	 * @return the compiled word list, or <code>null</code> to load the word list from
+	 *               <code>url</code>
+	 * @since 3.31
+	 */
+	protected CompiledSpellDictionary loadCompiled(final URL url) {
+		return null;
 	}
 
 	/**
@@ -589,6 +632,13 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		 if (!fMustLoad)
 			 return fLoaded;
 
+		CompiledSpellDictionary compiled= loadCompiled(url);
+		if (compiled != null) {
+			fCompiledDictionary= compiled;
+			fMustLoad= false;
+			return true;
+		}
+
 		if (url != null) {
 			InputStream stream= null;
 			int line= 0;
@@ -698,6 +748,10 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		CompiledSpellDictionary compiled= fCompiledDictionary;
+		fCompiledDictionary= null;
+		if (compiled != null)
+			compiled.close();
 	}
 
 	@Override
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only view on a precompiled, memory-mapped word list.
+ * <p>
+ * The file contains the words of a word list grouped by their phonetic hash. The hashes are
+ * sorted, so that the words of a hash can be found with a binary search without materializing the
+ * other words:
+ * </p>
+ *
+ * <pre>
+ * int     magic, version
+ * long    source stamp
+ * int     bucket count (B), word count (W), hash data length, word data length
+ * int[B+1] offset of the hash of each bucket in the hash data
+ * int[B+1] index of the first word of each bucket
+ * int[W+1] offset of each word in the word data
+ * byte[]  hash data, UTF-8 encoded hashes in unsigned lexicographic order
+ * byte[]  word data, UTF-8 encoded words
+ * </pre>
+ *
+ * The source stamp identifies the word list, its encoding and the phonetic hash provider the file
+ * has been created with, see {@link #computeSourceStamp(long, long, String, IPhoneticHashProvider)}.
+ * The mapped buffer is released with {@link #close()}.
+ * <p>
+ * The files are only created at runtime and not shipped with the plug-in: the encoding of the word
+ * lists is the user's {@link org.eclipse.jdt.ui.PreferenceConstants#SPELLING_USER_DICTIONARY_ENCODING
+ * dictionary encoding} preference, and the hash provider can be replaced, so a file compiled
+ * during the build could only be used with the default settings. The installation location may
+ * also be read-only, so it could not be replaced when the settings differ.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class CompiledSpellDictionary implements Closeable {
+
+	/** The file extension of compiled dictionaries */
+	public static final String FILE_EXTENSION= ".cdictionary"; //$NON-NLS-1$
+
+	private static final int MAGIC= 0x4A445344; // "JDSD"
+
+	private static final int VERSION= 2;
+
+	private static final int HEADER_SIZE= 4 + 4 + 8 + 4 * 4;
+
+	/** The mapped file, or <code>null</code> once the dictionary has been closed */
+	private volatile ByteBuffer fBuffer;
+
+	private final long fSourceStamp;
+
+	private final int fBucketCount;
+
+	private final int fBucketHashes;
+
+	private final int fBucketWords;
+
+	private final int fWordOffsets;
+
+	private final int fHashData;
+
+	private final int fWordData;
+
+	private CompiledSpellDictionary(ByteBuffer buffer) throws IOException {
+		fBuffer= buffer;
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			throw new IOException("Not a compiled dictionary"); //$NON-NLS-1$
+
+		fSourceStamp= buffer.getLong(8);
+		fBucketCount= buffer.getInt(16);
+		int wordCount= buffer.getInt(20);
+		int hashDataLength= buffer.getInt(24);
+		int wordDataLength= buffer.getInt(28);
+
+		fBucketHashes= HEADER_SIZE;
+		fBucketWords= fBucketHashes + 4 * (fBucketCount + 1);
+		fWordOffsets= fBucketWords + 4 * (fBucketCount + 1);
+		fHashData= fWordOffsets + 4 * (wordCount + 1);
+		fWordData= fHashData + hashDataLength;
+		if ((long) fWordData + wordDataLength != buffer.capacity())
+			throw new IOException("Corrupt compiled dictionary"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Maps the given compiled dictionary into memory.
+	 *
+	 * @param file the compiled dictionary
+	 * @return the dictionary
+	 * @throws IOException if the file cannot be read or is not a compiled dictionary
+	 */
+	public static CompiledSpellDictionary open(File file) throws IOException {
+		try (FileInputStream stream= new FileInputStream(file); FileChannel channel= stream.getChannel()) {
+			MappedByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new CompiledSpellDictionary(buffer);
+		}
+	}
+
+	/**
+	 * Returns the stamp of the word list this dictionary has been compiled from.
+	 *
+	 * @return the source stamp
+	 */
+	public long getSourceStamp() {
+		return fSourceStamp;
+	}
+
+	/**
+	 * Computes the stamp of a word list. A compiled dictionary can only be reused if it has been
+	 * compiled from a word list with the same stamp.
+	 *
+	 * @param length the length of the word list in bytes
+	 * @param lastModified the modification time of the word list
+	 * @param encoding the encoding the word list is read with
+	 * @param hashProvider the phonetic hash provider used to look up the words
+	 * @return the stamp, or <code>-1</code> if the length or the modification time of the word
+	 *         list is unknown
+	 */
+	public static long computeSourceStamp(long length, long lastModified, String encoding, IPhoneticHashProvider hashProvider) {
+		if (length < 0 || lastModified <= 0)
+			return -1;
+		long stamp= length;
+		stamp= 31 * stamp + lastModified;
+		stamp= 31 * stamp + encoding.hashCode();
+		stamp= 31 * stamp + hashProvider.getClass().getName().hashCode();
+		return stamp & Long.MAX_VALUE;
+	}
+
+	/**
+	 * Releases the mapped file. The dictionary does not return any candidates afterwards. The
+	 * mapping itself is removed once the buffer has been garbage collected.
+	 */
+	@Override
+	public void close() {
+		fBuffer= null;
+	}
+
+	/**
+	 * Returns the words with the given phonetic hash.
+	 *
+	 * @param hash the UTF-8 encoded phonetic hash
+	 * @return <code>null</code> if there is no such word, the UTF-8 encoded word as
+	 *         <code>byte[]</code> if there is one word, an <code>ArrayList&lt;byte[]&gt;</code>
+	 *         otherwise
+	 */
+	public Object getCandidates(byte[] hash) {
+		ByteBuffer buffer= fBuffer;
+		if (buffer == null)
+			return null;
+
+		int bucket= findBucket(buffer, hash);
+		if (bucket < 0)
+			return null;
+
+		int first= buffer.getInt(fBucketWords + 4 * bucket);
+		int end= buffer.getInt(fBucketWords + 4 * (bucket + 1));
+		if (end - first == 1)
+			return getWord(buffer, first);
+
+		ArrayList<byte[]> words= new ArrayList<>(end - first);
+		for (int i= first; i < end; i++) {
+			words.add(getWord(buffer, i));
+		}
+		return words;
+	}
+
+	private byte[] getWord(ByteBuffer buffer, int index) {
+		int start= buffer.getInt(fWordOffsets + 4 * index);
+		int end= buffer.getInt(fWordOffsets + 4 * (index + 1));
+		byte[] word= new byte[end - start];
+		buffer.get(fWordData + start, word);
+		return word;
+	}
+
+	private int findBucket(ByteBuffer buffer, byte[] hash) {
+		int low= 0;
+		int high= fBucketCount - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			int cmp= compareHash(buffer, mid, hash);
+			if (cmp < 0)
+				low= mid + 1;
+			else if (cmp > 0)
+				high= mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	private int compareHash(ByteBuffer buffer, int bucket, byte[] hash) {
+		int start= fHashData + buffer.getInt(fBucketHashes + 4 * bucket);
+		int length= buffer.getInt(fBucketHashes + 4 * (bucket + 1)) + fHashData - start;
+		int common= Math.min(length, hash.length);
+		for (int i= 0; i < common; i++) {
+			int cmp= Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(hash[i]);
+			if (cmp != 0)
+				return cmp;
+		}
+		return length - hash.length;
+	}
+
+	/**
+	 * Compiles the given words into a dictionary file. The file is written to a temporary file
+	 * first and then moved to <code>target</code>.
+	 *
+	 * @param words the words, one per line
+	 * @param hashProvider the phonetic hash provider used to look up the words
+	 * @param sourceStamp the stamp of the word list, see
+	 *            {@link #computeSourceStamp(long, long, String, IPhoneticHashProvider)}
+	 * @param target the file to write
+	 * @throws IOException if the words cannot be read or the file cannot be written
+	 */
+	public static void compile(BufferedReader words, IPhoneticHashProvider hashProvider, long sourceStamp, File target) throws IOException {
+		List<byte[][]> entries= new ArrayList<>();
+		String word;
+		while ((word= words.readLine()) != null) {
+			entries.add(new byte[][] { hashProvider.getHash(word).getBytes(StandardCharsets.UTF_8), word.getBytes(StandardCharsets.UTF_8) });
+		}
+		// stable sort keeps the words of a bucket in word list order
+		entries.sort(Comparator.comparing((byte[][] entry) -> entry[0], Arrays::compareUnsigned));
+
+		List<byte[]> hashes= new ArrayList<>();
+		List<Integer> bucketStarts= new ArrayList<>();
+		for (int i= 0; i < entries.size(); i++) {
+			byte[] hash= entries.get(i)[0];
+			if (hashes.isEmpty() || !Arrays.equals(hashes.get(hashes.size() - 1), hash)) {
+				hashes.add(hash);
+				bucketStarts.add(Integer.valueOf(i));
+			}
+		}
+		bucketStarts.add(Integer.valueOf(entries.size()));
+
+		int hashDataLength= 0;
+		for (byte[] hash : hashes)
+			hashDataLength+= hash.length;
+		int wordDataLength= 0;
+		for (byte[][] entry : entries)
+			wordDataLength+= entry[1].length;
+
+		File parent= target.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		File temp= File.createTempFile(target.getName(), ".tmp", parent); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(sourceStamp);
+				out.writeInt(hashes.size());
+				out.writeInt(entries.size());
+				out.writeInt(hashDataLength);
+				out.writeInt(wordDataLength);
+
+				int offset= 0;
+				for (byte[] hash : hashes) {
+					out.writeInt(offset);
+					offset+= hash.length;
+				}
+				out.writeInt(offset);
+				for (Integer start : bucketStarts)
+					out.writeInt(start.intValue());
+				offset= 0;
+				for (byte[][] entry : entries) {
+					out.writeInt(offset);
+					offset+= entry[1].length;
+				}
+				out.writeInt(offset);
+				for (byte[] hash : hashes)
+					out.write(hash);
+				for (byte[][] entry : entries)
+					out.write(entry[1]);
+			}
+			Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			temp.delete();
+		}
+	}
+}
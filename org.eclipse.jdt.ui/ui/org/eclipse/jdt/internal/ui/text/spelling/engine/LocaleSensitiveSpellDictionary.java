@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.Locale;
 
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 
 /**
  * Platform wide read-only locale sensitive dictionary for spell checking.
@@ -62,4 +75,67 @@ public class LocaleSensitiveSpellDictionary extends AbstractSpellDictionary {
 	protected int getInitialSize() {
 		return 32 * 1024;
 	}
+
+	/**
+	 * Maps a compiled version of the word list instead of hashing all words into memory. The word
+	 * list is compiled once into the plug-in's state location and mapped from there on subsequent
+	 * loads, as long as the word list, the encoding and the hash provider are unchanged. Returns
+	 * <code>null</code> to load the word list if that is not possible. No compiled files are
+	 * shipped with the word lists, as they depend on the encoding preference.
+	 *
+	 * @see CompiledSpellDictionary
+	 * @since 3.31
+	 */
+	@Override
+	protected CompiledSpellDictionary loadCompiled(final URL url) {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		if (url == null || plugin == null)
+			return null;
+
+		IPath path= plugin.getStateLocation().append("dictionaries").append(fLocale.toString() + '_' + getEncoding() + CompiledSpellDictionary.FILE_EXTENSION); //$NON-NLS-1$
+		return loadCompiled(url, path.toFile());
+	}
+
+	/**
+	 * Maps the compiled version of the given word list from the given file, after compiling it if
+	 * the file is missing or has been compiled from a different word list.
+	 *
+	 * @param url the URL of the word list
+	 * @param cached the compiled word list
+	 * @return the compiled word list, or <code>null</code> if it cannot be compiled
+	 */
+	private CompiledSpellDictionary loadCompiled(final URL url, final File cached) {
+		try {
+			String encoding= getEncoding();
+			IPhoneticHashProvider hashProvider= getHashProvider();
+			URLConnection connection= url.openConnection();
+			long stamp= CompiledSpellDictionary.computeSourceStamp(connection.getContentLengthLong(), connection.getLastModified(), encoding, hashProvider);
+			if (stamp < 0)
+				return null;
+
+			if (cached.isFile()) {
+				try {
+					CompiledSpellDictionary compiled= CompiledSpellDictionary.open(cached);
+					if (compiled.getSourceStamp() == stamp)
+						return compiled;
+					compiled.close();
+				} catch (IOException e) {
+					// recompile
+				}
+			}
+
+			CharsetDecoder decoder= Charset.forName(encoding).newDecoder();
+			decoder.onMalformedInput(CodingErrorAction.REPLACE);
+			decoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			try (BufferedReader reader= new BufferedReader(new InputStreamReader(connection.getInputStream(), decoder))) {
+				CompiledSpellDictionary.compile(reader, hashProvider, stamp, cached);
+			}
+			return CompiledSpellDictionary.open(cached);
+		} catch (FileNotFoundException e) {
+			return null; // loaded from the lower case URL, if any
+		} catch (IOException | IllegalArgumentException e) {
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
 }
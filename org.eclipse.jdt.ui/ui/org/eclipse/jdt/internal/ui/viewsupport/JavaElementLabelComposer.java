@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -101,6 +102,45 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		}
 	}
 
+	/**
+	 * A buffer that appends to a {@link StringBuilder} and ignores styles.
+	 *
+	 * @since 3.31
+	 */
+	public static class FlexibleStringBuilder extends FlexibleBuffer {
+		private final StringBuilder fStringBuilder;
+
+		public FlexibleStringBuilder(StringBuilder stringBuilder) {
+			fStringBuilder= stringBuilder;
+		}
+
+		@Override
+		public FlexibleBuffer append(char ch) {
+			fStringBuilder.append(ch);
+			return this;
+		}
+
+		@Override
+		public FlexibleBuffer append(String string) {
+			fStringBuilder.append(string);
+			return this;
+		}
+
+		@Override
+		public int length() {
+			return fStringBuilder.length();
+		}
+
+		@Override
+		public String toString() {
+			return fStringBuilder.toString();
+		}
+
+		@Override
+		public void setStyle(int offset, int length, Styler styler) {
+			// no style
+		}
+	}
 
 	public static class FlexibleStyledString extends FlexibleBuffer {
 		private final StyledString fStyledString;
@@ -212,6 +252,29 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		this(new FlexibleStringBuffer(buffer));
 	}
 
+	/**
+	 * Creates a new java element composer based on the given buffer.
+	 *
+	 * @param buffer the string builder
+	 * @since 3.31
+	 */
+	public JavaElementLabelComposer(StringBuilder buffer) {
+		this(new FlexibleStringBuilder(buffer));
+	}
+
+	/**
+	 * Reads the package name compression and abbreviation preferences again. All cached labels are
+	 * removed if the preferences have changed since they were read last.
+	 *
+	 * @since 3.31
+	 */
+	public static void refreshPackageNamePreferences() {
+		// read both patterns, even if the first has changed
+		if (updatePackageNamePattern() | updatePackageNameAbbreviation()) {
+			JavaElementLabelCache.clearAll();
+		}
+	}
+
 
 
 	@Override
@@ -492,14 +555,25 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 
 	@Override
 	protected void refreshPackageNamePattern() {
+		if (updatePackageNamePattern()) {
+			JavaElementLabelCache.clearAll();
+		}
+	}
+
+	/**
+	 * Reads the package name compression pattern again.
+	 *
+	 * @return <code>true</code> if the pattern has changed
+	 */
+	private static boolean updatePackageNamePattern() {
 		String pattern= getPkgNamePatternForPackagesView();
 		final String EMPTY_STRING= ""; //$NON-NLS-1$
 		if (pattern.equals(fgPkgNamePattern))
-			return;
+			return false;
 		else if (pattern.length() == 0) {
 			fgPkgNamePattern= EMPTY_STRING;
 			fgPkgNameLength= -1;
-			return;
+			return true;
 		}
 		fgPkgNamePattern= pattern;
 		int i= 0;
@@ -515,26 +589,38 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 				if (i >= 0)
 					fgPkgNamePostfix= pattern.substring(i+1);
 				fgPkgNameLength= fgPkgNamePrefix.length() + fgPkgNameChars + fgPkgNamePostfix.length();
-				return;
+				return true;
 			}
 			i++;
 		}
 		fgPkgNamePrefix= pattern;
 		fgPkgNameLength= pattern.length();
+		return true;
 	}
 
 	private void refreshPackageNameAbbreviation() {
+		if (updatePackageNameAbbreviation()) {
+			JavaElementLabelCache.clearAll();
+		}
+	}
+
+	/**
+	 * Reads the package name abbreviation pattern again.
+	 *
+	 * @return <code>true</code> if the pattern has changed
+	 */
+	private static boolean updatePackageNameAbbreviation() {
 		String pattern= getPkgNameAbbreviationPatternForPackagesView();
 
 		if (fgPkgNameAbbreviationPattern.equals(pattern))
-			return;
+			return false;
 
 		fgPkgNameAbbreviationPattern= pattern;
 
 		if (pattern == null || pattern.length() == 0) {
 			fgPkgNameAbbreviationPattern= ""; //$NON-NLS-1$
 			fgPkgNameAbbreviation= null;
-			return;
+			return true;
 		}
 
 		PackageNameAbbreviation[] abbrs= parseAbbreviationPattern(pattern);
@@ -543,6 +629,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 			abbrs= new PackageNameAbbreviation[0];
 
 		fgPkgNameAbbreviation= abbrs;
+		return true;
 	}
 
 	public static PackageNameAbbreviation[] parseAbbreviationPattern(String pattern) {
@@ -573,7 +660,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES);
 	}
 
-	private String getPkgNamePatternForPackagesView() {
+	private static String getPkgNamePatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
@@ -586,7 +673,7 @@ public class JavaElementLabelComposer extends JavaElementLabelComposerCore {
 		return store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES);
 	}
 
-	private String getPkgNameAbbreviationPatternForPackagesView() {
+	private static String getPkgNameAbbreviationPatternForPackagesView() {
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		if (!store.getBoolean(PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES))
 			return ""; //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,11 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
@@ -42,12 +46,18 @@ import org.eclipse.jface.text.source.IAnnotationModelListenerExtension;
 import org.eclipse.ui.PlatformUI;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
 import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitAnnotationModelEvent;
 
 /**
  * Listens to resource deltas and filters for marker changes of type IMarker.PROBLEM
  * Viewers showing error ticks should register as listener to
  * this type.
+ * <p>
+ * While there are listeners, the manager maintains a {@link ProblemSeverityIndex}. Once the index
+ * is ready, the ancestors of a changed resource are only reported if the maximal severity in their
+ * subtree has changed.
+ * </p>
  */
 public class ProblemMarkerManager implements IResourceChangeListener, IAnnotationModelListener , IAnnotationModelListenerExtension {
 
@@ -58,8 +68,16 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		private HashSet<IResource> fChangedElements;
 
-		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
+		private final ProblemSeverityIndex fIndex;
+
+		/**
+		 * Resources whose maximal problem severity has changed.
+		 */
+		private final Set<IResource> fSeverityChanges= new HashSet<>();
+
+		public ProjectErrorVisitor(HashSet<IResource> changedElements, ProblemSeverityIndex index) {
 			fChangedElements= changedElements;
+			fIndex= index;
 		}
 
 		@Override
@@ -69,16 +87,48 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 				IProject project= (IProject) res;
 				if (!project.isAccessible()) {
 					// only track open Java projects
+					if (fIndex != null)
+						fIndex.remove(project, fSeverityChanges);
 					return false;
 				}
+				if (fIndex != null && (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+					fIndex.update(project, IResource.DEPTH_INFINITE, fSeverityChanges);
+				}
 			}
+			updateIndex(delta, res);
 			checkInvalidate(delta, res);
 			return true;
 		}
 
+		private void updateIndex(IResourceDelta delta, IResource resource) {
+			if (fIndex == null)
+				return;
+			switch (delta.getKind()) {
+				case IResourceDelta.REMOVED:
+					fIndex.remove(resource, fSeverityChanges);
+					break;
+				case IResourceDelta.ADDED:
+					// markers can move along with a resource, the added descendants are visited as well
+					fIndex.update(resource, IResource.DEPTH_ZERO, fSeverityChanges);
+					break;
+				default:
+					if (hasProblemMarkerDeltas(delta)) {
+						fIndex.update(resource, IResource.DEPTH_ZERO, fSeverityChanges);
+					}
+			}
+		}
+
 		private void checkInvalidate(IResourceDelta delta, IResource resource) {
 			int kind= delta.getKind();
 			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
+				if (fIndex != null && fIndex.isReady()) {
+					// invalidate the resource and its parent, see addSeverityChanges() for the other ancestors
+					for (int i= 0; i < 2 && resource.getType() != IResource.ROOT; i++) {
+						fChangedElements.add(resource);
+						resource= resource.getParent();
+					}
+					return;
+				}
 				// invalidate the resource and all parents
 				while (resource.getType() != IResource.ROOT && fChangedElements.add(resource)) {
 					resource= resource.getParent();
@@ -86,6 +136,32 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			}
 		}
 
+		/**
+		 * Invalidates the ancestors whose maximal problem severity has changed, and their parents.
+		 * Packages do not include subpackages, so the parent of a changed folder can change even
+		 * if its subtree severity does not.
+		 */
+		void addSeverityChanges() {
+			if (fIndex == null || !fIndex.isReady())
+				return;
+			for (IResource resource : fSeverityChanges) {
+				for (int i= 0; i < 2 && resource != null && resource.getType() != IResource.ROOT; i++) {
+					fChangedElements.add(resource);
+					resource= resource.getParent();
+				}
+			}
+		}
+
+		private boolean hasProblemMarkerDeltas(IResourceDelta delta) {
+			if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+					if (markerDelta.isSubtypeOf(IMarker.PROBLEM))
+						return true;
+				}
+			}
+			return false;
+		}
+
 		private boolean isErrorDelta(IResourceDelta delta) {
 			if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
 				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
@@ -111,6 +187,13 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
+	private static final boolean USE_SEVERITY_INDEX= Boolean.parseBoolean(System.getProperty("jdt.ui.problemSeverityIndex", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * The severity index, or <code>null</code> if there are no listeners.
+	 */
+	private volatile ProblemSeverityIndex fSeverityIndex;
+
 	public ProblemMarkerManager() {
 	}
 
@@ -123,8 +206,11 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		try {
 			IResourceDelta delta= event.getDelta();
-			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+			if (delta != null) {
+				ProjectErrorVisitor visitor= new ProjectErrorVisitor(changedElements, fSeverityIndex);
+				delta.accept(visitor);
+				visitor.addSeverityChanges();
+			}
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
@@ -159,6 +245,9 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	 */
 	public void addListener(IProblemChangedListener listener) {
 		if (fListeners.isEmpty()) {
+			if (USE_SEVERITY_INDEX) {
+				startSeverityIndex();
+			}
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
 		}
@@ -174,9 +263,45 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			// the index is not maintained without the resource change listener
+			fSeverityIndex= null;
 		}
 	}
 
+	/**
+	 * Returns the index of the maximal problem severities of the resources.
+	 *
+	 * @return the index, or <code>null</code> if the index is not maintained or not yet built
+	 * @since 3.31
+	 */
+	public ProblemSeverityIndex getSeverityIndex() {
+		ProblemSeverityIndex index= fSeverityIndex;
+		return index != null && index.isReady() ? index : null;
+	}
+
+	private void startSeverityIndex() {
+		ProblemSeverityIndex index= new ProblemSeverityIndex();
+		fSeverityIndex= index;
+		Job job= new Job(JavaUIMessages.ProblemMarkerManager_severityIndex_job_title) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				if (fSeverityIndex != index)
+					return Status.CANCEL_STATUS;
+				try {
+					index.build(JavaPlugin.getWorkspace().getRoot());
+				} catch (CoreException e) {
+					JavaPlugin.log(e.getStatus());
+					return Status.CANCEL_STATUS;
+				}
+				// decorations computed before the index was ready are up to date
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
 	private void fireChanges() {
 		throttledUpdates.throttledExec();
 	}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IWorkspaceRoot;
+
+/**
+ * Maintains the maximal severity of the problem markers in every resource subtree of the
+ * workspace, so that the severity of a container can be looked up without searching its markers.
+ * <p>
+ * The index keeps one node for every resource that has problem markers and for each of their
+ * ancestors. A node counts the markers per severity on its resource and in its whole subtree.
+ * When the markers of a resource change, the difference is added to the ancestors of the resource,
+ * and nodes without markers in their subtree are removed.
+ * </p>
+ * <p>
+ * Updating a resource reads its current markers, so updates can be repeated and can race with
+ * {@link #build(IWorkspaceRoot)} without corrupting the counts. This class is thread safe.
+ * </p>
+ *
+ * @since 3.31
+ */
+public final class ProblemSeverityIndex {
+
+	private static final int SEVERITY_COUNT= 3;
+
+	private static final class Node {
+
+		final IResource fResource;
+
+		final Node fParent;
+
+		final Map<String, Node> fChildren= new HashMap<>(4);
+
+		/**
+		 * Marker counts per severity on the resource itself.
+		 */
+		final int[] fOwn= new int[SEVERITY_COUNT];
+
+		/**
+		 * Marker counts per severity in the subtree of the resource.
+		 */
+		final int[] fTotal= new int[SEVERITY_COUNT];
+
+		Node(IResource resource, Node parent) {
+			fResource= resource;
+			fParent= parent;
+		}
+
+		int getMaxSeverity() {
+			for (int severity= SEVERITY_COUNT - 1; severity >= 0; severity--) {
+				if (fTotal[severity] > 0)
+					return severity;
+			}
+			return -1;
+		}
+	}
+
+	private final Map<IPath, Node> fNodes= new HashMap<>();
+
+	private volatile boolean fReady;
+
+	/**
+	 * Tells whether the index has been built.
+	 *
+	 * @return <code>true</code> if {@link #build(IWorkspaceRoot)} has completed
+	 */
+	public boolean isReady() {
+		return fReady;
+	}
+
+	/**
+	 * Returns the maximal severity of the problem markers on the given resource and its descendants.
+	 *
+	 * @param resource the resource
+	 * @return one of the <code>IMarker.SEVERITY_*</code> constants, or -1 if there are no problem
+	 *         markers with a known severity
+	 */
+	public synchronized int getMaxSeverity(IResource resource) {
+		Node node= fNodes.get(resource.getFullPath());
+		return node != null ? node.getMaxSeverity() : -1;
+	}
+
+	/**
+	 * Rebuilds the index from the problem markers of the workspace.
+	 *
+	 * @param root the workspace root
+	 * @throws CoreException if the markers cannot be read
+	 */
+	public synchronized void build(IWorkspaceRoot root) throws CoreException {
+		fNodes.clear();
+		update(root, IResource.DEPTH_INFINITE, null);
+		fReady= true;
+	}
+
+	/**
+	 * Reads the problem markers of the given resource, or of its subtree, again.
+	 *
+	 * @param resource the resource
+	 * @param depth {@link IResource#DEPTH_ZERO} to read the markers of the resource, or
+	 *            {@link IResource#DEPTH_INFINITE} to read the markers of the subtree
+	 * @param changed receives the resources whose maximal severity has changed, or
+	 *            <code>null</code>
+	 */
+	public synchronized void update(IResource resource, int depth, Set<IResource> changed) {
+		if (depth != IResource.DEPTH_ZERO) {
+			remove(resource, changed);
+		}
+		if (!resource.isAccessible())
+			return;
+
+		Map<IResource, int[]> counts= new HashMap<>();
+		try {
+			for (IMarker marker : resource.findMarkers(IMarker.PROBLEM, true, depth)) {
+				int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+				if (severity >= 0 && severity < SEVERITY_COUNT) {
+					counts.computeIfAbsent(marker.getResource(), r -> new int[SEVERITY_COUNT])[severity]++;
+				}
+			}
+		} catch (CoreException e) {
+			int code= e.getStatus().getCode();
+			if (code != IResourceStatus.RESOURCE_NOT_FOUND && code != IResourceStatus.PROJECT_NOT_OPEN) {
+				// keep the previous counts
+				return;
+			}
+		}
+		if (depth == IResource.DEPTH_ZERO && !counts.containsKey(resource)) {
+			counts.put(resource, new int[SEVERITY_COUNT]);
+		}
+		for (Map.Entry<IResource, int[]> entry : counts.entrySet()) {
+			setOwnCounts(entry.getKey(), entry.getValue(), changed);
+		}
+	}
+
+	/**
+	 * Removes the given resource and its subtree from the index.
+	 *
+	 * @param resource the removed resource
+	 * @param changed receives the resources whose maximal severity has changed, or
+	 *            <code>null</code>
+	 */
+	public synchronized void remove(IResource resource, Set<IResource> changed) {
+		Node node= fNodes.get(resource.getFullPath());
+		if (node == null)
+			return;
+		int[] diff= new int[SEVERITY_COUNT];
+		for (int i= 0; i < SEVERITY_COUNT; i++) {
+			diff[i]= -node.fTotal[i];
+		}
+		removeSubtree(node);
+		if (node.fParent != null) {
+			node.fParent.fChildren.remove(resource.getName());
+			if (changed != null && node.getMaxSeverity() != -1)
+				changed.add(resource);
+			addToAncestors(node.fParent, diff, changed);
+		}
+	}
+
+	private void setOwnCounts(IResource resource, int[] counts, Set<IResource> changed) {
+		Node node= fNodes.get(resource.getFullPath());
+		if (node == null) {
+			if (isEmpty(counts))
+				return;
+			node= getOrCreateNode(resource);
+		}
+		int[] diff= new int[SEVERITY_COUNT];
+		for (int i= 0; i < SEVERITY_COUNT; i++) {
+			diff[i]= counts[i] - node.fOwn[i];
+			node.fOwn[i]= counts[i];
+		}
+		if (!isEmpty(diff)) {
+			addToAncestors(node, diff, changed);
+		}
+	}
+
+	/**
+	 * Adds the given counts to the totals of the node and its ancestors, and prunes the nodes that
+	 * no longer have markers in their subtree.
+	 */
+	private void addToAncestors(Node node, int[] diff, Set<IResource> changed) {
+		for (Node current= node; current != null; current= current.fParent) {
+			int oldSeverity= current.getMaxSeverity();
+			for (int i= 0; i < SEVERITY_COUNT; i++) {
+				current.fTotal[i]+= diff[i];
+			}
+			if (changed != null && current.getMaxSeverity() != oldSeverity) {
+				changed.add(current.fResource);
+			}
+			if (isEmpty(current.fTotal)) {
+				fNodes.remove(current.fResource.getFullPath());
+				if (current.fParent != null) {
+					current.fParent.fChildren.remove(current.fResource.getName());
+				}
+			}
+		}
+	}
+
+	private Node getOrCreateNode(IResource resource) {
+		IPath path= resource.getFullPath();
+		Node node= fNodes.get(path);
+		if (node == null) {
+			IResource parentResource= resource.getParent();
+			Node parent= parentResource != null ? getOrCreateNode(parentResource) : null;
+			node= new Node(resource, parent);
+			if (parent != null) {
+				parent.fChildren.put(resource.getName(), node);
+			}
+			fNodes.put(path, node);
+		}
+		return node;
+	}
+
+	private void removeSubtree(Node node) {
+		fNodes.remove(node.fResource.getFullPath());
+		for (Node child : node.fChildren.values()) {
+			removeSubtree(child);
+		}
+	}
+
+	private static boolean isEmpty(int[] counts) {
+		for (int count : counts) {
+			if (count != 0)
+				return false;
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,7 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.Strings;
@@ -392,6 +393,11 @@ public class JavaElementLabels {
 	private static final Styler DECORATIONS_STYLE= StyledString.DECORATIONS_STYLER;
 
 
+	/**
+	 * The labels returned by {@link #getElementLabel(IJavaElement, long)}.
+	 */
+	private static final JavaElementLabelCache fgLabelCache= new JavaElementLabelCache(5000);
+
 	private JavaElementLabels() {
 	}
 
@@ -501,9 +507,18 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
-		StringBuffer result= new StringBuffer();
-		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		// clears the cached labels if the package name preferences have changed
+		JavaElementLabelComposer.refreshPackageNamePreferences();
+		int generation= fgLabelCache.getGeneration();
+		String label= fgLabelCache.get(element, flags);
+		if (label == null) {
+			StringBuilder result= JavaElementLabelComposer.acquireLabelBuilder();
+			new JavaElementLabelComposer(result).appendElementLabel(element, flags);
+			label= org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+			JavaElementLabelComposer.releaseLabelBuilder(result);
+			fgLabelCache.put(element, flags, label, generation);
+		}
+		return label;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -82,6 +82,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityIndex;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -551,10 +552,14 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
-	private int computeContainerAdornmentFlags(IResource resource) {
+	private int computeContainerAdornmentFlags(IResource resource) throws CoreException {
 		if (resource == null) {
 			return 0;
 		}
+		if (getSeverityIndex() != null) {
+			// the severity of the subtree is a lookup in the index
+			return getErrorTicksFromMarkers(resource, IResource.DEPTH_INFINITE);
+		}
 		Integer cachedAdornment = AdornmentCacheManager.getAdornment(resource);
 		int adornment = cachedAdornment != null ? cachedAdornment.intValue() : 0;
 		AdornmentCacheManager.scheduleTask(resource, adornmentUpdateJob);
@@ -597,10 +602,20 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		ProblemSeverityIndex index= depth == IResource.DEPTH_INFINITE ? getSeverityIndex() : null;
+		if (index != null) {
+			severity= index.getMaxSeverity(res);
+		} else {
+			severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		}
 		return convertToTick(severity);
 	}
 
+	private static ProblemSeverityIndex getSeverityIndex() {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		return plugin != null ? plugin.getProblemMarkerManager().getSeverityIndex() : null;
+	}
+
 	private int getErrorTicksFromMarkers(IResource res, int depth, ISourceReference sourceElement) throws CoreException {
 		if (res == null || !res.isAccessible()) {
 			return 0;
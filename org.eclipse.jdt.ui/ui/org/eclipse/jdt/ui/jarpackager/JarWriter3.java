@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
@@ -127,11 +128,16 @@ public class JarWriter3 {
 			throw new OperationCanceledException("Cannot create JAR with path: " + fJarPackage.getAbsoluteJarLocation()); //$NON-NLS-1$
 
 		try {
+			fJarOutputStream= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
 			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported()) {
 				Manifest manifest= fJarPackage.getManifestProvider().create(fJarPackage);
-				fJarOutputStream= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
-			} else
-				fJarOutputStream= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
+				// Same as JarOutputStream(OutputStream, Manifest), but without the export time
+				JarEntry manifestEntry= new JarEntry(JarFile.MANIFEST_NAME);
+				JarPackagerUtilCore.setFixedTime(manifestEntry);
+				fJarOutputStream.putNextEntry(manifestEntry);
+				manifest.write(new BufferedOutputStream(fJarOutputStream));
+				fJarOutputStream.closeEntry();
+			}
 			String comment= jarPackage.getComment();
 			if (comment != null)
 				fJarOutputStream.setComment(comment);
@@ -178,7 +184,7 @@ public class JarWriter3 {
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(System.currentTimeMillis());
+			JarPackagerUtilCore.setFixedTime(newEntry);
 			directories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
@@ -214,19 +220,11 @@ public class JarWriter3 {
 				break;
 
 			parent= resource.getParent();
-			long timeStamp= System.currentTimeMillis();
-			URI location= parent.getLocationURI();
-			if (location != null) {
-				IFileInfo info= EFS.getStore(location).fetchInfo();
-				if (info.exists())
-					timeStamp= info.getLastModified();
-			}
-
 			JarEntry newEntry= new JarEntry(path);
 			newEntry.setMethod(ZipEntry.STORED);
 			newEntry.setSize(0);
 			newEntry.setCrc(0);
-			newEntry.setTime(timeStamp);
+			setLastModified(newEntry, parent);
 			directories.add(newEntry);
 
 			lastSlash= path.lastIndexOf('/', lastSlash - 1);
@@ -259,22 +257,34 @@ public class JarWriter3 {
 			JarPackagerUtil.calculateCrcAndSize(newEntry, resource.getContents(false), readBuffer);
 		}
 
-		long lastModified= System.currentTimeMillis();
-		URI locationURI= resource.getLocationURI();
-		if (locationURI != null) {
-			IFileInfo info= EFS.getStore(locationURI).fetchInfo();
-			if (info.exists())
-				lastModified= info.getLastModified();
-		}
-
 		// Set modification time
-		newEntry.setTime(lastModified);
+		setLastModified(newEntry, resource);
 
 		InputStream contentStream = resource.getContents(false);
 
 		addEntry(newEntry, contentStream);
 	}
 
+	/**
+	 * Sets the modification time of the resource to the entry, or a fixed time if the resource
+	 * has no local file.
+	 *
+	 * @param entry the entry to update
+	 * @param resource the resource which is written to the entry
+	 * @throws CoreException if the file information can't be accessed
+	 */
+	private static void setLastModified(JarEntry entry, IResource resource) throws CoreException {
+		URI location= resource.getLocationURI();
+		if (location != null) {
+			IFileInfo info= EFS.getStore(location).fetchInfo();
+			if (info.exists()) {
+				entry.setTime(info.getLastModified());
+				return;
+			}
+		}
+		JarPackagerUtilCore.setFixedTime(entry);
+	}
+
 	/**
 	 * Write the given entry describing the given content to the
 	 * current archive
@@ -456,7 +466,7 @@ public class JarWriter3 {
 				JarPackagerUtil.calculateCrcAndSize(entry, stream, buffer);
 			}
 		}
-		entry.setTime(System.currentTimeMillis());
+		JarPackagerUtilCore.setFixedTime(entry);
 		try (InputStream stream= new BufferedInputStream(new FileInputStream(file))) {
 			fJarOutputStream.putNextEntry(entry);
 			int count;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,16 +49,22 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	private final IEditorPart fEditor;
 
 	private IJavaProject fJavaProject;
-	private ICompilationUnit fCU= null;
-	private boolean fCUComputed= false;
+	private volatile ICompilationUnit fCU= null;
+	private volatile boolean fCUComputed= false;
 
-	private CompletionProposalLabelProvider fLabelProvider;
-	private CompletionProposalCollector fCollector;
-	private RHSHistory fRHSHistory;
-	private IType fType;
+	/*
+	 * The cached values are volatile, since computers may run concurrently, see
+	 * ContentAssistProcessor. The computers that use the collector, the core context or the keyword
+	 * proposals still run one after the other, the concurrent computers only read the compilation
+	 * unit, which is computed before they start.
+	 */
+	private volatile CompletionProposalLabelProvider fLabelProvider;
+	private volatile CompletionProposalCollector fCollector;
+	private volatile RHSHistory fRHSHistory;
+	private volatile IType fType;
 
-	private IJavaCompletionProposal[] fKeywordProposals= null;
-	private CompletionContext fCoreContext= null;
+	private volatile IJavaCompletionProposal[] fKeywordProposals= null;
+	private volatile CompletionContext fCoreContext= null;
 
 	/**
 	 * Creates a new context.
@@ -105,7 +111,6 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 */
 	public ICompilationUnit getCompilationUnit() {
 		if (!fCUComputed) {
-			fCUComputed= true;
 			if (fCollector != null) {
 				fCU= fCollector.getCompilationUnit();
 			} else {
@@ -114,6 +119,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 					fCU= (ICompilationUnit)je;
 				}
 			}
+			fCUComputed= true;
 		}
 		return fCU;
 	}